@@ -0,0 +1,193 @@
+#!/bin/bash
+
+# Position Trigger Benchmark Script
+# Compares the time to bulk insert transactions with the legacy per-row position trigger and with
+# the statement-level trigger, and checks both produce the same positions.
+# Every run happens inside a transaction that is rolled back, so the database is left untouched.
+
+set -e
+
+PGHOST="${PGHOST:-localhost}"
+PGPORT="${PGPORT:-5432}"
+PGDATABASE="${PGDATABASE:-portfolio_db}"
+PGUSER="${PGUSER:-postgres}"
+PGPASSWORD="${PGPASSWORD:-portfolio_pass}"
+export PGHOST PGPORT PGDATABASE PGUSER PGPASSWORD
+
+ROWS="${ROWS:-10000}"
+TICKERS="${TICKERS:-20}"
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+BLUE='\033[0;34m'
+NC='\033[0m'
+
+echo -e "${BLUE}Position Trigger Benchmark${NC}"
+echo "=========================="
+echo "Database: $PGUSER@$PGHOST:$PGPORT/$PGDATABASE"
+echo "Inserting $ROWS transactions over $TICKERS tickers"
+echo
+
+if ! command -v psql >/dev/null 2>&1; then
+    echo -e "${RED}❌ psql is required${NC}"
+    exit 1
+fi
+
+if ! psql -X -q -c "SELECT 1" >/dev/null 2>&1; then
+    echo -e "${RED}❌ Database is not accessible${NC}"
+    exit 1
+fi
+
+INSERT_SQL="
+INSERT INTO transactions (ticker, transaction_type, quantity, cost_per_share, currency, transaction_date, commission)
+SELECT 'BENCH' || lpad((i % $TICKERS)::text, 4, '0'),
+       (CASE WHEN i % 5 = 0 THEN 'SELL' ELSE 'BUY' END)::transaction_type,
+       1,
+       100 + (i % 50),
+       'USD',
+       DATE '2020-01-01' + (i % 1000),
+       0.50
+FROM generate_series(1, $ROWS) AS i;"
+
+CHECKSUM_SQL="
+SELECT 'checksum ' || md5(COALESCE(string_agg(concat_ws('|', ticker, current_quantity, avg_cost_per_share,
+    total_cost_basis, total_commissions, first_purchase_date, last_transaction_date), ',' ORDER BY ticker), ''))
+FROM positions
+WHERE ticker LIKE 'BENCH%';"
+
+LEGACY_TRIGGER_SQL=$(cat <<'SQL'
+CREATE FUNCTION benchmark_legacy_recalculate_position(ticker_symbol VARCHAR(20))
+RETURNS VOID AS $$
+DECLARE
+    position_data RECORD;
+BEGIN
+    -- Calculate position data from transactions
+    SELECT 
+        ticker_symbol as ticker,
+        SUM(CASE WHEN transaction_type = 'BUY' THEN quantity ELSE -(quantity) END) as total_quantity,
+        -- Calculate weighted average cost using actual shares
+        (SUM(CASE WHEN transaction_type = 'BUY' THEN quantity * cost_per_share ELSE 0 END) + SUM(CASE WHEN transaction_type = 'BUY' THEN COALESCE(commission, 0) ELSE 0 END)) / NULLIF(SUM(CASE WHEN transaction_type = 'BUY' THEN quantity ELSE 0 END), 0) as avg_cost,
+        (SELECT currency FROM transactions WHERE ticker = ticker_symbol AND transaction_type = 'BUY' ORDER BY transaction_date LIMIT 1) as primary_currency,
+        -- Calculate total cost basis
+        SUM(CASE WHEN transaction_type = 'BUY' THEN (quantity) * cost_per_share + COALESCE(commission, 0) ELSE -(quantity) * cost_per_share - COALESCE(commission, 0) END) as total_cost_basis,
+        SUM(COALESCE(commission, 0)) as total_commissions,
+        MIN(CASE WHEN transaction_type = 'BUY' THEN transaction_date END) as first_purchase,
+        MAX(transaction_date) as last_transaction
+    INTO position_data
+    FROM transactions 
+    WHERE ticker = ticker_symbol;
+
+    -- Only update if we have data and positive quantity
+    IF position_data.total_quantity IS NOT NULL AND position_data.total_quantity > 0 THEN
+        INSERT INTO positions (
+            ticker, current_quantity, avg_cost_per_share, primary_currency,
+            total_cost_basis, total_commissions, first_purchase_date, last_transaction_date
+        ) VALUES (
+            position_data.ticker, position_data.total_quantity, position_data.avg_cost, 
+            position_data.primary_currency, position_data.total_cost_basis, 
+            position_data.total_commissions, position_data.first_purchase, position_data.last_transaction
+        )
+        ON CONFLICT (ticker) DO UPDATE SET
+            current_quantity = EXCLUDED.current_quantity,
+            avg_cost_per_share = EXCLUDED.avg_cost_per_share,
+            primary_currency = EXCLUDED.primary_currency,
+            total_cost_basis = EXCLUDED.total_cost_basis,
+            total_commissions = EXCLUDED.total_commissions,
+            first_purchase_date = EXCLUDED.first_purchase_date,
+            last_transaction_date = EXCLUDED.last_transaction_date,
+            -- Adjust current_price with fractional multiplier if fractional transactions exist
+            current_price = CASE 
+                WHEN positions.current_price IS NOT NULL AND positions.current_price > 0 
+                THEN positions.current_price * 
+                    COALESCE((SELECT fractional_multiplier FROM transactions 
+                             WHERE ticker = ticker_symbol AND is_fractional = true 
+                             ORDER BY transaction_date DESC LIMIT 1), 1.0)
+                ELSE positions.current_price 
+            END,
+            -- Recalculate market values using existing current_price with fractional multiplier
+            current_market_value = CASE 
+                WHEN positions.current_price IS NOT NULL AND positions.current_price > 0 
+                THEN EXCLUDED.current_quantity * positions.current_price * 
+                    COALESCE((SELECT fractional_multiplier FROM transactions 
+                             WHERE ticker = ticker_symbol AND is_fractional = true 
+                             ORDER BY transaction_date DESC LIMIT 1), 1.0)
+                ELSE positions.current_market_value 
+            END,
+            unrealized_gain_loss = CASE 
+                WHEN positions.current_price IS NOT NULL AND positions.current_price > 0 
+                THEN (EXCLUDED.current_quantity * positions.current_price * 
+                     COALESCE((SELECT fractional_multiplier FROM transactions 
+                              WHERE ticker = ticker_symbol AND is_fractional = true 
+                              ORDER BY transaction_date DESC LIMIT 1), 1.0)) - EXCLUDED.total_cost_basis
+                ELSE positions.unrealized_gain_loss 
+            END,
+            updated_at = CURRENT_TIMESTAMP;
+    ELSE
+        -- Delete position if no remaining quantity
+        DELETE FROM positions WHERE ticker = ticker_symbol;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION benchmark_legacy_trigger_recalculate_position()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM benchmark_legacy_recalculate_position(OLD.ticker);
+        RETURN OLD;
+    ELSIF TG_OP = 'UPDATE' THEN
+        -- For updates, recalculate both old and new ticker if they're different
+        PERFORM benchmark_legacy_recalculate_position(NEW.ticker);
+        IF OLD.ticker != NEW.ticker THEN
+            PERFORM benchmark_legacy_recalculate_position(OLD.ticker);
+        END IF;
+        RETURN NEW;
+    ELSE -- INSERT
+        PERFORM benchmark_legacy_recalculate_position(NEW.ticker);
+        RETURN NEW;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE transactions DISABLE TRIGGER transaction_position_insert;
+CREATE TRIGGER benchmark_legacy_position_insert
+    AFTER INSERT ON transactions
+    FOR EACH ROW EXECUTE FUNCTION benchmark_legacy_trigger_recalculate_position();
+SQL
+)
+
+# Runs the bulk insert in a rolled-back transaction, printing its duration and the resulting positions checksum
+run() {
+    local setup="$1"
+    psql -X -q -t -A -v ON_ERROR_STOP=1 <<SQL
+BEGIN;
+$setup
+\timing on
+$INSERT_SQL
+\timing off
+$CHECKSUM_SQL
+ROLLBACK;
+SQL
+}
+
+echo "⏱️  Running with the legacy per-row trigger..."
+LEGACY_OUTPUT=$(run "$LEGACY_TRIGGER_SQL")
+LEGACY_MS=$(echo "$LEGACY_OUTPUT" | sed -n 's/^Time: \([0-9.]*\) ms.*/\1/p')
+LEGACY_CHECKSUM=$(echo "$LEGACY_OUTPUT" | sed -n 's/^checksum //p')
+echo "   ${LEGACY_MS} ms"
+
+echo "⏱️  Running with the statement-level trigger..."
+STATEMENT_OUTPUT=$(run "")
+STATEMENT_MS=$(echo "$STATEMENT_OUTPUT" | sed -n 's/^Time: \([0-9.]*\) ms.*/\1/p')
+STATEMENT_CHECKSUM=$(echo "$STATEMENT_OUTPUT" | sed -n 's/^checksum //p')
+echo "   ${STATEMENT_MS} ms"
+
+echo
+if [ "$LEGACY_CHECKSUM" = "$STATEMENT_CHECKSUM" ]; then
+    echo -e "${GREEN}✅ Both triggers produce the same positions${NC}"
+else
+    echo -e "${RED}❌ Positions differ between the triggers ($LEGACY_CHECKSUM vs $STATEMENT_CHECKSUM)${NC}"
+    exit 1
+fi
+
+SPEEDUP=$(awk -v legacy="$LEGACY_MS" -v statement="$STATEMENT_MS" 'BEGIN { if (statement > 0) printf "%.1f", legacy / statement; else print "n/a" }')
+echo -e "${GREEN}📈 Statement-level trigger is ${SPEEDUP}x faster for $ROWS rows${NC}"
@@ -2,19 +2,24 @@ package com.portfolio.application.usecase.dividend;
 
 import com.portfolio.domain.exception.Errors;
 import com.portfolio.domain.exception.ServiceException;
-import com.portfolio.domain.model.Dividend;
+import com.portfolio.domain.model.PortfolioDividends;
+import com.portfolio.domain.model.Position;
+import com.portfolio.domain.model.TickerDividends;
 import com.portfolio.domain.port.MarketDataService;
 import com.portfolio.domain.port.PositionRepository;
-import io.quarkus.hibernate.reactive.panache.common.WithSession;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Use case for retrieving dividends for all stocks in the portfolio within a date range
@@ -29,63 +34,101 @@ public class GetDividendsForPortfolioUseCase {
     @Inject
     MarketDataService marketDataService;
 
+    @ConfigProperty(name = "application.dividends.portfolio.concurrency", defaultValue = "8")
+    int concurrency;
+
+    @ConfigProperty(name = "application.dividends.portfolio.deadline", defaultValue = "PT30S")
+    Duration deadline;
+
     /**
      * Gets dividends for all stocks in the portfolio within a date range
      * 
      * @param startDate the start date for dividend query (assumed to be already validated)
      * @param endDate the end date for dividend query (assumed to be already validated)
-     * @return map of ticker to list of dividends for the specified period
+     * @return dividends per ticker for the specified period, with the tickers that failed or timed out
      */
-    @WithSession
-    public Uni<Map<String, List<Dividend>>> execute(LocalDate startDate, LocalDate endDate) {
+    public Uni<PortfolioDividends> execute(LocalDate startDate, LocalDate endDate) {
         log.info("Getting dividends for portfolio from {} to {}", startDate, endDate);
 
+        return stream(startDate, endDate)
+            .collect().asList()
+            .map(PortfolioDividends::from)
+            .onItem().invoke(result -> {
+                int totalDividends = result.dividends().values().stream()
+                    .mapToInt(List::size)
+                    .sum();
+                log.info("Retrieved dividends for {} tickers with {} total dividend entries, {} failed, {} timed out",
+                         result.dividends().size(), totalDividends,
+                         result.failedTickers().size(), result.timedOutTickers().size());
+            });
+    }
+
+    /**
+     * Streams the dividend lookup of each active position as soon as it completes.
+     * Up to the configured number of lookups run at once. When the deadline is reached the
+     * lookups still in progress are cancelled and reported as timed out, in portfolio order.
+     *
+     * @param startDate the start date for dividend query (assumed to be already validated)
+     * @param endDate the end date for dividend query (assumed to be already validated)
+     * @return one result per active position
+     */
+    public Multi<TickerDividends> stream(LocalDate startDate, LocalDate endDate) {
         // Get all active positions (with shares > 0)
         return positionRepository.findAllWithShares()
             .onFailure().transform(throwable -> 
                 new ServiceException(Errors.GetDividends.PERSISTENCE_ERROR, 
                     "Failed to retrieve positions", throwable))
-            .chain(positions -> {
-                if (positions.isEmpty()) {
+            .onItem().transformToMulti(positions -> {
+                List<String> tickers = positions.stream()
+                    .map(Position::getTicker)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+                if (tickers.isEmpty()) {
                     log.info("No active positions found in portfolio");
-                    return Uni.createFrom().item(Map.<String, List<Dividend>>of());
+                    return Multi.createFrom().empty();
                 }
 
-                log.info("Found {} active positions in portfolio, fetching dividends", positions.size());
-                
-                // Get dividends for each ticker in parallel
-                return Multi.createFrom().iterable(positions)
-                    .onItem().transformToUniAndConcatenate(position -> 
-                        getDividendsForPosition(position.getTicker(), startDate, endDate))
-                    .collect().asMap(
-                        result -> result.ticker(),
-                        result -> result.dividends()
-                    );
-            })
-            .onItem().invoke(dividendsMap -> {
-                int totalDividends = dividendsMap.values().stream()
-                    .mapToInt(List::size)
-                    .sum();
-                log.info("Successfully retrieved dividends for {} tickers with {} total dividend entries", 
-                         dividendsMap.size(), totalDividends);
+                log.info("Found {} active positions in portfolio, fetching dividends", tickers.size());
+                return fetchDividends(tickers, startDate, endDate);
+            });
+    }
+
+    /**
+     * Looks up the tickers in parallel until the deadline, then reports the ones left as timed out
+     */
+    private Multi<TickerDividends> fetchDividends(List<String> tickers, LocalDate startDate, LocalDate endDate) {
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        pending.addAll(tickers);
+
+        return Multi.createFrom().iterable(tickers)
+            .onItem().transformToUni(ticker -> getDividendsForPosition(ticker, startDate, endDate))
+            .merge(Math.max(1, concurrency))
+            .select().first(deadline)
+            .onItem().invoke(result -> pending.remove(result.ticker()))
+            .onCompletion().switchTo(() -> {
+                List<TickerDividends> timedOut = tickers.stream()
+                    .filter(pending::contains)
+                    .map(TickerDividends::timedOut)
+                    .toList();
+                if (!timedOut.isEmpty()) {
+                    log.warn("Dividend lookup deadline of {} reached with {} of {} tickers still pending",
+                             deadline, timedOut.size(), tickers.size());
+                }
+                return Multi.createFrom().iterable(timedOut);
             });
     }
 
     /**
      * Helper method to get dividends for a specific position
      */
-    private Uni<TickerDividendResult> getDividendsForPosition(String ticker, LocalDate startDate, LocalDate endDate) {
+    private Uni<TickerDividends> getDividendsForPosition(String ticker, LocalDate startDate, LocalDate endDate) {
         return marketDataService.getDividends(ticker, startDate, endDate)
-            .map(dividends -> new TickerDividendResult(ticker, dividends))
+            .map(dividends -> TickerDividends.completed(ticker, dividends))
             .onFailure().recoverWithItem(throwable -> {
                 log.warn("Failed to retrieve dividends for ticker {}: {}", ticker, throwable.getMessage());
-                // Return empty list for this ticker instead of failing the entire operation
-                return new TickerDividendResult(ticker, List.of());
+                // Report the ticker as failed instead of failing the entire operation
+                return TickerDividends.failed(ticker);
             });
     }
-
-    /**
-     * Record to hold ticker and its associated dividends
-     */
-    private record TickerDividendResult(String ticker, List<Dividend> dividends) {}
 }
@@ -0,0 +1,46 @@
+package com.portfolio.application.usecase.marketdata;
+
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import com.portfolio.domain.port.CacheInvalidator;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for evicting cached market data on every running instance, so the next reads go back to
+ * the stored snapshots or to TwelveData
+ */
+@ApplicationScoped
+public class EvictCachedMarketDataUseCase {
+
+    @Inject
+    CacheInvalidator cacheInvalidator;
+
+    /**
+     * Evicts the given tickers from a cache, or the whole cache when no ticker is given
+     */
+    public Uni<Void> execute(String cache, List<String> tickers) {
+        if (cache == null || !cacheInvalidator.cacheNames().contains(cache)) {
+            return Uni.createFrom().failure(new ServiceException(Errors.EvictCache.INVALID_INPUT,
+                "Unknown cache %s, expected one of %s".formatted(cache, cacheInvalidator.cacheNames())));
+        }
+
+        Set<String> keys = tickers == null ? Set.of() : tickers.stream()
+            .filter(ticker -> ticker != null && !ticker.trim().isEmpty())
+            .map(ticker -> ticker.trim().toUpperCase())
+            .collect(Collectors.toSet());
+        if (keys.isEmpty() && tickers != null && !tickers.isEmpty()) {
+            return Uni.createFrom().failure(new ServiceException(Errors.EvictCache.INVALID_INPUT, "Ticker cannot be null or empty"));
+        }
+        return cacheInvalidator.evict(cache, keys)
+            .onFailure().transform(throwable ->
+                new ServiceException(Errors.EvictCache.PERSISTENCE_ERROR,
+                    "Error evicting cache %s".formatted(cache),
+                    throwable));
+    }
+}
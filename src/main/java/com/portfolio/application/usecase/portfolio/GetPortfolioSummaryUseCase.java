@@ -5,7 +5,7 @@ import com.portfolio.domain.exception.Errors;
 import com.portfolio.domain.exception.ServiceException;
 import com.portfolio.domain.model.CurrentPosition;
 import com.portfolio.domain.model.PortfolioSummary;
-import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import com.portfolio.domain.port.PortfolioSummaryRepository;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -14,9 +14,11 @@ import lombok.extern.slf4j.Slf4j;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
+import java.util.Locale;
 
 /**
- * Use case for calculating portfolio summary with real-time market data
+ * Use case for calculating portfolio summary with real-time market data, or reading the totals
+ * precomputed from the stored position prices
  */
 @ApplicationScoped
 @Slf4j
@@ -25,10 +27,40 @@ public class GetPortfolioSummaryUseCase {
     @Inject
     GetPositionUseCase getPositionUseCase;
 
+    @Inject
+    PortfolioSummaryRepository portfolioSummaryRepository;
+
+    /**
+     * Source of the prices a summary values the positions at
+     */
+    public enum Pricing {
+        /** Current market prices, fetched for every position */
+        REAL_TIME,
+        /** Prices stored on the positions, totalled in advance; as fresh as the last view refresh */
+        STORED;
+
+        public static Pricing fromString(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    /**
+     * Gets summary for all positions, priced as requested
+     */
+    public Uni<PortfolioSummary> getPortfolioSummary(Pricing pricing) {
+        return pricing == Pricing.STORED ? getStoredSummary() : getPortfolioSummary();
+    }
+
+    /**
+     * Gets summary for active positions only (shares > 0), priced as requested
+     */
+    public Uni<PortfolioSummary> getActiveSummary(Pricing pricing) {
+        return pricing == Pricing.STORED ? getStoredSummary() : getActiveSummary();
+    }
+
     /**
      * Gets summary for all positions with real-time current prices
      */
-    @WithSession
     public Uni<PortfolioSummary> getPortfolioSummary() {
         log.info("Calculating portfolio summary with real-time market data");
         return getPositionUseCase.getAll()
@@ -40,7 +72,6 @@ public class GetPortfolioSummaryUseCase {
     /**
      * Gets summary for active positions only (shares > 0) with real-time current prices
      */
-    @WithSession
     public Uni<PortfolioSummary> getActiveSummary() {
         log.info("Calculating active portfolio summary with real-time market data");
         return getPositionUseCase.getActivePositions()
@@ -49,6 +80,17 @@ public class GetPortfolioSummaryUseCase {
             .map(this::calculateSummary);
     }
 
+    /**
+     * Gets the precomputed summary of the positions with shares, valued at their stored prices.
+     * Positions are deleted once their shares are sold, so it covers all positions.
+     */
+    public Uni<PortfolioSummary> getStoredSummary() {
+        log.debug("Reading precomputed portfolio summary");
+        return portfolioSummaryRepository.findStoredSummary()
+            .onFailure().transform(throwable ->
+                new ServiceException(Errors.GetPortfolioSummary.PERSISTENCE_ERROR, "Error reading stored portfolio summary", throwable));
+    }
+
     /**
      * Calculate portfolio summary from current positions with real-time market prices
      */
@@ -0,0 +1,18 @@
+package com.portfolio.application.usecase.position;
+
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a use case method whose transaction writes stored positions, so that positions held in
+ * memory are refreshed once the returned {@code Uni} completes, after the transaction committed
+ */
+@InterceptorBinding
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ChangesPositions {
+}
@@ -4,19 +4,26 @@ import com.portfolio.domain.exception.Errors;
 import com.portfolio.domain.exception.ServiceException;
 import com.portfolio.domain.model.Position;
 import com.portfolio.domain.model.CurrentPosition;
+import com.portfolio.domain.model.PriceQuote;
 import com.portfolio.domain.port.PositionRepository;
 import com.portfolio.domain.port.MarketDataService;
-import io.quarkus.hibernate.reactive.panache.common.WithSession;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Use case for retrieving positions with real-time market data
@@ -31,10 +38,18 @@ public class GetPositionUseCase {
     @Inject
     MarketDataService marketDataService;
 
+    @ConfigProperty(name = "application.positions.price-enrichment.batch-size", defaultValue = "50")
+    int enrichmentBatchSize;
+
+    @ConfigProperty(name = "application.positions.price-enrichment.concurrency", defaultValue = "4")
+    int enrichmentConcurrency;
+
+    @ConfigProperty(name = "application.positions.price-enrichment.deadline", defaultValue = "PT3S")
+    Duration enrichmentDeadline;
+
     /**
      * Gets a position by ID with real-time current price
      */
-    @WithSession
     public Uni<CurrentPosition> getById(UUID id) {
         return positionRepository.findById(id)
                 .chain(this::enrichWithCurrentPrice)
@@ -47,7 +62,6 @@ public class GetPositionUseCase {
     /**
      * Gets a position by ticker symbol with real-time current price
      */
-    @WithSession
     public Uni<CurrentPosition> getByTicker(String ticker) {
         return positionRepository.findByTicker(ticker)
                 .chain(this::enrichWithCurrentPrice)
@@ -84,7 +98,6 @@ public class GetPositionUseCase {
     /**
      * Checks if a position exists for a ticker
      */
-    @WithSession
     public Uni<Boolean> existsByTicker(String ticker) {
         return positionRepository.existsByTicker(ticker)
                 .onFailure().transform(throwable ->
@@ -96,7 +109,6 @@ public class GetPositionUseCase {
     /**
      * Counts total positions
      */
-    @WithSession
     public Uni<Long> countAll() {
         return positionRepository.countAll()
                 .onFailure().transform(throwable ->
@@ -108,7 +120,6 @@ public class GetPositionUseCase {
     /**
      * Counts active positions (with shares > 0)
      */
-    @WithSession
     public Uni<Long> countActivePositions() {
         return positionRepository.countWithShares().onFailure().transform(throwable ->
                 new ServiceException(Errors.GetPosition.PERSISTENCE_ERROR,
@@ -125,35 +136,91 @@ public class GetPositionUseCase {
             return Uni.createFrom().nullItem();
         }
 
-        return marketDataService.getCurrentPrice(position.getTicker())
-                .map(currentPrice -> {
-                    log.info("Retrieved current price {} for ticker {}", currentPrice, position.getTicker());
-                    return new CurrentPosition(position, currentPrice);
+        return marketDataService.getCurrentQuote(position.getTicker())
+                .map(quote -> {
+                    log.info("Retrieved current price {} as of {} for ticker {}", 
+                            quote.price(), quote.timestamp(), position.getTicker());
+                    return new CurrentPosition(position, quote.price(), quote.timestamp());
                 })
                 .onFailure().recoverWithItem(throwable -> {
                     log.error("Failed to fetch current price for ticker {}, using stored price", 
                              position.getTicker(), throwable);
-                    // Fall back to stored current price if market data service fails
-                    BigDecimal fallbackPrice = position.getCurrentPrice() != null ? 
-                                             position.getCurrentPrice() : BigDecimal.ZERO;
-                    // Use the position's lastUpdated date as the price timestamp since this is stored data
-                    LocalDateTime fallbackTimestamp = position.getLastUpdated() != null ?
-                                                    position.getLastUpdated().atStartOfDay() : 
-                                                    LocalDateTime.now().minusDays(1);
-                    return new CurrentPosition(position, fallbackPrice, fallbackTimestamp);
+                    return withStoredPrice(position);
                 });
     }
 
     /**
-     * Enriches a list of positions with real-time current prices
+     * Enriches a list of positions with real-time current prices.
+     * Tickers are priced in batches, with up to the configured number of batches in flight at once.
+     * Positions whose price is not back before the enrichment deadline, or could not be retrieved,
+     * fall back to their stored price. The output keeps the order of the input list.
      */
     private Uni<List<CurrentPosition>> enrichListWithCurrentPrices(List<Position> positions) {
         if (positions == null || positions.isEmpty()) {
             return Uni.createFrom().item(List.of());
         }
 
-        return Multi.createFrom().iterable(positions)
-                .onItem().transformToUniAndConcatenate(this::enrichWithCurrentPrice)
-                .collect().asList();
+        List<String> tickers = positions.stream()
+                .filter(Objects::nonNull)
+                .map(Position::getTicker)
+                .filter(Objects::nonNull)
+                .map(ticker -> ticker.trim().toUpperCase())
+                .distinct()
+                .toList();
+
+        Map<String, PriceQuote> quotes = new ConcurrentHashMap<>();
+
+        return Multi.createFrom().iterable(partition(tickers, Math.max(1, enrichmentBatchSize)))
+                .onItem().transformToUni(batch -> marketDataService.getCurrentQuotes(new HashSet<>(batch))
+                        .onFailure().recoverWithItem(throwable -> {
+                            log.error("Failed to fetch current prices for {} tickers, using stored prices", 
+                                     batch.size(), throwable);
+                            return Map.of();
+                        }))
+                .merge(Math.max(1, enrichmentConcurrency))
+                .onItem().invoke(quotes::putAll)
+                .collect().asList()
+                .replaceWithVoid()
+                .ifNoItem().after(enrichmentDeadline).recoverWithItem(() -> {
+                    log.warn("Price enrichment deadline of {} reached with {} of {} tickers priced, using stored prices for the rest",
+                            enrichmentDeadline, quotes.size(), tickers.size());
+                    return null;
+                })
+                .map(ignored -> {
+                    Map<String, PriceQuote> quotesAtDeadline = Map.copyOf(quotes);
+                    return positions.stream()
+                            .filter(position -> position != null && position.getTicker() != null)
+                            .map(position -> {
+                                PriceQuote quote = quotesAtDeadline.get(position.getTicker().trim().toUpperCase());
+                                if (quote == null) {
+                                    log.warn("No current price for ticker {}, using stored price", position.getTicker());
+                                    return withStoredPrice(position);
+                                }
+                                return new CurrentPosition(position, quote.price(), quote.timestamp());
+                            })
+                            .toList();
+                });
+    }
+
+    private static List<List<String>> partition(List<String> tickers, int size) {
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < tickers.size(); i += size) {
+            batches.add(tickers.subList(i, Math.min(i + size, tickers.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * Builds a current position from the stored price when market data is unavailable
+     */
+    private CurrentPosition withStoredPrice(Position position) {
+        // Fall back to stored current price if market data service fails
+        BigDecimal fallbackPrice = position.getCurrentPrice() != null ? 
+                                 position.getCurrentPrice() : BigDecimal.ZERO;
+        // Use the position's lastUpdated date as the price timestamp since this is stored data
+        LocalDateTime fallbackTimestamp = position.getLastUpdated() != null ?
+                                        position.getLastUpdated().atStartOfDay() : 
+                                        LocalDateTime.now().minusDays(1);
+        return new CurrentPosition(position, fallbackPrice, fallbackTimestamp);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.portfolio.application.usecase.position;
+
+import com.portfolio.domain.event.DomainEvent;
+import com.portfolio.domain.event.TransactionCreatedEvent;
+import com.portfolio.domain.event.TransactionDeletedEvent;
+import com.portfolio.domain.event.TransactionUpdatedEvent;
+import com.portfolio.domain.model.PositionDelta;
+import com.portfolio.domain.port.PositionRepository;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps positions up to date from transaction events.
+ * The events of a write are folded into one delta per ticker, which is applied to the stored position
+ * in constant time, so the cost of a write does not grow with the ticker's history. The position is
+ * recalculated from its transactions only when the delta cannot be applied: the ticker has no stored
+ * position yet, or the write removes the date of its first purchase or last transaction.
+ * Must run in the transaction that wrote the events.
+ */
+@ApplicationScoped
+public class PositionProjector {
+
+    @Inject
+    PositionRepository positionRepository;
+
+    /**
+     * Applies the events of a transaction write to the affected positions
+     */
+    public Uni<Void> project(List<DomainEvent<?>> events) {
+        Map<String, PositionDelta> deltas = new LinkedHashMap<>();
+        for (DomainEvent<?> event : events) {
+            if (event instanceof TransactionCreatedEvent created) {
+                add(deltas, PositionDelta.applying(created.getData()));
+            } else if (event instanceof TransactionUpdatedEvent updated) {
+                add(deltas, PositionDelta.reverting(updated.getPrevious()));
+                add(deltas, PositionDelta.applying(updated.getData()));
+            } else if (event instanceof TransactionDeletedEvent deleted) {
+                add(deltas, PositionDelta.reverting(deleted.getData()));
+            }
+        }
+
+        // Deltas share the caller's session, so they are applied one after the other
+        Uni<Void> projection = Uni.createFrom().voidItem();
+        for (PositionDelta delta : deltas.values()) {
+            projection = projection.call(() -> apply(delta));
+        }
+        return projection;
+    }
+
+    private Uni<Void> apply(PositionDelta delta) {
+        return positionRepository.applyDelta(delta)
+            .flatMap(applied -> {
+                if (applied) {
+                    return Uni.createFrom().voidItem();
+                }
+                Log.debugf("Recalculating position of %s, the delta cannot be applied incrementally", delta.ticker());
+                return positionRepository.recalculatePosition(delta.ticker()).replaceWithVoid();
+            });
+    }
+
+    private static void add(Map<String, PositionDelta> deltas, PositionDelta delta) {
+        deltas.merge(delta.ticker(), delta, PositionDelta::plus);
+    }
+}
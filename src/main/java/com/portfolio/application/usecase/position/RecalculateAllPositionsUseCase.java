@@ -0,0 +1,180 @@
+package com.portfolio.application.usecase.position;
+
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import com.portfolio.domain.model.RecalculationJob;
+import com.portfolio.domain.port.JobRunner;
+import com.portfolio.domain.port.PositionRepository;
+import com.portfolio.domain.port.RecalculationJobRepository;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Use case for rebuilding every position from the transactions.
+ * The rebuild runs in the background in rounds: each round takes the next tickers in ticker order and
+ * recalculates them in batches, one short statement per batch, several batches in parallel on separate
+ * connections. Writers are therefore only ever blocked on the positions of a single batch. After each
+ * round the progress is committed, so a job interrupted by a crash resumes after its last committed
+ * ticker instead of starting over. A job is only ever driven by the instance holding its lock, which
+ * reads the job again once locked, so it continues from the progress committed by the previous driver.
+ */
+@ApplicationScoped
+@Slf4j
+public class RecalculateAllPositionsUseCase {
+
+    @Inject
+    PositionRepository positionRepository;
+
+    @Inject
+    RecalculationJobRepository jobRepository;
+
+    @Inject
+    JobRunner jobRunner;
+
+    @ConfigProperty(name = "application.positions.recalculation.batch-size", defaultValue = "100")
+    int batchSize;
+
+    @ConfigProperty(name = "application.positions.recalculation.concurrency", defaultValue = "4")
+    int concurrency;
+
+    static final String JOB = "position-recalculation-";
+
+    private final AtomicReference<UUID> activeJob = new AtomicReference<>();
+
+    /**
+     * Starts a rebuild of all positions, or returns the running one. A running job that no instance
+     * is driving was interrupted and is resumed here.
+     */
+    public Uni<RecalculationJob> start() {
+        return jobRepository.findRunning()
+            .flatMap(running -> {
+                if (running != null) {
+                    return Uni.createFrom().item(running);
+                }
+                return positionRepository.countTickers()
+                    .flatMap(total -> jobRepository.create(total.intValue()))
+                    .invoke(job -> log.info("Started recalculation job {} over {} tickers", job.id(), job.totalTickers()));
+            })
+            .invoke(this::runInBackground)
+            .onFailure(throwable -> !(throwable instanceof ServiceException)).transform(throwable ->
+                new ServiceException(Errors.RecalculateAllPositions.PERSISTENCE_ERROR,
+                    "Error starting the recalculation of all positions", throwable));
+    }
+
+    /**
+     * Resumes the running job left behind by an interrupted instance, if any
+     */
+    public Uni<RecalculationJob> resumeInterrupted() {
+        return jobRepository.findRunning()
+            .invoke(running -> {
+                if (running != null) {
+                    runInBackground(running);
+                }
+            })
+            .onFailure().transform(throwable ->
+                new ServiceException(Errors.RecalculateAllPositions.PERSISTENCE_ERROR,
+                    "Error resuming the recalculation of all positions", throwable));
+    }
+
+    /**
+     * Gets a recalculation job by its ID
+     */
+    public Uni<RecalculationJob> getJob(UUID id) {
+        if (id == null) {
+            return Uni.createFrom().failure(new ServiceException(Errors.RecalculateAllPositions.INVALID_INPUT, "Job ID cannot be null"));
+        }
+        return jobRepository.findById(id)
+            .onFailure().transform(throwable ->
+                new ServiceException(Errors.RecalculateAllPositions.PERSISTENCE_ERROR,
+                    "Error getting recalculation job %s".formatted(id), throwable));
+    }
+
+    /**
+     * Gets the most recently started recalculation job, or null when none ever ran
+     */
+    public Uni<RecalculationJob> getLatestJob() {
+        return jobRepository.findLatest()
+            .onFailure().transform(throwable ->
+                new ServiceException(Errors.RecalculateAllPositions.PERSISTENCE_ERROR,
+                    "Error getting the latest recalculation job", throwable));
+    }
+
+    private void runInBackground(RecalculationJob job) {
+        if (!activeJob.compareAndSet(null, job.id())) {
+            return;
+        }
+
+        jobRunner.runExclusively(JOB + job.id(), () -> drive(job.id()))
+            .onTermination().invoke(() -> activeJob.compareAndSet(job.id(), null))
+            .subscribe().with(
+                ran -> {
+                    if (!ran) {
+                        log.debug("Recalculation job {} is driven by another instance", job.id());
+                    }
+                },
+                failure -> log.error("Recalculation job {} failed", job.id(), failure));
+    }
+
+    /**
+     * Runs the job from the progress committed when its lock was taken, unless it ended meanwhile
+     */
+    Uni<RecalculationJob> drive(UUID id) {
+        return jobRepository.findById(id)
+            .flatMap(job -> {
+                if (job == null || job.status() != RecalculationJob.Status.RUNNING) {
+                    return Uni.createFrom().item(job);
+                }
+                if (job.lastTicker() != null) {
+                    log.info("Resuming recalculation job {} after ticker {}", job.id(), job.lastTicker());
+                }
+                return run(job)
+                    .invoke(finished -> log.info("Recalculation job {} completed, {} tickers recalculated",
+                        finished.id(), finished.processedTickers()));
+            });
+    }
+
+    /**
+     * Runs the job from its last committed ticker to the end
+     */
+    Uni<RecalculationJob> run(RecalculationJob job) {
+        return nextRound(job)
+            .onFailure().call(failure -> jobRepository.finish(job.id(), RecalculationJob.Status.FAILED, failure.getMessage())
+                .onFailure().invoke(e -> log.warn("Could not mark recalculation job {} as failed: {}", job.id(), e.getMessage()))
+                .onFailure().recoverWithNull());
+    }
+
+    private Uni<RecalculationJob> nextRound(RecalculationJob job) {
+        int size = Math.max(1, batchSize);
+        int parallelism = Math.max(1, concurrency);
+        return positionRepository.findTickersAfter(job.lastTicker(), size * parallelism)
+            .flatMap(tickers -> {
+                if (tickers.isEmpty()) {
+                    return jobRepository.finish(job.id(), RecalculationJob.Status.COMPLETED, null);
+                }
+                return Multi.createFrom().iterable(partition(tickers, size))
+                    .onItem().transformToUni(positionRepository::recalculatePositions).merge(parallelism)
+                    .onItem().ignoreAsUni()
+                    .flatMap(ignored -> jobRepository.recordProgress(job.id(), tickers.size(), tickers.get(tickers.size() - 1)))
+                    .invoke(progress -> log.debug("Recalculation job {}: {}/{} tickers", progress.id(),
+                        progress.processedTickers(), progress.totalTickers()))
+                    .flatMap(this::nextRound);
+            });
+    }
+
+    private static List<List<String>> partition(List<String> tickers, int size) {
+        List<List<String>> batches = new ArrayList<>();
+        for (int start = 0; start < tickers.size(); start += size) {
+            batches.add(tickers.subList(start, Math.min(start + size, tickers.size())));
+        }
+        return batches;
+    }
+}
@@ -22,6 +22,7 @@ public class RecalculatePositionUseCase {
     /**
      * Recalculates a position for a specific ticker
      */
+    @ChangesPositions
     @WithTransaction
     public Uni<Position> execute(String ticker) {
         if (ticker == null || ticker.trim().isEmpty()) {
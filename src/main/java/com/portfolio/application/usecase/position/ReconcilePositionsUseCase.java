@@ -0,0 +1,49 @@
+package com.portfolio.application.usecase.position;
+
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import com.portfolio.domain.port.PositionRepository;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Use case for detecting and repairing positions that drifted from their transactions.
+ * Positions are maintained incrementally by the {@link PositionProjector}; this compares every stored
+ * position with what recalculate_position would store and recalculates the ones that differ, so a
+ * missed or wrongly applied delta is corrected at the next reconciliation.
+ */
+@ApplicationScoped
+@Slf4j
+public class ReconcilePositionsUseCase {
+
+    @Inject
+    PositionRepository positionRepository;
+
+    @ConfigProperty(name = "application.positions.reconciliation.tolerance", defaultValue = "0.01")
+    BigDecimal tolerance;
+
+    /**
+     * Recalculates the positions that drifted from their transactions
+     *
+     * @return the drifted tickers, in ticker order
+     */
+    public Uni<List<String>> execute() {
+        return positionRepository.findDriftedTickers(tolerance)
+            .call(drifted -> {
+                if (drifted.isEmpty()) {
+                    return Uni.createFrom().voidItem();
+                }
+                log.warn("Recalculating {} positions that drifted from their transactions: {}", drifted.size(), drifted);
+                return positionRepository.recalculatePositions(drifted);
+            })
+            .onFailure().transform(throwable ->
+                new ServiceException(Errors.ReconcilePositions.PERSISTENCE_ERROR,
+                    "Error reconciling positions with their transactions", throwable));
+    }
+}
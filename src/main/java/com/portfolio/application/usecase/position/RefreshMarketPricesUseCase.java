@@ -0,0 +1,76 @@
+package com.portfolio.application.usecase.position;
+
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import com.portfolio.domain.model.PriceQuote;
+import com.portfolio.domain.port.HeldTickerRepository;
+import com.portfolio.domain.port.MarketDataService;
+import com.portfolio.domain.port.PositionRepository;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Use case for refreshing the stored market price of every held position.
+ * Prices are fetched for all held tickers at once and written back in a single statement,
+ * so the stored prices stay a usable fallback when live market data is unavailable.
+ */
+@ApplicationScoped
+@Slf4j
+public class RefreshMarketPricesUseCase {
+
+    @Inject
+    HeldTickerRepository heldTickerRepository;
+
+    @Inject
+    MarketDataService marketDataService;
+
+    @Inject
+    PositionRepository positionRepository;
+
+    /**
+     * Refreshes the market prices of the held positions
+     *
+     * @return the number of positions whose price was updated
+     */
+    public Uni<Integer> execute() {
+        return heldTickerRepository.findHeldTickers()
+            .onFailure().transform(throwable -> new ServiceException(Errors.UpdateMarketData.PERSISTENCE_ERROR,
+                "Error finding held tickers", throwable))
+            .flatMap(tickers -> {
+                if (tickers.isEmpty()) {
+                    return Uni.createFrom().item(0);
+                }
+                return marketDataService.refreshQuotes(tickers)
+                    .flatMap(quotes -> {
+                        Map<String, BigDecimal> prices = toPrices(quotes);
+                        if (prices.size() < tickers.size()) {
+                            log.warn("Could not refresh prices for {} of {} held tickers",
+                                tickers.size() - prices.size(), tickers.size());
+                        }
+                        return positionRepository.updateMarketPrices(prices)
+                            .map(Set::size)
+                            .onFailure().transform(throwable -> new ServiceException(
+                                Errors.UpdateMarketData.PERSISTENCE_ERROR,
+                                "Error updating market prices for %d tickers".formatted(prices.size()),
+                                throwable));
+                    });
+            });
+    }
+
+    private static Map<String, BigDecimal> toPrices(Map<String, PriceQuote> quotes) {
+        Map<String, BigDecimal> prices = new HashMap<>();
+        quotes.forEach((ticker, quote) -> {
+            if (quote.price() != null && quote.price().compareTo(BigDecimal.ZERO) > 0) {
+                prices.put(ticker, quote.price());
+            }
+        });
+        return prices;
+    }
+}
@@ -23,6 +23,7 @@ public class UpdateMarketDataUseCase {
     /**
      * Updates the market price for a specific ticker
      */
+    @ChangesPositions
     @WithTransaction
     public Uni<Position> execute(String ticker, BigDecimal newPrice) {
         if (ticker == null || ticker.trim().isEmpty()) {
@@ -0,0 +1,62 @@
+package com.portfolio.application.usecase.position;
+
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import com.portfolio.domain.model.MarketPriceUpdate;
+import com.portfolio.domain.port.PositionRepository;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Use case for updating the market price of many positions at once.
+ * The whole map is applied in a single statement instead of an existence check, a load and a
+ * flush per ticker; tickers without a position are reported back instead of failing the update.
+ */
+@ApplicationScoped
+public class UpdateMarketPricesUseCase {
+
+    @Inject
+    PositionRepository positionRepository;
+
+    /**
+     * Updates the market prices of the given tickers
+     */
+    public Uni<MarketPriceUpdate> execute(Map<String, BigDecimal> prices) {
+        if (prices == null || prices.isEmpty()) {
+            return Uni.createFrom().failure(new ServiceException(Errors.UpdateMarketData.INVALID_INPUT, "Prices cannot be null or empty"));
+        }
+
+        Map<String, BigDecimal> trimmedPrices = new HashMap<>();
+        for (Map.Entry<String, BigDecimal> entry : prices.entrySet()) {
+            String ticker = entry.getKey();
+            BigDecimal price = entry.getValue();
+            if (ticker == null || ticker.trim().isEmpty()) {
+                return Uni.createFrom().failure(new ServiceException(Errors.UpdateMarketData.INVALID_INPUT, "Ticker cannot be null or empty"));
+            }
+            if (price == null || price.compareTo(BigDecimal.ZERO) <= 0) {
+                return Uni.createFrom().failure(new ServiceException(Errors.UpdateMarketData.INVALID_INPUT,
+                    "Price must be positive for ticker " + ticker.trim()));
+            }
+            trimmedPrices.put(ticker.trim(), price);
+        }
+
+        return positionRepository.updateMarketPrices(trimmedPrices)
+            .map(updated -> toUpdate(trimmedPrices.keySet(), updated))
+            .onFailure().transform(throwable ->
+                new ServiceException(Errors.UpdateMarketData.PERSISTENCE_ERROR,
+                    "Error updating market prices for %d tickers".formatted(trimmedPrices.size()),
+                    throwable));
+    }
+
+    private static MarketPriceUpdate toUpdate(Set<String> requested, Set<String> updated) {
+        return new MarketPriceUpdate(
+            requested.stream().filter(updated::contains).sorted().toList(),
+            requested.stream().filter(ticker -> !updated.contains(ticker)).sorted().toList());
+    }
+}
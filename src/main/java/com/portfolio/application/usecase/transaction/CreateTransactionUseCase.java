@@ -1,9 +1,13 @@
 package com.portfolio.application.usecase.transaction;
 
 import com.portfolio.application.command.CreateTransactionCommand;
+import com.portfolio.application.usecase.position.ChangesPositions;
+import com.portfolio.application.usecase.position.PositionProjector;
+import com.portfolio.domain.event.DomainEvent;
 import com.portfolio.domain.exception.Errors;
 import com.portfolio.domain.exception.ServiceException;
 import com.portfolio.domain.model.Transaction;
+import com.portfolio.domain.port.OutboxRepository;
 import com.portfolio.domain.port.TransactionRepository;
 import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
 import io.quarkus.logging.Log;
@@ -11,12 +15,21 @@ import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import java.util.List;
+
 @ApplicationScoped
 public class CreateTransactionUseCase {
 
     @Inject
     TransactionRepository transactionRepository;
 
+    @Inject
+    PositionProjector positionProjector;
+
+    @Inject
+    OutboxRepository outboxRepository;
+
+    @ChangesPositions
     @WithTransaction
     public Uni<Transaction> execute(CreateTransactionCommand command) {
         Transaction transaction = new Transaction(
@@ -35,8 +48,14 @@ public class CreateTransactionUseCase {
         );
 
         return transactionRepository.save(transaction)
-                .invoke(Transaction::popEvents) // TODO: Popping events, in the future we should publish this to a queue
+                .call(this::publish)
                 .onFailure().transform(throwable -> new ServiceException(Errors.CreateTransaction.PERSISTENCE_ERROR, throwable))
                 .onItem().invoke(saved -> Log.info("Transaction saved for ticker %s".formatted(saved.getTicker())));
     }
-} 
\ No newline at end of file
+
+    private Uni<Void> publish(Transaction transaction) {
+        List<DomainEvent<?>> events = transaction.popEvents();
+        return positionProjector.project(events)
+                .call(() -> outboxRepository.append(transaction.getId(), events));
+    }
+}
@@ -1,13 +1,19 @@
 package com.portfolio.application.usecase.transaction;
 
+import com.portfolio.application.usecase.position.ChangesPositions;
+import com.portfolio.application.usecase.position.PositionProjector;
+import com.portfolio.domain.event.DomainEvent;
 import com.portfolio.domain.exception.Errors;
 import com.portfolio.domain.exception.ServiceException;
+import com.portfolio.domain.model.Transaction;
+import com.portfolio.domain.port.OutboxRepository;
 import com.portfolio.domain.port.TransactionRepository;
 import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import java.util.List;
 import java.util.UUID;
 
 @ApplicationScoped
@@ -16,6 +22,13 @@ public class DeleteTransactionUseCase {
     @Inject
     TransactionRepository transactionRepository;
 
+    @Inject
+    PositionProjector positionProjector;
+
+    @Inject
+    OutboxRepository outboxRepository;
+
+    @ChangesPositions
     @WithTransaction
     public Uni<Boolean> execute(UUID id) {
         return transactionRepository.findById(id)
@@ -29,11 +42,18 @@ public class DeleteTransactionUseCase {
                     return transactionRepository.deleteById(id)
                         .flatMap(deleted -> {
                             if (deleted) {
-                                return Uni.createFrom().item(true);
+                                transaction.markDeleted();
+                                return publish(transaction).replaceWith(true);
                             } else {
                                 return Uni.createFrom().item(false);
                             }
                         });
                 });
     }
-} 
\ No newline at end of file
+
+    private Uni<Void> publish(Transaction transaction) {
+        List<DomainEvent<?>> events = transaction.popEvents();
+        return positionProjector.project(events)
+                .call(() -> outboxRepository.append(transaction.getId(), events));
+    }
+}
@@ -1,6 +1,10 @@
 package com.portfolio.application.usecase.transaction;
 
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
 import com.portfolio.domain.model.Transaction;
+import com.portfolio.domain.model.TransactionCursor;
+import com.portfolio.domain.model.TransactionPage;
 import com.portfolio.domain.model.TransactionType;
 import com.portfolio.domain.port.TransactionRepository;
 import io.quarkus.hibernate.reactive.panache.common.WithSession;
@@ -8,6 +12,7 @@ import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -22,12 +27,18 @@ public class GetTransactionUseCase {
     @Inject
     TransactionRepository transactionRepository;
 
+    @ConfigProperty(name = "application.transactions.page.default-size", defaultValue = "100")
+    int defaultPageSize;
+
+    @ConfigProperty(name = "application.transactions.page.max-size", defaultValue = "1000")
+    int maxPageSize;
+
     /**
      * Gets a transaction by ID
      */
     @WithSession
     public Uni<Transaction> getById(UUID id) {
-        return transactionRepository.findById(id);
+        return transactionRepository.findByIdForRead(id);
     }
 
     /**
@@ -40,12 +51,11 @@ public class GetTransactionUseCase {
     }
 
     /**
-     * Gets all transactions (active and inactive)
+     * Streams all transactions (active and inactive), most recent first, reading them from the
+     * database as the subscriber requests them
      */
     public Multi<Transaction> getAll() {
-        return transactionRepository.findAll()
-            .onItem()
-            .transformToMulti(list -> Multi.createFrom().iterable(list));
+        return transactionRepository.streamAll();
     }
 
     /**
@@ -58,6 +68,42 @@ public class GetTransactionUseCase {
             .transformToMulti(list -> Multi.createFrom().iterable(list));
     }
 
+    /**
+     * Gets one page of all transactions, most recent first
+     *
+     * @param pageToken token of the page to read, as returned with the previous page, or null for the first page
+     * @param limit page size, or null for the default; capped at the maximum page size
+     */
+    public Uni<TransactionPage> getAllPage(String pageToken, Integer limit) {
+        return searchPage(null, null, null, null, pageToken, limit);
+    }
+
+    /**
+     * Gets one page of the transactions of a ticker, most recent first
+     */
+    public Uni<TransactionPage> getByTickerPage(String ticker, String pageToken, Integer limit) {
+        return searchPage(ticker, null, null, null, pageToken, limit);
+    }
+
+    /**
+     * Gets one page of the transactions matching the criteria, most recent first.
+     * The token of the next page only continues the listing it was returned with.
+     */
+    public Uni<TransactionPage> searchPage(String ticker, TransactionType type, LocalDate fromDate, LocalDate toDate,
+                                           String pageToken, Integer limit) {
+        return Uni.createFrom().item(() -> TransactionCursor.decode(pageToken))
+            .onFailure(IllegalArgumentException.class).transform(throwable ->
+                new ServiceException(Errors.GetTransaction.INVALID_INPUT, throwable.getMessage(), throwable))
+            .flatMap(after -> transactionRepository.searchPage(ticker, type, fromDate, toDate, after, pageSize(limit)));
+    }
+
+    private int pageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
     /**
      * Checks if a transaction exists
      */
@@ -1,9 +1,13 @@
 package com.portfolio.application.usecase.transaction;
 
 import com.portfolio.application.command.UpdateTransactionCommand;
+import com.portfolio.application.usecase.position.ChangesPositions;
+import com.portfolio.application.usecase.position.PositionProjector;
+import com.portfolio.domain.event.DomainEvent;
 import com.portfolio.domain.exception.Errors;
 import com.portfolio.domain.exception.ServiceException;
 import com.portfolio.domain.model.Transaction;
+import com.portfolio.domain.port.OutboxRepository;
 import com.portfolio.domain.port.TransactionRepository;
 import com.portfolio.util.StringUtils;
 import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
@@ -11,19 +15,28 @@ import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import java.util.List;
+
 @ApplicationScoped
 public class UpdateTransactionUseCase {
 
     @Inject
     TransactionRepository transactionRepository;
 
+    @Inject
+    PositionProjector positionProjector;
+
+    @Inject
+    OutboxRepository outboxRepository;
+
+    @ChangesPositions
     @WithTransaction
     public Uni<Transaction> execute(UpdateTransactionCommand updateTransactionCommand) {
         return transactionRepository.findById(updateTransactionCommand.transactionId())
                 .onItem()
                 .ifNotNull().transformToUni(transaction ->
                         updateAndPersistTransaction(transaction, updateTransactionCommand)
-                        .invoke(Transaction::popEvents)) // TODO: Popping events, in the future we should publish this to a queue
+                        .call(this::publish))
                 .onItem()
                 .ifNull().failWith(() -> new ServiceException(Errors.UpdateTransaction.NOT_FOUND));
     }
@@ -49,4 +62,10 @@ public class UpdateTransactionUseCase {
         })
         .flatMap(transactionUpdated -> transactionRepository.update(transactionUpdated));
     }
-} 
\ No newline at end of file
+
+    private Uni<Void> publish(Transaction transaction) {
+        List<DomainEvent<?>> events = transaction.popEvents();
+        return positionProjector.project(events)
+                .call(() -> outboxRepository.append(transaction.getId(), events));
+    }
+}
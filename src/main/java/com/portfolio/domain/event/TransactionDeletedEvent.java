@@ -0,0 +1,10 @@
+package com.portfolio.domain.event;
+
+import com.portfolio.domain.model.Transaction;
+
+public class TransactionDeletedEvent extends DomainEvent<Transaction> {
+
+    public TransactionDeletedEvent(Transaction transaction) {
+        super(transaction);
+    }
+}
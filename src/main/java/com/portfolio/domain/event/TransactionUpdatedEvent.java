@@ -2,7 +2,17 @@ package com.portfolio.domain.event;
 
 import com.portfolio.domain.model.Transaction;
 public class TransactionUpdatedEvent extends DomainEvent<Transaction> {
-    public TransactionUpdatedEvent(Transaction transaction) {
+    private final Transaction previous;
+
+    public TransactionUpdatedEvent(Transaction transaction, Transaction previous) {
         super(transaction);
+        this.previous = previous;
+    }
+
+    /**
+     * The transaction as it was before the update
+     */
+    public Transaction getPrevious() {
+        return previous;
     }
 }
@@ -74,6 +74,8 @@ public interface Errors {
         Error NULL_RESPONSE = new Error(errorCode + "03");
         Error NETWORK_ERROR = new Error(errorCode + "04");
         Error INVALID_TICKER = new Error(errorCode + "05");
+        Error RATE_LIMITED = new Error(errorCode + "06");
+        Error CIRCUIT_OPEN = new Error(errorCode + "07");
     }
 
     interface GetDividends {
@@ -85,4 +87,28 @@ public interface Errors {
         Error MARKET_DATA_ERROR = new Error(errorCode + "04");
     }
 
+    interface RecalculateAllPositions {
+        String errorCode = "12";
+
+        Error INVALID_INPUT = new Error(errorCode + "01");
+        Error NOT_FOUND = new Error(errorCode + "02");
+        Error PERSISTENCE_ERROR = new Error(errorCode + "03");
+    }
+
+    interface EvictCache {
+        String errorCode = "13";
+
+        Error INVALID_INPUT = new Error(errorCode + "01");
+        Error NOT_FOUND = new Error(errorCode + "02");
+        Error PERSISTENCE_ERROR = new Error(errorCode + "03");
+    }
+
+    interface ReconcilePositions {
+        String errorCode = "14";
+
+        Error INVALID_INPUT = new Error(errorCode + "01");
+        Error NOT_FOUND = new Error(errorCode + "02");
+        Error PERSISTENCE_ERROR = new Error(errorCode + "03");
+    }
+
 }
@@ -0,0 +1,15 @@
+package com.portfolio.domain.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk market price update: the tickers whose position was updated and the tickers
+ * that have no position, both in ticker order
+ */
+public record MarketPriceUpdate(List<String> updatedTickers, List<String> unknownTickers) {
+
+    public MarketPriceUpdate {
+        updatedTickers = List.copyOf(updatedTickers);
+        unknownTickers = List.copyOf(unknownTickers);
+    }
+}
@@ -0,0 +1,49 @@
+package com.portfolio.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable value object representing the dividends found for the portfolio,
+ * along with the tickers whose lookup failed or did not finish in time
+ */
+public record PortfolioDividends(
+    Map<String, List<Dividend>> dividends,
+    List<String> failedTickers,
+    List<String> timedOutTickers
+) {
+    /**
+     * Creates an empty result for a portfolio without active positions
+     */
+    public static PortfolioDividends empty() {
+        return new PortfolioDividends(Map.of(), List.of(), List.of());
+    }
+
+    /**
+     * Groups per-ticker lookup results. Only completed lookups contribute dividends.
+     */
+    public static PortfolioDividends from(List<TickerDividends> results) {
+        Map<String, List<Dividend>> dividends = new LinkedHashMap<>();
+        List<String> failedTickers = new ArrayList<>();
+        List<String> timedOutTickers = new ArrayList<>();
+        for (TickerDividends result : results) {
+            switch (result.status()) {
+                case COMPLETED -> dividends.put(result.ticker(), result.dividends());
+                case FAILED -> failedTickers.add(result.ticker());
+                case TIMED_OUT -> timedOutTickers.add(result.ticker());
+            }
+        }
+        return new PortfolioDividends(
+            Collections.unmodifiableMap(dividends), List.copyOf(failedTickers), List.copyOf(timedOutTickers));
+    }
+
+    /**
+     * Whether every ticker of the portfolio was looked up successfully
+     */
+    public boolean isComplete() {
+        return failedTickers.isEmpty() && timedOutTickers.isEmpty();
+    }
+}
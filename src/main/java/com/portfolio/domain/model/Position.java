@@ -36,6 +36,19 @@ public class Position {
         this.totalCost = BigDecimal.ZERO;
     }
 
+    // Copy constructor
+    public Position(Position other) {
+        this.id = other.id;
+        this.ticker = other.ticker;
+        this.totalQuantity = other.totalQuantity;
+        this.averagePrice = other.averagePrice;
+        this.currentPrice = other.currentPrice;
+        this.totalCost = other.totalCost;
+        this.currency = other.currency;
+        this.lastUpdated = other.lastUpdated;
+        this.isActive = other.isActive;
+    }
+
     /**
      * Checks if the position has any shares
      */
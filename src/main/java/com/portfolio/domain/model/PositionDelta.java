@@ -0,0 +1,121 @@
+package com.portfolio.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Change that writing one or more transactions of a ticker makes to its position.
+ * Amounts follow the position formulas: a BUY adds its shares and its cost (shares times price plus
+ * commission), any other type removes them. Dates and the primary currency cannot be summed, so the
+ * delta carries the dates it adds and the dates it removes; removing the date a position currently
+ * uses as its first purchase or last transaction requires a full recalculation of the position.
+ * The latest fractional transaction is tracked the same way, since the position stores its multiplier.
+ */
+public record PositionDelta(String ticker,
+                            BigDecimal quantity,
+                            BigDecimal boughtQuantity,
+                            BigDecimal boughtCost,
+                            BigDecimal costBasis,
+                            BigDecimal commissions,
+                            LocalDate lastTransactionDate,
+                            LocalDate firstPurchaseDate,
+                            Currency purchaseCurrency,
+                            LocalDate removedTransactionDate,
+                            LocalDate removedPurchaseDate,
+                            BigDecimal fractionalMultiplier,
+                            LocalDate fractionalDate,
+                            LocalDate removedFractionalDate) {
+
+    /**
+     * Returns the change made by adding a transaction
+     */
+    public static PositionDelta applying(Transaction transaction) {
+        boolean buy = transaction.getTransactionType() == TransactionType.BUY;
+        BigDecimal commission = transaction.getFees() != null ? transaction.getFees() : BigDecimal.ZERO;
+        BigDecimal cost = transaction.getTotalCost();
+        boolean fractional = Boolean.TRUE.equals(transaction.getIsFractional());
+
+        return new PositionDelta(
+            transaction.getTicker(),
+            buy ? transaction.getQuantity() : transaction.getQuantity().negate(),
+            buy ? transaction.getQuantity() : BigDecimal.ZERO,
+            buy ? cost : BigDecimal.ZERO,
+            buy ? cost : cost.negate(),
+            commission,
+            transaction.getTransactionDate(),
+            buy ? transaction.getTransactionDate() : null,
+            buy ? transaction.getCurrency() : null,
+            null,
+            null,
+            fractional ? transaction.getFractionalMultiplier() : null,
+            fractional ? transaction.getTransactionDate() : null,
+            null);
+    }
+
+    /**
+     * Returns the change made by removing a transaction
+     */
+    public static PositionDelta reverting(Transaction transaction) {
+        PositionDelta applied = applying(transaction);
+
+        return new PositionDelta(
+            applied.ticker(),
+            applied.quantity().negate(),
+            applied.boughtQuantity().negate(),
+            applied.boughtCost().negate(),
+            applied.costBasis().negate(),
+            applied.commissions().negate(),
+            null,
+            null,
+            null,
+            applied.lastTransactionDate(),
+            applied.firstPurchaseDate(),
+            null,
+            null,
+            applied.fractionalDate());
+    }
+
+    /**
+     * Combines two changes of the same ticker into one
+     */
+    public PositionDelta plus(PositionDelta other) {
+        if (!ticker.equals(other.ticker())) {
+            throw new IllegalArgumentException("Cannot combine deltas of tickers %s and %s".formatted(ticker, other.ticker()));
+        }
+
+        boolean otherPurchasedFirst = other.firstPurchaseDate() != null
+            && (firstPurchaseDate == null || other.firstPurchaseDate().isBefore(firstPurchaseDate));
+        boolean otherFractionalLater = other.fractionalDate() != null
+            && (fractionalDate == null || other.fractionalDate().isAfter(fractionalDate));
+
+        return new PositionDelta(
+            ticker,
+            quantity.add(other.quantity()),
+            boughtQuantity.add(other.boughtQuantity()),
+            boughtCost.add(other.boughtCost()),
+            costBasis.add(other.costBasis()),
+            commissions.add(other.commissions()),
+            latest(lastTransactionDate, other.lastTransactionDate()),
+            otherPurchasedFirst ? other.firstPurchaseDate() : firstPurchaseDate,
+            otherPurchasedFirst ? other.purchaseCurrency() : purchaseCurrency,
+            latest(removedTransactionDate, other.removedTransactionDate()),
+            earliest(removedPurchaseDate, other.removedPurchaseDate()),
+            otherFractionalLater ? other.fractionalMultiplier() : fractionalMultiplier,
+            otherFractionalLater ? other.fractionalDate() : fractionalDate,
+            latest(removedFractionalDate, other.removedFractionalDate()));
+    }
+
+    private static LocalDate latest(LocalDate first, LocalDate second) {
+        if (first == null || second == null) {
+            return first != null ? first : second;
+        }
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static LocalDate earliest(LocalDate first, LocalDate second) {
+        if (first == null || second == null) {
+            return first != null ? first : second;
+        }
+        return first.isBefore(second) ? first : second;
+    }
+}
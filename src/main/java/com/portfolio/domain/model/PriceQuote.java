@@ -0,0 +1,13 @@
+package com.portfolio.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable value object representing a market price and the moment it was retrieved
+ */
+public record PriceQuote(
+    BigDecimal price,
+    LocalDateTime timestamp
+) {
+}
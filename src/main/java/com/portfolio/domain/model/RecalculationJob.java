@@ -0,0 +1,31 @@
+package com.portfolio.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A full rebuild of the positions from the transactions.
+ * Tickers are recalculated in ticker order; the last ticker is the resume point of an interrupted job.
+ */
+public record RecalculationJob(
+    UUID id,
+    Status status,
+    int totalTickers,
+    int processedTickers,
+    String lastTicker,
+    String error,
+    LocalDateTime startedAt,
+    LocalDateTime updatedAt,
+    LocalDateTime finishedAt
+) {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+}
@@ -0,0 +1,33 @@
+package com.portfolio.domain.model;
+
+import java.util.List;
+
+/**
+ * Immutable value object holding the outcome of a dividend lookup for a single ticker
+ */
+public record TickerDividends(
+    String ticker,
+    Status status,
+    List<Dividend> dividends
+) {
+    /**
+     * How the lookup for the ticker ended
+     */
+    public enum Status {
+        COMPLETED,
+        FAILED,
+        TIMED_OUT
+    }
+
+    public static TickerDividends completed(String ticker, List<Dividend> dividends) {
+        return new TickerDividends(ticker, Status.COMPLETED, List.copyOf(dividends));
+    }
+
+    public static TickerDividends failed(String ticker) {
+        return new TickerDividends(ticker, Status.FAILED, List.of());
+    }
+
+    public static TickerDividends timedOut(String ticker) {
+        return new TickerDividends(ticker, Status.TIMED_OUT, List.of());
+    }
+}
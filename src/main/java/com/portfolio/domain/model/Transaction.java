@@ -2,6 +2,7 @@ package com.portfolio.domain.model;
 
 import com.portfolio.domain.event.DomainEvent;
 import com.portfolio.domain.event.TransactionCreatedEvent;
+import com.portfolio.domain.event.TransactionDeletedEvent;
 import com.portfolio.domain.event.TransactionUpdatedEvent;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -79,6 +80,7 @@ public class Transaction {
                        BigDecimal fractionalMultiplier,
                        Currency commissionCurrency) {
 
+        Transaction previous = snapshot();
         if (ticker != null) this.ticker = ticker;
         if (transactionType != null) this.transactionType = transactionType;
         if (quantity != null) this.quantity = quantity;
@@ -91,7 +93,19 @@ public class Transaction {
         if (fractionalMultiplier != null) this.fractionalMultiplier = fractionalMultiplier;
         if (commissionCurrency != null) this.commissionCurrency = commissionCurrency;
 
-        this.domainEvents.add(new TransactionUpdatedEvent(this));
+        this.domainEvents.add(new TransactionUpdatedEvent(this, previous));
+    }
+
+    /**
+     * Records that the transaction was removed from the portfolio
+     */
+    public void markDeleted() {
+        this.domainEvents.add(new TransactionDeletedEvent(this));
+    }
+
+    private Transaction snapshot() {
+        return new Transaction(id, ticker, transactionType, quantity, price, fees, currency, transactionDate, notes,
+            isActive, isFractional, fractionalMultiplier, commissionCurrency, new ArrayList<>());
     }
     
     public List<DomainEvent<?>> getDomainEvents() {
@@ -99,7 +113,7 @@ public class Transaction {
     }
     
     public List<DomainEvent<?>> popEvents() {
-        List<DomainEvent<?>> events = getDomainEvents();
+        List<DomainEvent<?>> events = List.copyOf(domainEvents);
         domainEvents.clear();
 
         return events;
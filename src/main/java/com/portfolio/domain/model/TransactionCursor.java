@@ -0,0 +1,56 @@
+package com.portfolio.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the transaction listing order (transaction date descending, then id descending).
+ * A page continues with the transactions strictly after its cursor, so rows written while a client
+ * pages through the listing never shift the following pages. Clients only see it as an opaque token.
+ */
+public record TransactionCursor(LocalDate transactionDate, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Returns the cursor right after the given transaction
+     */
+    public static TransactionCursor after(Transaction transaction) {
+        return new TransactionCursor(transaction.getTransactionDate(), transaction.getId());
+    }
+
+    /**
+     * Decodes a page token
+     *
+     * @return null when no token is given, that is for the first page
+     * @throws IllegalArgumentException when the token was not produced by {@link #encode()}
+     */
+    public static TransactionCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid page token: " + token);
+            }
+            return new TransactionCursor(
+                LocalDate.parse(decoded.substring(0, separator)),
+                UUID.fromString(decoded.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page token: " + token, e);
+        }
+    }
+
+    /**
+     * Encodes the cursor as a URL-safe page token
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((transactionDate + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,25 @@
+package com.portfolio.domain.model;
+
+import java.util.List;
+
+/**
+ * Immutable value object holding one page of a transaction listing
+ *
+ * @param next cursor the following page starts after, or null on the last page
+ */
+public record TransactionPage(List<Transaction> transactions, TransactionCursor next) {
+
+    /**
+     * Returns the token of the following page, or null on the last page
+     */
+    public String nextPageToken() {
+        return next != null ? next.encode() : null;
+    }
+
+    /**
+     * Checks if more transactions follow this page
+     */
+    public boolean hasNext() {
+        return next != null;
+    }
+}
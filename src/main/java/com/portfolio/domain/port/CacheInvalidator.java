@@ -0,0 +1,24 @@
+package com.portfolio.domain.port;
+
+import io.smallrye.mutiny.Uni;
+
+import java.util.Set;
+
+/**
+ * Port interface for evicting cached market data on every running instance
+ */
+public interface CacheInvalidator {
+
+    /**
+     * Returns the names of the caches that can be evicted
+     */
+    Set<String> cacheNames();
+
+    /**
+     * Evicts entries from a cache on this instance and asks the other instances to do the same
+     *
+     * @param cache the cache name, one of {@link #cacheNames()}
+     * @param keys the normalized tickers to evict, or an empty set to evict every entry
+     */
+    Uni<Void> evict(String cache, Set<String> keys);
+}
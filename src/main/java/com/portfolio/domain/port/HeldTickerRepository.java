@@ -0,0 +1,16 @@
+package com.portfolio.domain.port;
+
+import io.smallrye.mutiny.Uni;
+
+import java.util.Set;
+
+/**
+ * Port interface for looking up the tickers currently held in the portfolio
+ */
+public interface HeldTickerRepository {
+
+    /**
+     * Finds the tickers of all positions with shares > 0
+     */
+    Uni<Set<String>> findHeldTickers();
+}
@@ -0,0 +1,31 @@
+package com.portfolio.domain.port;
+
+import io.smallrye.mutiny.Uni;
+
+import java.util.function.Supplier;
+
+/**
+ * Port interface for running background work on a single instance at a time
+ */
+public interface JobRunner {
+
+    /**
+     * Runs the work when this instance leads the job, taking the leadership first when no instance holds it
+     *
+     * @param job the job name, identical on every instance
+     * @param work the work to run, only subscribed to on the leading instance
+     * @return true when the work ran, false when another instance leads the job
+     */
+    Uni<Boolean> runIfLeader(String job, Supplier<Uni<?>> work);
+
+    /**
+     * Runs the work unless another instance is running it, holding the lock of the job until the work
+     * terminates. The work is cancelled when the lock is lost, since another instance may then take it.
+     *
+     * @param job the job name, identical on every instance
+     * @param work the work to run, only subscribed to while this instance holds the lock
+     * @return true when the work ran, false when another instance is running it; fails when the lock
+     * was lost before the work terminated
+     */
+    Uni<Boolean> runExclusively(String job, Supplier<Uni<?>> work);
+}
@@ -1,11 +1,14 @@
 package com.portfolio.domain.port;
 
 import com.portfolio.domain.model.Dividend;
+import com.portfolio.domain.model.PriceQuote;
 import io.smallrye.mutiny.Uni;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Port interface for market data operations
@@ -18,7 +21,37 @@ public interface MarketDataService {
      * @param ticker the stock ticker symbol (e.g., "AAPL", "MSFT")
      * @return the current price as BigDecimal
      */
-    Uni<BigDecimal> getCurrentPrice(String ticker);
+    default Uni<BigDecimal> getCurrentPrice(String ticker) {
+        return getCurrentQuote(ticker).map(PriceQuote::price);
+    }
+
+    /**
+     * Gets the current price for a stock ticker symbol together with the time it was retrieved,
+     * which may be in the past when the price is served from a cache
+     * 
+     * @param ticker the stock ticker symbol (e.g., "AAPL", "MSFT")
+     * @return the current price quote
+     */
+    Uni<PriceQuote> getCurrentQuote(String ticker);
+
+    /**
+     * Gets the current price quotes for a set of stock ticker symbols in as few provider calls as possible
+     *
+     * @param tickers the stock ticker symbols (e.g., "AAPL", "MSFT")
+     * @return map of normalized (trimmed, upper-case) ticker to price quote; tickers that
+     *         could not be priced are absent from the map
+     */
+    Uni<Map<String, PriceQuote>> getCurrentQuotes(Set<String> tickers);
+
+    /**
+     * Gets up-to-date price quotes for a set of stock ticker symbols, fetching every quote that is no
+     * longer fresh instead of serving it from a cache. Meant for background jobs that persist prices.
+     *
+     * @param tickers the stock ticker symbols (e.g., "AAPL", "MSFT")
+     * @return map of normalized (trimmed, upper-case) ticker to price quote; tickers that
+     *         could not be priced are absent from the map
+     */
+    Uni<Map<String, PriceQuote>> refreshQuotes(Set<String> tickers);
 
     /**
      * Gets dividends for a stock ticker symbol within a date range
@@ -0,0 +1,19 @@
+package com.portfolio.domain.port;
+
+import com.portfolio.domain.event.DomainEvent;
+import io.smallrye.mutiny.Uni;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Port interface for the transactional outbox of domain events
+ */
+public interface OutboxRepository {
+
+    /**
+     * Stores the events of an aggregate for asynchronous delivery. Runs in the caller's transaction,
+     * so the events are delivered if and only if the change that raised them is committed.
+     */
+    Uni<Void> append(UUID aggregateId, List<DomainEvent<?>> events);
+}
@@ -0,0 +1,22 @@
+package com.portfolio.domain.port;
+
+import com.portfolio.domain.model.PortfolioSummary;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Port interface for the precomputed portfolio summaries
+ */
+public interface PortfolioSummaryRepository {
+
+    /**
+     * Finds the summary of the positions with shares > 0, valued at their stored prices as of the last refresh
+     */
+    Uni<PortfolioSummary> findStoredSummary();
+
+    /**
+     * Refreshes the precomputed summaries when positions changed since the last refresh
+     *
+     * @return true when a refresh ran
+     */
+    Uni<Boolean> refreshIfChanged();
+}
@@ -1,10 +1,13 @@
 package com.portfolio.domain.port;
 
 import com.portfolio.domain.model.Position;
+import com.portfolio.domain.model.PositionDelta;
 import io.smallrye.mutiny.Uni;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -37,11 +40,54 @@ public interface PositionRepository {
      */
     Uni<Position> updateMarketPrice(String ticker, BigDecimal newPrice);
 
+    /**
+     * Updates the market price of several tickers at once, recomputing their market value and
+     * unrealized gain/loss. Tickers without a position are ignored.
+     *
+     * @return the tickers whose position was updated
+     */
+    Uni<Set<String>> updateMarketPrices(Map<String, BigDecimal> prices);
+
     /**
      * Recalculates position based on current transactions
      */
     Uni<Position> recalculatePosition(String ticker);
 
+    /**
+     * Recalculates the positions of several tickers from their transactions in one statement
+     */
+    Uni<Void> recalculatePositions(List<String> tickers);
+
+    /**
+     * Applies a delta to the stored position of its ticker without reading the ticker's transactions,
+     * deleting the position when no shares remain. Runs in the caller's transaction.
+     *
+     * @return false when the delta cannot be applied incrementally, because the ticker has no stored
+     * position or the delta removes the first purchase or last transaction date, and the position
+     * must be recalculated instead
+     */
+    Uni<Boolean> applyDelta(PositionDelta delta);
+
+    /**
+     * Finds the tickers whose stored position differs from the position recalculated from their
+     * transactions, in ticker order
+     *
+     * @param tolerance the largest difference accepted on amounts, which absorbs per-delta rounding
+     */
+    Uni<List<String>> findDriftedTickers(BigDecimal tolerance);
+
+    /**
+     * Counts the tickers with transactions or a position, which are the tickers a full rebuild covers
+     */
+    Uni<Long> countTickers();
+
+    /**
+     * Finds the next tickers with transactions or a position, in ticker order, after the given ticker
+     *
+     * @param after the last ticker already seen, or null to start from the first ticker
+     */
+    Uni<List<String>> findTickersAfter(String after, int limit);
+
     /**
      * Checks if a position exists for a ticker
      */
@@ -0,0 +1,29 @@
+package com.portfolio.domain.port;
+
+import com.portfolio.domain.model.PriceQuote;
+import io.smallrye.mutiny.Uni;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Port interface for the persistent store of the latest price fetched per ticker
+ */
+public interface PriceSnapshotRepository {
+
+    /**
+     * Stores the given quotes, keeping an existing snapshot when it is newer
+     */
+    Uni<Void> saveAll(Map<String, PriceQuote> quotes);
+
+    /**
+     * Finds the snapshots of the given tickers fetched at or after the given time
+     */
+    Uni<Map<String, PriceQuote>> findByTickers(Set<String> tickers, LocalDateTime fetchedSince);
+
+    /**
+     * Finds the snapshots of tickers with an open position fetched at or after the given time
+     */
+    Uni<Map<String, PriceQuote>> findForHeldPositions(LocalDateTime fetchedSince);
+}
@@ -0,0 +1,39 @@
+package com.portfolio.domain.port;
+
+import com.portfolio.domain.model.RecalculationJob;
+import io.smallrye.mutiny.Uni;
+
+import java.util.UUID;
+
+/**
+ * Port interface for the persisted progress of full position rebuilds
+ */
+public interface RecalculationJobRepository {
+
+    /**
+     * Creates a running job over the given number of tickers
+     */
+    Uni<RecalculationJob> create(int totalTickers);
+
+    Uni<RecalculationJob> findById(UUID id);
+
+    /**
+     * Finds the most recently started job, or null when no job ever ran
+     */
+    Uni<RecalculationJob> findLatest();
+
+    /**
+     * Finds the running job, or null when no job is running
+     */
+    Uni<RecalculationJob> findRunning();
+
+    /**
+     * Records that a further number of tickers, up to and including the last ticker, was recalculated
+     */
+    Uni<RecalculationJob> recordProgress(UUID id, int processedTickers, String lastTicker);
+
+    /**
+     * Marks a job as completed or failed
+     */
+    Uni<RecalculationJob> finish(UUID id, RecalculationJob.Status status, String error);
+}
@@ -1,7 +1,10 @@
 package com.portfolio.domain.port;
 
 import com.portfolio.domain.model.Transaction;
+import com.portfolio.domain.model.TransactionCursor;
+import com.portfolio.domain.model.TransactionPage;
 import com.portfolio.domain.model.TransactionType;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 import java.time.LocalDate;
@@ -23,6 +26,12 @@ public interface TransactionRepository {
      */
     Uni<Transaction> findById(UUID id);
 
+    /**
+     * Finds a transaction by its ID to show it, not to modify it. The transaction may be read from
+     * a replica, so a write made just before may not be visible yet.
+     */
+    Uni<Transaction> findByIdForRead(UUID id);
+
     /**
      * Finds all transactions for a specific ticker
      */
@@ -33,12 +42,28 @@ public interface TransactionRepository {
      */
     Uni<List<Transaction>> findAll();
 
+    /**
+     * Streams all transactions, most recent first. Rows are read as the subscriber requests them,
+     * so memory use does not grow with the number of transactions.
+     */
+    Multi<Transaction> streamAll();
+
     /**
      * Searches transactions by criteria
      */
     Uni<List<Transaction>> searchTransactions(String ticker, TransactionType type, 
                                              LocalDate fromDate, LocalDate toDate);
 
+    /**
+     * Finds one page of the transactions matching the criteria, ordered by transaction date then id,
+     * both descending. Every criterion is optional.
+     *
+     * @param after cursor of the previous page, or null for the first page
+     * @param limit maximum number of transactions in the page
+     */
+    Uni<TransactionPage> searchPage(String ticker, TransactionType type, LocalDate fromDate, LocalDate toDate,
+                                    TransactionCursor after, int limit);
+
     /**
      * Updates an existing transaction
      */
@@ -0,0 +1,273 @@
+package com.portfolio.infrastructure.invalidation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.domain.port.CacheInvalidator;
+import com.portfolio.infrastructure.marketdata.history.DividendHistoryStore;
+import com.portfolio.infrastructure.persistence.readmodel.PositionReadModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.pgclient.pubsub.PgSubscriber;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Tuple;
+import io.vertx.pgclient.PgConnectOptions;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the in-memory state of several instances consistent through Postgres {@code LISTEN/NOTIFY}.
+ * Each instance listens on one channel over a dedicated connection and publishes the price updates,
+ * position changes and cache evictions it makes; the other instances evict the affected tickers
+ * from their caches and reload their position read model. An instance ignores its own messages,
+ * since it already applied the change locally. Notifications sent from a transaction are only
+ * delivered once it commits. Notifications are not persisted: after a lost connection the instance
+ * drops its cached prices and reloads its read model, since it may have missed some.
+ */
+@ApplicationScoped
+@Slf4j
+public class InvalidationBus implements CacheInvalidator {
+
+    static final String PRICES_CACHE = "stock-prices";
+    static final String INVALID_TICKERS_CACHE = "invalid-tickers";
+    static final String DIVIDENDS_CACHE = "dividends";
+
+    static final String NOTIFY_SQL = """
+        SELECT pg_notify($1, $2)
+        """;
+
+    // Keeps each payload well below the 8000 bytes NOTIFY accepts
+    static final int MAX_KEYS_PER_MESSAGE = 200;
+
+    final String instanceId = UUID.randomUUID().toString();
+
+    private final Vertx vertx;
+    private final Pool pool;
+    private final ObjectMapper objectMapper;
+    private final Cache priceCache;
+    private final Cache invalidTickerCache;
+    private final DividendHistoryStore dividendHistory;
+    private final PositionReadModel positionReadModel;
+    private final boolean enabled;
+    private final String channel;
+    private final Duration reconnectDelay;
+    private final PgConnectOptions connectOptions;
+    private final Counter publishedMessages;
+    private final Counter receivedMessages;
+    private final AtomicBoolean subscribedOnce = new AtomicBoolean();
+    private volatile PgSubscriber subscriber;
+
+    @Inject
+    public InvalidationBus(
+            Vertx vertx,
+            Pool pool,
+            ObjectMapper objectMapper,
+            @CacheName(PRICES_CACHE) Cache priceCache,
+            @CacheName(INVALID_TICKERS_CACHE) Cache invalidTickerCache,
+            DividendHistoryStore dividendHistory,
+            PositionReadModel positionReadModel,
+            @ConfigProperty(name = "application.invalidation.enabled", defaultValue = "true")
+            boolean enabled,
+            @ConfigProperty(name = "application.invalidation.channel", defaultValue = "portfolio_invalidation")
+            String channel,
+            @ConfigProperty(name = "application.invalidation.reconnect-delay", defaultValue = "PT5S")
+            Duration reconnectDelay,
+            PgConnectOptions connectOptions,
+            MeterRegistry meterRegistry) {
+        this.vertx = vertx;
+        this.pool = pool;
+        this.objectMapper = objectMapper;
+        this.priceCache = priceCache;
+        this.invalidTickerCache = invalidTickerCache;
+        this.dividendHistory = dividendHistory;
+        this.positionReadModel = positionReadModel;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.reconnectDelay = reconnectDelay;
+        this.connectOptions = connectOptions;
+        this.publishedMessages = Counter.builder("invalidation.messages")
+            .description("Invalidation messages exchanged with the other instances")
+            .tag("direction", "published")
+            .register(meterRegistry);
+        this.receivedMessages = Counter.builder("invalidation.messages")
+            .description("Invalidation messages exchanged with the other instances")
+            .tag("direction", "received")
+            .register(meterRegistry);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        PgSubscriber pgSubscriber = PgSubscriber.subscriber(vertx, connectOptions)
+            .reconnectPolicy(retries -> reconnectDelay.toMillis());
+        pgSubscriber.channel(channel)
+            .subscribeHandler(this::onSubscribed)
+            .handler(this::onNotification);
+        subscriber = pgSubscriber;
+        pgSubscriber.connect()
+            .onFailure().invoke(throwable -> log.warn("Could not listen for invalidations, retrying in {}: {}",
+                reconnectDelay, throwable.getMessage()))
+            .onFailure().retry().withBackOff(reconnectDelay).indefinitely()
+            .subscribe().with(
+                ignored -> log.info("Listening for invalidations on channel {}", channel),
+                failure -> log.error("Stopped listening for invalidations on channel {}", channel, failure));
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        PgSubscriber current = subscriber;
+        subscriber = null;
+        if (current != null) {
+            current.closeAndForget();
+        }
+    }
+
+    /**
+     * Returns the channel the instances listen on
+     */
+    public String channel() {
+        return channel;
+    }
+
+    /**
+     * Returns the payloads announcing a change, split so none exceeds the NOTIFY limit, or no payload
+     * when the bus is disabled or the change affects no ticker. Meant for notifications sent from a
+     * transaction.
+     */
+    public List<String> payloads(InvalidationMessage.Type type, String cache, Collection<String> keys) {
+        if (!enabled || (keys.isEmpty() && type != InvalidationMessage.Type.CACHE_EVICTED)) {
+            return List.of();
+        }
+
+        List<String> sortedKeys = keys.stream().sorted().toList();
+        List<String> payloads = new ArrayList<>();
+        int i = 0;
+        do {
+            List<String> chunk = sortedKeys.subList(i, Math.min(i + MAX_KEYS_PER_MESSAGE, sortedKeys.size()));
+            try {
+                payloads.add(objectMapper.writeValueAsString(new InvalidationMessage(instanceId, type, cache, chunk)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot serialize invalidation message", e);
+            }
+            i += MAX_KEYS_PER_MESSAGE;
+        } while (i < sortedKeys.size());
+        return payloads;
+    }
+
+    /**
+     * Announces a change that is already committed to the other instances. Never fails: a lost
+     * announcement is only logged, the other instances catching up on their next read model reload
+     * and cache expiry.
+     */
+    public Uni<Void> publish(InvalidationMessage.Type type, String cache, Collection<String> keys) {
+        List<String> payloads = payloads(type, cache, keys);
+        return Multi.createFrom().iterable(payloads)
+            .onItem().transformToUniAndConcatenate(payload -> pool.preparedQuery(NOTIFY_SQL)
+                .execute(Tuple.of(channel, payload)))
+            .onItem().invoke(ignored -> publishedMessages.increment())
+            .onItem().ignoreAsUni()
+            .onFailure().recoverWithItem(throwable -> {
+                log.warn("Could not publish {} invalidation: {}", type, throwable.getMessage());
+                return null;
+            });
+    }
+
+    @Override
+    public Set<String> cacheNames() {
+        return Set.of(PRICES_CACHE, INVALID_TICKERS_CACHE, DIVIDENDS_CACHE);
+    }
+
+    @Override
+    public Uni<Void> evict(String cache, Set<String> keys) {
+        return evictLocally(cache, keys)
+            .call(() -> publish(InvalidationMessage.Type.CACHE_EVICTED, cache, keys));
+    }
+
+    /**
+     * Applies a message received on the channel
+     */
+    void onNotification(String payload) {
+        InvalidationMessage message;
+        try {
+            message = objectMapper.readValue(payload, InvalidationMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed invalidation message: {}", payload);
+            return;
+        }
+        if (instanceId.equals(message.origin())) {
+            return;
+        }
+
+        receivedMessages.increment();
+        List<String> keys = message.keys() != null ? message.keys() : List.of();
+        log.debug("Applying {} invalidation of {} from instance {}", message.type(), keys, message.origin());
+        Uni<Void> applied = switch (message.type()) {
+            case PRICES_UPDATED -> evictLocally(PRICES_CACHE, keys).invoke(positionReadModel::refreshInBackground);
+            case POSITIONS_CHANGED -> Uni.createFrom().voidItem().invoke(positionReadModel::refreshInBackground);
+            case CACHE_EVICTED -> evictLocally(message.cache(), keys);
+        };
+        applied.subscribe().with(
+            ignored -> {},
+            failure -> log.warn("Could not apply {} invalidation: {}", message.type(), failure.getMessage()));
+    }
+
+    /**
+     * Runs on every subscription to the channel. A subscription after the first one follows a lost
+     * connection, during which messages may have been missed.
+     */
+    void onSubscribed() {
+        if (!subscribedOnce.getAndSet(true)) {
+            return;
+        }
+        log.info("Listening for invalidations again, dropping cached prices and reloading positions");
+        evictLocally(PRICES_CACHE, List.of())
+            .invoke(positionReadModel::refreshInBackground)
+            .subscribe().with(
+                ignored -> {},
+                failure -> log.warn("Could not drop cached prices: {}", failure.getMessage()));
+    }
+
+    private Uni<Void> evictLocally(String cache, Collection<String> keys) {
+        if (cache == null) {
+            return Uni.createFrom().failure(new IllegalArgumentException("Cache name is missing"));
+        }
+        return switch (cache) {
+            case PRICES_CACHE -> invalidate(priceCache, keys);
+            case INVALID_TICKERS_CACHE -> invalidate(invalidTickerCache, keys);
+            case DIVIDENDS_CACHE -> Uni.createFrom().voidItem().invoke(() -> {
+                if (keys.isEmpty()) {
+                    dividendHistory.clear();
+                } else {
+                    keys.forEach(dividendHistory::evict);
+                }
+            });
+            default -> Uni.createFrom().failure(new IllegalArgumentException("Unknown cache " + cache));
+        };
+    }
+
+    private static Uni<Void> invalidate(Cache cache, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return cache.invalidateAll();
+        }
+        return Uni.join().all(keys.stream().map(cache::invalidate).toList())
+            .andFailFast()
+            .replaceWithVoid();
+    }
+}
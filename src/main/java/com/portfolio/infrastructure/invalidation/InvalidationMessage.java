@@ -0,0 +1,22 @@
+package com.portfolio.infrastructure.invalidation;
+
+import java.util.List;
+
+/**
+ * Change broadcast to the other instances so they drop what they hold in memory about it
+ *
+ * @param origin the instance that made the change, which ignores its own messages
+ * @param cache the evicted cache, only set for {@link Type#CACHE_EVICTED}
+ * @param keys the affected tickers, empty when the whole cache is evicted
+ */
+public record InvalidationMessage(String origin, Type type, String cache, List<String> keys) {
+
+    public enum Type {
+        /** Stored prices of the tickers changed */
+        PRICES_UPDATED,
+        /** Stored positions of the tickers changed */
+        POSITIONS_CHANGED,
+        /** Entries of a cache were evicted */
+        CACHE_EVICTED
+    }
+}
@@ -3,23 +3,52 @@ package com.portfolio.infrastructure.marketdata.adapter;
 import com.portfolio.domain.exception.Errors;
 import com.portfolio.domain.exception.ServiceException;
 import com.portfolio.domain.model.Dividend;
+import com.portfolio.domain.model.PriceQuote;
 import com.portfolio.domain.port.MarketDataService;
+import com.portfolio.domain.port.PriceSnapshotRepository;
+import com.portfolio.infrastructure.marketdata.breaker.TwelveDataCircuitBreaker;
+import com.portfolio.infrastructure.marketdata.calendar.PriceTtlPolicy;
 import com.portfolio.infrastructure.marketdata.client.TwelveDataClient;
 import com.portfolio.infrastructure.marketdata.dto.TwelveDataDividendsWrapper;
 import com.portfolio.infrastructure.marketdata.dto.TwelveDataPriceResponse;
+import com.portfolio.infrastructure.marketdata.history.DateRange;
+import com.portfolio.infrastructure.marketdata.history.DividendHistoryStore;
 import com.portfolio.infrastructure.marketdata.mapper.DividendMapper;
-import io.quarkus.cache.CacheResult;
+import com.portfolio.infrastructure.marketdata.ratelimit.CallPriority;
+import com.portfolio.infrastructure.marketdata.ratelimit.TwelveDataRateLimiter;
+import com.portfolio.infrastructure.marketdata.stream.TwelveDataPriceStream;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.ws.rs.WebApplicationException;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * TwelveData implementation of MarketDataService port
@@ -30,30 +59,87 @@ public class TwelveDataMarketDataService implements MarketDataService {
 
     private final TwelveDataClient twelveDataClient;
     private final DividendMapper dividendMapper;
+    private final Cache priceCache;
+    private final Cache invalidTickerCache;
+    private final TwelveDataRateLimiter rateLimiter;
+    private final TwelveDataCircuitBreaker circuitBreaker;
+    private final PriceSnapshotRepository snapshotRepository;
+    private final DividendHistoryStore dividendHistory;
+    private final TwelveDataPriceStream priceStream;
+    private final PriceTtlPolicy ttlPolicy;
+    private final Map<String, Uni<PriceQuote>> inFlightPriceRequests = new ConcurrentHashMap<>();
+    private final Set<String> backgroundRefreshes = ConcurrentHashMap.newKeySet();
+    private final Counter originatingPriceRequests;
+    private final Counter coalescedPriceRequests;
 
     @ConfigProperty(name = "application.market-data.twelve-data.api-key")
     String apiKey;
 
+    @ConfigProperty(name = "application.market-data.twelve-data.batch-size", defaultValue = "120")
+    int batchSize;
+
+    // TwelveData charges dividends per symbol at a higher credit cost than prices
+    @ConfigProperty(name = "application.market-data.twelve-data.dividend-credits", defaultValue = "20")
+    int dividendCredits;
+
+    @ConfigProperty(name = "application.market-data.prices.preload-timeout", defaultValue = "PT10S")
+    Duration preloadTimeout;
+
     public TwelveDataMarketDataService(@RestClient TwelveDataClient twelveDataClient, 
-                                       DividendMapper dividendMapper) {
+                                       DividendMapper dividendMapper,
+                                       @CacheName("stock-prices") Cache priceCache,
+                                       @CacheName("invalid-tickers") Cache invalidTickerCache,
+                                       TwelveDataRateLimiter rateLimiter,
+                                       TwelveDataCircuitBreaker circuitBreaker,
+                                       PriceSnapshotRepository snapshotRepository,
+                                       DividendHistoryStore dividendHistory,
+                                       TwelveDataPriceStream priceStream,
+                                       PriceTtlPolicy ttlPolicy,
+                                       MeterRegistry meterRegistry) {
         this.twelveDataClient = twelveDataClient;
         this.dividendMapper = dividendMapper;
+        this.priceCache = priceCache;
+        this.invalidTickerCache = invalidTickerCache;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.snapshotRepository = snapshotRepository;
+        this.dividendHistory = dividendHistory;
+        this.priceStream = priceStream;
+        this.ttlPolicy = ttlPolicy;
+        this.originatingPriceRequests = Counter.builder("market.data.price.requests")
+            .description("Price cache misses that started a TwelveData request")
+            .tag("type", "originating")
+            .register(meterRegistry);
+        this.coalescedPriceRequests = Counter.builder("market.data.price.requests")
+            .description("Price cache misses that joined a TwelveData request already in flight")
+            .tag("type", "coalesced")
+            .register(meterRegistry);
     }
 
 
     /**
-     * Gets current price for a ticker with caching
-     * Cache key: "stock-price-{ticker}"
-     * Cache name: "stock-prices"  
-     * Cache expiry and eviction configured in application.properties
+     * Gets current price quote for a ticker with stale-while-revalidate caching
+     * Cache key: normalized ticker
+     * Cache name: "stock-prices"
+     * A fresh cached quote is served as is. A stale one that has not expired yet is still served
+     * immediately, with its real timestamp, and a single background refresh is started.
+     * Only a missing or expired quote makes the caller wait for TwelveData. Freshness and expiry
+     * follow the {@link PriceTtlPolicy}: soft and hard TTLs while the exchange trades, and the next
+     * session open for quotes fetched while it is closed.
+     * Concurrent waits for the same ticker share a single in-flight TwelveData request;
+     * a failed request is propagated to all of its waiters and is not cached, except that tickers
+     * TwelveData rejected as invalid are remembered in the "invalid-tickers" cache and fail fast.
+     * Before going to TwelveData, a missing quote is looked up in the persisted price snapshots.
+     * While the TwelveData circuit breaker is open, uncached tickers fail without an outbound call.
+     * When the price stream is enabled and live, subscribed tickers are served from the streamed
+     * price book and none of the above applies.
      * 
      * @param ticker the stock ticker symbol
-     * @return the current price as BigDecimal
+     * @return the current price quote
      * @throws ServiceException if ticker is invalid, API fails, or response is null
      */
     @Override
-    @CacheResult(cacheName = "stock-prices")
-    public Uni<BigDecimal> getCurrentPrice(String ticker) {
+    public Uni<PriceQuote> getCurrentQuote(String ticker) {
         log.info("Fetching current price for ticker: {}", ticker);
         
         // Input validation
@@ -63,10 +149,483 @@ public class TwelveDataMarketDataService implements MarketDataService {
                 new ServiceException(Errors.MarketData.INVALID_INPUT, "Ticker symbol cannot be null or empty")
             );
         }
-        
-        return twelveDataClient.getPrice(ticker.trim().toUpperCase(), apiKey)
-            .map(this::validateAndExtractPrice)
-            .onFailure().transform(throwable -> transformException(ticker, throwable));
+
+        String normalizedTicker = ticker.trim().toUpperCase();
+        return Uni.createFrom().deferred(() -> {
+            Optional<PriceQuote> streamedQuote = priceStream.quote(normalizedTicker);
+            if (streamedQuote.isPresent()) {
+                log.debug("Serving streamed price for ticker {}", normalizedTicker);
+                return Uni.createFrom().item(streamedQuote.get());
+            }
+
+            PriceQuote cachedQuote = getCachedQuote(normalizedTicker);
+            if (cachedQuote != null && !isExpired(normalizedTicker, cachedQuote)) {
+                if (isStale(normalizedTicker, cachedQuote)) {
+                    log.debug("Serving stale price for ticker {} from {}", normalizedTicker, cachedQuote.timestamp());
+                    refreshInBackground(List.of(normalizedTicker));
+                } else {
+                    log.debug("Serving cached price for ticker {}", normalizedTicker);
+                }
+                return Uni.createFrom().item(cachedQuote);
+            }
+            if (isKnownInvalidTicker(normalizedTicker)) {
+                log.debug("Ticker {} was recently rejected as invalid, skipping TwelveData call", normalizedTicker);
+                return Uni.createFrom().failure(invalidTicker(normalizedTicker));
+            }
+            return joinOrStartPriceRequest(normalizedTicker)
+                .onItem().invoke(quote -> {
+                    if (isStale(normalizedTicker, quote)) {
+                        // Served from an older snapshot
+                        refreshInBackground(List.of(normalizedTicker));
+                    }
+                });
+        });
+    }
+
+    /**
+     * Returns the in-flight request for a ticker, starting one if none is running
+     */
+    private Uni<PriceQuote> joinOrStartPriceRequest(String ticker) {
+        AtomicBoolean originating = new AtomicBoolean(false);
+        Uni<PriceQuote> request = inFlightPriceRequests.computeIfAbsent(ticker, key -> {
+            originating.set(true);
+            return startPriceRequest(key);
+        });
+
+        if (originating.get()) {
+            originatingPriceRequests.increment();
+        } else {
+            log.debug("Joining in-flight price request for ticker {}", ticker);
+            coalescedPriceRequests.increment();
+        }
+        return request;
+    }
+
+    /**
+     * Creates the shared request for a ticker, served from a recent enough snapshot when there is one
+     * and from TwelveData otherwise. The quote is cached before the request leaves the in-flight map,
+     * so later callers either join the request or find the cached quote.
+     */
+    private Uni<PriceQuote> startPriceRequest(String ticker) {
+        Uni<PriceQuote> request = findSnapshots(List.of(ticker))
+            .onItem().transformToUni(snapshots -> {
+                PriceQuote snapshot = snapshots.get(ticker);
+                if (snapshot != null) {
+                    log.debug("Serving price for ticker {} from snapshot of {}", ticker, snapshot.timestamp());
+                    return Uni.createFrom().item(snapshot);
+                }
+                return circuitBreaker.call(() -> rateLimiter.submit(CallPriority.INTERACTIVE, 1, () -> twelveDataClient.getPrice(ticker, apiKey))
+                        .map(response -> new PriceQuote(validateAndExtractPrice(response), LocalDateTime.now()))
+                        .onFailure().transform(throwable -> transformException(ticker, throwable)))
+                    .onItem().invoke(quote -> persistSnapshots(Map.of(ticker, quote)));
+            })
+            .onItem().invoke(quote -> cacheQuote(ticker, quote))
+            .onFailure().invoke(throwable -> rememberInvalidTicker(ticker, throwable));
+        return shared(ticker, request);
+    }
+
+    /**
+     * Makes a price request shareable by every caller that joins it while it is in flight. It leaves
+     * the in-flight map when it ends, unless another request has replaced it there in the meantime.
+     */
+    private Uni<PriceQuote> shared(String ticker, Uni<PriceQuote> request) {
+        AtomicReference<Uni<PriceQuote>> self = new AtomicReference<>();
+        Uni<PriceQuote> shared = request
+            .onTermination().invoke(() -> inFlightPriceRequests.remove(ticker, self.get()))
+            .memoize().indefinitely();
+        self.set(shared);
+        return shared;
+    }
+
+    /**
+     * Gets current price quotes for several tickers. Tickers with a live streamed quote are served from
+     * the price book. Unexpired cached quotes are served
+     * directly, and stale ones are refreshed in the background. The remaining tickers are
+     * looked up in the persisted price snapshots, and those without a recent enough snapshot are
+     * fetched through the multi-symbol form of the TwelveData price endpoint, chunked to the configured
+     * batch size. Like {@link #getCurrentQuote(String)}, a ticker already being fetched joins that
+     * request instead of being fetched again. Every fetched quote is stored in the "stock-prices" cache under its ticker so later
+     * {@link #getCurrentQuote(String)} calls are served from the cache.
+     * 
+     * @param tickers the stock ticker symbols
+     * @return map of normalized ticker to price quote; tickers that could not be priced are absent
+     */
+    @Override
+    public Uni<Map<String, PriceQuote>> getCurrentQuotes(Set<String> tickers) {
+        if (tickers == null || tickers.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+
+        Set<String> normalizedTickers = normalizeTickers(tickers);
+
+        Map<String, PriceQuote> quotes = new HashMap<>();
+        List<String> missingTickers = new ArrayList<>();
+        List<String> staleTickers = new ArrayList<>();
+        for (String ticker : normalizedTickers) {
+            Optional<PriceQuote> streamedQuote = priceStream.quote(ticker);
+            if (streamedQuote.isPresent()) {
+                quotes.put(ticker, streamedQuote.get());
+                continue;
+            }
+
+            PriceQuote cachedQuote = getCachedQuote(ticker);
+            if (cachedQuote == null || isExpired(ticker, cachedQuote)) {
+                if (isKnownInvalidTicker(ticker)) {
+                    log.debug("Ticker {} was recently rejected as invalid, skipping it", ticker);
+                    continue;
+                }
+                missingTickers.add(ticker);
+                continue;
+            }
+            quotes.put(ticker, cachedQuote);
+            if (isStale(ticker, cachedQuote)) {
+                staleTickers.add(ticker);
+            }
+        }
+
+        if (!staleTickers.isEmpty()) {
+            refreshInBackground(staleTickers);
+        }
+
+        if (missingTickers.isEmpty()) {
+            log.debug("All {} requested prices served from cache", quotes.size());
+            return Uni.createFrom().item(quotes);
+        }
+
+        return Uni.createFrom().deferred(() -> joinOrStartBatchRequest(missingTickers))
+            .map(fetched -> {
+                quotes.putAll(fetched);
+                List<String> staleQuotes = fetched.entrySet().stream()
+                    .filter(entry -> isStale(entry.getKey(), entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+                if (!staleQuotes.isEmpty()) {
+                    // Served from older snapshots
+                    refreshInBackground(staleQuotes);
+                }
+                return quotes;
+            });
+    }
+
+    /**
+     * Gets the quotes of tickers missing from the cache. Tickers with a request already in flight
+     * join it; the others are registered as in flight, one shared request per ticker, and are all
+     * served by a single snapshot lookup and batched TwelveData calls. Single and batch reads of
+     * the same ticker hence never fetch it twice.
+     *
+     * @return map of ticker to price quote; tickers that could not be priced are absent
+     */
+    private Uni<Map<String, PriceQuote>> joinOrStartBatchRequest(List<String> tickers) {
+        // Filled before the batch is first subscribed to, since it is only subscribed through the requests
+        List<String> originated = new ArrayList<>();
+        Uni<Map<String, PriceQuote>> batch = Uni.createFrom().deferred(() -> fetchMissingPrices(originated))
+            .memoize().indefinitely();
+
+        Map<String, Uni<PriceQuote>> requests = new HashMap<>();
+        for (String ticker : tickers) {
+            Uni<PriceQuote> request = shared(ticker, batch.map(prices -> quoteFromBatch(ticker, prices)));
+            Uni<PriceQuote> inFlight = inFlightPriceRequests.putIfAbsent(ticker, request);
+            if (inFlight == null) {
+                originated.add(ticker);
+                requests.put(ticker, request);
+            } else {
+                log.debug("Joining in-flight price request for ticker {}", ticker);
+                requests.put(ticker, inFlight);
+            }
+        }
+        originatingPriceRequests.increment(originated.size());
+        coalescedPriceRequests.increment(tickers.size() - originated.size());
+
+        return Multi.createFrom().iterable(requests.entrySet())
+            .onItem().transformToUniAndMerge(request -> request.getValue()
+                .map(quote -> Map.entry(request.getKey(), quote))
+                // A ticker that could not be priced is left out, a null item is skipped
+                .onFailure().recoverWithNull())
+            .collect().asMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * Serves the tickers of a batch request from recent enough snapshots, fetching the remaining ones
+     * from TwelveData in chunks of the configured batch size
+     */
+    private Uni<Map<String, PriceQuote>> fetchMissingPrices(List<String> tickers) {
+        return findSnapshots(tickers)
+            .onItem().transformToUni(snapshots -> {
+                snapshots.forEach(this::cacheQuote);
+                List<String> tickersToFetch = tickers.stream()
+                    .filter(ticker -> !snapshots.containsKey(ticker))
+                    .toList();
+                if (tickersToFetch.isEmpty()) {
+                    return Uni.createFrom().item(snapshots);
+                }
+
+                log.info("Fetching current prices for {} tickers ({} served from snapshots)",
+                    tickersToFetch.size(), snapshots.size());
+                return Multi.createFrom().iterable(partition(tickersToFetch, Math.max(1, batchSize)))
+                    .onItem().transformToUniAndConcatenate(batch -> fetchPriceBatch(batch, CallPriority.INTERACTIVE))
+                    .collect().in(() -> new HashMap<>(snapshots), Map::putAll);
+            });
+    }
+
+    /**
+     * Picks the quote of one ticker out of a batch result, failing like a single request would
+     * when the batch could not price it
+     */
+    private PriceQuote quoteFromBatch(String ticker, Map<String, PriceQuote> prices) {
+        PriceQuote quote = prices.get(ticker);
+        if (quote != null) {
+            return quote;
+        }
+        if (isKnownInvalidTicker(ticker)) {
+            throw invalidTicker(ticker);
+        }
+        throw new ServiceException(Errors.MarketData.API_ERROR, "No price returned for ticker: " + ticker);
+    }
+
+    /**
+     * Gets up-to-date price quotes for several tickers on behalf of a background job. Live streamed
+     * quotes and cached quotes that are still fresh are reused; every other ticker is fetched from
+     * TwelveData in batches at background priority, so the refresh yields to interactive requests.
+     * Snapshots are not consulted, since they are never fresher than what the job is meant to replace.
+     *
+     * @param tickers the stock ticker symbols
+     * @return map of normalized ticker to price quote; tickers that could not be priced are absent
+     */
+    @Override
+    public Uni<Map<String, PriceQuote>> refreshQuotes(Set<String> tickers) {
+        if (tickers == null || tickers.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+
+        Map<String, PriceQuote> quotes = new HashMap<>();
+        List<String> tickersToFetch = new ArrayList<>();
+        for (String ticker : normalizeTickers(tickers)) {
+            Optional<PriceQuote> streamedQuote = priceStream.quote(ticker);
+            if (streamedQuote.isPresent()) {
+                quotes.put(ticker, streamedQuote.get());
+                continue;
+            }
+
+            PriceQuote cachedQuote = getCachedQuote(ticker);
+            if (cachedQuote != null && !isStale(ticker, cachedQuote)) {
+                quotes.put(ticker, cachedQuote);
+            } else if (!isKnownInvalidTicker(ticker)) {
+                tickersToFetch.add(ticker);
+            }
+        }
+
+        if (tickersToFetch.isEmpty()) {
+            return Uni.createFrom().item(quotes);
+        }
+
+        log.info("Refreshing prices for {} tickers ({} still fresh)", tickersToFetch.size(), quotes.size());
+        return Multi.createFrom().iterable(partition(tickersToFetch, Math.max(1, batchSize)))
+            .onItem().transformToUniAndConcatenate(batch -> fetchPriceBatch(batch, CallPriority.BACKGROUND))
+            .collect().in(() -> quotes, Map::putAll);
+    }
+
+    /**
+     * Refreshes stale quotes without making the caller wait. Tickers that are already being
+     * fetched or refreshed are skipped, so each stale entry triggers at most one refresh.
+     */
+    private void refreshInBackground(List<String> tickers) {
+        List<String> tickersToRefresh = tickers.stream()
+            .filter(ticker -> !inFlightPriceRequests.containsKey(ticker))
+            .filter(backgroundRefreshes::add)
+            .toList();
+        if (tickersToRefresh.isEmpty()) {
+            return;
+        }
+
+        log.debug("Refreshing {} stale prices in the background", tickersToRefresh.size());
+        Multi.createFrom().iterable(partition(tickersToRefresh, Math.max(1, batchSize)))
+            .onItem().transformToUniAndConcatenate(batch -> fetchPriceBatch(batch, CallPriority.BACKGROUND))
+            .onTermination().invoke(() -> tickersToRefresh.forEach(backgroundRefreshes::remove))
+            .subscribe().with(
+                refreshed -> log.debug("Refreshed {} stale prices", refreshed.size()),
+                failure -> log.warn("Background price refresh failed: {}", failure.getMessage()));
+    }
+
+    /**
+     * Fetches one chunk of quotes from TwelveData, stores each of them in the price cache and writes
+     * them through to the price snapshots.
+     * Each symbol costs one API credit. A failed, rate-limited or short-circuited chunk is logged and
+     * yields no quotes so the remaining chunks are still served.
+     */
+    private Uni<Map<String, PriceQuote>> fetchPriceBatch(List<String> batch, CallPriority priority) {
+        String symbols = String.join(",", batch);
+
+        Uni<Map<String, BigDecimal>> request = circuitBreaker.call(() -> {
+            Uni<Map<String, BigDecimal>> call;
+            if (batch.size() == 1) {
+                // TwelveData answers a single symbol with the flat response shape
+                call = rateLimiter.submit(priority, 1, () -> twelveDataClient.getPrice(symbols, apiKey))
+                    .map(response -> Map.of(symbols, validateAndExtractPrice(response)));
+            } else {
+                call = rateLimiter.submit(priority, batch.size(), () -> twelveDataClient.getPrices(symbols, apiKey))
+                    .map(this::extractBatchPrices);
+            }
+            return call.onFailure().transform(throwable -> transformException(symbols, throwable));
+        });
+
+        return request
+            .map(prices -> {
+                LocalDateTime fetchedAt = LocalDateTime.now();
+                Map<String, PriceQuote> quotes = new HashMap<>();
+                prices.forEach((ticker, price) -> quotes.put(ticker, new PriceQuote(price, fetchedAt)));
+                return quotes;
+            })
+            .onItem().invoke(fetched -> {
+                fetched.forEach(this::cacheQuote);
+                persistSnapshots(fetched);
+            })
+            .onFailure().recoverWithItem(throwable -> {
+                if (batch.size() == 1) {
+                    rememberInvalidTicker(symbols, throwable);
+                }
+                log.warn("Failed to fetch price batch [{}]: {}", symbols, throwable.getMessage());
+                return Map.of();
+            });
+    }
+
+    /**
+     * Extracts the prices from a multi-symbol response, skipping symbols the API could not price
+     */
+    private Map<String, BigDecimal> extractBatchPrices(Map<String, TwelveDataPriceResponse> response) {
+        if (response == null) {
+            log.error("Received null response from TwelveData API");
+            throw new ServiceException(Errors.MarketData.NULL_RESPONSE, "API returned null response");
+        }
+
+        Map<String, BigDecimal> prices = new HashMap<>();
+        response.forEach((symbol, priceResponse) -> {
+            if (priceResponse == null || priceResponse.getPrice() == null) {
+                log.warn("No price returned for ticker {} in batch response", symbol);
+                return;
+            }
+            prices.put(symbol.trim().toUpperCase(), priceResponse.getPrice());
+        });
+
+        log.info("Successfully retrieved {} prices in batch", prices.size());
+        return prices;
+    }
+
+    /**
+     * Returns the cached quote for a ticker, or null when there is no completed entry
+     */
+    private PriceQuote getCachedQuote(String ticker) {
+        CompletableFuture<PriceQuote> cached = priceCache.as(CaffeineCache.class).getIfPresent(ticker);
+        if (cached == null || !cached.isDone() || cached.isCompletedExceptionally()) {
+            return null;
+        }
+        return cached.join();
+    }
+
+    /**
+     * Stores a quote in the "stock-prices" cache under its normalized ticker
+     */
+    private void cacheQuote(String ticker, PriceQuote quote) {
+        priceCache.as(CaffeineCache.class).put(ticker, CompletableFuture.completedFuture(quote));
+    }
+
+    /**
+     * Looks up persisted snapshots recent enough to be served. A failing lookup yields no snapshots
+     * so callers fall through to TwelveData.
+     */
+    private Uni<Map<String, PriceQuote>> findSnapshots(Collection<String> tickers) {
+        return snapshotRepository.findByTickers(Set.copyOf(tickers), LocalDateTime.now().minus(ttlPolicy.maxAge()))
+            .map(snapshots -> {
+                Map<String, PriceQuote> usable = new HashMap<>();
+                snapshots.forEach((ticker, quote) -> {
+                    if (!isExpired(ticker, quote)) {
+                        usable.put(ticker, quote);
+                    }
+                });
+                return usable;
+            })
+            .onFailure().recoverWithItem(throwable -> {
+                log.warn("Failed to read price snapshots for {} tickers: {}", tickers.size(), throwable.getMessage());
+                return Map.of();
+            });
+    }
+
+    /**
+     * Writes fetched quotes through to the price snapshots without making the caller wait
+     */
+    private void persistSnapshots(Map<String, PriceQuote> quotes) {
+        if (quotes.isEmpty()) {
+            return;
+        }
+        snapshotRepository.saveAll(quotes)
+            .subscribe().with(
+                ignored -> log.debug("Stored {} price snapshots", quotes.size()),
+                failure -> log.warn("Failed to store {} price snapshots: {}", quotes.size(), failure.getMessage()));
+    }
+
+    /**
+     * Pre-loads the price cache with the latest snapshot of every held ticker so a restart does not
+     * send every first position read to TwelveData
+     */
+    void preloadPriceCache(@Observes StartupEvent event) {
+        try {
+            Map<String, PriceQuote> snapshots = snapshotRepository
+                .findForHeldPositions(LocalDateTime.now().minus(ttlPolicy.maxAge()))
+                .await().atMost(preloadTimeout);
+            int loaded = 0;
+            for (Map.Entry<String, PriceQuote> snapshot : snapshots.entrySet()) {
+                if (!isExpired(snapshot.getKey(), snapshot.getValue())) {
+                    cacheQuote(snapshot.getKey(), snapshot.getValue());
+                    loaded++;
+                }
+            }
+            log.info("Pre-loaded {} prices from snapshots", loaded);
+        } catch (Exception e) {
+            log.warn("Could not pre-load prices from snapshots: {}", e.getMessage());
+        }
+    }
+
+    private boolean isKnownInvalidTicker(String ticker) {
+        return invalidTickerCache.as(CaffeineCache.class).getIfPresent(ticker) != null;
+    }
+
+    /**
+     * Remembers a ticker TwelveData rejected as invalid in the short-lived "invalid-tickers" cache
+     */
+    private void rememberInvalidTicker(String ticker, Throwable throwable) {
+        if (throwable instanceof ServiceException serviceException
+                && serviceException.getError() == Errors.MarketData.INVALID_TICKER) {
+            invalidTickerCache.as(CaffeineCache.class).put(ticker, CompletableFuture.completedFuture(Boolean.TRUE));
+        }
+    }
+
+    private static ServiceException invalidTicker(String ticker) {
+        return new ServiceException(Errors.MarketData.INVALID_TICKER, "Invalid ticker symbol: " + ticker);
+    }
+
+    private boolean isStale(String ticker, PriceQuote quote) {
+        return LocalDateTime.now().isAfter(ttlPolicy.freshUntil(ticker, quote.timestamp()));
+    }
+
+    private boolean isExpired(String ticker, PriceQuote quote) {
+        return LocalDateTime.now().isAfter(ttlPolicy.expiresAt(ticker, quote.timestamp()));
+    }
+
+    private static Set<String> normalizeTickers(Set<String> tickers) {
+        Set<String> normalizedTickers = new TreeSet<>();
+        for (String ticker : tickers) {
+            if (ticker != null && !ticker.trim().isEmpty()) {
+                normalizedTickers.add(ticker.trim().toUpperCase());
+            }
+        }
+        return normalizedTickers;
+    }
+
+    private static List<List<String>> partition(List<String> tickers, int size) {
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < tickers.size(); i += size) {
+            batches.add(tickers.subList(i, Math.min(i + size, tickers.size())));
+        }
+        return batches;
     }
 
     /**
@@ -93,9 +652,9 @@ public class TwelveDataMarketDataService implements MarketDataService {
     }
 
     /**
-     * Gets dividends for a stock ticker within a date range with caching
-     * Cache key: "dividends-{ticker}-{startDate}-{endDate}"
-     * Cache name: "dividends"
+     * Gets dividends for a stock ticker within a date range, backed by the per-ticker dividend history.
+     * Only the parts of the range the history does not cover yet are fetched from TwelveData; the
+     * result is then sliced from the merged history, most recent ex-date first.
      * 
      * @param ticker the stock ticker symbol
      * @param startDate the start date for dividend query
@@ -104,17 +663,53 @@ public class TwelveDataMarketDataService implements MarketDataService {
      * @throws ServiceException if ticker is invalid, dates are invalid, API fails, or response is null
      */
     @Override
-    @CacheResult(cacheName = "dividends")
     public Uni<List<Dividend>> getDividends(String ticker, LocalDate startDate, LocalDate endDate) {
         log.info("Fetching dividends for ticker: {} from {} to {}", ticker, startDate, endDate);
-        
+
+        if (endDate.isBefore(startDate)) {
+            return Uni.createFrom().failure(
+                new ServiceException(Errors.MarketData.INVALID_INPUT, "End date cannot be before start date"));
+        }
+
+        String normalizedTicker = ticker.trim().toUpperCase();
+        DateRange range = new DateRange(startDate, endDate);
+        List<DateRange> missingRanges = dividendHistory.missingRanges(normalizedTicker, range);
+        if (missingRanges.isEmpty()) {
+            log.debug("Serving dividends for ticker {} from history", normalizedTicker);
+            return Uni.createFrom().item(dividendHistory.slice(normalizedTicker, range));
+        }
+
+        if (isKnownInvalidTicker(normalizedTicker)) {
+            log.debug("Ticker {} was recently rejected as invalid, skipping TwelveData call", normalizedTicker);
+            return Uni.createFrom().failure(invalidTicker(normalizedTicker));
+        }
+
+        log.debug("Fetching {} missing dividend ranges for ticker {}", missingRanges.size(), normalizedTicker);
+        return Multi.createFrom().iterable(missingRanges)
+            .onItem().transformToUniAndConcatenate(missingRange -> fetchDividends(normalizedTicker, missingRange)
+                .onItem().invoke(dividends -> dividendHistory.record(normalizedTicker, missingRange, dividends)))
+            .collect().asList()
+            .map(ignored -> dividendHistory.slice(normalizedTicker, range));
+    }
+
+    /**
+     * Fetches the dividends of one date range from TwelveData
+     */
+    private Uni<List<Dividend>> fetchDividends(String ticker, DateRange range) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        String formattedStartDate = startDate.format(formatter);
-        String formattedEndDate = endDate.format(formatter);
-        
-        return twelveDataClient.getDividends(ticker.trim().toUpperCase(), formattedStartDate, formattedEndDate, apiKey)
-            .map(this::validateAndMapDividends)
-            .onFailure().transform(throwable -> transformDividendsException(ticker, throwable));
+        String formattedStartDate = range.start().format(formatter);
+        String formattedEndDate = range.end().format(formatter);
+
+        return circuitBreaker.call(() -> rateLimiter.submit(CallPriority.DIVIDENDS, dividendCredits,
+                    () -> twelveDataClient.getDividends(ticker, formattedStartDate, formattedEndDate, apiKey))
+                .onItem().invoke(wrapper -> {
+                    if (wrapper != null && wrapper.getMeta() != null) {
+                        ttlPolicy.rememberExchange(ticker, wrapper.getMeta().getMicCode(), wrapper.getMeta().getExchange());
+                    }
+                })
+                .map(this::validateAndMapDividends)
+                .onFailure().transform(throwable -> transformDividendsException(ticker, throwable)))
+            .onFailure().invoke(throwable -> rememberInvalidTicker(ticker, throwable));
     }
 
     /**
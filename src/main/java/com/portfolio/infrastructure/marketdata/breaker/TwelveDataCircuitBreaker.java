@@ -0,0 +1,191 @@
+package com.portfolio.infrastructure.marketdata.breaker;
+
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker around TwelveData calls.
+ * The breaker opens when the configured number of {@link Errors.MarketData#API_ERROR} or
+ * {@link Errors.MarketData#NETWORK_ERROR} failures happen within the failure window, whether or not
+ * successful calls come in between. While open, calls fail immediately with
+ * {@link Errors.MarketData#CIRCUIT_OPEN} and nothing is sent to TwelveData.
+ * After the open duration a single trial call is let through: its success closes the breaker,
+ * its failure opens it again.
+ */
+@Slf4j
+@ApplicationScoped
+public class TwelveDataCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long failureWindowNanos;
+    private final long openDurationNanos;
+    private final Deque<Long> recentFailures = new ArrayDeque<>();
+    private final Counter rejectedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    LongSupplier nanoClock = System::nanoTime;
+
+    @Inject
+    public TwelveDataCircuitBreaker(
+            @ConfigProperty(name = "application.market-data.twelve-data.circuit-breaker.failure-threshold", defaultValue = "5")
+            int failureThreshold,
+            @ConfigProperty(name = "application.market-data.twelve-data.circuit-breaker.failure-window", defaultValue = "PT30S")
+            Duration failureWindow,
+            @ConfigProperty(name = "application.market-data.twelve-data.circuit-breaker.open-duration", defaultValue = "PT30S")
+            Duration openDuration,
+            MeterRegistry meterRegistry) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.failureWindowNanos = failureWindow.toNanos();
+        this.openDurationNanos = openDuration.toNanos();
+
+        Gauge.builder("market.data.circuit.breaker.state", this, breaker -> breaker.getState().ordinal())
+            .description("TwelveData circuit breaker state (0 closed, 1 open, 2 half-open)")
+            .register(meterRegistry);
+        this.rejectedCalls = Counter.builder("market.data.circuit.breaker.rejected")
+            .description("TwelveData calls rejected while the circuit breaker was open")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Runs a TwelveData call unless the breaker is open.
+     * The call is expected to fail with {@link ServiceException}s already classified by the adapter.
+     *
+     * @param call supplies the call to run
+     * @return the result of the call
+     * @throws ServiceException with {@link Errors.MarketData#CIRCUIT_OPEN} if the breaker rejects the call
+     */
+    public <T> Uni<T> call(Supplier<Uni<T>> call) {
+        return Uni.createFrom().deferred(() -> {
+            if (!tryAcquire()) {
+                rejectedCalls.increment();
+                return Uni.createFrom().failure(new ServiceException(Errors.MarketData.CIRCUIT_OPEN,
+                    "TwelveData circuit breaker is open, skipping call"));
+            }
+            return Uni.createFrom().deferred(call)
+                .onItem().invoke(ignored -> onSuccess())
+                .onFailure().invoke(this::onFailure)
+                .onCancellation().invoke(this::releaseTrial);
+        });
+    }
+
+    /**
+     * Returns the current breaker state; an open breaker whose open duration has elapsed reports half-open
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * Returns the number of counted failures within the current failure window
+     */
+    public synchronized int getRecentFailures() {
+        pruneFailures(nanoClock.getAsLong());
+        return recentFailures.size();
+    }
+
+    private synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (getState() == State.HALF_OPEN && !trialInFlight) {
+            log.info("TwelveData circuit breaker half-open, letting a trial call through");
+            state = State.HALF_OPEN;
+            trialInFlight = true;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void onSuccess() {
+        // While closed, failures stay in the window until they age out, so successes in between
+        // do not hide an API that fails intermittently
+        if (state != State.HALF_OPEN) {
+            return;
+        }
+        log.info("TwelveData circuit breaker closed after a successful trial call");
+        state = State.CLOSED;
+        trialInFlight = false;
+        recentFailures.clear();
+    }
+
+    private synchronized void onFailure(Throwable throwable) {
+        if (!countsAsFailure(throwable)) {
+            // TwelveData answered, so the API itself is reachable
+            if (isApiResponse(throwable)) {
+                onSuccess();
+            } else {
+                trialInFlight = false;
+            }
+            return;
+        }
+
+        long now = nanoClock.getAsLong();
+        if (state == State.HALF_OPEN) {
+            open(now);
+            return;
+        }
+
+        recentFailures.addLast(now);
+        pruneFailures(now);
+        if (state == State.CLOSED && recentFailures.size() >= failureThreshold) {
+            open(now);
+        }
+    }
+
+    private synchronized void releaseTrial() {
+        trialInFlight = false;
+    }
+
+    private void open(long now) {
+        log.warn("TwelveData circuit breaker opened after {} failures, skipping calls for {} ms",
+            recentFailures.size(), Duration.ofNanos(openDurationNanos).toMillis());
+        state = State.OPEN;
+        openedAtNanos = now;
+        trialInFlight = false;
+        recentFailures.clear();
+    }
+
+    private void pruneFailures(long now) {
+        while (!recentFailures.isEmpty() && now - recentFailures.peekFirst() > failureWindowNanos) {
+            recentFailures.removeFirst();
+        }
+    }
+
+    private static boolean countsAsFailure(Throwable throwable) {
+        return throwable instanceof ServiceException serviceException
+            && (serviceException.getError() == Errors.MarketData.API_ERROR
+                || serviceException.getError() == Errors.MarketData.NETWORK_ERROR);
+    }
+
+    private static boolean isApiResponse(Throwable throwable) {
+        return throwable instanceof ServiceException serviceException
+            && (serviceException.getError() == Errors.MarketData.INVALID_TICKER
+                || serviceException.getError() == Errors.MarketData.NULL_RESPONSE);
+    }
+}
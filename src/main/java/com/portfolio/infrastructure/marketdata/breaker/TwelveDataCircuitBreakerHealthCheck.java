@@ -0,0 +1,30 @@
+package com.portfolio.infrastructure.marketdata.breaker;
+
+import io.smallrye.health.api.Wellness;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+/**
+ * Reports the TwelveData circuit breaker state.
+ * Exposed as a wellness check rather than readiness: positions keep being served from stored
+ * prices while the breaker is open, so the application should stay in rotation.
+ */
+@Wellness
+@ApplicationScoped
+public class TwelveDataCircuitBreakerHealthCheck implements HealthCheck {
+
+    @Inject
+    TwelveDataCircuitBreaker circuitBreaker;
+
+    @Override
+    public HealthCheckResponse call() {
+        TwelveDataCircuitBreaker.State state = circuitBreaker.getState();
+        return HealthCheckResponse.named("twelve-data-circuit-breaker")
+            .status(state != TwelveDataCircuitBreaker.State.OPEN)
+            .withData("state", state.name())
+            .withData("recentFailures", circuitBreaker.getRecentFailures())
+            .build();
+    }
+}
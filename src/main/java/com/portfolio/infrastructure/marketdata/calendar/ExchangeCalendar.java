@@ -0,0 +1,69 @@
+package com.portfolio.infrastructure.marketdata.calendar;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Regular trading sessions of the exchanges TwelveData reports, keyed by Market Identifier Code.
+ * Exchanges are also recognised by the exchange names TwelveData uses next to the MIC.
+ */
+@ApplicationScoped
+public class ExchangeCalendar {
+
+    private static final TradingSession NEW_YORK =
+        new TradingSession(ZoneId.of("America/New_York"), LocalTime.of(9, 30), LocalTime.of(16, 0));
+
+    private static final Map<String, TradingSession> SESSIONS = Map.ofEntries(
+        Map.entry("XNYS", NEW_YORK),
+        Map.entry("XNAS", NEW_YORK),
+        Map.entry("XNGS", NEW_YORK),
+        Map.entry("XNMS", NEW_YORK),
+        Map.entry("XNCM", NEW_YORK),
+        Map.entry("XASE", NEW_YORK),
+        Map.entry("ARCX", NEW_YORK),
+        Map.entry("BATS", NEW_YORK),
+        Map.entry("XTSE", new TradingSession(ZoneId.of("America/Toronto"), LocalTime.of(9, 30), LocalTime.of(16, 0))),
+        Map.entry("XLON", new TradingSession(ZoneId.of("Europe/London"), LocalTime.of(8, 0), LocalTime.of(16, 30))),
+        Map.entry("XETR", new TradingSession(ZoneId.of("Europe/Berlin"), LocalTime.of(9, 0), LocalTime.of(17, 30))),
+        Map.entry("XPAR", new TradingSession(ZoneId.of("Europe/Paris"), LocalTime.of(9, 0), LocalTime.of(17, 30))),
+        Map.entry("XAMS", new TradingSession(ZoneId.of("Europe/Amsterdam"), LocalTime.of(9, 0), LocalTime.of(17, 30))),
+        Map.entry("XBRU", new TradingSession(ZoneId.of("Europe/Brussels"), LocalTime.of(9, 0), LocalTime.of(17, 30))),
+        Map.entry("XMAD", new TradingSession(ZoneId.of("Europe/Madrid"), LocalTime.of(9, 0), LocalTime.of(17, 30))),
+        Map.entry("XMIL", new TradingSession(ZoneId.of("Europe/Rome"), LocalTime.of(9, 0), LocalTime.of(17, 30))),
+        Map.entry("XSWX", new TradingSession(ZoneId.of("Europe/Zurich"), LocalTime.of(9, 0), LocalTime.of(17, 30))),
+        Map.entry("XTKS", new TradingSession(ZoneId.of("Asia/Tokyo"), LocalTime.of(9, 0), LocalTime.of(15, 30))),
+        Map.entry("XHKG", new TradingSession(ZoneId.of("Asia/Hong_Kong"), LocalTime.of(9, 30), LocalTime.of(16, 0))),
+        Map.entry("XASX", new TradingSession(ZoneId.of("Australia/Sydney"), LocalTime.of(10, 0), LocalTime.of(16, 0)))
+    );
+
+    private static final Map<String, String> EXCHANGE_NAMES = Map.of(
+        "NYSE", "XNYS",
+        "NASDAQ", "XNAS",
+        "NYSE AMERICAN", "XASE",
+        "NYSE ARCA", "ARCX",
+        "CBOE", "BATS",
+        "TSX", "XTSE",
+        "LSE", "XLON",
+        "XETRA", "XETR",
+        "EURONEXT", "XPAR"
+    );
+
+    /**
+     * Returns the trading session of an exchange given its MIC or exchange name
+     */
+    public Optional<TradingSession> session(String micOrExchange) {
+        if (micOrExchange == null || micOrExchange.isBlank()) {
+            return Optional.empty();
+        }
+        String key = micOrExchange.trim().toUpperCase();
+        TradingSession session = SESSIONS.get(key);
+        if (session == null && EXCHANGE_NAMES.containsKey(key)) {
+            session = SESSIONS.get(EXCHANGE_NAMES.get(key));
+        }
+        return Optional.ofNullable(session);
+    }
+}
@@ -0,0 +1,105 @@
+package com.portfolio.infrastructure.marketdata.calendar;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides how long a price quote stays usable, based on the trading session of the ticker's exchange.
+ * A quote fetched while the exchange trades (or within the close grace period) is fresh for the soft
+ * TTL and usable for the hard TTL. A quote fetched while the exchange is closed cannot change until
+ * the next session, so it stays fresh until the next open, bounded by the max age.
+ * The exchange of a ticker is learned from TwelveData metadata; tickers whose exchange is unknown use
+ * the default MIC, and exchanges without a known session fall back to the flat TTLs.
+ */
+@ApplicationScoped
+@Slf4j
+public class PriceTtlPolicy {
+
+    private final ExchangeCalendar calendar;
+    private final Duration softTtl;
+    private final Duration hardTtl;
+    private final Duration closeGrace;
+    private final Duration maxAge;
+    private final String defaultMic;
+    private final Map<String, String> tickerExchanges = new ConcurrentHashMap<>();
+
+    @Inject
+    public PriceTtlPolicy(
+            ExchangeCalendar calendar,
+            @ConfigProperty(name = "application.market-data.prices.soft-ttl", defaultValue = "PT5M")
+            Duration softTtl,
+            @ConfigProperty(name = "application.market-data.prices.hard-ttl", defaultValue = "PT30M")
+            Duration hardTtl,
+            @ConfigProperty(name = "application.market-data.prices.close-grace", defaultValue = "PT15M")
+            Duration closeGrace,
+            @ConfigProperty(name = "application.market-data.prices.max-age", defaultValue = "P4D")
+            Duration maxAge,
+            @ConfigProperty(name = "application.market-data.prices.default-mic", defaultValue = "XNYS")
+            String defaultMic) {
+        this.calendar = calendar;
+        this.softTtl = softTtl;
+        this.hardTtl = hardTtl;
+        this.closeGrace = closeGrace;
+        this.maxAge = maxAge;
+        this.defaultMic = defaultMic;
+    }
+
+    /**
+     * Remembers the exchange of a ticker, given its MIC or, when the MIC is missing, its exchange name
+     */
+    public void rememberExchange(String ticker, String micCode, String exchange) {
+        String known = micCode != null && !micCode.isBlank() ? micCode : exchange;
+        if (ticker == null || known == null || known.isBlank()) {
+            return;
+        }
+        String previous = tickerExchanges.put(ticker, known.trim().toUpperCase());
+        if (previous == null && calendar.session(known).isEmpty()) {
+            log.debug("No trading session known for exchange {} of ticker {}, using flat price TTLs", known, ticker);
+        }
+    }
+
+    /**
+     * Returns the moment until which a quote is served without triggering a refresh
+     */
+    public LocalDateTime freshUntil(String ticker, LocalDateTime fetchedAt) {
+        return lifetimeEnd(ticker, fetchedAt, softTtl);
+    }
+
+    /**
+     * Returns the moment after which a quote is no longer served
+     */
+    public LocalDateTime expiresAt(String ticker, LocalDateTime fetchedAt) {
+        return lifetimeEnd(ticker, fetchedAt, hardTtl);
+    }
+
+    /**
+     * Returns the longest lifetime any quote can get
+     */
+    public Duration maxAge() {
+        return maxAge;
+    }
+
+    private LocalDateTime lifetimeEnd(String ticker, LocalDateTime fetchedAt, Duration tradingTtl) {
+        Optional<TradingSession> session = calendar.session(tickerExchanges.getOrDefault(ticker, defaultMic));
+        ZonedDateTime fetched = fetchedAt.atZone(ZoneId.systemDefault());
+        if (session.isEmpty() || session.get().isOpen(fetched, closeGrace)) {
+            return fetchedAt.plus(tradingTtl);
+        }
+
+        LocalDateTime nextOpen = session.get().nextOpen(fetched)
+            .withZoneSameInstant(ZoneId.systemDefault())
+            .toLocalDateTime();
+        LocalDateTime cap = fetchedAt.plus(maxAge);
+        return nextOpen.isBefore(cap) ? nextOpen : cap;
+    }
+}
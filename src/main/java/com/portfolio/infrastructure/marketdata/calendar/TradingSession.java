@@ -0,0 +1,54 @@
+package com.portfolio.infrastructure.marketdata.calendar;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Regular trading hours of an exchange, Monday to Friday in the exchange time zone.
+ * Exchange holidays are not modelled, so a holiday is treated as a trading day.
+ */
+public record TradingSession(ZoneId zone, LocalTime open, LocalTime close) {
+
+    public TradingSession {
+        if (!open.isBefore(close)) {
+            throw new IllegalArgumentException("Session open %s must be before close %s".formatted(open, close));
+        }
+    }
+
+    /**
+     * Whether the exchange is trading at the given moment, counting the grace period after the close
+     */
+    public boolean isOpen(ZonedDateTime moment, Duration closeGrace) {
+        ZonedDateTime local = moment.withZoneSameInstant(zone);
+        if (!isTradingDay(local.toLocalDate())) {
+            return false;
+        }
+        ZonedDateTime sessionOpen = local.with(open);
+        ZonedDateTime sessionEnd = local.with(close).plus(closeGrace);
+        return !local.isBefore(sessionOpen) && local.isBefore(sessionEnd);
+    }
+
+    /**
+     * Returns the first session open strictly after the given moment
+     */
+    public ZonedDateTime nextOpen(ZonedDateTime moment) {
+        ZonedDateTime local = moment.withZoneSameInstant(zone);
+        LocalDate date = local.toLocalDate();
+        if (!local.toLocalTime().isBefore(open)) {
+            date = date.plusDays(1);
+        }
+        while (!isTradingDay(date)) {
+            date = date.plusDays(1);
+        }
+        return ZonedDateTime.of(date, open, zone);
+    }
+
+    private static boolean isTradingDay(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY;
+    }
+}
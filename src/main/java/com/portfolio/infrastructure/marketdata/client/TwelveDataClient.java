@@ -8,7 +8,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.QueryParam;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 
-import java.util.List;
+import java.util.Map;
 
 /**
  * REST client for TwelveData API
@@ -30,6 +30,21 @@ public interface TwelveDataClient {
             @QueryParam("apikey") String apikey
     );
 
+    /**
+     * Gets the current prices for several stock tickers in a single request
+     * 
+     * @param symbols comma-separated ticker symbols (e.g., "AAPL,MSFT"); must contain at least two
+     *                symbols, since a single symbol is answered with the flat {@link #getPrice} shape
+     * @param apikey the TwelveData API key
+     * @return map of ticker symbol to its price response
+     */
+    @GET
+    @Path("/price")
+    Uni<Map<String, TwelveDataPriceResponse>> getPrices(
+            @QueryParam("symbol") String symbols,
+            @QueryParam("apikey") String apikey
+    );
+
     /**
      * Gets dividends for a stock ticker within a date range
      * 
@@ -0,0 +1,23 @@
+package com.portfolio.infrastructure.marketdata.history;
+
+import java.time.LocalDate;
+
+/**
+ * Inclusive range of dates
+ */
+public record DateRange(LocalDate start, LocalDate end) {
+
+    public DateRange {
+        if (start == null || end == null || end.isBefore(start)) {
+            throw new IllegalArgumentException("Invalid date range: " + start + " to " + end);
+        }
+    }
+
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(start) && !date.isAfter(end);
+    }
+
+    public boolean overlaps(DateRange other) {
+        return !other.end.isBefore(start) && !other.start.isAfter(end);
+    }
+}
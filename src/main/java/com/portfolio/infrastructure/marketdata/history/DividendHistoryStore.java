@@ -0,0 +1,158 @@
+package com.portfolio.infrastructure.marketdata.history;
+
+import com.portfolio.domain.model.Dividend;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory dividend history per ticker.
+ * Each ticker keeps the date ranges already fetched from TwelveData and the dividends found in them,
+ * sorted by ex-date, most recent first. A query only needs the sub-ranges that are not covered yet and
+ * is then answered by slicing the merged history.
+ * A covered range expires after the history TTL, or after the shorter recent TTL when it reaches the
+ * date it was fetched on, since new dividends can still be announced for it.
+ */
+@ApplicationScoped
+public class DividendHistoryStore {
+
+    private static final Comparator<Dividend> MOST_RECENT_FIRST =
+        Comparator.comparing(Dividend::getExDate).reversed();
+
+    private final Map<String, TickerHistory> histories = new ConcurrentHashMap<>();
+
+    @ConfigProperty(name = "application.market-data.dividends.history-ttl", defaultValue = "P15D")
+    Duration historyTtl;
+
+    @ConfigProperty(name = "application.market-data.dividends.recent-ttl", defaultValue = "P1D")
+    Duration recentTtl;
+
+    Clock clock = Clock.systemDefaultZone();
+
+    /**
+     * Returns the parts of a range that are not covered by unexpired history, in date order
+     */
+    public List<DateRange> missingRanges(String ticker, DateRange range) {
+        List<DateRange> missing = new ArrayList<>();
+        LocalDate cursor = range.start();
+
+        TickerHistory history = histories.get(ticker);
+        if (history != null) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            for (Coverage coverage : history.coverages()) {
+                if (isExpired(coverage, now) || !coverage.range().overlaps(range)
+                        || coverage.range().end().isBefore(cursor)) {
+                    continue;
+                }
+                if (coverage.range().start().isAfter(cursor)) {
+                    missing.add(new DateRange(cursor, coverage.range().start().minusDays(1)));
+                }
+                cursor = coverage.range().end().plusDays(1);
+                if (cursor.isAfter(range.end())) {
+                    return missing;
+                }
+            }
+        }
+
+        missing.add(new DateRange(cursor, range.end()));
+        return missing;
+    }
+
+    /**
+     * Records the dividends fetched for a range, replacing whatever the history held for it
+     */
+    public void record(String ticker, DateRange range, List<Dividend> dividends) {
+        histories.compute(ticker, (key, history) -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            List<Coverage> coverages = new ArrayList<>();
+            List<Dividend> merged = new ArrayList<>();
+
+            if (history != null) {
+                for (Coverage coverage : history.coverages()) {
+                    if (isExpired(coverage, now)) {
+                        continue;
+                    }
+                    if (!coverage.range().overlaps(range)) {
+                        coverages.add(coverage);
+                        continue;
+                    }
+                    // Keep the parts of an overlapped coverage that lie outside the new range
+                    if (coverage.range().start().isBefore(range.start())) {
+                        coverages.add(new Coverage(
+                            new DateRange(coverage.range().start(), range.start().minusDays(1)), coverage.fetchedAt()));
+                    }
+                    if (coverage.range().end().isAfter(range.end())) {
+                        coverages.add(new Coverage(
+                            new DateRange(range.end().plusDays(1), coverage.range().end()), coverage.fetchedAt()));
+                    }
+                }
+                for (Dividend dividend : history.dividends()) {
+                    if (!range.contains(dividend.getExDate()) && isCovered(coverages, dividend.getExDate())) {
+                        merged.add(dividend);
+                    }
+                }
+            }
+
+            coverages.add(new Coverage(range, now));
+            for (Dividend dividend : dividends) {
+                if (dividend.getExDate() != null && range.contains(dividend.getExDate())) {
+                    merged.add(dividend);
+                }
+            }
+
+            coverages.sort(Comparator.comparing(coverage -> coverage.range().start()));
+            merged.sort(MOST_RECENT_FIRST);
+            return new TickerHistory(List.copyOf(coverages), List.copyOf(merged));
+        });
+    }
+
+    /**
+     * Returns the recorded dividends with an ex-date within the range, most recent first
+     */
+    public List<Dividend> slice(String ticker, DateRange range) {
+        TickerHistory history = histories.get(ticker);
+        if (history == null) {
+            return List.of();
+        }
+        return history.dividends().stream()
+            .filter(dividend -> range.contains(dividend.getExDate()))
+            .toList();
+    }
+
+    /**
+     * Forgets the history of a ticker, so its next query goes back to TwelveData
+     */
+    public void evict(String ticker) {
+        histories.remove(ticker);
+    }
+
+    /**
+     * Forgets the history of every ticker
+     */
+    public void clear() {
+        histories.clear();
+    }
+
+    private boolean isExpired(Coverage coverage, LocalDateTime now) {
+        boolean recent = !coverage.range().end().isBefore(coverage.fetchedAt().toLocalDate());
+        Duration ttl = recent ? recentTtl : historyTtl;
+        return coverage.fetchedAt().plus(ttl).isBefore(now);
+    }
+
+    private static boolean isCovered(List<Coverage> coverages, LocalDate date) {
+        return coverages.stream().anyMatch(coverage -> coverage.range().contains(date));
+    }
+
+    private record Coverage(DateRange range, LocalDateTime fetchedAt) {}
+
+    private record TickerHistory(List<Coverage> coverages, List<Dividend> dividends) {}
+}
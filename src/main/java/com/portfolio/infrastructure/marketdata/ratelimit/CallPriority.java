@@ -0,0 +1,14 @@
+package com.portfolio.infrastructure.marketdata.ratelimit;
+
+/**
+ * Priority of a TwelveData call waiting for API credits.
+ * Declaration order is the serving order: interactive reads go first, background refreshes last.
+ */
+public enum CallPriority {
+    /** Price lookups a caller is waiting on */
+    INTERACTIVE,
+    /** Dividend history lookups */
+    DIVIDENDS,
+    /** Stale price refreshes nobody is waiting on */
+    BACKGROUND
+}
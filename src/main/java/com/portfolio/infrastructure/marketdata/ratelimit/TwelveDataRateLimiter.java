@@ -0,0 +1,259 @@
+package com.portfolio.infrastructure.marketdata.ratelimit;
+
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Shared token-bucket limiter for TwelveData API credits.
+ * The bucket holds up to one minute of credits and refills continuously. Calls that cannot be
+ * served right away wait in a priority queue ({@link CallPriority} order, FIFO within a priority).
+ * A call is rejected with {@link Errors.MarketData#RATE_LIMITED} as soon as it is clear it cannot
+ * be served within the maximum wait of its priority, either when it is submitted or while it waits.
+ */
+@Slf4j
+@ApplicationScoped
+public class TwelveDataRateLimiter {
+
+    private final int capacity;
+    private final double creditsPerNano;
+    private final Map<CallPriority, Duration> maxWaits;
+    private final PriorityQueue<PendingCall<?>> queue = new PriorityQueue<>(
+        Comparator.comparing((PendingCall<?> call) -> call.priority).thenComparingLong(call -> call.sequence));
+    private final Timer waitTimer;
+
+    private double credits;
+    private long lastRefillNanos = Long.MIN_VALUE;
+    private long sequence;
+    private ScheduledFuture<?> scheduledDrain;
+
+    LongSupplier nanoClock = System::nanoTime;
+    ScheduledExecutorService scheduler = Infrastructure.getDefaultWorkerPool();
+
+    @Inject
+    public TwelveDataRateLimiter(
+            @ConfigProperty(name = "application.market-data.twelve-data.rate-limit.credits-per-minute", defaultValue = "55")
+            int creditsPerMinute,
+            @ConfigProperty(name = "application.market-data.twelve-data.rate-limit.max-wait.interactive", defaultValue = "PT2S")
+            Duration interactiveMaxWait,
+            @ConfigProperty(name = "application.market-data.twelve-data.rate-limit.max-wait.dividends", defaultValue = "PT10S")
+            Duration dividendsMaxWait,
+            @ConfigProperty(name = "application.market-data.twelve-data.rate-limit.max-wait.background", defaultValue = "PT1M")
+            Duration backgroundMaxWait,
+            MeterRegistry meterRegistry) {
+        this.capacity = Math.max(1, creditsPerMinute);
+        this.creditsPerNano = (double) capacity / TimeUnit.MINUTES.toNanos(1);
+        this.credits = capacity;
+        this.maxWaits = new EnumMap<>(CallPriority.class);
+        this.maxWaits.put(CallPriority.INTERACTIVE, interactiveMaxWait);
+        this.maxWaits.put(CallPriority.DIVIDENDS, dividendsMaxWait);
+        this.maxWaits.put(CallPriority.BACKGROUND, backgroundMaxWait);
+
+        Gauge.builder("market.data.rate.limiter.credits", this, TwelveDataRateLimiter::availableCredits)
+            .description("TwelveData API credits currently available")
+            .register(meterRegistry);
+        for (CallPriority priority : CallPriority.values()) {
+            Gauge.builder("market.data.rate.limiter.queue.depth", this, limiter -> limiter.queueDepth(priority))
+                .description("TwelveData calls waiting for credits")
+                .tag("priority", priority.name().toLowerCase())
+                .register(meterRegistry);
+        }
+        Gauge.builder("market.data.rate.limiter.oldest.wait", this, TwelveDataRateLimiter::oldestWaitSeconds)
+            .description("Seconds the longest-waiting TwelveData call has been queued")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("market.data.rate.limiter.wait")
+            .description("Time TwelveData calls waited for credits before being sent")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Runs a TwelveData call once enough credits are available.
+     * The call is only started after its credits have been taken from the bucket; a call needing more
+     * credits than the bucket holds is charged the whole bucket.
+     *
+     * @param priority the queue priority of the call
+     * @param cost the number of API credits the call consumes
+     * @param call supplies the call to run
+     * @return the result of the call
+     * @throws ServiceException with {@link Errors.MarketData#RATE_LIMITED} if the call cannot be served in time
+     */
+    public <T> Uni<T> submit(CallPriority priority, int cost, Supplier<Uni<T>> call) {
+        return Uni.createFrom().emitter(emitter -> {
+            int credited = Math.min(Math.max(1, cost), capacity);
+            Duration maxWait = maxWaits.get(priority);
+            PendingCall<T> pending;
+            long estimatedWait;
+            synchronized (this) {
+                long now = nanoClock.getAsLong();
+                refill(now);
+                estimatedWait = estimateWaitNanos(priority, credited);
+                if (estimatedWait > maxWait.toNanos()) {
+                    pending = null;
+                } else {
+                    pending = new PendingCall<>(priority, credited, sequence++, now, now + maxWait.toNanos(), call, emitter);
+                    queue.add(pending);
+                }
+            }
+
+            if (pending == null) {
+                log.warn("Rejecting {} TwelveData call: estimated wait of {} ms exceeds {}",
+                    priority, TimeUnit.NANOSECONDS.toMillis(estimatedWait), maxWait);
+                emitter.fail(rateLimited(priority, maxWait));
+                return;
+            }
+
+            emitter.onTermination(() -> remove(pending));
+            drain();
+        });
+    }
+
+    /**
+     * Starts every queued call that can be paid for, rejects those past their deadline and
+     * schedules the next drain for when the head of the queue can be served or the next deadline passes
+     */
+    private void drain() {
+        List<PendingCall<?>> granted = new ArrayList<>();
+        List<PendingCall<?>> expired = new ArrayList<>();
+        long now;
+        synchronized (this) {
+            now = nanoClock.getAsLong();
+            refill(now);
+            while (!queue.isEmpty() && queue.peek().credits <= credits) {
+                PendingCall<?> next = queue.poll();
+                credits -= next.credits;
+                granted.add(next);
+            }
+            queue.removeIf(pending -> {
+                if (pending.deadlineNanos < now) {
+                    expired.add(pending);
+                    return true;
+                }
+                return false;
+            });
+            scheduleNextDrain(now);
+        }
+
+        for (PendingCall<?> pending : expired) {
+            Duration maxWait = maxWaits.get(pending.priority);
+            log.warn("{} TwelveData call was not served within {}", pending.priority, maxWait);
+            pending.emitter.fail(rateLimited(pending.priority, maxWait));
+        }
+        for (PendingCall<?> pending : granted) {
+            waitTimer.record(now - pending.enqueuedNanos, TimeUnit.NANOSECONDS);
+            pending.start();
+        }
+    }
+
+    private void scheduleNextDrain(long now) {
+        if (scheduledDrain != null) {
+            scheduledDrain.cancel(false);
+            scheduledDrain = null;
+        }
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        double missingCredits = queue.peek().credits - credits;
+        long nextRun = now + (long) Math.ceil(missingCredits / creditsPerNano);
+        for (PendingCall<?> pending : queue) {
+            nextRun = Math.min(nextRun, pending.deadlineNanos + 1);
+        }
+        scheduledDrain = scheduler.schedule(this::drain, Math.max(0, nextRun - now), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Estimates how long a new call would wait: it is served after every queued call of the same or a
+     * higher priority, once the bucket has refilled enough to pay for all of them
+     */
+    private long estimateWaitNanos(CallPriority priority, int cost) {
+        double creditsAhead = cost;
+        for (PendingCall<?> pending : queue) {
+            if (pending.priority.compareTo(priority) <= 0) {
+                creditsAhead += pending.credits;
+            }
+        }
+        double missingCredits = creditsAhead - credits;
+        return missingCredits <= 0 ? 0 : (long) Math.ceil(missingCredits / creditsPerNano);
+    }
+
+    private void refill(long now) {
+        if (lastRefillNanos != Long.MIN_VALUE && now > lastRefillNanos) {
+            credits = Math.min(capacity, credits + (now - lastRefillNanos) * creditsPerNano);
+        }
+        lastRefillNanos = now;
+    }
+
+    private synchronized void remove(PendingCall<?> pending) {
+        queue.remove(pending);
+    }
+
+    synchronized double availableCredits() {
+        refill(nanoClock.getAsLong());
+        return credits;
+    }
+
+    synchronized int queueDepth(CallPriority priority) {
+        return (int) queue.stream().filter(pending -> pending.priority == priority).count();
+    }
+
+    synchronized double oldestWaitSeconds() {
+        long now = nanoClock.getAsLong();
+        return queue.stream()
+            .mapToLong(pending -> now - pending.enqueuedNanos)
+            .max()
+            .orElse(0) / 1_000_000_000.0;
+    }
+
+    private static ServiceException rateLimited(CallPriority priority, Duration maxWait) {
+        return new ServiceException(Errors.MarketData.RATE_LIMITED,
+            "TwelveData credit quota exhausted, " + priority.name().toLowerCase() + " call cannot be served within " + maxWait);
+    }
+
+    private static final class PendingCall<T> {
+        private final CallPriority priority;
+        private final int credits;
+        private final long sequence;
+        private final long enqueuedNanos;
+        private final long deadlineNanos;
+        private final Supplier<Uni<T>> call;
+        private final UniEmitter<? super T> emitter;
+
+        private PendingCall(CallPriority priority, int credits, long sequence, long enqueuedNanos, long deadlineNanos,
+                            Supplier<Uni<T>> call, UniEmitter<? super T> emitter) {
+            this.priority = priority;
+            this.credits = credits;
+            this.sequence = sequence;
+            this.enqueuedNanos = enqueuedNanos;
+            this.deadlineNanos = deadlineNanos;
+            this.call = call;
+            this.emitter = emitter;
+        }
+
+        private void start() {
+            Uni.createFrom().deferred(call).subscribe().with(emitter::complete, emitter::fail);
+        }
+    }
+}
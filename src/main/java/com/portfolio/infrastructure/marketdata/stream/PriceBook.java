@@ -0,0 +1,64 @@
+package com.portfolio.infrastructure.marketdata.stream;
+
+import com.portfolio.domain.model.PriceQuote;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory book of the latest streamed price per ticker.
+ * Each ticker owns an {@link AtomicReference} that ticks replace with a compare-and-set, so readers
+ * never block and writers only contend on the same ticker. A tick older than the quote already in
+ * the book is dropped, so out-of-order delivery never moves a price back in time.
+ */
+@ApplicationScoped
+public class PriceBook {
+
+    private final ConcurrentHashMap<String, AtomicReference<PriceQuote>> quotes = new ConcurrentHashMap<>();
+
+    /**
+     * Applies a tick to the book
+     *
+     * @return true if the tick became the ticker's current quote
+     */
+    public boolean update(String ticker, PriceQuote quote) {
+        AtomicReference<PriceQuote> slot = quotes.get(ticker);
+        if (slot == null) {
+            slot = quotes.computeIfAbsent(ticker, key -> new AtomicReference<>());
+        }
+
+        while (true) {
+            PriceQuote current = slot.get();
+            if (current != null && current.timestamp().isAfter(quote.timestamp())) {
+                return false;
+            }
+            if (slot.compareAndSet(current, quote)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the latest quote of a ticker, if any tick was received for it
+     */
+    public Optional<PriceQuote> get(String ticker) {
+        AtomicReference<PriceQuote> slot = quotes.get(ticker);
+        return slot == null ? Optional.empty() : Optional.ofNullable(slot.get());
+    }
+
+    /**
+     * Drops a ticker from the book
+     */
+    public void remove(String ticker) {
+        quotes.remove(ticker);
+    }
+
+    /**
+     * Returns the number of tickers in the book
+     */
+    public int size() {
+        return quotes.size();
+    }
+}
@@ -0,0 +1,341 @@
+package com.portfolio.infrastructure.marketdata.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.portfolio.domain.model.PriceQuote;
+import com.portfolio.domain.port.HeldTickerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.WebSocketConnectOptions;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.http.WebSocket;
+import io.vertx.mutiny.core.http.WebSocketClient;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Client of the TwelveData WebSocket price stream.
+ * When enabled, it subscribes to every ticker held in the portfolio and writes each price event to
+ * the {@link PriceBook}. Subscriptions are reconciled with the held tickers on every (re)connection
+ * and at a fixed interval, so tickers are added and removed as positions open and close.
+ * The stream is considered live only while price events keep arriving; once no event was received
+ * for the quiet period, {@link #quote(String)} returns nothing and callers fall back to REST polling.
+ */
+@ApplicationScoped
+@Slf4j
+public class TwelveDataPriceStream {
+
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final Vertx vertx;
+    private final PriceBook priceBook;
+    private final HeldTickerRepository heldTickerRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String url;
+    private final String apiKey;
+    private final Duration quietPeriod;
+    private final Duration heartbeatInterval;
+    private final Duration reconcileInterval;
+    private final Duration reconnectDelay;
+    private final Set<String> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicLong lastTickNanos = new AtomicLong(NEVER);
+    private final List<Long> timers = new CopyOnWriteArrayList<>();
+    private final Counter ticks;
+
+    private volatile boolean running;
+    private volatile WebSocketClient client;
+    private volatile WebSocket socket;
+
+    LongSupplier nanoClock = System::nanoTime;
+
+    @Inject
+    public TwelveDataPriceStream(
+            Vertx vertx,
+            PriceBook priceBook,
+            HeldTickerRepository heldTickerRepository,
+            ObjectMapper objectMapper,
+            @ConfigProperty(name = "application.market-data.twelve-data.stream.enabled", defaultValue = "false")
+            boolean enabled,
+            @ConfigProperty(name = "application.market-data.twelve-data.stream.url", defaultValue = "wss://ws.twelvedata.com/v1/quotes/price")
+            String url,
+            @ConfigProperty(name = "application.market-data.twelve-data.api-key")
+            String apiKey,
+            @ConfigProperty(name = "application.market-data.twelve-data.stream.quiet-period", defaultValue = "PT30S")
+            Duration quietPeriod,
+            @ConfigProperty(name = "application.market-data.twelve-data.stream.heartbeat-interval", defaultValue = "PT10S")
+            Duration heartbeatInterval,
+            @ConfigProperty(name = "application.market-data.twelve-data.stream.reconcile-interval", defaultValue = "PT1M")
+            Duration reconcileInterval,
+            @ConfigProperty(name = "application.market-data.twelve-data.stream.reconnect-delay", defaultValue = "PT5S")
+            Duration reconnectDelay,
+            MeterRegistry meterRegistry) {
+        this.vertx = vertx;
+        this.priceBook = priceBook;
+        this.heldTickerRepository = heldTickerRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.url = url;
+        this.apiKey = apiKey;
+        this.quietPeriod = quietPeriod;
+        this.heartbeatInterval = heartbeatInterval;
+        this.reconcileInterval = reconcileInterval;
+        this.reconnectDelay = reconnectDelay;
+
+        Gauge.builder("market.data.stream.connected", this, stream -> stream.socket != null ? 1 : 0)
+            .description("Whether the TwelveData price stream is connected")
+            .register(meterRegistry);
+        Gauge.builder("market.data.stream.live", this, stream -> stream.isLive() ? 1 : 0)
+            .description("Whether prices are currently served from the TwelveData price stream")
+            .register(meterRegistry);
+        Gauge.builder("market.data.stream.subscriptions", subscriptions, Set::size)
+            .description("Tickers subscribed on the TwelveData price stream")
+            .register(meterRegistry);
+        this.ticks = Counter.builder("market.data.stream.ticks")
+            .description("Price events received from the TwelveData price stream")
+            .register(meterRegistry);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            log.info("TwelveData price stream disabled, prices are polled over REST");
+            return;
+        }
+        start();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        stop();
+    }
+
+    /**
+     * Connects to the stream and starts the heartbeat and reconciliation timers
+     */
+    void start() {
+        running = true;
+        client = vertx.createWebSocketClient();
+        connect();
+        timers.add(vertx.setPeriodic(heartbeatInterval.toMillis(), id -> sendHeartbeat()));
+        timers.add(vertx.setPeriodic(reconcileInterval.toMillis(), id -> reconcile().subscribe().with(
+            ignored -> {},
+            failure -> log.warn("Failed to reconcile price stream subscriptions: {}", failure.getMessage()))));
+    }
+
+    /**
+     * Stops the timers and closes the connection
+     */
+    void stop() {
+        running = false;
+        timers.forEach(vertx::cancelTimer);
+        timers.clear();
+        WebSocket current = socket;
+        socket = null;
+        if (current != null) {
+            current.closeAndForget();
+        }
+        if (client != null) {
+            client.closeAndForget();
+        }
+    }
+
+    /**
+     * Returns the streamed quote of a ticker while the stream is live and the ticker is subscribed
+     */
+    public Optional<PriceQuote> quote(String ticker) {
+        if (!isLive() || !subscriptions.contains(ticker)) {
+            return Optional.empty();
+        }
+        return priceBook.get(ticker);
+    }
+
+    /**
+     * Whether the stream is connected and received a price event within the quiet period
+     */
+    public boolean isLive() {
+        long lastTick = lastTickNanos.get();
+        return socket != null && lastTick != NEVER && nanoClock.getAsLong() - lastTick <= quietPeriod.toNanos();
+    }
+
+    /**
+     * Aligns the stream subscriptions with the tickers held in the portfolio
+     */
+    Uni<Void> reconcile() {
+        WebSocket current = socket;
+        if (current == null) {
+            return Uni.createFrom().voidItem();
+        }
+        return heldTickerRepository.findHeldTickers()
+            .invoke(held -> applySubscriptions(current, held))
+            .replaceWithVoid();
+    }
+
+    private synchronized void applySubscriptions(WebSocket current, Set<String> held) {
+        if (current != socket) {
+            // Reconnected meanwhile, the new connection reconciles on its own
+            return;
+        }
+
+        Set<String> wanted = held.stream()
+            .map(ticker -> ticker.trim().toUpperCase())
+            .collect(Collectors.toSet());
+        List<String> added = wanted.stream()
+            .filter(ticker -> !subscriptions.contains(ticker))
+            .sorted()
+            .toList();
+        List<String> removed = subscriptions.stream()
+            .filter(ticker -> !wanted.contains(ticker))
+            .sorted()
+            .toList();
+
+        if (!added.isEmpty()) {
+            log.info("Subscribing to {} tickers on the price stream", added.size());
+            subscriptions.addAll(added);
+            current.writeTextMessageAndForget(action("subscribe", added));
+        }
+        if (!removed.isEmpty()) {
+            log.info("Unsubscribing from {} tickers on the price stream", removed.size());
+            removed.forEach(ticker -> {
+                subscriptions.remove(ticker);
+                priceBook.remove(ticker);
+            });
+            current.writeTextMessageAndForget(action("unsubscribe", removed));
+        }
+    }
+
+    private void connect() {
+        String separator = url.contains("?") ? "&" : "?";
+        WebSocketConnectOptions options = new WebSocketConnectOptions()
+            .setAbsoluteURI(url + separator + "apikey=" + URLEncoder.encode(apiKey, StandardCharsets.UTF_8));
+        client.connect(options).subscribe().with(
+            this::onConnected,
+            failure -> {
+                log.warn("Failed to connect to the TwelveData price stream: {}", failure.getMessage());
+                scheduleReconnect();
+            });
+    }
+
+    private void onConnected(WebSocket connected) {
+        if (!running) {
+            connected.closeAndForget();
+            return;
+        }
+
+        log.info("Connected to the TwelveData price stream");
+        synchronized (this) {
+            subscriptions.clear();
+            socket = connected;
+        }
+        connected.textMessageHandler(this::onMessage);
+        connected.exceptionHandler(failure -> log.warn("TwelveData price stream error: {}", failure.getMessage()));
+        connected.closeHandler(() -> onClosed(connected));
+        reconcile().subscribe().with(
+            ignored -> {},
+            failure -> log.warn("Failed to subscribe held tickers on the price stream: {}", failure.getMessage()));
+    }
+
+    private void onClosed(WebSocket closed) {
+        synchronized (this) {
+            if (socket != closed) {
+                return;
+            }
+            socket = null;
+            subscriptions.clear();
+        }
+        log.warn("TwelveData price stream closed, falling back to REST polling");
+        scheduleReconnect();
+    }
+
+    private void scheduleReconnect() {
+        if (!running) {
+            return;
+        }
+        vertx.setTimer(reconnectDelay.toMillis(), id -> {
+            if (running) {
+                connect();
+            }
+        });
+    }
+
+    void onMessage(String text) {
+        JsonNode message;
+        try {
+            message = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed price stream message: {}", e.getMessage());
+            return;
+        }
+
+        switch (message.path("event").asText()) {
+            case "price" -> onPrice(message);
+            case "subscribe-status" -> onSubscribeStatus(message);
+            default -> log.trace("Ignoring price stream message {}", text);
+        }
+    }
+
+    private void onPrice(JsonNode message) {
+        JsonNode price = message.get("price");
+        String symbol = message.path("symbol").asText(null);
+        if (symbol == null || price == null || !price.isNumber()) {
+            log.debug("Ignoring price event without symbol or price: {}", message);
+            return;
+        }
+
+        String ticker = symbol.trim().toUpperCase();
+        if (!subscriptions.contains(ticker)) {
+            return;
+        }
+
+        LocalDateTime timestamp = message.hasNonNull("timestamp")
+            ? LocalDateTime.ofInstant(Instant.ofEpochSecond(message.get("timestamp").asLong()), ZoneId.systemDefault())
+            : LocalDateTime.now();
+        priceBook.update(ticker, new PriceQuote(price.decimalValue(), timestamp));
+        lastTickNanos.set(nanoClock.getAsLong());
+        ticks.increment();
+    }
+
+    private void onSubscribeStatus(JsonNode message) {
+        for (JsonNode fail : message.path("fails")) {
+            String ticker = fail.path("symbol").asText("").trim().toUpperCase();
+            if (!ticker.isEmpty() && subscriptions.remove(ticker)) {
+                log.warn("Price stream rejected subscription for ticker {}, it will be polled over REST", ticker);
+            }
+        }
+    }
+
+    private void sendHeartbeat() {
+        WebSocket current = socket;
+        if (current != null) {
+            current.writeTextMessageAndForget(objectMapper.createObjectNode().put("action", "heartbeat").toString());
+        }
+    }
+
+    private String action(String action, List<String> tickers) {
+        ObjectNode message = objectMapper.createObjectNode().put("action", action);
+        message.putObject("params").put("symbols", String.join(",", tickers));
+        return message.toString();
+    }
+}
@@ -7,13 +7,17 @@ import com.portfolio.application.usecase.dividend.GetDividendsForPortfolioUseCas
 import com.portfolio.application.usecase.dividend.GetDividendsForTickerUseCase;
 import com.portfolio.application.usecase.portfolio.GetPortfolioSummaryUseCase;
 import com.portfolio.application.usecase.position.GetPositionUseCase;
+import com.portfolio.application.usecase.position.RecalculateAllPositionsUseCase;
 import com.portfolio.application.usecase.position.RecalculatePositionUseCase;
 import com.portfolio.application.usecase.position.UpdateMarketDataUseCase;
+import com.portfolio.application.usecase.position.UpdateMarketPricesUseCase;
 import com.portfolio.application.usecase.transaction.CreateTransactionUseCase;
 import com.portfolio.application.usecase.transaction.DeleteTransactionUseCase;
 import com.portfolio.application.usecase.transaction.GetTransactionUseCase;
 import com.portfolio.application.usecase.transaction.UpdateTransactionUseCase;
 import com.portfolio.domain.model.Currency;
+import com.portfolio.domain.model.RecalculationJob;
+import com.portfolio.domain.model.TransactionPage;
 import com.portfolio.domain.model.TransactionType;
 import com.portfolio.infrastructure.mcp.converter.ParameterConversionService;
 import io.quarkiverse.mcp.server.Tool;
@@ -26,6 +30,9 @@ import jakarta.inject.Singleton;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Singleton
@@ -52,12 +59,18 @@ public class PortfolioMcpServer {
     @Inject
     UpdateMarketDataUseCase updateMarketDataUseCase;
 
+    @Inject
+    UpdateMarketPricesUseCase updateMarketPricesUseCase;
+
     @Inject
     GetPortfolioSummaryUseCase getPortfolioSummaryUseCase;
 
     @Inject
     RecalculatePositionUseCase recalculatePositionUseCase;
 
+    @Inject
+    RecalculateAllPositionsUseCase recalculateAllPositionsUseCase;
+
     @Inject
     GetDividendsForTickerUseCase getDividendsForTickerUseCase;
 
@@ -209,19 +222,22 @@ public class PortfolioMcpServer {
             .onFailure().transform(throwable -> new ToolCallException("Error deleting transaction with ID %s".formatted(transactionId)));
     }
 
-    @Tool(description = "Get all transactions for a specific ticker.")
-    public Uni<String> getTransactionsByTicker(@ToolArg(description = "Stock ticker symbol") String ticker) {
-        return getTransactionUseCase.getByTicker(ticker)
-            .collect().asList()
-            .map(transactions -> {
+    @Tool(description = "Get the transactions for a specific ticker, most recent first, one page at a time. "
+        + "Pass the returned nextPageToken to get the following page; it is null on the last page.")
+    public Uni<String> getTransactionsByTicker(
+            @ToolArg(description = "Stock ticker symbol") String ticker,
+            @ToolArg(description = "Token of the page to read, from the previous page", required = false) String pageToken,
+            @ToolArg(description = "Maximum number of transactions in the page", required = false) Integer limit) {
+        return getTransactionUseCase.getByTickerPage(ticker, pageToken, limit)
+            .map(page -> {
                 try {
-                    return objectMapper.writeValueAsString(transactions);
+                    return objectMapper.writeValueAsString(toPageResult(page));
                 } catch (Exception e) {
                     throw new RuntimeException("Error serializing result", e);
                 }
             })
             .onFailure().invoke(e -> Log.error("Error getting transactions for ticker %s".formatted(ticker), e))
-            .onFailure().transform(throwable -> new ToolCallException("Error getting transactions for ticker %s".formatted(ticker)));
+            .onFailure().transform(throwable -> new ToolCallException("Error getting transactions for ticker %s: %s".formatted(ticker, throwable.getMessage())));
     }
 
     @Tool(description = "Get all current positions in the portfolio.")
@@ -270,6 +286,27 @@ public class PortfolioMcpServer {
             .onFailure().transform(throwable -> new ToolCallException("Error updating market data for ticker %s".formatted(ticker)));
     }
 
+    @Tool(description = "Update market data for several positions at once. Returns the updated tickers and the tickers without a position.")
+    public Uni<String> updateMarketPrices(
+            @ToolArg(description = "Current market price by stock ticker symbol, e.g. {\"AAPL\": 155.75, \"MSFT\": 310.20}") Map<String, Object> prices) {
+        Map<String, BigDecimal> convertedPrices = new HashMap<>();
+        if (prices != null) {
+            prices.forEach((ticker, price) ->
+                convertedPrices.put(ticker, (BigDecimal) parameterConversionService.convert(price, "price")));
+        }
+
+        return updateMarketPricesUseCase.execute(convertedPrices)
+            .map(result -> {
+                try {
+                    return objectMapper.writeValueAsString(result);
+                } catch (Exception e) {
+                    throw new RuntimeException("Error serializing result", e);
+                }
+            })
+            .onFailure().invoke(e -> Log.error("Error updating market data for %d tickers".formatted(convertedPrices.size()), e))
+            .onFailure().transform(throwable -> new ToolCallException("Error updating market data: " + throwable.getMessage()));
+    }
+
     @Tool(description = "Get portfolio summary with key metrics.")
     public Uni<String> getPortfolioSummary() {
         return getPortfolioSummaryUseCase.getPortfolioSummary()
@@ -284,29 +321,31 @@ public class PortfolioMcpServer {
             .onFailure().transform(throwable -> new ToolCallException("Error getting portfolio summary"));
     }
 
-    @Tool(description = "Search transactions with multiple filters.")
+    @Tool(description = "Search transactions with multiple filters, most recent first, one page at a time. "
+        + "Pass the returned nextPageToken with the same filters to get the following page; it is null on the last page.")
     public Uni<String> searchTransactions(
             @ToolArg(description = "Stock ticker symbol", required = false) String ticker,
             @ToolArg(description = "Start date (YYYY-MM-DD)", required = false) Object startDate,
             @ToolArg(description = "End date (YYYY-MM-DD)", required = false) Object endDate,
-            @ToolArg(description = "Transaction type", required = false) Object type) {
+            @ToolArg(description = "Transaction type", required = false) Object type,
+            @ToolArg(description = "Token of the page to read, from the previous page", required = false) String pageToken,
+            @ToolArg(description = "Maximum number of transactions in the page", required = false) Integer limit) {
         
         try {
             LocalDate convertedStartDate = (LocalDate) parameterConversionService.convert(startDate, "startDate");
             LocalDate convertedEndDate = (LocalDate) parameterConversionService.convert(endDate, "endDate");
             TransactionType convertedType = (TransactionType) parameterConversionService.convert(type, "type");
             
-            return getTransactionUseCase.searchTransactions(ticker, convertedType, convertedStartDate, convertedEndDate)
-                .collect().asList()
-                .map(transactions -> {
+            return getTransactionUseCase.searchPage(ticker, convertedType, convertedStartDate, convertedEndDate, pageToken, limit)
+                .map(page -> {
                     try {
-                        return objectMapper.writeValueAsString(transactions);
+                        return objectMapper.writeValueAsString(toPageResult(page));
                     } catch (Exception e) {
                         throw new RuntimeException("Error serializing result", e);
                     }
                 })
                 .onFailure().invoke(e -> Log.error("Error searching transactions", e))
-                .onFailure().transform(throwable -> new ToolCallException("Error searching transactions"));
+                .onFailure().transform(throwable -> new ToolCallException("Error searching transactions: " + throwable.getMessage()));
         } catch (IllegalArgumentException e) {
             throw new ToolCallException("Validation error", e);
         }
@@ -326,13 +365,47 @@ public class PortfolioMcpServer {
             .onFailure().transform(throwable -> new ToolCallException("Error recalculating position for ticker %s".formatted(ticker)));
     }
 
-    @Tool(description = "Recalculate all positions from transactions.")
+    @Tool(description = "Recalculate all positions from transactions. Starts the rebuild in the background, or returns the one already running, with its progress.")
     public Uni<String> recalculateAllPositions() {
-        return Uni.createFrom().item("Recalculating all positions...")
+        return recalculateAllPositionsUseCase.start()
+            .map(job -> {
+                try {
+                    return objectMapper.writeValueAsString(job);
+                } catch (Exception e) {
+                    throw new RuntimeException("Error serializing result", e);
+                }
+            })
             .onFailure().invoke(e -> Log.error("Error recalculating all positions", e))
             .onFailure().transform(throwable -> new ToolCallException("Error recalculating all positions"));
     }
 
+    @Tool(description = "Get the progress of a recalculation of all positions. Without a job ID, returns the most recent one.")
+    public Uni<String> getRecalculationStatus(
+            @ToolArg(description = "Recalculation job ID", required = false) String jobId) {
+        Uni<RecalculationJob> job;
+        try {
+            job = jobId == null || jobId.isBlank()
+                ? recalculateAllPositionsUseCase.getLatestJob()
+                : recalculateAllPositionsUseCase.getJob(UUID.fromString(jobId.trim()));
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(new ToolCallException("Invalid recalculation job ID: " + jobId));
+        }
+
+        return job
+            .map(result -> {
+                if (result == null) {
+                    throw new ToolCallException("No recalculation found");
+                }
+                try {
+                    return objectMapper.writeValueAsString(result);
+                } catch (Exception e) {
+                    throw new RuntimeException("Error serializing result", e);
+                }
+            })
+            .onFailure(throwable -> !(throwable instanceof ToolCallException)).invoke(e -> Log.error("Error getting recalculation status", e))
+            .onFailure(throwable -> !(throwable instanceof ToolCallException)).transform(throwable -> new ToolCallException("Error getting recalculation status"));
+    }
+
     @Tool(description = "Get dividend payments for a specific stock ticker within a date range.")
     public Uni<String> getDividendsForTicker(
             @ToolArg(description = "Stock ticker symbol") String ticker,
@@ -358,7 +431,7 @@ public class PortfolioMcpServer {
         }
     }
 
-    @Tool(description = "Get dividend payments for all active positions in the portfolio within a date range.")
+    @Tool(description = "Get dividend payments for all active positions in the portfolio within a date range. Tickers whose lookup failed or timed out are listed in failedTickers and timedOutTickers.")
     public Uni<String> getDividendsForPortfolio(
             @ToolArg(description = "Start date for dividend query (YYYY-MM-DD)") Object startDate,
             @ToolArg(description = "End date for dividend query (YYYY-MM-DD)") Object endDate) {
@@ -368,9 +441,9 @@ public class PortfolioMcpServer {
             LocalDate convertedEndDate = (LocalDate) parameterConversionService.convert(endDate, "endDate");
             
             return getDividendsForPortfolioUseCase.execute(convertedStartDate, convertedEndDate)
-                .map(dividendsMap -> {
+                .map(portfolioDividends -> {
                     try {
-                        return objectMapper.writeValueAsString(dividendsMap);
+                        return objectMapper.writeValueAsString(portfolioDividends);
                     } catch (Exception e) {
                         throw new RuntimeException("Error serializing result", e);
                     }
@@ -381,4 +454,11 @@ public class PortfolioMcpServer {
             throw new ToolCallException("Validation error", e);
         }
     }
-} 
\ No newline at end of file
+
+    private static Map<String, Object> toPageResult(TransactionPage page) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("transactions", page.transactions());
+        result.put("nextPageToken", page.nextPageToken());
+        return result;
+    }
+}
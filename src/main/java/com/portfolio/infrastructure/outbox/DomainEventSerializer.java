@@ -0,0 +1,81 @@
+package com.portfolio.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.portfolio.domain.event.DomainEvent;
+import com.portfolio.domain.event.TransactionUpdatedEvent;
+import com.portfolio.domain.model.Transaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.UUID;
+
+/**
+ * Writes domain events as the JSON payload of outbox messages.
+ * The payload carries the event id, so consumers can drop the duplicates at-least-once delivery
+ * produces, and the state of the aggregate after the event; updates also carry the previous state.
+ */
+@ApplicationScoped
+public class DomainEventSerializer {
+
+    private final ObjectMapper objectMapper;
+
+    @Inject
+    public DomainEventSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the type under which an event is published
+     */
+    public String eventType(DomainEvent<?> event) {
+        return event.getClass().getSimpleName();
+    }
+
+    /**
+     * Returns the type of the aggregate that raised an event
+     */
+    public String aggregateType(DomainEvent<?> event) {
+        return event.getData() != null ? event.getData().getClass().getSimpleName() : "Unknown";
+    }
+
+    public String serialize(UUID aggregateId, DomainEvent<?> event) {
+        ObjectNode payload = objectMapper.createObjectNode()
+            .put("eventId", event.getEventId().toString())
+            .put("eventType", eventType(event))
+            .put("occurredAt", event.getOccurredAt().toString())
+            .put("aggregateType", aggregateType(event))
+            .put("aggregateId", aggregateId != null ? aggregateId.toString() : null);
+
+        if (event.getData() instanceof Transaction transaction) {
+            payload.set("data", transaction(transaction));
+        } else {
+            payload.set("data", objectMapper.valueToTree(event.getData()));
+        }
+        if (event instanceof TransactionUpdatedEvent updated && updated.getPrevious() != null) {
+            payload.set("previous", transaction(updated.getPrevious()));
+        }
+        return payload.toString();
+    }
+
+    // Written field by field, the domain object also holds its pending events
+    private ObjectNode transaction(Transaction transaction) {
+        return objectMapper.createObjectNode()
+            .put("ticker", transaction.getTicker())
+            .put("transactionType", name(transaction.getTransactionType()))
+            .put("quantity", transaction.getQuantity())
+            .put("price", transaction.getPrice())
+            .put("fees", transaction.getFees())
+            .put("currency", name(transaction.getCurrency()))
+            .put("transactionDate", transaction.getTransactionDate() != null ? transaction.getTransactionDate().toString() : null)
+            .put("notes", transaction.getNotes())
+            .put("isActive", transaction.getIsActive())
+            .put("isFractional", transaction.getIsFractional())
+            .put("fractionalMultiplier", transaction.getFractionalMultiplier())
+            .put("commissionCurrency", name(transaction.getCommissionCurrency()));
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.portfolio.infrastructure.outbox;
+
+import io.quarkus.arc.DefaultBean;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.mutiny.core.eventbus.EventBus;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Publishes outbox messages on the Vert.x event bus, at {@code <address prefix>.<event type>}.
+ * The JSON payload is the message body and the message id, event type and aggregate travel as headers.
+ */
+@ApplicationScoped
+@DefaultBean
+public class EventBusOutboxSink implements OutboxSink {
+
+    private final EventBus eventBus;
+    private final String addressPrefix;
+
+    @Inject
+    public EventBusOutboxSink(
+            EventBus eventBus,
+            @ConfigProperty(name = "application.outbox.event-bus.address-prefix", defaultValue = "portfolio.events")
+            String addressPrefix) {
+        this.eventBus = eventBus;
+        this.addressPrefix = addressPrefix;
+    }
+
+    @Override
+    public Uni<Void> publish(OutboxMessage message) {
+        return Uni.createFrom().item(() -> {
+            DeliveryOptions options = new DeliveryOptions()
+                .addHeader("message-id", message.id().toString())
+                .addHeader("event-type", message.eventType())
+                .addHeader("aggregate-type", message.aggregateType());
+            if (message.aggregateId() != null) {
+                options.addHeader("aggregate-id", message.aggregateId().toString());
+            }
+            eventBus.publish(address(message), message.payload(), options);
+            return null;
+        });
+    }
+
+    String address(OutboxMessage message) {
+        return addressPrefix + "." + message.eventType();
+    }
+}
@@ -0,0 +1,296 @@
+package com.portfolio.infrastructure.outbox;
+
+import com.portfolio.infrastructure.persistence.DataSources;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers outbox messages to the {@link OutboxSink}.
+ * Each batch is claimed with {@code FOR UPDATE SKIP LOCKED} in its own transaction, so several
+ * instances drain the outbox side by side without delivering the same message concurrently. Messages
+ * are published in creation order and marked in the same transaction: a crash before the commit
+ * makes the batch available again, hence delivery is at least once. A failed message is retried with
+ * an exponential backoff and parked after the last attempt, until an operator resets it.
+ */
+@ApplicationScoped
+@Slf4j
+public class OutboxDispatcher {
+
+    static final String CLAIM_SQL = """
+        SELECT id, event_type, aggregate_type, aggregate_id, payload::text AS payload, created_at, attempts
+        FROM outbox
+        WHERE published_at IS NULL AND next_attempt_at <= CURRENT_TIMESTAMP
+        ORDER BY created_at, id
+        LIMIT $1
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    static final String MARK_PUBLISHED_SQL = """
+        UPDATE outbox
+        SET published_at = CURRENT_TIMESTAMP, attempts = attempts + 1, last_error = NULL
+        WHERE id = ANY($1::uuid[])
+        """;
+
+    // A NULL retry delay parks the message
+    static final String MARK_FAILED_SQL = """
+        UPDATE outbox o
+        SET attempts = o.attempts + 1,
+            last_error = f.error,
+            next_attempt_at = CURRENT_TIMESTAMP + f.retry_ms * INTERVAL '1 millisecond'
+        FROM UNNEST($1::uuid[], $2::text[], $3::bigint[]) AS f(id, error, retry_ms)
+        WHERE o.id = f.id
+        """;
+
+    static final String BACKLOG_SQL = """
+        SELECT count(*) FILTER (WHERE next_attempt_at IS NOT NULL) AS pending,
+               count(*) FILTER (WHERE next_attempt_at IS NULL) AS parked,
+               COALESCE(EXTRACT(EPOCH FROM CURRENT_TIMESTAMP - min(created_at) FILTER (WHERE next_attempt_at IS NOT NULL)), 0) AS lag_seconds
+        FROM outbox
+        WHERE published_at IS NULL
+        """;
+
+    static final String PURGE_SQL = """
+        DELETE FROM outbox
+        WHERE published_at < CURRENT_TIMESTAMP - $1 * INTERVAL '1 second'
+        """;
+
+    private final Pool pool;
+    private final OutboxSink sink;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final Duration publishTimeout;
+    private final Duration retention;
+    private final Counter published;
+    private final Counter failed;
+    private final Counter parked;
+    private final Timer deliveryLatency;
+    private final AtomicLong pendingMessages = new AtomicLong();
+    private final AtomicLong parkedMessages = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @Inject
+    public OutboxDispatcher(
+            @ReactiveDataSource(DataSources.BULK) Pool pool,
+            OutboxSink sink,
+            @ConfigProperty(name = "application.outbox.dispatch.batch-size", defaultValue = "100")
+            int batchSize,
+            @ConfigProperty(name = "application.outbox.dispatch.max-attempts", defaultValue = "10")
+            int maxAttempts,
+            @ConfigProperty(name = "application.outbox.dispatch.retry-delay", defaultValue = "PT1S")
+            Duration retryDelay,
+            @ConfigProperty(name = "application.outbox.dispatch.max-retry-delay", defaultValue = "PT10M")
+            Duration maxRetryDelay,
+            @ConfigProperty(name = "application.outbox.dispatch.publish-timeout", defaultValue = "PT5S")
+            Duration publishTimeout,
+            @ConfigProperty(name = "application.outbox.retention", defaultValue = "P7D")
+            Duration retention,
+            MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.publishTimeout = publishTimeout;
+        this.retention = retention;
+
+        this.published = Counter.builder("outbox.messages.published")
+            .description("Outbox messages delivered to the sink")
+            .register(meterRegistry);
+        this.failed = Counter.builder("outbox.messages.failed")
+            .description("Failed outbox delivery attempts")
+            .register(meterRegistry);
+        this.parked = Counter.builder("outbox.messages.parked")
+            .description("Outbox messages parked after their last failed attempt")
+            .register(meterRegistry);
+        this.deliveryLatency = Timer.builder("outbox.delivery.latency")
+            .description("Time from storing an outbox message to delivering it")
+            .register(meterRegistry);
+        Gauge.builder("outbox.pending", pendingMessages, AtomicLong::get)
+            .description("Outbox messages awaiting delivery")
+            .register(meterRegistry);
+        Gauge.builder("outbox.parked", parkedMessages, AtomicLong::get)
+            .description("Outbox messages parked after their last failed attempt")
+            .register(meterRegistry);
+        Gauge.builder("outbox.lag.seconds", lagSeconds, AtomicLong::get)
+            .description("Age of the oldest outbox message awaiting delivery")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(identity = "outbox-dispatch",
+        every = "${application.outbox.dispatch.every}",
+        concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> scheduledDispatch() {
+        return drain()
+            .call(this::refreshBacklog)
+            .onFailure().recoverWithItem(throwable -> {
+                log.warn("Outbox dispatch failed: {}", throwable.getMessage());
+                return 0;
+            })
+            .replaceWithVoid();
+    }
+
+    @Scheduled(identity = "outbox-purge",
+        every = "${application.outbox.purge.every}",
+        concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> purge() {
+        return pool.preparedQuery(PURGE_SQL)
+            .execute(Tuple.of(retention.toSeconds()))
+            .invoke(rows -> log.debug("Purged {} delivered outbox messages", rows.rowCount()))
+            .onFailure().invoke(throwable -> log.warn("Outbox purge failed: {}", throwable.getMessage()))
+            .onFailure().recoverWithNull()
+            .replaceWithVoid();
+    }
+
+    /**
+     * Dispatches batches until the outbox holds no message due for delivery
+     *
+     * @return the number of messages claimed
+     */
+    Uni<Integer> drain() {
+        return dispatchBatch()
+            .flatMap(claimed -> claimed < batchSize
+                ? Uni.createFrom().item(claimed)
+                : drain().map(more -> claimed + more));
+    }
+
+    /**
+     * Claims, publishes and marks one batch of messages in a single transaction
+     *
+     * @return the number of messages claimed
+     */
+    Uni<Integer> dispatchBatch() {
+        return pool.withTransaction(connection -> connection.preparedQuery(CLAIM_SQL)
+            .execute(Tuple.of(batchSize))
+            .flatMap(rows -> {
+                List<OutboxMessage> messages = new ArrayList<>();
+                for (Row row : rows) {
+                    messages.add(toMessage(row));
+                }
+                if (messages.isEmpty()) {
+                    return Uni.createFrom().item(0);
+                }
+                return Multi.createFrom().iterable(messages)
+                    .onItem().transformToUniAndConcatenate(this::deliver)
+                    .collect().asList()
+                    .flatMap(outcomes -> record(connection, outcomes))
+                    .replaceWith(messages.size());
+            }));
+    }
+
+    /**
+     * Refreshes the pending, parked and lag gauges
+     */
+    Uni<Void> refreshBacklog() {
+        return pool.preparedQuery(BACKLOG_SQL)
+            .execute()
+            .invoke(rows -> {
+                Row row = rows.iterator().next();
+                pendingMessages.set(row.getLong("pending"));
+                parkedMessages.set(row.getLong("parked"));
+                lagSeconds.set(row.getDouble("lag_seconds").longValue());
+            })
+            .replaceWithVoid();
+    }
+
+    /**
+     * Returns the delay before the next attempt of a message that failed its given attempt, or null
+     * when the message is parked
+     */
+    Duration nextRetryDelay(int attempt) {
+        if (attempt >= maxAttempts) {
+            return null;
+        }
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attempt - 1, 30));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+
+    private Uni<Outcome> deliver(OutboxMessage message) {
+        return sink.publish(message)
+            .ifNoItem().after(publishTimeout).fail()
+            .map(ignored -> new Outcome(message, null))
+            .onFailure().recoverWithItem(throwable -> new Outcome(message, throwable));
+    }
+
+    private Uni<Void> record(SqlConnection connection, List<Outcome> outcomes) {
+        List<UUID> delivered = new ArrayList<>();
+        List<UUID> failedIds = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        List<Long> retries = new ArrayList<>();
+        OffsetDateTime now = OffsetDateTime.now();
+
+        for (Outcome outcome : outcomes) {
+            OutboxMessage message = outcome.message();
+            if (outcome.failure() == null) {
+                delivered.add(message.id());
+                published.increment();
+                deliveryLatency.record(Duration.between(message.createdAt(), now));
+                continue;
+            }
+
+            Duration retry = nextRetryDelay(message.attempts() + 1);
+            failedIds.add(message.id());
+            errors.add(String.valueOf(outcome.failure().getMessage()));
+            retries.add(retry != null ? retry.toMillis() : null);
+            failed.increment();
+            if (retry == null) {
+                parked.increment();
+                log.error("Parking outbox message {} ({}) after {} attempts: {}",
+                    message.id(), message.eventType(), message.attempts() + 1, outcome.failure().getMessage());
+            } else {
+                log.warn("Delivery of outbox message {} ({}) failed, retrying in {}: {}",
+                    message.id(), message.eventType(), retry, outcome.failure().getMessage());
+            }
+        }
+
+        Uni<Void> markDelivered = delivered.isEmpty()
+            ? Uni.createFrom().voidItem()
+            : connection.preparedQuery(MARK_PUBLISHED_SQL)
+                .execute(Tuple.tuple().addArrayOfUUID(delivered.toArray(new UUID[0])))
+                .replaceWithVoid();
+        if (failedIds.isEmpty()) {
+            return markDelivered;
+        }
+        return markDelivered.call(() -> connection.preparedQuery(MARK_FAILED_SQL)
+            .execute(Tuple.tuple()
+                .addArrayOfUUID(failedIds.toArray(new UUID[0]))
+                .addArrayOfString(errors.toArray(new String[0]))
+                .addArrayOfLong(retries.toArray(new Long[0]))));
+    }
+
+    private static OutboxMessage toMessage(Row row) {
+        return new OutboxMessage(
+            row.getUUID("id"),
+            row.getString("event_type"),
+            row.getString("aggregate_type"),
+            row.getUUID("aggregate_id"),
+            row.getString("payload"),
+            row.getOffsetDateTime("created_at"),
+            row.getInteger("attempts"));
+    }
+
+    private record Outcome(OutboxMessage message, Throwable failure) {}
+}
@@ -0,0 +1,19 @@
+package com.portfolio.infrastructure.outbox;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A stored domain event awaiting delivery
+ *
+ * @param id the message id, which is also the id of the event
+ * @param attempts the delivery attempts made before this one
+ */
+public record OutboxMessage(UUID id,
+                            String eventType,
+                            String aggregateType,
+                            UUID aggregateId,
+                            String payload,
+                            OffsetDateTime createdAt,
+                            int attempts) {
+}
@@ -0,0 +1,13 @@
+package com.portfolio.infrastructure.outbox;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Destination of outbox messages.
+ * The dispatcher publishes each message until the returned Uni completes, so a sink must accept the
+ * same message more than once. The Vert.x event bus is used unless another bean implements this.
+ */
+public interface OutboxSink {
+
+    Uni<Void> publish(OutboxMessage message);
+}
@@ -0,0 +1,22 @@
+package com.portfolio.infrastructure.persistence;
+
+/**
+ * Names of the reactive datasources besides the default one, which serves interactive writes and
+ * Hibernate Reactive. Each datasource has its own connection pool, so a slow export or a background
+ * job cannot take the connections interactive requests need.
+ */
+public final class DataSources {
+
+    /**
+     * Interactive reads, served by the read replica when one is configured and by the primary otherwise
+     */
+    public static final String READS = "reads";
+
+    /**
+     * Background jobs, exports and set-based writes, always served by the primary
+     */
+    public static final String BULK = "bulk";
+
+    private DataSources() {
+    }
+}
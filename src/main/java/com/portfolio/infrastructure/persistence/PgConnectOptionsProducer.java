@@ -0,0 +1,32 @@
+package com.portfolio.infrastructure.persistence;
+
+import io.vertx.pgclient.PgConnectOptions;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Provides the connection options of the datasource to the components that keep a dedicated
+ * connection open outside of the pool, such as listeners and lock holders
+ */
+@ApplicationScoped
+public class PgConnectOptionsProducer {
+
+    @ConfigProperty(name = "quarkus.datasource.reactive.url")
+    String url;
+
+    @ConfigProperty(name = "quarkus.datasource.username")
+    String username;
+
+    @ConfigProperty(name = "quarkus.datasource.password")
+    String password;
+
+    @Produces
+    @Singleton
+    public PgConnectOptions pgConnectOptions() {
+        return PgConnectOptions.fromUri(url)
+            .setUser(username)
+            .setPassword(password);
+    }
+}
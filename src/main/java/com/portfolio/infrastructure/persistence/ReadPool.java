@@ -0,0 +1,81 @@
+package com.portfolio.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import io.vertx.pgclient.PgException;
+import io.vertx.sqlclient.ClosedConnectionException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+
+/**
+ * Runs read-only statements on the {@link DataSources#READS} pool. A statement that fails there because
+ * the replica is unreachable or going away is run again on the primary, so reads keep working during an
+ * outage. Errors of the statement itself are returned as they are, since the primary would fail the same way.
+ * A replica may lag behind the latest commits, hence only reads that tolerate missing a write made
+ * a moment earlier belong here.
+ */
+@ApplicationScoped
+@Slf4j
+public class ReadPool {
+
+    private final Pool reads;
+    private final Pool primary;
+    private final Counter fallbacks;
+
+    @Inject
+    public ReadPool(@ReactiveDataSource(DataSources.READS) Pool reads, Pool primary, MeterRegistry meterRegistry) {
+        this.reads = reads;
+        this.primary = primary;
+        this.fallbacks = Counter.builder("datasource.reads.fallbacks")
+            .description("Reads run again on the primary after failing on the read pool")
+            .register(meterRegistry);
+    }
+
+    public Uni<RowSet<Row>> execute(String sql) {
+        return reads.preparedQuery(sql).execute()
+            .onFailure(ReadPool::isUnavailable).recoverWithUni(throwable -> {
+                onFallback(throwable);
+                return primary.preparedQuery(sql).execute();
+            });
+    }
+
+    public Uni<RowSet<Row>> execute(String sql, Tuple parameters) {
+        return reads.preparedQuery(sql).execute(parameters)
+            .onFailure(ReadPool::isUnavailable).recoverWithUni(throwable -> {
+                onFallback(throwable);
+                return primary.preparedQuery(sql).execute(parameters);
+            });
+    }
+
+    private void onFallback(Throwable throwable) {
+        fallbacks.increment();
+        log.warn("Read failed on the read pool, running it on the primary: {}", throwable.getMessage());
+    }
+
+    /**
+     * Tells whether a failure comes from the connection rather than the statement: the connection could
+     * not be opened or timed out, was closed, or the server refused or ended it
+     * (SQLSTATE class 08 connection exception, or 57P01-57P03 shutdown and startup).
+     */
+    static boolean isUnavailable(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException || cause instanceof ClosedConnectionException) {
+                return true;
+            }
+            if (cause instanceof PgException pgException && pgException.getSqlState() != null
+                && (pgException.getSqlState().startsWith("08") || pgException.getSqlState().startsWith("57P"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,46 @@
+package com.portfolio.infrastructure.persistence.adapter;
+
+import com.portfolio.domain.port.HeldTickerRepository;
+import com.portfolio.infrastructure.persistence.DataSources;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Adapter for HeldTickerRepository port implementation.
+ * Uses the reactive SQL client directly so held tickers can be read from timers and other
+ * background callbacks, outside of a Hibernate Reactive session.
+ */
+@ApplicationScoped
+public class HeldTickerRepositoryAdapter implements HeldTickerRepository {
+
+    static final String FIND_HELD_TICKERS_SQL = """
+        SELECT ticker
+        FROM positions
+        WHERE current_quantity > 0
+        """;
+
+    private final Pool pool;
+
+    public HeldTickerRepositoryAdapter(@ReactiveDataSource(DataSources.BULK) Pool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public Uni<Set<String>> findHeldTickers() {
+        return pool.preparedQuery(FIND_HELD_TICKERS_SQL)
+            .execute()
+            .map(rows -> {
+                Set<String> tickers = new HashSet<>();
+                for (Row row : rows) {
+                    tickers.add(row.getString("ticker"));
+                }
+                return tickers;
+            });
+    }
+}
@@ -0,0 +1,55 @@
+package com.portfolio.infrastructure.persistence.adapter;
+
+import com.portfolio.domain.event.DomainEvent;
+import com.portfolio.domain.port.OutboxRepository;
+import com.portfolio.infrastructure.outbox.DomainEventSerializer;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter for OutboxRepository port implementation.
+ * Messages are inserted through the current Hibernate Reactive session, so they commit or roll back
+ * together with the aggregate change; delivery is left to the outbox dispatcher.
+ */
+@ApplicationScoped
+public class OutboxRepositoryAdapter implements OutboxRepository {
+
+    static final String INSERT_SQL = """
+        INSERT INTO outbox (id, aggregate_type, aggregate_id, event_type, payload, occurred_at)
+        VALUES (?1, ?2, ?3, ?4, CAST(?5 AS jsonb), ?6)
+        """;
+
+    private final DomainEventSerializer serializer;
+
+    public OutboxRepositoryAdapter(DomainEventSerializer serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    public Uni<Void> append(UUID aggregateId, List<DomainEvent<?>> events) {
+        if (events == null || events.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        return Panache.getSession().flatMap(session -> {
+            Uni<Void> inserts = Uni.createFrom().voidItem();
+            for (DomainEvent<?> event : events) {
+                inserts = inserts.call(() -> session.createNativeQuery(INSERT_SQL)
+                    // The event id doubles as message id, so a message is stored at most once per event
+                    .setParameter(1, event.getEventId())
+                    .setParameter(2, serializer.aggregateType(event))
+                    .setParameter(3, aggregateId)
+                    .setParameter(4, serializer.eventType(event))
+                    .setParameter(5, serializer.serialize(aggregateId, event))
+                    .setParameter(6, event.getOccurredAt().atOffset(ZoneOffset.UTC))
+                    .executeUpdate());
+            }
+            return inserts;
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.portfolio.infrastructure.persistence.adapter;
+
+import com.portfolio.domain.model.PortfolioSummary;
+import com.portfolio.domain.port.PortfolioSummaryRepository;
+import com.portfolio.infrastructure.persistence.DataSources;
+import com.portfolio.infrastructure.persistence.ReadPool;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adapter for PortfolioSummaryRepository port implementation.
+ * Reads the portfolio_summary_mv and position_details_mv materialized views. Every statement that
+ * changes positions advances positions_change_seq, so a refresh only runs when the sequence moved
+ * since the previous one. Refreshes are concurrent and do not block readers of the views; they run on
+ * the bulk pool, while the views are read from the {@link ReadPool}.
+ */
+@ApplicationScoped
+public class PortfolioSummaryRepositoryAdapter implements PortfolioSummaryRepository {
+
+    static final String FIND_STORED_SUMMARY_SQL = """
+        SELECT total_positions, total_market_value, total_cost_basis, total_unrealized_gain_loss, total_return_percentage
+        FROM portfolio_summary_mv
+        WHERE id = 1
+        """;
+
+    static final String CHANGE_VERSION_SQL = """
+        SELECT last_value FROM positions_change_seq
+        """;
+
+    static final String REFRESH_SUMMARY_SQL = """
+        REFRESH MATERIALIZED VIEW CONCURRENTLY portfolio_summary_mv
+        """;
+
+    static final String REFRESH_DETAILS_SQL = """
+        REFRESH MATERIALIZED VIEW CONCURRENTLY position_details_mv
+        """;
+
+    private final Pool pool;
+    private final ReadPool readPool;
+    private final AtomicLong refreshedVersion = new AtomicLong(-1);
+
+    public PortfolioSummaryRepositoryAdapter(@ReactiveDataSource(DataSources.BULK) Pool pool, ReadPool readPool) {
+        this.pool = pool;
+        this.readPool = readPool;
+    }
+
+    @Override
+    public Uni<PortfolioSummary> findStoredSummary() {
+        return readPool.execute(FIND_STORED_SUMMARY_SQL)
+            .map(rows -> {
+                RowIterator<Row> iterator = rows.iterator();
+                return iterator.hasNext() ? toSummary(iterator.next()) : PortfolioSummary.empty();
+            });
+    }
+
+    @Override
+    public Uni<Boolean> refreshIfChanged() {
+        return pool.preparedQuery(CHANGE_VERSION_SQL)
+            .execute()
+            .flatMap(rows -> {
+                long version = rows.iterator().next().getLong("last_value");
+                if (version == refreshedVersion.get()) {
+                    return Uni.createFrom().item(false);
+                }
+                // Changes made while refreshing advance the sequence past the version read here,
+                // so the next call refreshes again
+                return pool.preparedQuery(REFRESH_SUMMARY_SQL).execute()
+                    .call(() -> pool.preparedQuery(REFRESH_DETAILS_SQL).execute())
+                    .invoke(() -> refreshedVersion.set(version))
+                    .replaceWith(true);
+            });
+    }
+
+    private static PortfolioSummary toSummary(Row row) {
+        long positions = row.getLong("total_positions");
+        BigDecimal returnPercentage = orZero(row.getBigDecimal("total_return_percentage"));
+
+        return new PortfolioSummary(
+            orZero(row.getBigDecimal("total_market_value")),
+            orZero(row.getBigDecimal("total_cost_basis")),
+            orZero(row.getBigDecimal("total_unrealized_gain_loss")),
+            returnPercentage.setScale(6, RoundingMode.HALF_UP),
+            positions,
+            positions);
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
@@ -1,45 +1,171 @@
 package com.portfolio.infrastructure.persistence.adapter;
 
 import com.portfolio.domain.model.Position;
+import com.portfolio.domain.model.PositionDelta;
 import com.portfolio.domain.port.PositionRepository;
+import com.portfolio.infrastructure.invalidation.InvalidationBus;
+import com.portfolio.infrastructure.invalidation.InvalidationMessage;
+import com.portfolio.infrastructure.persistence.DataSources;
 import com.portfolio.infrastructure.persistence.entity.PositionEntity;
 import com.portfolio.infrastructure.persistence.repository.PositionPanacheRepository;
 import com.portfolio.infrastructure.persistence.mapper.PositionEntityMapper;
+import com.portfolio.infrastructure.persistence.readmodel.PositionReadModel;
+import com.portfolio.infrastructure.persistence.readmodel.PositionSnapshot;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
- * Adapter for PositionRepository port implementation
+ * Adapter for PositionRepository port implementation.
+ * Bulk price updates go through the reactive SQL client as a single set-based statement on the bulk
+ * pool, so they can run from background jobs outside of a Hibernate Reactive session.
+ * Reads are served from the {@link PositionReadModel} while it holds a snapshot, and from the database
+ * otherwise, through the {@link PositionSqlReader} unless SQL reads are disabled. Set-based writes commit
+ * on their own and reload the read model in the background right away; writes that join a use case
+ * transaction are picked up once the use case commits.
+ * Every write is announced to the other instances on the {@link InvalidationBus}; writes that join a
+ * use case transaction announce it from that transaction, so the announcement goes out on commit.
  */
 @ApplicationScoped
 public class PositionRepositoryAdapter implements PositionRepository {
 
+    // Market values apply the latest fractional multiplier to the price, as recalculate_positions does
+    static final String UPDATE_MARKET_PRICES_SQL = """
+        UPDATE positions p
+        SET current_price = u.price,
+            current_market_value = p.current_quantity * u.price * p.latest_fractional_multiplier,
+            unrealized_gain_loss = p.current_quantity * u.price * p.latest_fractional_multiplier - p.total_cost_basis,
+            last_price_update = CURRENT_TIMESTAMP
+        FROM UNNEST($1::varchar[], $2::numeric[]) AS u(ticker, price)
+        WHERE p.ticker = u.ticker
+        RETURNING p.ticker
+        """;
+
+    static final String RECALCULATE_POSITIONS_SQL = """
+        SELECT recalculate_positions($1::varchar[])
+        """;
+
+    static final String COUNT_TICKERS_SQL = """
+        SELECT count(*) AS tickers
+        FROM (SELECT ticker FROM transactions UNION SELECT ticker FROM positions) t
+        """;
+
+    static final String FIND_TICKERS_AFTER_SQL = """
+        SELECT ticker FROM transactions WHERE ticker > $1
+        UNION
+        SELECT ticker FROM positions WHERE ticker > $1
+        ORDER BY ticker
+        LIMIT $2
+        """;
+
+    // Compares every stored position with the aggregates recalculate_positions would store, including
+    // positions that should exist but do not and positions that should have been deleted, and checks the
+    // market value of priced positions against the formula recalculate_positions uses
+    static final String FIND_DRIFTED_TICKERS_SQL = """
+        WITH expected AS (
+            SELECT ticker,
+                SUM(CASE WHEN transaction_type = 'BUY' THEN quantity ELSE -(quantity) END) AS quantity,
+                SUM(CASE WHEN transaction_type = 'BUY' THEN quantity ELSE 0 END) AS bought_quantity,
+                SUM(CASE WHEN transaction_type = 'BUY' THEN quantity * cost_per_share + COALESCE(commission, 0) ELSE 0 END) AS bought_cost,
+                SUM(CASE WHEN transaction_type = 'BUY' THEN quantity * cost_per_share + COALESCE(commission, 0)
+                    ELSE -(quantity) * cost_per_share - COALESCE(commission, 0) END) AS cost_basis,
+                SUM(COALESCE(commission, 0)) AS commissions,
+                MIN(CASE WHEN transaction_type = 'BUY' THEN transaction_date END) AS first_purchase,
+                MAX(transaction_date) AS last_transaction,
+                MAX(CASE WHEN is_fractional THEN transaction_date END) AS latest_fractional
+            FROM transactions
+            GROUP BY ticker
+            HAVING SUM(CASE WHEN transaction_type = 'BUY' THEN quantity ELSE -(quantity) END) > 0
+        )
+        SELECT COALESCE(p.ticker, e.ticker) AS ticker
+        FROM positions p
+        FULL JOIN expected e ON e.ticker = p.ticker
+        WHERE p.ticker IS NULL
+           OR e.ticker IS NULL
+           OR p.current_quantity <> e.quantity
+           OR p.bought_quantity <> e.bought_quantity
+           OR ABS(p.bought_cost - e.bought_cost) > $1
+           OR ABS(p.total_cost_basis - e.cost_basis) > $1
+           OR ABS(COALESCE(p.total_commissions, 0) - e.commissions) > $1
+           OR p.first_purchase_date IS DISTINCT FROM e.first_purchase
+           OR p.last_transaction_date IS DISTINCT FROM e.last_transaction
+           OR p.latest_fractional_date IS DISTINCT FROM e.latest_fractional
+           OR (p.current_price > 0 AND ABS(p.current_market_value
+               - p.current_quantity * p.current_price * p.latest_fractional_multiplier) > $1)
+        ORDER BY 1
+        """;
+
     private final PositionPanacheRepository panacheRepository;
     private final PositionEntityMapper positionEntityMapper;
+    private final Pool pool;
+    private final PositionReadModel readModel;
+    private final InvalidationBus invalidationBus;
+    private final PositionSqlReader sqlReader;
+    private final boolean sqlReads;
 
-    public PositionRepositoryAdapter(PositionPanacheRepository panacheRepository, PositionEntityMapper positionEntityMapper) {
+    public PositionRepositoryAdapter(PositionPanacheRepository panacheRepository, PositionEntityMapper positionEntityMapper,
+                                     @ReactiveDataSource(DataSources.BULK) Pool pool,
+                                     PositionReadModel readModel, InvalidationBus invalidationBus,
+                                     PositionSqlReader sqlReader,
+                                     @ConfigProperty(name = "application.persistence.sql-reads.enabled", defaultValue = "true")
+                                     boolean sqlReads) {
         this.panacheRepository = panacheRepository;
         this.positionEntityMapper = positionEntityMapper;
+        this.pool = pool;
+        this.readModel = readModel;
+        this.invalidationBus = invalidationBus;
+        this.sqlReader = sqlReader;
+        this.sqlReads = sqlReads;
     }
 
     @Override
     public Uni<Position> findById(UUID id) {
+        Optional<PositionSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return Uni.createFrom().item(snapshot.get().findById(id));
+        }
+        if (sqlReads) {
+            return sqlReader.findById(id);
+        }
         return panacheRepository.findById(id)
             .map(entity -> entity != null ? positionEntityMapper.toDomain(entity) : null);
     }
 
     @Override
     public Uni<Position> findByTicker(String ticker) {
+        Optional<PositionSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return Uni.createFrom().item(snapshot.get().findByTicker(ticker));
+        }
+        if (sqlReads) {
+            return sqlReader.findByTicker(ticker);
+        }
         return panacheRepository.findByTicker(ticker)
             .map(entity -> entity != null ? positionEntityMapper.toDomain(entity) : null);
     }
 
     @Override
     public Uni<List<Position>> findAllWithShares() {
+        Optional<PositionSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return Uni.createFrom().item(snapshot.get().positionsWithShares());
+        }
+        if (sqlReads) {
+            return sqlReader.findAllWithShares();
+        }
         return panacheRepository.findAllWithShares()
             .map(entities -> entities.stream()
                 .map(positionEntityMapper::toDomain)
@@ -48,6 +174,13 @@ public class PositionRepositoryAdapter implements PositionRepository {
 
     @Override
     public Uni<List<Position>> findAll() {
+        Optional<PositionSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return Uni.createFrom().item(snapshot.get().positions());
+        }
+        if (sqlReads) {
+            return sqlReader.findAll();
+        }
         return panacheRepository.findAllActive()
             .map(entities -> entities.stream()
                 .map(positionEntityMapper::toDomain)
@@ -57,27 +190,132 @@ public class PositionRepositoryAdapter implements PositionRepository {
     @Override
     public Uni<Position> updateMarketPrice(String ticker, BigDecimal newPrice) {
         return panacheRepository.updateMarketPrice(ticker, newPrice)
+            .call(entity -> entity != null
+                ? notifyOnCommit(InvalidationMessage.Type.PRICES_UPDATED, ticker)
+                : Uni.createFrom().voidItem())
             .map(entity -> entity != null ? positionEntityMapper.toDomain(entity) : null);
     }
 
+    @Override
+    public Uni<Set<String>> updateMarketPrices(Map<String, BigDecimal> prices) {
+        if (prices == null || prices.isEmpty()) {
+            return Uni.createFrom().item(Set.of());
+        }
+
+        List<String> tickers = new ArrayList<>(prices.size());
+        List<BigDecimal> values = new ArrayList<>(prices.size());
+        prices.forEach((ticker, price) -> {
+            tickers.add(ticker);
+            values.add(price);
+        });
+        Tuple parameters = Tuple.tuple()
+            .addArrayOfString(tickers.toArray(new String[0]))
+            .addArrayOfBigDecimal(values.toArray(new BigDecimal[0]));
+        return pool.preparedQuery(UPDATE_MARKET_PRICES_SQL)
+            .execute(parameters)
+            .map(rows -> {
+                Set<String> updated = new HashSet<>();
+                for (Row row : rows) {
+                    updated.add(row.getString("ticker"));
+                }
+                return updated;
+            })
+            .invoke(readModel::refreshInBackground)
+            .call(updated -> invalidationBus.publish(InvalidationMessage.Type.PRICES_UPDATED, null, updated));
+    }
+
     @Override
     public Uni<Position> recalculatePosition(String ticker) {
         return panacheRepository.recalculatePosition(ticker)
+            .call(() -> notifyOnCommit(InvalidationMessage.Type.POSITIONS_CHANGED, ticker))
             .map(entity -> entity != null ? positionEntityMapper.toDomain(entity) : null);
     }
 
+    @Override
+    public Uni<Void> recalculatePositions(List<String> tickers) {
+        if (tickers == null || tickers.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return pool.preparedQuery(RECALCULATE_POSITIONS_SQL)
+            .execute(Tuple.tuple().addArrayOfString(tickers.toArray(new String[0])))
+            .replaceWithVoid()
+            .invoke(readModel::refreshInBackground)
+            .call(() -> invalidationBus.publish(InvalidationMessage.Type.POSITIONS_CHANGED, null, tickers));
+    }
+
+    @Override
+    public Uni<Boolean> applyDelta(PositionDelta delta) {
+        return panacheRepository.applyDelta(delta)
+            .call(applied -> applied
+                ? notifyOnCommit(InvalidationMessage.Type.POSITIONS_CHANGED, delta.ticker())
+                : Uni.createFrom().voidItem());
+    }
+
+    @Override
+    public Uni<List<String>> findDriftedTickers(BigDecimal tolerance) {
+        return pool.preparedQuery(FIND_DRIFTED_TICKERS_SQL)
+            .execute(Tuple.of(tolerance))
+            .map(rows -> {
+                List<String> tickers = new ArrayList<>();
+                for (Row row : rows) {
+                    tickers.add(row.getString("ticker"));
+                }
+                return tickers;
+            });
+    }
+
+    @Override
+    public Uni<Long> countTickers() {
+        return pool.preparedQuery(COUNT_TICKERS_SQL)
+            .execute()
+            .map(rows -> rows.iterator().next().getLong("tickers"));
+    }
+
+    @Override
+    public Uni<List<String>> findTickersAfter(String after, int limit) {
+        return pool.preparedQuery(FIND_TICKERS_AFTER_SQL)
+            .execute(Tuple.of(after == null ? "" : after, limit))
+            .map(rows -> {
+                List<String> tickers = new ArrayList<>();
+                for (Row row : rows) {
+                    tickers.add(row.getString("ticker"));
+                }
+                return tickers;
+            });
+    }
+
+    private Uni<Void> notifyOnCommit(InvalidationMessage.Type type, String ticker) {
+        Uni<Void> notification = Uni.createFrom().voidItem();
+        for (String payload : invalidationBus.payloads(type, null, List.of(ticker))) {
+            notification = notification.call(() -> panacheRepository.notifyOnCommit(invalidationBus.channel(), payload));
+        }
+        return notification;
+    }
+
     @Override
     public Uni<Boolean> existsByTicker(String ticker) {
+        Optional<PositionSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return Uni.createFrom().item(snapshot.get().containsTicker(ticker));
+        }
         return panacheRepository.existsByTicker(ticker);
     }
 
     @Override
     public Uni<Long> countAll() {
-        return panacheRepository.count();
+        Optional<PositionSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return Uni.createFrom().item((long) snapshot.get().size());
+        }
+        return panacheRepository.countAll();
     }
 
     @Override
     public Uni<Long> countWithShares() {
+        Optional<PositionSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return Uni.createFrom().item((long) snapshot.get().sizeWithShares());
+        }
         return panacheRepository.countWithShares();
     }
 } 
\ No newline at end of file
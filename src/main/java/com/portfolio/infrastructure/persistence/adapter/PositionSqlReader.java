@@ -0,0 +1,88 @@
+package com.portfolio.infrastructure.persistence.adapter;
+
+import com.portfolio.domain.model.Position;
+import com.portfolio.infrastructure.persistence.ReadPool;
+import com.portfolio.infrastructure.persistence.mapper.PositionRowMapper;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads positions with prepared statements of the reactive SQL client, mapping rows straight to the
+ * domain. Skips the Hibernate session, entity hydration and dirty-check snapshot that a read-only
+ * listing does not need. Reads run on the {@link ReadPool}, outside any ongoing transaction.
+ */
+@ApplicationScoped
+public class PositionSqlReader {
+
+    static final String FIND_BY_ID_SQL = """
+        SELECT %s
+        FROM positions
+        WHERE id = $1
+        """.formatted(PositionRowMapper.COLUMNS);
+
+    static final String FIND_BY_TICKER_SQL = """
+        SELECT %s
+        FROM positions
+        WHERE ticker = $1
+        """.formatted(PositionRowMapper.COLUMNS);
+
+    static final String FIND_ALL_WITH_SHARES_SQL = """
+        SELECT %s
+        FROM positions
+        WHERE current_quantity > 0
+        ORDER BY ticker
+        """.formatted(PositionRowMapper.COLUMNS);
+
+    static final String FIND_ALL_SQL = """
+        SELECT %s
+        FROM positions
+        ORDER BY ticker
+        """.formatted(PositionRowMapper.COLUMNS);
+
+    private final ReadPool readPool;
+
+    public PositionSqlReader(ReadPool readPool) {
+        this.readPool = readPool;
+    }
+
+    public Uni<Position> findById(UUID id) {
+        return readPool.execute(FIND_BY_ID_SQL, Tuple.of(id))
+            .map(PositionSqlReader::first);
+    }
+
+    public Uni<Position> findByTicker(String ticker) {
+        return readPool.execute(FIND_BY_TICKER_SQL, Tuple.of(ticker))
+            .map(PositionSqlReader::first);
+    }
+
+    public Uni<List<Position>> findAllWithShares() {
+        return readPool.execute(FIND_ALL_WITH_SHARES_SQL)
+            .map(PositionSqlReader::all);
+    }
+
+    public Uni<List<Position>> findAll() {
+        return readPool.execute(FIND_ALL_SQL)
+            .map(PositionSqlReader::all);
+    }
+
+    private static Position first(RowSet<Row> rows) {
+        RowIterator<Row> iterator = rows.iterator();
+        return iterator.hasNext() ? PositionRowMapper.toDomain(iterator.next()) : null;
+    }
+
+    private static List<Position> all(RowSet<Row> rows) {
+        List<Position> positions = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            positions.add(PositionRowMapper.toDomain(row));
+        }
+        return positions;
+    }
+}
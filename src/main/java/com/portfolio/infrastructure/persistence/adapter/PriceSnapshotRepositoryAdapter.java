@@ -0,0 +1,104 @@
+package com.portfolio.infrastructure.persistence.adapter;
+
+import com.portfolio.domain.model.PriceQuote;
+import com.portfolio.domain.port.PriceSnapshotRepository;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Adapter for PriceSnapshotRepository port implementation.
+ * Uses the reactive SQL client directly so snapshots can be written from any thread,
+ * outside of a Hibernate Reactive session.
+ */
+@ApplicationScoped
+public class PriceSnapshotRepositoryAdapter implements PriceSnapshotRepository {
+
+    static final String UPSERT_SQL = """
+        INSERT INTO price_snapshots (ticker, price, fetched_at)
+        VALUES ($1, $2, $3)
+        ON CONFLICT (ticker) DO UPDATE
+        SET price = EXCLUDED.price, fetched_at = EXCLUDED.fetched_at
+        WHERE price_snapshots.fetched_at < EXCLUDED.fetched_at
+        """;
+
+    static final String FIND_BY_TICKERS_SQL = """
+        SELECT ticker, price, fetched_at
+        FROM price_snapshots
+        WHERE ticker = ANY($1) AND fetched_at >= $2
+        """;
+
+    static final String FIND_FOR_HELD_POSITIONS_SQL = """
+        SELECT s.ticker, s.price, s.fetched_at
+        FROM price_snapshots s
+        JOIN positions p ON p.ticker = s.ticker
+        WHERE p.current_quantity > 0 AND s.fetched_at >= $1
+        """;
+
+    private final Pool pool;
+
+    public PriceSnapshotRepositoryAdapter(Pool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public Uni<Void> saveAll(Map<String, PriceQuote> quotes) {
+        if (quotes == null || quotes.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        List<Tuple> rows = quotes.entrySet().stream()
+            .map(entry -> Tuple.of(entry.getKey(), entry.getValue().price(), toOffsetDateTime(entry.getValue().timestamp())))
+            .toList();
+        return pool.preparedQuery(UPSERT_SQL)
+            .executeBatch(rows)
+            .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Map<String, PriceQuote>> findByTickers(Set<String> tickers, LocalDateTime fetchedSince) {
+        if (tickers == null || tickers.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+
+        Tuple parameters = Tuple.tuple()
+            .addArrayOfString(tickers.toArray(new String[0]))
+            .addOffsetDateTime(toOffsetDateTime(fetchedSince));
+        return pool.preparedQuery(FIND_BY_TICKERS_SQL)
+            .execute(parameters)
+            .map(PriceSnapshotRepositoryAdapter::toQuotes);
+    }
+
+    @Override
+    public Uni<Map<String, PriceQuote>> findForHeldPositions(LocalDateTime fetchedSince) {
+        return pool.preparedQuery(FIND_FOR_HELD_POSITIONS_SQL)
+            .execute(Tuple.of(toOffsetDateTime(fetchedSince)))
+            .map(PriceSnapshotRepositoryAdapter::toQuotes);
+    }
+
+    private static Map<String, PriceQuote> toQuotes(RowSet<Row> rows) {
+        Map<String, PriceQuote> quotes = new HashMap<>();
+        for (Row row : rows) {
+            LocalDateTime fetchedAt = row.getOffsetDateTime("fetched_at")
+                .atZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime();
+            quotes.put(row.getString("ticker"), new PriceQuote(row.getBigDecimal("price"), fetchedAt));
+        }
+        return quotes;
+    }
+
+    private static OffsetDateTime toOffsetDateTime(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    }
+}
@@ -0,0 +1,144 @@
+package com.portfolio.infrastructure.persistence.adapter;
+
+import com.portfolio.domain.model.RecalculationJob;
+import com.portfolio.domain.port.RecalculationJobRepository;
+import com.portfolio.infrastructure.persistence.DataSources;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * Adapter for RecalculationJobRepository port implementation.
+ * Uses the reactive SQL client directly, so progress is committed on its own after every round of
+ * a rebuild instead of inside a Hibernate Reactive session spanning the whole job.
+ */
+@ApplicationScoped
+public class RecalculationJobRepositoryAdapter implements RecalculationJobRepository {
+
+    private static final String COLUMNS =
+        "id, status, total_tickers, processed_tickers, last_ticker, error, started_at, updated_at, finished_at";
+
+    static final String INSERT_SQL = """
+        INSERT INTO position_recalculation_jobs (status, total_tickers)
+        VALUES ('RUNNING', $1)
+        RETURNING %s
+        """.formatted(COLUMNS);
+
+    static final String FIND_BY_ID_SQL = """
+        SELECT %s
+        FROM position_recalculation_jobs
+        WHERE id = $1
+        """.formatted(COLUMNS);
+
+    static final String FIND_LATEST_SQL = """
+        SELECT %s
+        FROM position_recalculation_jobs
+        ORDER BY started_at DESC
+        LIMIT 1
+        """.formatted(COLUMNS);
+
+    static final String FIND_RUNNING_SQL = """
+        SELECT %s
+        FROM position_recalculation_jobs
+        WHERE status = 'RUNNING'
+        """.formatted(COLUMNS);
+
+    static final String RECORD_PROGRESS_SQL = """
+        UPDATE position_recalculation_jobs
+        SET processed_tickers = processed_tickers + $2,
+            last_ticker = $3,
+            updated_at = CURRENT_TIMESTAMP
+        WHERE id = $1
+        RETURNING %s
+        """.formatted(COLUMNS);
+
+    static final String FINISH_SQL = """
+        UPDATE position_recalculation_jobs
+        SET status = $2,
+            error = $3,
+            updated_at = CURRENT_TIMESTAMP,
+            finished_at = CURRENT_TIMESTAMP
+        WHERE id = $1
+        RETURNING %s
+        """.formatted(COLUMNS);
+
+    private final Pool pool;
+
+    public RecalculationJobRepositoryAdapter(@ReactiveDataSource(DataSources.BULK) Pool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public Uni<RecalculationJob> create(int totalTickers) {
+        return pool.preparedQuery(INSERT_SQL)
+            .execute(Tuple.of(totalTickers))
+            .map(RecalculationJobRepositoryAdapter::firstJob);
+    }
+
+    @Override
+    public Uni<RecalculationJob> findById(UUID id) {
+        return pool.preparedQuery(FIND_BY_ID_SQL)
+            .execute(Tuple.of(id))
+            .map(RecalculationJobRepositoryAdapter::firstJob);
+    }
+
+    @Override
+    public Uni<RecalculationJob> findLatest() {
+        return pool.preparedQuery(FIND_LATEST_SQL)
+            .execute()
+            .map(RecalculationJobRepositoryAdapter::firstJob);
+    }
+
+    @Override
+    public Uni<RecalculationJob> findRunning() {
+        return pool.preparedQuery(FIND_RUNNING_SQL)
+            .execute()
+            .map(RecalculationJobRepositoryAdapter::firstJob);
+    }
+
+    @Override
+    public Uni<RecalculationJob> recordProgress(UUID id, int processedTickers, String lastTicker) {
+        return pool.preparedQuery(RECORD_PROGRESS_SQL)
+            .execute(Tuple.of(id, processedTickers, lastTicker))
+            .map(RecalculationJobRepositoryAdapter::firstJob);
+    }
+
+    @Override
+    public Uni<RecalculationJob> finish(UUID id, RecalculationJob.Status status, String error) {
+        return pool.preparedQuery(FINISH_SQL)
+            .execute(Tuple.of(id, status.name(), error))
+            .map(RecalculationJobRepositoryAdapter::firstJob);
+    }
+
+    private static RecalculationJob firstJob(RowSet<Row> rows) {
+        RowIterator<Row> iterator = rows.iterator();
+        return iterator.hasNext() ? toJob(iterator.next()) : null;
+    }
+
+    private static RecalculationJob toJob(Row row) {
+        return new RecalculationJob(
+            row.getUUID("id"),
+            RecalculationJob.Status.valueOf(row.getString("status")),
+            row.getInteger("total_tickers"),
+            row.getInteger("processed_tickers"),
+            row.getString("last_ticker"),
+            row.getString("error"),
+            toLocalDateTime(row.getOffsetDateTime("started_at")),
+            toLocalDateTime(row.getOffsetDateTime("updated_at")),
+            toLocalDateTime(row.getOffsetDateTime("finished_at")));
+    }
+
+    private static LocalDateTime toLocalDateTime(OffsetDateTime timestamp) {
+        return timestamp == null ? null : timestamp.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
@@ -1,15 +1,24 @@
 package com.portfolio.infrastructure.persistence.adapter;
 
 import com.portfolio.domain.model.Transaction;
+import com.portfolio.domain.model.TransactionCursor;
+import com.portfolio.domain.model.TransactionPage;
 import com.portfolio.domain.model.TransactionType;
 import com.portfolio.domain.port.TransactionRepository;
+import com.portfolio.infrastructure.persistence.DataSources;
 import com.portfolio.infrastructure.persistence.entity.TransactionEntity;
 import com.portfolio.infrastructure.persistence.repository.TransactionPanacheRepository;
 import com.portfolio.infrastructure.persistence.mapper.TransactionEntityMapper;
+import com.portfolio.infrastructure.persistence.mapper.TransactionRowMapper;
 import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.SqlConnection;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -17,22 +26,50 @@ import java.util.Objects;
 import java.util.UUID;
 
 /**
- * Adapter for TransactionRepository port implementation
+ * Adapter for TransactionRepository port implementation.
+ * Streams are read with the reactive SQL client through a server-side cursor on the bulk pool, so
+ * rows are fetched as the subscriber requests them instead of being loaded into a Hibernate session,
+ * and a long export holds none of the connections interactive requests use. Listings, pages and
+ * lookups made to show a transaction are read through {@link TransactionSqlReader} unless SQL reads
+ * are disabled.
+ * The transaction use cases project every write onto the positions themselves, so writes first mark
+ * their database transaction to keep the position triggers from recalculating the same positions.
  */
 @ApplicationScoped
 public class TransactionRepositoryAdapter implements TransactionRepository {
 
+    static final String STREAM_ALL_SQL = """
+        SELECT %s
+        FROM transactions
+        ORDER BY transaction_date DESC, id DESC
+        """.formatted(TransactionRowMapper.COLUMNS);
+
     private final TransactionPanacheRepository panacheRepository;
     private final TransactionEntityMapper transactionEntityMapper;
+    private final Pool pool;
+    private final int streamFetchSize;
+    private final TransactionSqlReader sqlReader;
+    private final boolean sqlReads;
 
-    public TransactionRepositoryAdapter(TransactionPanacheRepository panacheRepository, TransactionEntityMapper transactionEntityMapper) {
+    public TransactionRepositoryAdapter(TransactionPanacheRepository panacheRepository, TransactionEntityMapper transactionEntityMapper,
+                                        @ReactiveDataSource(DataSources.BULK) Pool pool,
+                                        @ConfigProperty(name = "application.transactions.stream.fetch-size", defaultValue = "500")
+                                        int streamFetchSize,
+                                        TransactionSqlReader sqlReader,
+                                        @ConfigProperty(name = "application.persistence.sql-reads.enabled", defaultValue = "true")
+                                        boolean sqlReads) {
         this.panacheRepository = panacheRepository;
         this.transactionEntityMapper = transactionEntityMapper;
+        this.pool = pool;
+        this.streamFetchSize = streamFetchSize;
+        this.sqlReader = sqlReader;
+        this.sqlReads = sqlReads;
     }
 
     @Override
     public Uni<Transaction> save(Transaction transaction) {
-        return Uni.createFrom().item(() -> transactionEntityMapper.toEntity(transaction))
+        return panacheRepository.markPositionsProjected()
+                .map(ignored -> transactionEntityMapper.toEntity(transaction))
                 .flatMap(panacheRepository::persistAndFlush)
                 .map(transactionEntity ->
                         transactionEntityMapper.toDomain(transactionEntity, transaction.getDomainEvents()));
@@ -44,8 +81,19 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
             .map(transactionEntityMapper::toDomain);
     }
 
+    @Override
+    public Uni<Transaction> findByIdForRead(UUID id) {
+        if (sqlReads) {
+            return sqlReader.findById(id);
+        }
+        return findById(id);
+    }
+
     @Override
     public Uni<List<Transaction>> findByTicker(String ticker) {
+        if (sqlReads) {
+            return sqlReader.findByTicker(ticker);
+        }
         return panacheRepository.findByTicker(ticker)
             .map(entities -> entities.stream()
                 .map(transactionEntityMapper::toDomain)
@@ -54,6 +102,9 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
 
     @Override
     public Uni<List<Transaction>> findAll() {
+        if (sqlReads) {
+            return sqlReader.findAll();
+        }
         return panacheRepository.findAllOrderedByDate()
             .map(entities -> entities.stream()
                 .map(transactionEntityMapper::toDomain)
@@ -71,9 +122,39 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
                 .toList());
     }
 
+    @Override
+    public Uni<TransactionPage> searchPage(String ticker,
+                                           TransactionType type,
+                                           LocalDate fromDate,
+                                           LocalDate toDate,
+                                           TransactionCursor after,
+                                           int limit) {
+        // One extra row tells whether another page follows, without a count query
+        Uni<List<Transaction>> rows = sqlReads
+            ? sqlReader.searchPage(ticker, type, fromDate, toDate, after, limit + 1)
+            : panacheRepository.searchPage(ticker, type, fromDate, toDate, after, limit + 1)
+                .map(entities -> entities.stream()
+                    .map(transactionEntityMapper::toDomain)
+                    .toList());
+        return rows.map(transactions -> page(transactions, limit));
+    }
+
+    @Override
+    public Multi<Transaction> streamAll() {
+        // A cursor only lives inside a transaction; it is read-only, so it is always rolled back
+        return Multi.createFrom().resourceFromUni(openCursorTransaction(), cursor -> cursor.connection()
+                .prepare(STREAM_ALL_SQL)
+                .onItem().transformToMulti(statement -> statement.createStream(streamFetchSize).toMulti()))
+            .withFinalizer(cursor -> cursor.transaction().rollback()
+                .onFailure().recoverWithNull()
+                .eventually(() -> cursor.connection().close()))
+            .map(TransactionRowMapper::toDomain);
+    }
+
     @Override
     public Uni<Transaction> update(Transaction transaction) {
-        return Uni.createFrom().item(() -> transactionEntityMapper.toEntity(transaction))
+        return panacheRepository.markPositionsProjected()
+                .map(ignored -> transactionEntityMapper.toEntity(transaction))
                 .flatMap(transactionEntity ->
                         panacheRepository.getSession().flatMap(session -> session.merge(transactionEntity)))
                 .flatMap(panacheRepository::persistAndFlush)
@@ -83,7 +164,8 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
 
     @Override
     public Uni<Boolean> deleteById(UUID id) {
-        return panacheRepository.deleteById(id);
+        return panacheRepository.markPositionsProjected()
+            .flatMap(ignored -> panacheRepository.deleteById(id));
     }
 
     @Override
@@ -101,4 +183,21 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
     public Uni<Long> countByTicker(String ticker) {
         return panacheRepository.countByTicker(ticker);
     }
-} 
\ No newline at end of file
+
+    private static TransactionPage page(List<Transaction> rows, int limit) {
+        List<Transaction> transactions = List.copyOf(rows.subList(0, Math.min(limit, rows.size())));
+        TransactionCursor next = rows.size() > limit
+            ? TransactionCursor.after(transactions.get(transactions.size() - 1))
+            : null;
+        return new TransactionPage(transactions, next);
+    }
+
+    private Uni<CursorTransaction> openCursorTransaction() {
+        return pool.getConnection()
+            .flatMap(connection -> connection.begin()
+                .map(transaction -> new CursorTransaction(connection, transaction))
+                .onFailure().call(connection::close));
+    }
+
+    private record CursorTransaction(SqlConnection connection, io.vertx.mutiny.sqlclient.Transaction transaction) {}
+}
@@ -0,0 +1,139 @@
+package com.portfolio.infrastructure.persistence.adapter;
+
+import com.portfolio.domain.model.Transaction;
+import com.portfolio.domain.model.TransactionCursor;
+import com.portfolio.domain.model.TransactionType;
+import com.portfolio.infrastructure.persistence.ReadPool;
+import com.portfolio.infrastructure.persistence.mapper.TransactionRowMapper;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads transactions with prepared statements of the reactive SQL client, mapping rows straight to
+ * the domain. Skips the Hibernate session, entity hydration and dirty-check snapshot that a read-only
+ * listing does not need. Reads run on the {@link ReadPool}, outside any ongoing transaction,
+ * so lookups made to modify a transaction keep going through the session.
+ */
+@ApplicationScoped
+public class TransactionSqlReader {
+
+    static final String FIND_BY_ID_SQL = """
+        SELECT %s
+        FROM transactions
+        WHERE id = $1
+        """.formatted(TransactionRowMapper.COLUMNS);
+
+    static final String FIND_BY_TICKER_SQL = """
+        SELECT %s
+        FROM transactions
+        WHERE ticker = $1
+        ORDER BY transaction_date DESC
+        """.formatted(TransactionRowMapper.COLUMNS);
+
+    static final String FIND_ALL_SQL = """
+        SELECT %s
+        FROM transactions
+        ORDER BY transaction_date DESC
+        """.formatted(TransactionRowMapper.COLUMNS);
+
+    private final ReadPool readPool;
+
+    public TransactionSqlReader(ReadPool readPool) {
+        this.readPool = readPool;
+    }
+
+    public Uni<Transaction> findById(UUID id) {
+        return readPool.execute(FIND_BY_ID_SQL, Tuple.of(id))
+            .map(TransactionSqlReader::first);
+    }
+
+    public Uni<List<Transaction>> findByTicker(String ticker) {
+        return readPool.execute(FIND_BY_TICKER_SQL, Tuple.of(ticker))
+            .map(TransactionSqlReader::all);
+    }
+
+    public Uni<List<Transaction>> findAll() {
+        return readPool.execute(FIND_ALL_SQL)
+            .map(TransactionSqlReader::all);
+    }
+
+    /**
+     * Reads the matching transactions that follow a cursor, in listing order. The cursor condition
+     * is a row comparison, so the page is read as one range of the (ticker,) transaction_date, id
+     * index instead of skipping over the earlier pages.
+     *
+     * @param after cursor to continue after, or null for the first page
+     */
+    public Uni<List<Transaction>> searchPage(String ticker, TransactionType type,
+                                             LocalDate fromDate, LocalDate toDate,
+                                             TransactionCursor after, int limit) {
+        Tuple params = Tuple.tuple();
+        String sql = searchPageSql(ticker, type, fromDate, toDate, after, params);
+        params.addInteger(limit);
+        return readPool.execute(sql, params)
+            .map(TransactionSqlReader::all);
+    }
+
+    /**
+     * Builds the page query, adding the value of each criterion present to {@code params} in the
+     * order of its placeholder. The limit is always the last placeholder.
+     */
+    static String searchPageSql(String ticker, TransactionType type, LocalDate fromDate, LocalDate toDate,
+                                TransactionCursor after, Tuple params) {
+        StringBuilder query = new StringBuilder("SELECT ")
+            .append(TransactionRowMapper.COLUMNS.strip())
+            .append(" FROM transactions WHERE 1=1");
+
+        if (ticker != null && !ticker.trim().isEmpty()) {
+            params.addString(ticker);
+            query.append(" AND ticker = $").append(params.size());
+        }
+
+        if (type != null) {
+            params.addString(type.name());
+            query.append(" AND transaction_type = $").append(params.size()).append("::transaction_type");
+        }
+
+        if (fromDate != null) {
+            params.addLocalDate(fromDate);
+            query.append(" AND transaction_date >= $").append(params.size());
+        }
+
+        if (toDate != null) {
+            params.addLocalDate(toDate);
+            query.append(" AND transaction_date <= $").append(params.size());
+        }
+
+        if (after != null) {
+            params.addLocalDate(after.transactionDate());
+            params.addUUID(after.id());
+            query.append(" AND (transaction_date, id) < ($").append(params.size() - 1)
+                .append(", $").append(params.size()).append(")");
+        }
+
+        query.append(" ORDER BY transaction_date DESC, id DESC LIMIT $").append(params.size() + 1);
+        return query.toString();
+    }
+
+    private static Transaction first(RowSet<Row> rows) {
+        RowIterator<Row> iterator = rows.iterator();
+        return iterator.hasNext() ? TransactionRowMapper.toDomain(iterator.next()) : null;
+    }
+
+    private static List<Transaction> all(RowSet<Row> rows) {
+        List<Transaction> transactions = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            transactions.add(TransactionRowMapper.toDomain(row));
+        }
+        return transactions;
+    }
+}
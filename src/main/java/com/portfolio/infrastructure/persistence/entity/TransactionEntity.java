@@ -18,8 +18,8 @@ import java.util.UUID;
     name = "transactions",
     indexes = {
         @Index(name = "idx_transactions_ticker", columnList = "ticker"),
-        @Index(name = "idx_transactions_date", columnList = "transaction_date"),
-        @Index(name = "idx_transactions_ticker_date", columnList = "ticker,transaction_date")
+        @Index(name = "idx_transactions_date_id", columnList = "transaction_date DESC,id DESC"),
+        @Index(name = "idx_transactions_ticker_date_id", columnList = "ticker,transaction_date DESC,id DESC")
     }
 )
 @NoArgsConstructor(force = true)
@@ -0,0 +1,35 @@
+package com.portfolio.infrastructure.persistence.mapper;
+
+import com.portfolio.domain.model.Currency;
+import com.portfolio.domain.model.Position;
+import io.vertx.mutiny.sqlclient.Row;
+
+/**
+ * Maps rows of the positions table read with the reactive SQL client to domain positions, the same
+ * way {@link PositionEntityMapper} maps entities, without going through a managed entity
+ */
+public final class PositionRowMapper {
+
+    /**
+     * Columns to select for {@link #toDomain(Row)}
+     */
+    public static final String COLUMNS = """
+        id, ticker, current_quantity, avg_cost_per_share, current_price, total_cost_basis,
+        primary_currency::text AS primary_currency, last_transaction_date""";
+
+    private PositionRowMapper() {
+    }
+
+    public static Position toDomain(Row row) {
+        Position position = new Position();
+        position.setId(row.getUUID("id"));
+        position.setTicker(row.getString("ticker"));
+        position.setTotalQuantity(row.getBigDecimal("current_quantity"));
+        position.setAveragePrice(row.getBigDecimal("avg_cost_per_share"));
+        position.setCurrentPrice(row.getBigDecimal("current_price"));
+        position.setTotalCost(row.getBigDecimal("total_cost_basis"));
+        position.setCurrency(Currency.valueOf(row.getString("primary_currency")));
+        position.setLastUpdated(row.getLocalDate("last_transaction_date"));
+        return position;
+    }
+}
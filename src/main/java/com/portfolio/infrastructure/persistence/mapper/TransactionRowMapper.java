@@ -0,0 +1,45 @@
+package com.portfolio.infrastructure.persistence.mapper;
+
+import com.portfolio.domain.model.Currency;
+import com.portfolio.domain.model.Transaction;
+import com.portfolio.domain.model.TransactionType;
+import io.vertx.mutiny.sqlclient.Row;
+
+import java.util.ArrayList;
+
+/**
+ * Maps rows of the transactions table read with the reactive SQL client to domain transactions, the
+ * same way {@link TransactionEntityMapper} maps entities, without going through a managed entity
+ */
+public final class TransactionRowMapper {
+
+    /**
+     * Columns to select for {@link #toDomain(Row)}
+     */
+    public static final String COLUMNS = """
+        id, ticker, transaction_type::text AS transaction_type, quantity, cost_per_share,
+        currency::text AS currency, transaction_date, commission,
+        commission_currency::text AS commission_currency, is_fractional, fractional_multiplier, notes""";
+
+    private TransactionRowMapper() {
+    }
+
+    public static Transaction toDomain(Row row) {
+        String commissionCurrency = row.getString("commission_currency");
+        return new Transaction(
+            row.getUUID("id"),
+            row.getString("ticker"),
+            TransactionType.valueOf(row.getString("transaction_type")),
+            row.getBigDecimal("quantity"),
+            row.getBigDecimal("cost_per_share"),
+            row.getBigDecimal("commission"),
+            Currency.valueOf(row.getString("currency")),
+            row.getLocalDate("transaction_date"),
+            row.getString("notes"),
+            null,
+            row.getBoolean("is_fractional"),
+            row.getBigDecimal("fractional_multiplier"),
+            commissionCurrency != null ? Currency.valueOf(commissionCurrency) : null,
+            new ArrayList<>());
+    }
+}
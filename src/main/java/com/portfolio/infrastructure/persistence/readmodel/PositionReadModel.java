@@ -0,0 +1,178 @@
+package com.portfolio.infrastructure.persistence.readmodel;
+
+import com.portfolio.domain.model.Position;
+import com.portfolio.infrastructure.persistence.DataSources;
+import com.portfolio.infrastructure.persistence.mapper.PositionRowMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps all stored positions in memory, so position reads need no database round trip.
+ * The snapshot is loaded at startup and reloaded after committed writes to positions, while readers
+ * keep being served the previous snapshot. Each load replaces the whole snapshot at once, so readers
+ * never see a partially applied change. Reloads requested while one runs share a single load that
+ * starts once it ends, so a burst of writes costs at most one extra load.
+ * Loads are numbered when they start and a load never replaces the snapshot of a later one, hence a
+ * load requested after a commit always ends up serving that commit. When a load fails the snapshot
+ * is dropped and reads go to the database until the next successful load, rather than serving
+ * positions that may be out of date. A periodic reload picks up writes made by other instances.
+ */
+@ApplicationScoped
+@Slf4j
+public class PositionReadModel {
+
+    static final String LOAD_POSITIONS_SQL = """
+        SELECT %s
+        FROM positions
+        ORDER BY ticker
+        """.formatted(PositionRowMapper.COLUMNS);
+
+    private final Pool pool;
+    private final boolean enabled;
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicReference<State> state = new AtomicReference<>(new State(0, null));
+    private final Timer successfulLoads;
+    private final Timer failedLoads;
+
+    private Uni<Void> runningReload;
+    private Uni<Void> queuedReload;
+
+    @Inject
+    public PositionReadModel(
+            @ReactiveDataSource(DataSources.BULK) Pool pool,
+            @ConfigProperty(name = "application.positions.read-model.enabled", defaultValue = "true")
+            boolean enabled,
+            MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.enabled = enabled;
+        this.successfulLoads = loadTimer(meterRegistry, "success");
+        this.failedLoads = loadTimer(meterRegistry, "failure");
+        Gauge.builder("positions.read-model.size", state, current -> current.get().snapshot() != null
+                ? current.get().snapshot().size()
+                : 0)
+            .description("Positions held by the in-memory position read model")
+            .register(meterRegistry);
+    }
+
+    private static Timer loadTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("positions.read-model.load.duration")
+            .description("Duration of a load of the in-memory position read model")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        refresh().subscribe().with(
+            ignored -> log.debug("Position read model loaded"),
+            failure -> log.warn("Could not load position read model: {}", failure.getMessage()));
+    }
+
+    @Scheduled(identity = "position-read-model-refresh",
+        every = "${application.positions.read-model.refresh.every}",
+        concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> scheduledRefresh() {
+        return refresh();
+    }
+
+    /**
+     * Returns the current snapshot, or empty when positions must be read from the database because
+     * the read model is disabled or not loaded
+     */
+    public Optional<PositionSnapshot> current() {
+        return Optional.ofNullable(state.get().snapshot());
+    }
+
+    /**
+     * Reloads the snapshot from the database. Never fails: a failed load drops the snapshot.
+     */
+    public Uni<Void> refresh() {
+        if (!enabled) {
+            return Uni.createFrom().voidItem();
+        }
+
+        long load = loads.incrementAndGet();
+        Timer.Sample sample = Timer.start();
+        return pool.preparedQuery(LOAD_POSITIONS_SQL)
+            .execute()
+            .map(rows -> {
+                List<Position> positions = new ArrayList<>();
+                for (Row row : rows) {
+                    positions.add(PositionRowMapper.toDomain(row));
+                }
+                return PositionSnapshot.of(positions);
+            })
+            .invoke(snapshot -> {
+                sample.stop(successfulLoads);
+                replace(load, snapshot);
+            })
+            .onFailure().recoverWithItem(throwable -> {
+                sample.stop(failedLoads);
+                log.warn("Position read model load failed, reading positions from the database: {}", throwable.getMessage());
+                replace(load, null);
+                return null;
+            })
+            .replaceWithVoid();
+    }
+
+    /**
+     * Reloads the snapshot after a committed write, keeping the current one until the reload replaces it.
+     * A reload that has not started yet is shared, otherwise one is queued behind the running reload,
+     * so the returned {@code Uni} completes once a load that started after the call has landed.
+     * Never fails.
+     */
+    public synchronized Uni<Void> refreshAfterWrite() {
+        if (!enabled) {
+            return Uni.createFrom().voidItem();
+        }
+        Uni<Void> reload = queuedReload;
+        if (reload == null) {
+            Uni<Void> previous = runningReload != null ? runningReload : Uni.createFrom().voidItem();
+            reload = previous.chain(this::startQueuedReload).memoize().indefinitely();
+            queuedReload = reload;
+            // Start it even when nobody waits for it
+            reload.subscribe().with(ignored -> {});
+        }
+        return reload;
+    }
+
+    /**
+     * Reloads the snapshot after a committed write without waiting for it
+     */
+    public void refreshInBackground() {
+        refreshAfterWrite();
+    }
+
+    private synchronized Uni<Void> startQueuedReload() {
+        runningReload = queuedReload;
+        queuedReload = null;
+        return refresh().eventually(this::endRunningReload);
+    }
+
+    private synchronized void endRunningReload() {
+        runningReload = null;
+    }
+
+    private void replace(long load, PositionSnapshot snapshot) {
+        state.updateAndGet(current -> current.load() > load ? current : new State(load, snapshot));
+    }
+
+    private record State(long load, PositionSnapshot snapshot) {}
+}
@@ -0,0 +1,33 @@
+package com.portfolio.infrastructure.persistence.readmodel;
+
+import com.portfolio.application.usecase.position.ChangesPositions;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Refreshes the position read model after a use case marked {@link ChangesPositions} succeeded.
+ * It runs before the platform interceptors, hence around {@code @WithTransaction}: the reload starts
+ * once the transaction committed, and the caller gets its result once its change can be read. Other
+ * readers keep being served the previous snapshot meanwhile, and concurrent writers share a reload.
+ */
+@ChangesPositions
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE)
+public class PositionReadModelInterceptor {
+
+    @Inject
+    PositionReadModel positionReadModel;
+
+    @AroundInvoke
+    Object refreshAfterCommit(InvocationContext context) throws Exception {
+        Object result = context.proceed();
+        if (result instanceof Uni<?> uni) {
+            return uni.call(positionReadModel::refreshAfterWrite);
+        }
+        return result;
+    }
+}
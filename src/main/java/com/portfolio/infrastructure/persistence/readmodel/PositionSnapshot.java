@@ -0,0 +1,82 @@
+package com.portfolio.infrastructure.persistence.readmodel;
+
+import com.portfolio.domain.model.Position;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable copy of all stored positions, in ticker order and indexed by ticker and id.
+ * Positions are mutable, so the snapshot keeps its own copies and hands every reader new ones:
+ * a caller changing a position it read never changes what the other readers see.
+ */
+public final class PositionSnapshot {
+
+    private final List<Position> positions;
+    private final List<Position> positionsWithShares;
+    private final Map<String, Position> byTicker;
+    private final Map<UUID, Position> byId;
+
+    private PositionSnapshot(List<Position> positions) {
+        Map<String, Position> tickers = new HashMap<>();
+        Map<UUID, Position> ids = new HashMap<>();
+        for (Position position : positions) {
+            tickers.put(position.getTicker(), position);
+            ids.put(position.getId(), position);
+        }
+        this.positions = positions;
+        this.positionsWithShares = positions.stream().filter(Position::hasShares).toList();
+        this.byTicker = Map.copyOf(tickers);
+        this.byId = Map.copyOf(ids);
+    }
+
+    /**
+     * Builds a snapshot from positions sorted by ticker
+     */
+    public static PositionSnapshot of(List<Position> positions) {
+        return new PositionSnapshot(positions.stream().map(Position::new).toList());
+    }
+
+    public List<Position> positions() {
+        return copies(positions);
+    }
+
+    public List<Position> positionsWithShares() {
+        return copies(positionsWithShares);
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    public int sizeWithShares() {
+        return positionsWithShares.size();
+    }
+
+    public Position findById(UUID id) {
+        return copy(id != null ? byId.get(id) : null);
+    }
+
+    public Position findByTicker(String ticker) {
+        return copy(ticker != null ? byTicker.get(ticker) : null);
+    }
+
+    public boolean containsTicker(String ticker) {
+        return ticker != null && byTicker.containsKey(ticker);
+    }
+
+    private static Position copy(Position position) {
+        return position != null ? new Position(position) : null;
+    }
+
+    private static List<Position> copies(List<Position> positions) {
+        List<Position> copies = new ArrayList<>(positions.size());
+        for (Position position : positions) {
+            copies.add(new Position(position));
+        }
+        return copies;
+    }
+}
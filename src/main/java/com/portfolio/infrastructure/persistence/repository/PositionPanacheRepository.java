@@ -1,5 +1,6 @@
 package com.portfolio.infrastructure.persistence.repository;
 
+import com.portfolio.domain.model.PositionDelta;
 import com.portfolio.infrastructure.persistence.entity.PositionEntity;
 import io.quarkus.hibernate.reactive.panache.PanacheRepository;
 import io.quarkus.hibernate.reactive.panache.common.WithSession;
@@ -20,6 +21,61 @@ import java.util.UUID;
 @ApplicationScoped
 public class PositionPanacheRepository implements PanacheRepository<PositionEntity> {
 
+    // Multiplier the delta leaves on the position. The market value is computed with it, the same way
+    // recalculate_positions and the portfolio views apply the latest fractional multiplier to the price.
+    private static final String FRACTIONAL_MULTIPLIER_SQL = """
+        (CASE
+            WHEN CAST(?13 AS date) >= p.latest_fractional_date OR (CAST(?13 AS date) IS NOT NULL AND p.latest_fractional_date IS NULL)
+            THEN COALESCE(CAST(?12 AS numeric), 1.0)
+            ELSE p.latest_fractional_multiplier
+        END)""";
+
+    // Removing the first purchase, last transaction or latest fractional date is only safe when another
+    // transaction still holds that date or the same delta adds a date that replaces it
+    static final String APPLY_DELTA_SQL = """
+        UPDATE positions p
+        SET current_quantity = p.current_quantity + CAST(?2 AS numeric),
+            bought_quantity = p.bought_quantity + CAST(?3 AS numeric),
+            bought_cost = p.bought_cost + CAST(?4 AS numeric),
+            avg_cost_per_share = COALESCE((p.bought_cost + CAST(?4 AS numeric))
+                / NULLIF(p.bought_quantity + CAST(?3 AS numeric), 0), 0),
+            total_cost_basis = p.total_cost_basis + CAST(?5 AS numeric),
+            total_commissions = COALESCE(p.total_commissions, 0) + CAST(?6 AS numeric),
+            last_transaction_date = GREATEST(p.last_transaction_date, CAST(?7 AS date)),
+            first_purchase_date = LEAST(p.first_purchase_date, CAST(?8 AS date)),
+            primary_currency = CASE
+                WHEN CAST(?8 AS date) < p.first_purchase_date OR p.first_purchase_date IS NULL
+                    OR (CAST(?8 AS date) = p.first_purchase_date AND CAST(?11 AS date) = p.first_purchase_date)
+                THEN COALESCE(CAST(?9 AS currency_type), p.primary_currency)
+                ELSE p.primary_currency
+            END,
+            current_market_value = CASE WHEN p.current_price > 0
+                THEN (p.current_quantity + CAST(?2 AS numeric)) * p.current_price * %1$s
+                ELSE p.current_market_value END,
+            unrealized_gain_loss = CASE WHEN p.current_price > 0
+                THEN (p.current_quantity + CAST(?2 AS numeric)) * p.current_price * %1$s
+                    - (p.total_cost_basis + CAST(?5 AS numeric))
+                ELSE p.unrealized_gain_loss END,
+            latest_fractional_multiplier = %1$s,
+            latest_fractional_date = GREATEST(p.latest_fractional_date, CAST(?13 AS date)),
+            updated_at = CURRENT_TIMESTAMP
+        WHERE p.ticker = ?1
+          AND (CAST(?10 AS date) IS NULL OR p.last_transaction_date > CAST(?10 AS date)
+               OR CAST(?7 AS date) >= CAST(?10 AS date))
+          AND (CAST(?11 AS date) IS NULL OR p.first_purchase_date < CAST(?11 AS date)
+               OR CAST(?8 AS date) <= CAST(?11 AS date))
+          AND (CAST(?14 AS date) IS NULL OR p.latest_fractional_date > CAST(?14 AS date)
+               OR CAST(?13 AS date) >= CAST(?14 AS date))
+        """.formatted(FRACTIONAL_MULTIPLIER_SQL);
+
+    static final String NOTIFY_SQL = """
+        select pg_notify(?1, ?2)
+        """;
+
+    static final String DELETE_CLOSED_SQL = """
+        DELETE FROM positions WHERE ticker = ?1 AND current_quantity <= 0
+        """;
+
     @Inject
     TransactionPanacheRepository transactionRepository;
 
@@ -50,6 +106,11 @@ public class PositionPanacheRepository implements PanacheRepository<PositionEnti
             .map(count -> count > 0);
     }
 
+    @WithSession
+    public Uni<Long> countAll() {
+        return count();
+    }
+
     @WithSession
     public Uni<Long> countWithShares() {
         return find("currentQuantity > 0").count();
@@ -87,4 +148,54 @@ public class PositionPanacheRepository implements PanacheRepository<PositionEnti
                 .getSingleResult())
             .flatMap(ignored -> findByTicker(ticker));
     }
-} 
\ No newline at end of file
+
+    /**
+     * Applies a delta to the stored position of its ticker and deletes the position once no shares
+     * remain, the same way recalculate_position does
+     *
+     * @return false when the ticker has no stored position or the delta removes a date the position
+     * still depends on
+     */
+    @WithTransaction
+    public Uni<Boolean> applyDelta(PositionDelta delta) {
+        return Panache.getSession()
+            .flatMap(session -> session
+                .createNativeQuery(APPLY_DELTA_SQL)
+                .setParameter(1, delta.ticker())
+                .setParameter(2, delta.quantity())
+                .setParameter(3, delta.boughtQuantity())
+                .setParameter(4, delta.boughtCost())
+                .setParameter(5, delta.costBasis())
+                .setParameter(6, delta.commissions())
+                .setParameter(7, delta.lastTransactionDate())
+                .setParameter(8, delta.firstPurchaseDate())
+                .setParameter(9, delta.purchaseCurrency() != null ? delta.purchaseCurrency().name() : null)
+                .setParameter(10, delta.removedTransactionDate())
+                .setParameter(11, delta.removedPurchaseDate())
+                .setParameter(12, delta.fractionalMultiplier())
+                .setParameter(13, delta.fractionalDate())
+                .setParameter(14, delta.removedFractionalDate())
+                .executeUpdate()
+                .flatMap(updated -> updated == 0
+                    ? Uni.createFrom().item(false)
+                    : session.createNativeQuery(DELETE_CLOSED_SQL)
+                        .setParameter(1, delta.ticker())
+                        .executeUpdate()
+                        .replaceWith(true)));
+    }
+
+    /**
+     * Sends a notification on a channel from the current transaction. Postgres only delivers it once
+     * the transaction commits, and drops it when the transaction rolls back.
+     */
+    @WithTransaction
+    public Uni<Void> notifyOnCommit(String channel, String payload) {
+        return Panache.getSession()
+            .flatMap(session -> session
+                .createNativeQuery(NOTIFY_SQL)
+                .setParameter(1, channel)
+                .setParameter(2, payload)
+                .getSingleResult())
+            .replaceWithVoid();
+    }
+}
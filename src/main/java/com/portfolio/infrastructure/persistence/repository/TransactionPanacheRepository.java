@@ -1,7 +1,9 @@
 package com.portfolio.infrastructure.persistence.repository;
 
+import com.portfolio.domain.model.TransactionCursor;
 import com.portfolio.domain.model.TransactionType;
 import com.portfolio.infrastructure.persistence.entity.TransactionEntity;
+import io.quarkus.hibernate.reactive.panache.Panache;
 import io.quarkus.hibernate.reactive.panache.PanacheRepository;
 import io.quarkus.hibernate.reactive.panache.common.WithSession;
 import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
@@ -20,6 +22,10 @@ import java.util.UUID;
 @ApplicationScoped
 public class TransactionPanacheRepository implements PanacheRepository<TransactionEntity> {
 
+    static final String MARK_POSITIONS_PROJECTED_SQL = """
+        select set_config('portfolio.positions_projected', 'on', true)
+        """;
+
     // READ operations - use @WithSession
     @WithSession
     public Uni<TransactionEntity> findById(UUID id) {
@@ -39,8 +45,42 @@ public class TransactionPanacheRepository implements PanacheRepository<Transacti
     @WithSession
     public Uni<List<TransactionEntity>> searchTransactions(String ticker, TransactionType type, 
                                                           LocalDate fromDate, LocalDate toDate) {
-        StringBuilder query = new StringBuilder("1=1");
         Map<String, Object> params = new HashMap<>();
+        StringBuilder query = filters(ticker, type, fromDate, toDate, params);
+
+        query.append(" ORDER BY transactionDate DESC");
+
+        return find(query.toString(), params).list();
+    }
+
+    /**
+     * Finds the matching transactions that follow a cursor, in listing order. The cursor condition
+     * is a row comparison, so the page is read as one range of the (ticker,) transaction_date, id
+     * index instead of sorting and skipping all preceding rows.
+     *
+     * @param after cursor to continue after, or null for the first page
+     */
+    @WithSession
+    public Uni<List<TransactionEntity>> searchPage(String ticker, TransactionType type,
+                                                   LocalDate fromDate, LocalDate toDate,
+                                                   TransactionCursor after, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder query = filters(ticker, type, fromDate, toDate, params);
+
+        if (after != null) {
+            query.append(" AND (transactionDate, id) < (:afterDate, :afterId)");
+            params.put("afterDate", after.transactionDate());
+            params.put("afterId", after.id());
+        }
+
+        query.append(" ORDER BY transactionDate DESC, id DESC");
+
+        return find(query.toString(), params).range(0, limit - 1).list();
+    }
+
+    private static StringBuilder filters(String ticker, TransactionType type, LocalDate fromDate, LocalDate toDate,
+                                         Map<String, Object> params) {
+        StringBuilder query = new StringBuilder("1=1");
 
         if (ticker != null && !ticker.trim().isEmpty()) {
             query.append(" AND ticker = :ticker");
@@ -62,9 +102,7 @@ public class TransactionPanacheRepository implements PanacheRepository<Transacti
             params.put("toDate", toDate);
         }
 
-        query.append(" ORDER BY transactionDate DESC");
-
-        return find(query.toString(), params).list();
+        return query;
     }
 
     @WithSession
@@ -85,6 +123,20 @@ public class TransactionPanacheRepository implements PanacheRepository<Transacti
     }
 
     // WRITE operations - use @WithTransaction
+    /**
+     * Tells the transaction triggers that the application applies the position changes of the
+     * transactions written in the current database transaction, so they do not recalculate those
+     * positions. The setting ends with the transaction.
+     */
+    @WithTransaction
+    public Uni<Void> markPositionsProjected() {
+        return Panache.getSession()
+            .flatMap(session -> session
+                .createNativeQuery(MARK_POSITIONS_PROJECTED_SQL)
+                .getSingleResult())
+            .replaceWithVoid();
+    }
+
     @WithTransaction
     public Uni<Boolean> deleteByTicker(String ticker) {
         return delete("ticker = ?1", ticker)
@@ -3,7 +3,10 @@ package com.portfolio.infrastructure.rest;
 import com.portfolio.application.usecase.dividend.GetDividendsForPortfolioUseCase;
 import com.portfolio.application.usecase.dividend.GetDividendsForTickerUseCase;
 import com.portfolio.infrastructure.rest.dto.DividendResponse;
+import com.portfolio.infrastructure.rest.dto.PortfolioDividendsResponse;
+import com.portfolio.infrastructure.rest.dto.TickerDividendsResponse;
 import com.portfolio.infrastructure.rest.mapper.DividendMapper;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
@@ -17,11 +20,11 @@ import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.Map;
 
 /**
  * REST controller for dividend operations
@@ -110,10 +113,11 @@ public class DividendController {
     @GET
     @Path("/portfolio")
     @Operation(summary = "Get dividends for the entire portfolio", 
-        description = "Retrieves all dividend payments for all active positions in the portfolio within the specified date range")
+        description = "Retrieves all dividend payments for all active positions in the portfolio within the specified date range. " +
+            "Tickers whose lookup failed or did not finish before the deadline are listed separately")
     @APIResponses(value = {
-        @APIResponse(responseCode = "200", description = "Map of ticker to list of dividends for the portfolio",
-            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(type = SchemaType.OBJECT))),
+        @APIResponse(responseCode = "200", description = "Dividends per ticker for the portfolio",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = PortfolioDividendsResponse.class))),
         @APIResponse(responseCode = "400", description = "Invalid date parameters"),
         @APIResponse(responseCode = "500", description = "Internal server error")
     })
@@ -148,8 +152,8 @@ public class DividendController {
         }
 
         return getDividendsForPortfolioUseCase.execute(startDate, endDate)
-            .map(dividendsMap -> {
-                Map<String, List<DividendResponse>> response = dividendMapper.toResponseMap(dividendsMap);
+            .map(portfolioDividends -> {
+                PortfolioDividendsResponse response = dividendMapper.toPortfolioResponse(portfolioDividends);
                 return Response.ok(response).build();
             })
             .onFailure().recoverWithItem(throwable -> 
@@ -158,4 +162,48 @@ public class DividendController {
                     .build()
             );
     }
+
+    /**
+     * Stream dividends for all stocks in the portfolio as each ticker lookup completes
+     */
+    @GET
+    @Path("/portfolio/stream")
+    @Produces("application/x-ndjson")
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Stream dividends for the entire portfolio",
+        description = "Streams one newline-delimited JSON object per active position as soon as its dividend lookup completes. " +
+            "Tickers still pending at the deadline are sent last with the TIMED_OUT status")
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Stream of per-ticker dividend results",
+            content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = TickerDividendsResponse.class))),
+        @APIResponse(responseCode = "400", description = "Invalid date parameters"),
+        @APIResponse(responseCode = "500", description = "Internal server error")
+    })
+    public Multi<TickerDividendsResponse> streamDividendsForPortfolio(
+        @Parameter(description = "Start date for dividend query (YYYY-MM-DD)", required = true, example = "2023-01-01")
+        @QueryParam("startDate") String startDateStr,
+        @Parameter(description = "End date for dividend query (YYYY-MM-DD)", required = true, example = "2023-12-31")
+        @QueryParam("endDate") String endDateStr) {
+
+        // Validate input parameters, the status cannot change once the stream has started
+        if (startDateStr == null || endDateStr == null) {
+            throw new BadRequestException("Both startDate and endDate query parameters are required");
+        }
+
+        LocalDate startDate;
+        LocalDate endDate;
+        try {
+            startDate = LocalDate.parse(startDateStr);
+            endDate = LocalDate.parse(endDateStr);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid date format. Use YYYY-MM-DD format");
+        }
+
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException("Start date cannot be after end date");
+        }
+
+        return getDividendsForPortfolioUseCase.stream(startDate, endDate)
+            .map(dividendMapper::toTickerResponse);
+    }
 }
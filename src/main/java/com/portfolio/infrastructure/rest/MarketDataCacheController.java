@@ -0,0 +1,53 @@
+package com.portfolio.infrastructure.rest;
+
+import com.portfolio.application.usecase.marketdata.EvictCachedMarketDataUseCase;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.List;
+
+/**
+ * REST controller for the market data caches of the running instances
+ */
+@Path("/api/market-data/caches")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Market Data", description = "Market data cache operations")
+public class MarketDataCacheController {
+
+    @Inject
+    EvictCachedMarketDataUseCase evictCachedMarketDataUseCase;
+
+    /**
+     * Evict cached market data on every instance
+     */
+    @DELETE
+    @Path("/{cache}")
+    @Operation(summary = "Evict cached market data",
+        description = "Evicts the listed tickers, or every entry when no ticker is listed, from a market data cache of every running instance")
+    @APIResponses(value = {
+        @APIResponse(responseCode = "204", description = "Cache entries evicted"),
+        @APIResponse(responseCode = "400", description = "Unknown cache or invalid ticker")
+    })
+    public Uni<Response> evict(
+        @Parameter(description = "Cache name", required = true, example = "stock-prices")
+        @PathParam("cache") String cache,
+        @Parameter(description = "Tickers to evict, every entry when omitted", example = "AAPL")
+        @QueryParam("ticker") List<String> tickers) {
+        return evictCachedMarketDataUseCase.execute(cache, tickers)
+            .map(ignored -> Response.noContent().build())
+            .onFailure().recoverWithItem(throwable ->
+                Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Error evicting cache: " + throwable.getMessage())
+                    .build()
+            );
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
@@ -34,11 +35,14 @@ public class PortfolioController {
     @GET
     @Path("/summary")
     @Operation(summary = "Get complete portfolio summary", 
-        description = "Retrieves aggregated portfolio data including all positions (active and inactive)")
+        description = "Retrieves aggregated portfolio data including all positions (active and inactive). "
+            + "With pricing=stored, returns the totals precomputed from the stored position prices instead of real-time prices")
     @APIResponse(responseCode = "200", description = "Portfolio summary with aggregated financial data",
         content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = PortfolioSummaryResponse.class)))
-    public Uni<PortfolioSummaryResponse> getPortfolioSummary() {
-        return getPortfolioSummaryUseCase.getPortfolioSummary()
+    public Uni<PortfolioSummaryResponse> getPortfolioSummary(
+            @Parameter(description = "Prices to value the positions at: real-time or stored")
+            @QueryParam("pricing") @DefaultValue("real-time") GetPortfolioSummaryUseCase.Pricing pricing) {
+        return getPortfolioSummaryUseCase.getPortfolioSummary(pricing)
             .map(portfolioSummaryMapper::toResponse);
     }
 
@@ -48,11 +52,14 @@ public class PortfolioController {
     @GET
     @Path("/summary/active")
     @Operation(summary = "Get active portfolio summary", 
-        description = "Retrieves aggregated portfolio data including only active positions (shares > 0)")
+        description = "Retrieves aggregated portfolio data including only active positions (shares > 0). "
+            + "With pricing=stored, returns the totals precomputed from the stored position prices instead of real-time prices")
     @APIResponse(responseCode = "200", description = "Active portfolio summary with aggregated financial data",
         content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = PortfolioSummaryResponse.class)))
-    public Uni<PortfolioSummaryResponse> getActivePortfolioSummary() {
-        return getPortfolioSummaryUseCase.getActiveSummary()
+    public Uni<PortfolioSummaryResponse> getActivePortfolioSummary(
+            @Parameter(description = "Prices to value the positions at: real-time or stored")
+            @QueryParam("pricing") @DefaultValue("real-time") GetPortfolioSummaryUseCase.Pricing pricing) {
+        return getPortfolioSummaryUseCase.getActiveSummary(pricing)
             .map(portfolioSummaryMapper::toResponse);
     }
 } 
\ No newline at end of file
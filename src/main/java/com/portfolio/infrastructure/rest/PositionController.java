@@ -1,10 +1,15 @@
 package com.portfolio.infrastructure.rest;
 
 import com.portfolio.application.usecase.position.GetPositionUseCase;
+import com.portfolio.application.usecase.position.RecalculateAllPositionsUseCase;
 import com.portfolio.application.usecase.position.RecalculatePositionUseCase;
 import com.portfolio.application.usecase.position.UpdateMarketDataUseCase;
+import com.portfolio.application.usecase.position.UpdateMarketPricesUseCase;
 import com.portfolio.infrastructure.rest.dto.PositionResponse;
+import com.portfolio.infrastructure.rest.dto.RecalculationJobResponse;
 import com.portfolio.infrastructure.rest.dto.UpdateMarketDataRequest;
+import com.portfolio.infrastructure.rest.dto.UpdateMarketPricesRequest;
+import com.portfolio.infrastructure.rest.dto.UpdateMarketPricesResponse;
 import com.portfolio.infrastructure.rest.mapper.PositionMapper;
 import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
@@ -39,9 +44,15 @@ public class PositionController {
     @Inject
     UpdateMarketDataUseCase updateMarketDataUseCase;
 
+    @Inject
+    UpdateMarketPricesUseCase updateMarketPricesUseCase;
+
     @Inject
     RecalculatePositionUseCase recalculatePositionUseCase;
 
+    @Inject
+    RecalculateAllPositionsUseCase recalculateAllPositionsUseCase;
+
     @Inject
     PositionMapper positionMapper;
 
@@ -140,6 +151,27 @@ public class PositionController {
             );
     }
 
+    /**
+     * Update market prices for several positions at once
+     */
+    @PUT
+    @Path("/prices")
+    @Operation(summary = "Update market prices", description = "Updates the current market price of every listed ticker in a single statement and reports the tickers without a position")
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Market prices updated successfully",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = UpdateMarketPricesResponse.class))),
+        @APIResponse(responseCode = "400", description = "Invalid price data")
+    })
+    public Uni<Response> updateMarketPrices(@Valid UpdateMarketPricesRequest request) {
+        return updateMarketPricesUseCase.execute(request.prices())
+            .map(update -> Response.ok(positionMapper.toPriceUpdateResponse(update)).build())
+            .onFailure().recoverWithItem(throwable ->
+                Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Error updating market prices: " + throwable.getMessage())
+                    .build()
+            );
+    }
+
     /**
      * Recalculate position from transactions
      */
@@ -169,6 +201,71 @@ public class PositionController {
             );
     }
 
+    /**
+     * Start a rebuild of all positions from transactions
+     */
+    @POST
+    @Path("/recalculate")
+    @Operation(summary = "Recalculate all positions", description = "Starts rebuilding every position from the transactions in the background, or returns the rebuild already running")
+    @APIResponses(value = {
+        @APIResponse(responseCode = "202", description = "Recalculation started or already running",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = RecalculationJobResponse.class))),
+        @APIResponse(responseCode = "400", description = "Error starting the recalculation")
+    })
+    public Uni<Response> recalculateAllPositions() {
+        return recalculateAllPositionsUseCase.start()
+            .map(job -> Response.accepted(positionMapper.toJobResponse(job)).build())
+            .onFailure().recoverWithItem(throwable ->
+                Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Error recalculating all positions: " + throwable.getMessage())
+                    .build()
+            );
+    }
+
+    /**
+     * Get the latest rebuild of all positions
+     */
+    @GET
+    @Path("/recalculate")
+    @Operation(summary = "Get latest recalculation", description = "Retrieves the progress of the most recently started rebuild of all positions")
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Recalculation found",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = RecalculationJobResponse.class))),
+        @APIResponse(responseCode = "404", description = "No recalculation ever ran")
+    })
+    public Uni<Response> getLatestRecalculation() {
+        return recalculateAllPositionsUseCase.getLatestJob()
+            .map(job -> {
+                if (job == null) {
+                    return Response.status(Response.Status.NOT_FOUND).build();
+                }
+                return Response.ok(positionMapper.toJobResponse(job)).build();
+            });
+    }
+
+    /**
+     * Get a rebuild of all positions by ID
+     */
+    @GET
+    @Path("/recalculate/{jobId}")
+    @Operation(summary = "Get recalculation by ID", description = "Retrieves the progress of a rebuild of all positions")
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Recalculation found",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = RecalculationJobResponse.class))),
+        @APIResponse(responseCode = "404", description = "Recalculation not found")
+    })
+    public Uni<Response> getRecalculation(
+        @Parameter(description = "Recalculation job ID", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
+        @PathParam("jobId") UUID jobId) {
+        return recalculateAllPositionsUseCase.getJob(jobId)
+            .map(job -> {
+                if (job == null) {
+                    return Response.status(Response.Status.NOT_FOUND).build();
+                }
+                return Response.ok(positionMapper.toJobResponse(job)).build();
+            });
+    }
+
     /**
      * Check if position exists for ticker
      */
@@ -4,6 +4,7 @@ import com.portfolio.application.usecase.transaction.CreateTransactionUseCase;
 import com.portfolio.application.usecase.transaction.DeleteTransactionUseCase;
 import com.portfolio.application.usecase.transaction.GetTransactionUseCase;
 import com.portfolio.application.usecase.transaction.UpdateTransactionUseCase;
+import com.portfolio.domain.model.TransactionPage;
 import com.portfolio.domain.model.TransactionType;
 import com.portfolio.infrastructure.rest.dto.CreateTransactionRequest;
 import com.portfolio.infrastructure.rest.dto.TransactionResponse;
@@ -24,6 +25,7 @@ import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
 import java.time.LocalDate;
 import java.util.UUID;
@@ -37,6 +39,8 @@ import java.util.UUID;
 @Tag(name = "Transactions", description = "Transaction management operations")
 public class TransactionController {
 
+    static final String NEXT_PAGE_TOKEN_HEADER = "X-Next-Page-Token";
+
     @Inject
     CreateTransactionUseCase createTransactionUseCase;
 
@@ -100,10 +104,35 @@ public class TransactionController {
      * Get all transactions
      */
     @GET
-    @Operation(summary = "Get all transactions", description = "Retrieves all transactions in the portfolio")
-    @APIResponse(responseCode = "200", description = "List of transactions",
-        content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(type = SchemaType.ARRAY, implementation = TransactionResponse.class)))
-    public Multi<TransactionResponse> getAllTransactions() {
+    @Operation(summary = "Get all transactions",
+        description = "Retrieves one page of the transactions in the portfolio, most recent first. "
+            + "When more transactions follow, the " + NEXT_PAGE_TOKEN_HEADER + " header holds the token of the next page")
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Page of transactions",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(type = SchemaType.ARRAY, implementation = TransactionResponse.class))),
+        @APIResponse(responseCode = "400", description = "Invalid page token")
+    })
+    public Uni<Response> getAllTransactions(
+            @Parameter(description = "Token of the page to read, from the " + NEXT_PAGE_TOKEN_HEADER + " header of the previous page")
+            @QueryParam("pageToken") String pageToken,
+            @Parameter(description = "Maximum number of transactions in the page", example = "100")
+            @QueryParam("limit") Integer limit) {
+        return toPageResponse(getTransactionUseCase.getAllPage(pageToken, limit));
+    }
+
+    /**
+     * Export all transactions as newline-delimited JSON
+     */
+    @GET
+    @Path("/export")
+    @Produces("application/x-ndjson")
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Export all transactions",
+        description = "Streams every transaction in the portfolio as one newline-delimited JSON object, most recent first. "
+            + "Rows are read from the database as the client consumes the response, so memory use does not grow with the portfolio")
+    @APIResponse(responseCode = "200", description = "Stream of transactions",
+        content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = TransactionResponse.class)))
+    public Multi<TransactionResponse> exportTransactions() {
         return getTransactionUseCase.getAll()
             .map(transactionMapper::toResponse);
     }
@@ -113,14 +142,22 @@ public class TransactionController {
      */
     @GET
     @Path("/ticker/{ticker}")
-    @Operation(summary = "Get transactions by ticker", description = "Retrieves all transactions for a specific stock ticker")
-    @APIResponse(responseCode = "200", description = "List of transactions for the ticker",
-        content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(type = SchemaType.ARRAY, implementation = TransactionResponse.class)))
-    public Multi<TransactionResponse> getTransactionsByTicker(
+    @Operation(summary = "Get transactions by ticker",
+        description = "Retrieves one page of the transactions for a specific stock ticker, most recent first. "
+            + "When more transactions follow, the " + NEXT_PAGE_TOKEN_HEADER + " header holds the token of the next page")
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Page of transactions for the ticker",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(type = SchemaType.ARRAY, implementation = TransactionResponse.class))),
+        @APIResponse(responseCode = "400", description = "Invalid page token")
+    })
+    public Uni<Response> getTransactionsByTicker(
         @Parameter(description = "Stock ticker symbol", required = true, example = "AAPL")
-        @PathParam("ticker") String ticker) {
-        return getTransactionUseCase.getByTicker(ticker)
-            .map(transactionMapper::toResponse);
+        @PathParam("ticker") String ticker,
+        @Parameter(description = "Token of the page to read, from the " + NEXT_PAGE_TOKEN_HEADER + " header of the previous page")
+        @QueryParam("pageToken") String pageToken,
+        @Parameter(description = "Maximum number of transactions in the page", example = "100")
+        @QueryParam("limit") Integer limit) {
+        return toPageResponse(getTransactionUseCase.getByTickerPage(ticker, pageToken, limit));
     }
 
     /**
@@ -128,10 +165,15 @@ public class TransactionController {
      */
     @GET
     @Path("/search")
-    @Operation(summary = "Search transactions", description = "Search transactions with optional filters")
-    @APIResponse(responseCode = "200", description = "List of matching transactions",
-        content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(type = SchemaType.ARRAY, implementation = TransactionResponse.class)))
-    public Multi<TransactionResponse> searchTransactions(
+    @Operation(summary = "Search transactions",
+        description = "Search transactions with optional filters, one page at a time, most recent first. "
+            + "When more transactions follow, the " + NEXT_PAGE_TOKEN_HEADER + " header holds the token of the next page")
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Page of matching transactions",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(type = SchemaType.ARRAY, implementation = TransactionResponse.class))),
+        @APIResponse(responseCode = "400", description = "Invalid page token")
+    })
+    public Uni<Response> searchTransactions(
             @Parameter(description = "Filter by ticker symbol", example = "AAPL")
             @QueryParam("ticker") String ticker,
             @Parameter(description = "Filter by transaction type")
@@ -139,10 +181,30 @@ public class TransactionController {
             @Parameter(description = "Filter from date (inclusive)", example = "2023-01-01")
             @QueryParam("fromDate") LocalDate fromDate,
             @Parameter(description = "Filter to date (inclusive)", example = "2023-12-31")
-            @QueryParam("toDate") LocalDate toDate) {
+            @QueryParam("toDate") LocalDate toDate,
+            @Parameter(description = "Token of the page to read, from the " + NEXT_PAGE_TOKEN_HEADER + " header of the previous page")
+            @QueryParam("pageToken") String pageToken,
+            @Parameter(description = "Maximum number of transactions in the page", example = "100")
+            @QueryParam("limit") Integer limit) {
         
-        return getTransactionUseCase.searchTransactions(ticker, type, fromDate, toDate)
-            .map(transactionMapper::toResponse);
+        return toPageResponse(getTransactionUseCase.searchPage(ticker, type, fromDate, toDate, pageToken, limit));
+    }
+
+    private Uni<Response> toPageResponse(Uni<TransactionPage> page) {
+        return page
+            .map(result -> {
+                Response.ResponseBuilder response = Response.ok(result.transactions().stream()
+                    .map(transactionMapper::toResponse)
+                    .toList());
+                if (result.hasNext()) {
+                    response.header(NEXT_PAGE_TOKEN_HEADER, result.nextPageToken());
+                }
+                return response.build();
+            })
+            .onFailure().recoverWithItem(throwable ->
+                Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Error listing transactions: " + throwable.getMessage())
+                    .build());
     }
 
     /**
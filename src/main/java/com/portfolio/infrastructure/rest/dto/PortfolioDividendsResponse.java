@@ -0,0 +1,16 @@
+package com.portfolio.infrastructure.rest.dto;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Dividends for the portfolio, with the tickers whose lookup did not complete")
+public record PortfolioDividendsResponse(
+    @Schema(description = "Dividends per ticker for the tickers that were looked up successfully")
+    Map<String, List<DividendResponse>> dividends,
+    @Schema(description = "Tickers whose dividends could not be retrieved", example = "[\"XYZ\"]")
+    List<String> failedTickers,
+    @Schema(description = "Tickers whose dividends were not retrieved before the deadline", example = "[\"MSFT\"]")
+    List<String> timedOutTickers
+) {}
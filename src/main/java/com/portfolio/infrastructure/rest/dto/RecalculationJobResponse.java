@@ -0,0 +1,31 @@
+package com.portfolio.infrastructure.rest.dto;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Progress of a full position rebuild")
+public record RecalculationJobResponse(
+    @Schema(description = "Unique job identifier", example = "550e8400-e29b-41d4-a716-446655440000")
+    UUID id,
+    @Schema(description = "Job status", enumeration = {"RUNNING", "COMPLETED", "FAILED"}, example = "RUNNING")
+    String status,
+    @Schema(description = "Tickers to recalculate when the job started", example = "250")
+    int totalTickers,
+    @Schema(description = "Tickers recalculated so far", example = "100")
+    int processedTickers,
+    @Schema(description = "Share of the tickers recalculated so far, in percent", example = "40.00")
+    BigDecimal progressPercentage,
+    @Schema(description = "Last recalculated ticker, where an interrupted job resumes", example = "MSFT")
+    String lastTicker,
+    @Schema(description = "Failure message of a failed job")
+    String error,
+    @Schema(description = "When the job started")
+    LocalDateTime startedAt,
+    @Schema(description = "When the job last recorded progress")
+    LocalDateTime updatedAt,
+    @Schema(description = "When the job completed or failed")
+    LocalDateTime finishedAt
+) {}
@@ -0,0 +1,15 @@
+package com.portfolio.infrastructure.rest.dto;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of the dividend lookup for a single ticker of the portfolio")
+public record TickerDividendsResponse(
+    @Schema(description = "Stock ticker symbol", example = "AAPL")
+    String ticker,
+    @Schema(description = "Lookup outcome", example = "COMPLETED", enumeration = {"COMPLETED", "FAILED", "TIMED_OUT"})
+    String status,
+    @Schema(description = "Dividends found for the ticker, empty unless the lookup completed")
+    List<DividendResponse> dividends
+) {}
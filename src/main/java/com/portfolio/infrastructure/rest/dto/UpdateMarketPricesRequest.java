@@ -0,0 +1,18 @@
+package com.portfolio.infrastructure.rest.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.util.Map;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+@Schema(description = "Request to update the market price of several positions at once")
+public record UpdateMarketPricesRequest(
+    @NotEmpty(message = "Prices are required")
+    @Schema(description = "New market price per share, by stock ticker", example = "{\"AAPL\": 155.75, \"MSFT\": 310.20}", required = true)
+    Map<String,
+        @NotNull(message = "Price is required")
+        @DecimalMin(value = "0.01", inclusive = true, message = "Price must be positive")
+        BigDecimal> prices
+) {}
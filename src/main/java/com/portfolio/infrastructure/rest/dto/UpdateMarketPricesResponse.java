@@ -0,0 +1,15 @@
+package com.portfolio.infrastructure.rest.dto;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Result of a bulk market price update")
+public record UpdateMarketPricesResponse(
+    @Schema(description = "Number of positions updated", example = "2")
+    int updated,
+    @Schema(description = "Tickers whose position was updated", example = "[\"AAPL\", \"MSFT\"]")
+    List<String> updatedTickers,
+    @Schema(description = "Tickers without a position, left untouched", example = "[\"XYZ\"]")
+    List<String> unknownTickers
+) {}
@@ -1,7 +1,11 @@
 package com.portfolio.infrastructure.rest.mapper;
 
 import com.portfolio.domain.model.Dividend;
+import com.portfolio.domain.model.PortfolioDividends;
+import com.portfolio.domain.model.TickerDividends;
 import com.portfolio.infrastructure.rest.dto.DividendResponse;
+import com.portfolio.infrastructure.rest.dto.PortfolioDividendsResponse;
+import com.portfolio.infrastructure.rest.dto.TickerDividendsResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -35,6 +39,34 @@ public interface DividendMapper {
             ));
     }
 
+    /**
+     * Maps the portfolio dividends, keeping the tickers that failed or timed out
+     */
+    default PortfolioDividendsResponse toPortfolioResponse(PortfolioDividends portfolioDividends) {
+        if (portfolioDividends == null) {
+            return null;
+        }
+        return new PortfolioDividendsResponse(
+            toResponseMap(portfolioDividends.dividends()),
+            portfolioDividends.failedTickers(),
+            portfolioDividends.timedOutTickers()
+        );
+    }
+
+    /**
+     * Maps the dividend lookup result of a single ticker
+     */
+    default TickerDividendsResponse toTickerResponse(TickerDividends tickerDividends) {
+        if (tickerDividends == null) {
+            return null;
+        }
+        return new TickerDividendsResponse(
+            tickerDividends.ticker(),
+            tickerDividends.status().name(),
+            toResponses(tickerDividends.dividends())
+        );
+    }
+
     // Normalization helper
     default BigDecimal normalizeMonetary(BigDecimal value) {
         if (value == null) return null;
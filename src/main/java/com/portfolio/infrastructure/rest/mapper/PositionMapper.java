@@ -2,7 +2,11 @@ package com.portfolio.infrastructure.rest.mapper;
 
 import com.portfolio.domain.model.Position;
 import com.portfolio.domain.model.CurrentPosition;
+import com.portfolio.domain.model.MarketPriceUpdate;
+import com.portfolio.domain.model.RecalculationJob;
 import com.portfolio.infrastructure.rest.dto.PositionResponse;
+import com.portfolio.infrastructure.rest.dto.RecalculationJobResponse;
+import com.portfolio.infrastructure.rest.dto.UpdateMarketPricesResponse;
 import org.mapstruct.*;
 
 import java.math.BigDecimal;
@@ -40,6 +44,31 @@ public interface PositionMapper {
 
     List<PositionResponse> toCurrentPositionResponses(List<CurrentPosition> currentPositions);
 
+    /**
+     * Maps the outcome of a bulk market price update
+     */
+    default UpdateMarketPricesResponse toPriceUpdateResponse(MarketPriceUpdate update) {
+        if (update == null) {
+            return null;
+        }
+        return new UpdateMarketPricesResponse(update.updatedTickers().size(), update.updatedTickers(), update.unknownTickers());
+    }
+
+    /**
+     * Maps a full position rebuild with its progress
+     */
+    default RecalculationJobResponse toJobResponse(RecalculationJob job) {
+        if (job == null) {
+            return null;
+        }
+        BigDecimal progress = job.totalTickers() > 0
+            ? BigDecimal.valueOf(Math.min(job.processedTickers(), job.totalTickers()) * 100L)
+                .divide(BigDecimal.valueOf(job.totalTickers()), 2, ROUNDING)
+            : BigDecimal.valueOf(job.isRunning() ? 0 : 100).setScale(2);
+        return new RecalculationJobResponse(job.id(), job.status().name(), job.totalTickers(), job.processedTickers(),
+            progress, job.lastTicker(), job.error(), job.startedAt(), job.updatedAt(), job.finishedAt());
+    }
+
     // Normalization helpers
     default BigDecimal normalizeMonetary(BigDecimal value) {
         if (value == null) return null;
@@ -0,0 +1,297 @@
+package com.portfolio.infrastructure.scheduler;
+
+import com.portfolio.domain.port.JobRunner;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.pgclient.PgConnection;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.mutiny.sqlclient.Tuple;
+import io.vertx.pgclient.PgConnectOptions;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Elects one instance per job through Postgres session advisory locks, so a job scheduled on every
+ * instance only runs on one of them, with no coordination service besides the database.
+ * The locks are taken over a dedicated connection, held for as long as it lives, and released by
+ * Postgres when it ends: right away when the leading instance stops or crashes, and once the lease
+ * expires when its host or network dies, since the session is then ended after staying idle that long.
+ * A heartbeat keeps the session busy and takes the free locks of the jobs this instance knows, so a
+ * standby instance takes over within a heartbeat of the release. An instance whose heartbeat fails,
+ * or that missed heartbeats for half the lease, steps down and drops its connection before another
+ * instance can be granted the locks. Disabling leadership runs every job on every instance.
+ * Work that must not run on two instances at once, such as a position rebuild, takes a lock of its own
+ * on the same connection and releases it once it ends; it is cancelled when this instance steps down.
+ */
+@ApplicationScoped
+@Slf4j
+public class AdvisoryLockJobRunner implements JobRunner {
+
+    static final String SESSION_SQL_TEMPLATE =
+        "SET idle_session_timeout = %d; SET tcp_keepalives_idle = %d; SET tcp_keepalives_interval = %d; SET tcp_keepalives_count = 3";
+
+    static final String TRY_LOCK_SQL = """
+        SELECT pg_try_advisory_lock($1, hashtext($2)) AS acquired
+        """;
+
+    static final String UNLOCK_SQL = """
+        SELECT pg_advisory_unlock($1, hashtext($2)) AS released
+        """;
+
+    static final String HEARTBEAT_SQL = """
+        SELECT 1
+        """;
+
+    private final Supplier<Uni<SqlConnection>> connector;
+    private final boolean enabled;
+    private final int namespace;
+    private final Duration lease;
+    private final Set<String> jobs = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<Session> session = new AtomicReference<>();
+
+    @Inject
+    public AdvisoryLockJobRunner(
+            Vertx vertx,
+            PgConnectOptions connectOptions,
+            @ConfigProperty(name = "application.jobs.leadership.enabled", defaultValue = "true")
+            boolean enabled,
+            @ConfigProperty(name = "application.jobs.leadership.namespace", defaultValue = "7301")
+            int namespace,
+            @ConfigProperty(name = "application.jobs.leadership.lease", defaultValue = "PT10S")
+            Duration lease,
+            MeterRegistry meterRegistry) {
+        this(() -> PgConnection.connect(vertx, connectOptions).map(connection -> (SqlConnection) connection),
+            enabled, namespace, lease, meterRegistry);
+    }
+
+    AdvisoryLockJobRunner(Supplier<Uni<SqlConnection>> connector, boolean enabled, int namespace, Duration lease,
+                          MeterRegistry meterRegistry) {
+        this.connector = connector;
+        this.enabled = enabled;
+        this.namespace = namespace;
+        this.lease = lease;
+        Gauge.builder("jobs.leadership.held", session, current -> current.get() != null
+                ? current.get().held.size()
+                : 0)
+            .description("Jobs this instance currently leads")
+            .register(meterRegistry);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        Session current = session.get();
+        if (current != null) {
+            end(current, "shutting down");
+        }
+    }
+
+    @Override
+    public Uni<Boolean> runIfLeader(String job, Supplier<Uni<?>> work) {
+        if (!enabled) {
+            return Uni.createFrom().deferred(work).replaceWith(true);
+        }
+
+        jobs.add(job);
+        return lead(job).flatMap(leader -> {
+            if (!leader) {
+                log.debug("Skipping job {}, another instance leads it", job);
+                return Uni.createFrom().item(false);
+            }
+            return Uni.createFrom().deferred(work).replaceWith(true);
+        });
+    }
+
+    @Override
+    public Uni<Boolean> runExclusively(String job, Supplier<Uni<?>> work) {
+        if (!enabled) {
+            return Uni.createFrom().deferred(work).replaceWith(true);
+        }
+
+        // Session advisory locks are reentrant, so the work this instance runs is tracked here
+        Session current = session();
+        if (!current.running.add(job)) {
+            return Uni.createFrom().item(false);
+        }
+        return tryLock(current, job).flatMap(acquired -> {
+            if (!acquired) {
+                current.running.remove(job);
+                log.debug("Skipping job {}, another instance runs it", job);
+                return Uni.createFrom().item(false);
+            }
+            log.info("Running job {}", job);
+            return Uni.combine().any().<Object>of(Uni.createFrom().deferred(work), current.lost(job))
+                .onTermination().call(() -> release(current, job))
+                .replaceWith(true);
+        });
+    }
+
+    /**
+     * Returns the jobs this instance currently leads
+     */
+    Set<String> leadership() {
+        Session current = session.get();
+        return current != null && !current.expired() ? Set.copyOf(current.held) : Set.of();
+    }
+
+    /**
+     * Renews the leadership of this instance and takes the free locks of the jobs it knows
+     */
+    @Scheduled(identity = "job-leadership-heartbeat",
+        every = "${application.jobs.leadership.heartbeat}",
+        concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> heartbeat() {
+        Session active = session.get();
+        if (!enabled || (jobs.isEmpty() && (active == null || active.running.isEmpty()))) {
+            return Uni.createFrom().voidItem();
+        }
+
+        Session current = session();
+        return current.connection
+            .flatMap(connection -> connection.query(HEARTBEAT_SQL).execute())
+            .invoke(ignored -> current.renew())
+            .flatMap(ignored -> Multi.createFrom().iterable(jobs)
+                .onItem().transformToUniAndConcatenate(this::lead)
+                .collect().asList())
+            .replaceWithVoid()
+            .onFailure().recoverWithItem(throwable -> {
+                end(current, "heartbeat failed: " + throwable.getMessage());
+                return null;
+            });
+    }
+
+    private Uni<Boolean> lead(String job) {
+        Session current = session();
+        if (current.held.contains(job)) {
+            return Uni.createFrom().item(true);
+        }
+        return tryLock(current, job)
+            .invoke(acquired -> {
+                if (acquired) {
+                    current.held.add(job);
+                    log.info("Leading job {}", job);
+                }
+            });
+    }
+
+    /**
+     * Takes the lock of a job on the session, telling whether the session still holds it
+     */
+    private Uni<Boolean> tryLock(Session current, String job) {
+        return current.connection
+            .flatMap(connection -> connection.preparedQuery(TRY_LOCK_SQL).execute(Tuple.of(namespace, job)))
+            .map(rows -> rows.iterator().next().getBoolean("acquired") && session.get() == current)
+            .onFailure().recoverWithItem(throwable -> {
+                end(current, "could not take the lock of job " + job + ": " + throwable.getMessage());
+                return false;
+            });
+    }
+
+    private Uni<Void> release(Session current, String job) {
+        if (session.get() != current) {
+            current.running.remove(job);
+            return Uni.createFrom().voidItem();
+        }
+        return current.connection
+            .flatMap(connection -> connection.preparedQuery(UNLOCK_SQL).execute(Tuple.of(namespace, job)))
+            .replaceWithVoid()
+            .onFailure().recoverWithItem(throwable -> {
+                end(current, "could not release the lock of job " + job + ": " + throwable.getMessage());
+                return null;
+            })
+            .eventually(() -> current.running.remove(job));
+    }
+
+    /**
+     * Returns the live session, replacing it when its lease expired
+     */
+    private Session session() {
+        while (true) {
+            Session current = session.get();
+            if (current != null && !current.expired()) {
+                return current;
+            }
+            if (current != null) {
+                end(current, "lease expired");
+                continue;
+            }
+            Session created = new Session();
+            if (session.compareAndSet(null, created)) {
+                return created;
+            }
+        }
+    }
+
+    private void end(Session ended, String reason) {
+        if (!session.compareAndSet(ended, null)) {
+            return;
+        }
+        if (!ended.held.isEmpty() || !ended.running.isEmpty()) {
+            log.warn("Stepping down from jobs {} and stopping {}, {}", ended.held, ended.running, reason);
+        }
+        ended.held.clear();
+        ended.closed.complete(null);
+        ended.connection
+            .flatMap(SqlConnection::close)
+            .subscribe().with(ignored -> {}, failure -> {});
+    }
+
+    private final class Session {
+        private final Set<String> held = ConcurrentHashMap.newKeySet();
+        private final Set<String> running = ConcurrentHashMap.newKeySet();
+        private final CompletableFuture<Void> closed = new CompletableFuture<>();
+        private volatile long renewedAt = System.nanoTime();
+        private final Uni<SqlConnection> connection;
+
+        private Session() {
+            long leaseSeconds = Math.max(1, lease.toSeconds());
+            String sessionSql = SESSION_SQL_TEMPLATE.formatted(
+                lease.toMillis(), leaseSeconds, Math.max(1, leaseSeconds / 3));
+            this.connection = connector.get()
+                .call(opened -> opened.query(sessionSql).execute()
+                    .onFailure().call(opened::close))
+                .invoke(opened -> {
+                    renew();
+                    opened.closeHandler(() -> end(this, "connection closed"));
+                })
+                .onFailure().invoke(throwable -> {
+                    log.warn("Could not connect for job leadership: {}", throwable.getMessage());
+                    session.compareAndSet(this, null);
+                })
+                .memoize().indefinitely();
+        }
+
+        private void renew() {
+            renewedAt = System.nanoTime();
+        }
+
+        /**
+         * Fails once the session ended, since the locks of the work it runs may then be granted elsewhere
+         */
+        private Uni<Void> lost(String job) {
+            return Uni.createFrom().completionStage(closed::copy)
+                .onItem().failWith(() -> new IllegalStateException("Lost the lock of job " + job));
+        }
+
+        /**
+         * Tells whether heartbeats were missed for half the lease, after which the session may be
+         * ended on the server soon and the locks granted to another instance
+         */
+        private boolean expired() {
+            return System.nanoTime() - renewedAt > lease.toNanos() / 2;
+        }
+    }
+}
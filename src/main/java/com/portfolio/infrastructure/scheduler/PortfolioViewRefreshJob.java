@@ -0,0 +1,73 @@
+package com.portfolio.infrastructure.scheduler;
+
+import com.portfolio.domain.port.JobRunner;
+import com.portfolio.domain.port.PortfolioSummaryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refreshes the materialized portfolio views shortly after positions change.
+ * Changes are picked up on the next run, so a burst of writes costs a single refresh, and runs
+ * without changes only read a sequence. A failed refresh is only logged; the views keep serving
+ * their previous content. Only the instance leading the job refreshes.
+ * Setting the cadence to {@code off} disables the job.
+ */
+@ApplicationScoped
+@Slf4j
+public class PortfolioViewRefreshJob {
+
+    static final String JOB = "portfolio-view-refresh";
+
+    private final PortfolioSummaryRepository portfolioSummaryRepository;
+    private final JobRunner jobRunner;
+    private final Timer successfulRefreshes;
+    private final Timer failedRefreshes;
+
+    @Inject
+    public PortfolioViewRefreshJob(PortfolioSummaryRepository portfolioSummaryRepository, JobRunner jobRunner,
+                                   MeterRegistry meterRegistry) {
+        this.portfolioSummaryRepository = portfolioSummaryRepository;
+        this.jobRunner = jobRunner;
+        this.successfulRefreshes = refreshTimer(meterRegistry, "success");
+        this.failedRefreshes = refreshTimer(meterRegistry, "failure");
+    }
+
+    private static Timer refreshTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("portfolio.views.refresh.duration")
+            .description("Duration of the refresh of the materialized portfolio views")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    @Scheduled(identity = JOB,
+        every = "${application.portfolio.views.refresh.every}",
+        concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> scheduledRefresh() {
+        return jobRunner.runIfLeader(JOB, this::refresh).replaceWithVoid();
+    }
+
+    /**
+     * Runs one refresh and records its duration and outcome
+     */
+    Uni<Void> refresh() {
+        Timer.Sample sample = Timer.start();
+        return portfolioSummaryRepository.refreshIfChanged()
+            .onItem().invoke(refreshed -> {
+                if (refreshed) {
+                    sample.stop(successfulRefreshes);
+                    log.debug("Refreshed materialized portfolio views");
+                }
+            })
+            .onFailure().recoverWithItem(throwable -> {
+                sample.stop(failedRefreshes);
+                log.warn("Refresh of materialized portfolio views failed: {}", throwable.getMessage());
+                return false;
+            })
+            .replaceWithVoid();
+    }
+}
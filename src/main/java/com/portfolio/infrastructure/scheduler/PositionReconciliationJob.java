@@ -0,0 +1,82 @@
+package com.portfolio.infrastructure.scheduler;
+
+import com.portfolio.application.usecase.position.ReconcilePositionsUseCase;
+import com.portfolio.domain.port.JobRunner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Periodically reconciles the incrementally maintained positions with their transactions.
+ * Drifted positions are counted, so a growing drift shows up in the metrics, and recalculated.
+ * A run is skipped while the previous one is still going or when another instance leads the job,
+ * and a failed run is only logged.
+ * Setting the cadence to {@code off} disables the job.
+ */
+@ApplicationScoped
+@Slf4j
+public class PositionReconciliationJob {
+
+    static final String JOB = "position-reconciliation";
+
+    private final ReconcilePositionsUseCase reconcilePositionsUseCase;
+    private final JobRunner jobRunner;
+    private final Timer successfulRuns;
+    private final Timer failedRuns;
+    private final Counter driftedPositions;
+
+    @Inject
+    public PositionReconciliationJob(ReconcilePositionsUseCase reconcilePositionsUseCase, JobRunner jobRunner,
+                                     MeterRegistry meterRegistry) {
+        this.reconcilePositionsUseCase = reconcilePositionsUseCase;
+        this.jobRunner = jobRunner;
+        this.successfulRuns = runTimer(meterRegistry, "success");
+        this.failedRuns = runTimer(meterRegistry, "failure");
+        this.driftedPositions = Counter.builder("positions.reconciliation.drifted")
+            .description("Positions found to differ from their transactions and recalculated")
+            .register(meterRegistry);
+    }
+
+    private static Timer runTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("positions.reconciliation.duration")
+            .description("Duration of the reconciliation of positions with their transactions")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    @Scheduled(identity = JOB,
+        every = "${application.positions.reconciliation.every}",
+        delayed = "${application.positions.reconciliation.initial-delay}",
+        concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> scheduledReconcile() {
+        return jobRunner.runIfLeader(JOB, this::reconcile).replaceWithVoid();
+    }
+
+    /**
+     * Runs one reconciliation and records its duration and outcome
+     */
+    Uni<Void> reconcile() {
+        Timer.Sample sample = Timer.start();
+        return reconcilePositionsUseCase.execute()
+            .onItem().invoke(drifted -> {
+                sample.stop(successfulRuns);
+                driftedPositions.increment(drifted.size());
+                if (drifted.isEmpty()) {
+                    log.debug("All positions match their transactions");
+                }
+            })
+            .onFailure().recoverWithItem(throwable -> {
+                sample.stop(failedRuns);
+                log.warn("Position reconciliation failed: {}", throwable.getMessage());
+                return List.of();
+            })
+            .replaceWithVoid();
+    }
+}
@@ -0,0 +1,98 @@
+package com.portfolio.infrastructure.scheduler;
+
+import com.portfolio.application.usecase.position.RefreshMarketPricesUseCase;
+import com.portfolio.domain.port.JobRunner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Periodically refreshes the market price stored on every held position.
+ * Only the instance leading the job refreshes, and each run waits a random jitter first, so
+ * instances that take over the job one after the other do not hit the market data provider at
+ * fixed moments. A run is skipped while the previous one is still going, and a failed run is only
+ * logged; the next run tries again.
+ * Setting the cadence to {@code off} disables the job.
+ */
+@ApplicationScoped
+@Slf4j
+public class PriceRefreshJob {
+
+    static final String JOB = "position-price-refresh";
+
+    private final RefreshMarketPricesUseCase refreshMarketPricesUseCase;
+    private final JobRunner jobRunner;
+    private final Duration jitter;
+    private final Timer successfulRuns;
+    private final Timer failedRuns;
+    private final Counter refreshedTickers;
+
+    @Inject
+    public PriceRefreshJob(
+            RefreshMarketPricesUseCase refreshMarketPricesUseCase,
+            JobRunner jobRunner,
+            @ConfigProperty(name = "application.positions.price-refresh.jitter", defaultValue = "PT1M")
+            Duration jitter,
+            MeterRegistry meterRegistry) {
+        this.refreshMarketPricesUseCase = refreshMarketPricesUseCase;
+        this.jobRunner = jobRunner;
+        this.jitter = jitter;
+        this.successfulRuns = runTimer(meterRegistry, "success");
+        this.failedRuns = runTimer(meterRegistry, "failure");
+        this.refreshedTickers = Counter.builder("positions.price.refresh.tickers")
+            .description("Held tickers whose stored price was refreshed")
+            .register(meterRegistry);
+    }
+
+    private static Timer runTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("positions.price.refresh.duration")
+            .description("Duration of the stored price refresh, excluding the start jitter")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    @Scheduled(identity = JOB,
+        every = "${application.positions.price-refresh.every}",
+        delayed = "${application.positions.price-refresh.initial-delay}",
+        concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> scheduledRefresh() {
+        Duration delay = nextJitter();
+        Uni<Void> start = delay.isZero()
+            ? Uni.createFrom().voidItem()
+            : Uni.createFrom().voidItem().onItem().delayIt().by(delay);
+        return jobRunner.runIfLeader(JOB, () -> start.flatMap(ignored -> refresh())).replaceWithVoid();
+    }
+
+    /**
+     * Runs one refresh and records its duration and outcome
+     */
+    Uni<Void> refresh() {
+        Timer.Sample sample = Timer.start();
+        return refreshMarketPricesUseCase.execute()
+            .onItem().invoke(updated -> {
+                sample.stop(successfulRuns);
+                refreshedTickers.increment(updated);
+                log.info("Refreshed stored prices of {} positions", updated);
+            })
+            .onFailure().recoverWithItem(throwable -> {
+                sample.stop(failedRuns);
+                log.warn("Stored price refresh failed: {}", throwable.getMessage());
+                return 0;
+            })
+            .replaceWithVoid();
+    }
+
+    Duration nextJitter() {
+        long bound = jitter.toMillis();
+        return bound <= 0 ? Duration.ZERO : Duration.ofMillis(ThreadLocalRandom.current().nextLong(bound));
+    }
+}
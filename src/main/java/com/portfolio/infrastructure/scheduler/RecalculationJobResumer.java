@@ -0,0 +1,38 @@
+package com.portfolio.infrastructure.scheduler;
+
+import com.portfolio.application.usecase.position.RecalculateAllPositionsUseCase;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Resumes a full position rebuild that was interrupted by a crash or a restart, once the application started.
+ * Runs on every instance; the job lock keeps a rebuild that another instance still drives from being resumed.
+ */
+@ApplicationScoped
+@Slf4j
+public class RecalculationJobResumer {
+
+    @Inject
+    RecalculateAllPositionsUseCase recalculateAllPositionsUseCase;
+
+    @ConfigProperty(name = "application.positions.recalculation.resume-on-start", defaultValue = "true")
+    boolean resumeOnStart;
+
+    void onStart(@Observes StartupEvent event) {
+        if (!resumeOnStart) {
+            return;
+        }
+        recalculateAllPositionsUseCase.resumeInterrupted().subscribe().with(
+            job -> {
+                if (job != null) {
+                    log.info("Resuming interrupted recalculation job {} at {}/{} tickers",
+                        job.id(), job.processedTickers(), job.totalTickers());
+                }
+            },
+            failure -> log.warn("Could not resume interrupted recalculation job: {}", failure.getMessage()));
+    }
+}
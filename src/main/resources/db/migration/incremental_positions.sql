@@ -0,0 +1,138 @@
+-- Incremental position maintenance
+-- Positions are now maintained by the application, which applies the change of every written
+-- transaction to its position instead of rebuilding the position from the ticker's history.
+-- The running sums of bought shares and their cost are stored, so the average cost can be derived
+-- without reading the transactions. recalculate_positions stays the reference used to repair drift.
+
+ALTER TABLE positions
+    ADD COLUMN IF NOT EXISTS bought_quantity DECIMAL(18, 6) NOT NULL DEFAULT 0,
+    -- Unrounded, so repeated deltas do not accumulate rounding errors in the average cost
+    ADD COLUMN IF NOT EXISTS bought_cost NUMERIC NOT NULL DEFAULT 0;
+
+-- Recalculate the positions of several tickers in one pass over their transactions
+CREATE OR REPLACE FUNCTION recalculate_positions(ticker_symbols VARCHAR(20)[])
+RETURNS VOID AS $$
+BEGIN
+    IF COALESCE(array_length(ticker_symbols, 1), 0) = 0 THEN
+        RETURN;
+    END IF;
+
+    -- Upsert tickers with remaining quantity and delete the others
+    WITH affected AS (
+        SELECT DISTINCT ticker FROM unnest(ticker_symbols) AS a(ticker)
+    ),
+    aggregates AS (
+        SELECT
+            t.ticker,
+            SUM(CASE WHEN t.transaction_type = 'BUY' THEN t.quantity ELSE -(t.quantity) END) as total_quantity,
+            SUM(CASE WHEN t.transaction_type = 'BUY' THEN t.quantity ELSE 0 END) as bought_quantity,
+            SUM(CASE WHEN t.transaction_type = 'BUY' THEN t.quantity * t.cost_per_share + COALESCE(t.commission, 0) ELSE 0 END) as bought_cost,
+            -- Calculate weighted average cost using actual shares
+            (SUM(CASE WHEN t.transaction_type = 'BUY' THEN t.quantity * t.cost_per_share ELSE 0 END) + SUM(CASE WHEN t.transaction_type = 'BUY' THEN COALESCE(t.commission, 0) ELSE 0 END)) / NULLIF(SUM(CASE WHEN t.transaction_type = 'BUY' THEN t.quantity ELSE 0 END), 0) as avg_cost,
+            -- Calculate total cost basis
+            SUM(CASE WHEN t.transaction_type = 'BUY' THEN (t.quantity) * t.cost_per_share + COALESCE(t.commission, 0) ELSE -(t.quantity) * t.cost_per_share - COALESCE(t.commission, 0) END) as total_cost_basis,
+            SUM(COALESCE(t.commission, 0)) as total_commissions,
+            MIN(CASE WHEN t.transaction_type = 'BUY' THEN t.transaction_date END) as first_purchase,
+            MAX(t.transaction_date) as last_transaction
+        FROM transactions t
+        JOIN affected a ON a.ticker = t.ticker
+        GROUP BY t.ticker
+    ),
+    primary_currencies AS (
+        SELECT DISTINCT ON (t.ticker) t.ticker, t.currency
+        FROM transactions t
+        JOIN affected a ON a.ticker = t.ticker
+        WHERE t.transaction_type = 'BUY'
+        ORDER BY t.ticker, t.transaction_date
+    ),
+    upserted AS (
+        INSERT INTO positions (
+            ticker, current_quantity, avg_cost_per_share, primary_currency,
+            total_cost_basis, total_commissions, first_purchase_date, last_transaction_date,
+            bought_quantity, bought_cost
+        )
+        SELECT
+            ag.ticker, ag.total_quantity, ag.avg_cost, pc.currency,
+            ag.total_cost_basis, ag.total_commissions, ag.first_purchase, ag.last_transaction,
+            ag.bought_quantity, ag.bought_cost
+        FROM aggregates ag
+        LEFT JOIN primary_currencies pc ON pc.ticker = ag.ticker
+        WHERE ag.total_quantity > 0
+        ON CONFLICT (ticker) DO UPDATE SET
+            current_quantity = EXCLUDED.current_quantity,
+            avg_cost_per_share = EXCLUDED.avg_cost_per_share,
+            primary_currency = EXCLUDED.primary_currency,
+            total_cost_basis = EXCLUDED.total_cost_basis,
+            total_commissions = EXCLUDED.total_commissions,
+            first_purchase_date = EXCLUDED.first_purchase_date,
+            last_transaction_date = EXCLUDED.last_transaction_date,
+            bought_quantity = EXCLUDED.bought_quantity,
+            bought_cost = EXCLUDED.bought_cost,
+            updated_at = CURRENT_TIMESTAMP
+        RETURNING ticker
+    )
+    DELETE FROM positions p
+    USING affected a
+    WHERE p.ticker = a.ticker
+      AND NOT EXISTS (SELECT 1 FROM aggregates ag WHERE ag.ticker = a.ticker AND ag.total_quantity > 0);
+
+    -- Recalculate market values from the stored price and the latest fractional multiplier.
+    -- current_price keeps the market price, so repeated recalculations do not compound it.
+    -- New positions still have no price, so only the updated ones are touched.
+    UPDATE positions p
+    SET current_market_value = p.current_quantity * p.current_price * m.multiplier,
+        unrealized_gain_loss = (p.current_quantity * p.current_price * m.multiplier) - p.total_cost_basis
+    FROM (
+        SELECT a.ticker, COALESCE(f.fractional_multiplier, 1.0) AS multiplier
+        FROM (SELECT DISTINCT ticker FROM unnest(ticker_symbols) AS u(ticker)) a
+        LEFT JOIN (
+            SELECT DISTINCT ON (ticker) ticker, fractional_multiplier
+            FROM transactions
+            WHERE ticker = ANY(ticker_symbols) AND is_fractional = true
+            ORDER BY ticker, transaction_date DESC
+        ) f ON f.ticker = a.ticker
+    ) m
+    WHERE p.ticker = m.ticker
+      AND p.current_price IS NOT NULL AND p.current_price > 0;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Backfill the running sums of existing positions
+UPDATE positions p
+SET bought_quantity = b.bought_quantity,
+    bought_cost = b.bought_cost
+FROM (
+    SELECT ticker,
+           SUM(quantity) AS bought_quantity,
+           SUM(quantity * cost_per_share + COALESCE(commission, 0)) AS bought_cost
+    FROM transactions
+    WHERE transaction_type = 'BUY'
+    GROUP BY ticker
+) b
+WHERE p.ticker = b.ticker;
+
+-- The statement-level triggers stay, so transactions written outside the application (imports,
+-- manual fixes, bulk loads) still update positions. The application applies the change of its own
+-- writes and marks its database transaction, so the triggers leave those positions alone instead of
+-- recalculating them under the applied delta.
+CREATE OR REPLACE FUNCTION trigger_recalculate_positions()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('portfolio.positions_projected', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'INSERT' THEN
+        PERFORM recalculate_positions(ARRAY(SELECT DISTINCT ticker FROM new_transactions));
+    ELSIF TG_OP = 'UPDATE' THEN
+        -- For updates, recalculate both old and new ticker if they're different
+        PERFORM recalculate_positions(ARRAY(
+            SELECT ticker FROM new_transactions
+            UNION
+            SELECT ticker FROM old_transactions));
+    ELSE -- DELETE
+        PERFORM recalculate_positions(ARRAY(SELECT DISTINCT ticker FROM old_transactions));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
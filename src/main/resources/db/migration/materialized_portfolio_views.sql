@@ -0,0 +1,169 @@
+-- Materialized portfolio views
+-- portfolio_summary and position_details looked up the latest fractional multiplier of every position
+-- with a correlated subquery, once per computed column. The multiplier is now stored on the position,
+-- and both views get materialized equivalents that are refreshed concurrently after position changes.
+
+ALTER TABLE positions
+    ADD COLUMN IF NOT EXISTS latest_fractional_multiplier DECIMAL(10, 8) NOT NULL DEFAULT 1.0,
+    -- Date of the transaction the multiplier comes from, so a delta can tell whether it replaces it
+    ADD COLUMN IF NOT EXISTS latest_fractional_date DATE;
+
+UPDATE positions p
+SET latest_fractional_multiplier = COALESCE(f.fractional_multiplier, 1.0),
+    latest_fractional_date = f.transaction_date
+FROM (
+    SELECT DISTINCT ON (ticker) ticker, fractional_multiplier, transaction_date
+    FROM transactions
+    WHERE is_fractional = true
+    ORDER BY ticker, transaction_date DESC
+) f
+WHERE p.ticker = f.ticker;
+
+-- Recalculate the positions of several tickers in one pass over their transactions
+CREATE OR REPLACE FUNCTION recalculate_positions(ticker_symbols VARCHAR(20)[])
+RETURNS VOID AS $$
+BEGIN
+    IF COALESCE(array_length(ticker_symbols, 1), 0) = 0 THEN
+        RETURN;
+    END IF;
+
+    -- Upsert tickers with remaining quantity and delete the others
+    WITH affected AS (
+        SELECT DISTINCT ticker FROM unnest(ticker_symbols) AS a(ticker)
+    ),
+    aggregates AS (
+        SELECT
+            t.ticker,
+            SUM(CASE WHEN t.transaction_type = 'BUY' THEN t.quantity ELSE -(t.quantity) END) as total_quantity,
+            SUM(CASE WHEN t.transaction_type = 'BUY' THEN t.quantity ELSE 0 END) as bought_quantity,
+            SUM(CASE WHEN t.transaction_type = 'BUY' THEN t.quantity * t.cost_per_share + COALESCE(t.commission, 0) ELSE 0 END) as bought_cost,
+            -- Calculate weighted average cost using actual shares
+            (SUM(CASE WHEN t.transaction_type = 'BUY' THEN t.quantity * t.cost_per_share ELSE 0 END) + SUM(CASE WHEN t.transaction_type = 'BUY' THEN COALESCE(t.commission, 0) ELSE 0 END)) / NULLIF(SUM(CASE WHEN t.transaction_type = 'BUY' THEN t.quantity ELSE 0 END), 0) as avg_cost,
+            -- Calculate total cost basis
+            SUM(CASE WHEN t.transaction_type = 'BUY' THEN (t.quantity) * t.cost_per_share + COALESCE(t.commission, 0) ELSE -(t.quantity) * t.cost_per_share - COALESCE(t.commission, 0) END) as total_cost_basis,
+            SUM(COALESCE(t.commission, 0)) as total_commissions,
+            MIN(CASE WHEN t.transaction_type = 'BUY' THEN t.transaction_date END) as first_purchase,
+            MAX(t.transaction_date) as last_transaction
+        FROM transactions t
+        JOIN affected a ON a.ticker = t.ticker
+        GROUP BY t.ticker
+    ),
+    latest_fractionals AS (
+        SELECT DISTINCT ON (t.ticker) t.ticker, t.fractional_multiplier, t.transaction_date
+        FROM transactions t
+        JOIN affected a ON a.ticker = t.ticker
+        WHERE t.is_fractional = true
+        ORDER BY t.ticker, t.transaction_date DESC
+    ),
+    primary_currencies AS (
+        SELECT DISTINCT ON (t.ticker) t.ticker, t.currency
+        FROM transactions t
+        JOIN affected a ON a.ticker = t.ticker
+        WHERE t.transaction_type = 'BUY'
+        ORDER BY t.ticker, t.transaction_date
+    ),
+    upserted AS (
+        INSERT INTO positions (
+            ticker, current_quantity, avg_cost_per_share, primary_currency,
+            total_cost_basis, total_commissions, first_purchase_date, last_transaction_date,
+            bought_quantity, bought_cost, latest_fractional_multiplier, latest_fractional_date
+        )
+        SELECT
+            ag.ticker, ag.total_quantity, ag.avg_cost, pc.currency,
+            ag.total_cost_basis, ag.total_commissions, ag.first_purchase, ag.last_transaction,
+            ag.bought_quantity, ag.bought_cost,
+            COALESCE(lf.fractional_multiplier, 1.0), lf.transaction_date
+        FROM aggregates ag
+        LEFT JOIN primary_currencies pc ON pc.ticker = ag.ticker
+        LEFT JOIN latest_fractionals lf ON lf.ticker = ag.ticker
+        WHERE ag.total_quantity > 0
+        ON CONFLICT (ticker) DO UPDATE SET
+            current_quantity = EXCLUDED.current_quantity,
+            avg_cost_per_share = EXCLUDED.avg_cost_per_share,
+            primary_currency = EXCLUDED.primary_currency,
+            total_cost_basis = EXCLUDED.total_cost_basis,
+            total_commissions = EXCLUDED.total_commissions,
+            first_purchase_date = EXCLUDED.first_purchase_date,
+            last_transaction_date = EXCLUDED.last_transaction_date,
+            bought_quantity = EXCLUDED.bought_quantity,
+            bought_cost = EXCLUDED.bought_cost,
+            latest_fractional_multiplier = EXCLUDED.latest_fractional_multiplier,
+            latest_fractional_date = EXCLUDED.latest_fractional_date,
+            updated_at = CURRENT_TIMESTAMP
+        RETURNING ticker
+    )
+    DELETE FROM positions p
+    USING affected a
+    WHERE p.ticker = a.ticker
+      AND NOT EXISTS (SELECT 1 FROM aggregates ag WHERE ag.ticker = a.ticker AND ag.total_quantity > 0);
+
+    -- Recalculate market values from the stored price and the stored multiplier, as the views do.
+    -- current_price keeps the market price, so repeated recalculations do not compound it.
+    -- New positions still have no price, so only the updated ones are touched.
+    UPDATE positions p
+    SET current_market_value = p.current_quantity * p.current_price * p.latest_fractional_multiplier,
+        unrealized_gain_loss = (p.current_quantity * p.current_price * p.latest_fractional_multiplier) - p.total_cost_basis
+    WHERE p.ticker = ANY(ticker_symbols)
+      AND p.current_price IS NOT NULL AND p.current_price > 0;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The plain views read the stored multiplier. p.* now expands to more columns, so position_details
+-- cannot be replaced in place.
+DROP VIEW IF EXISTS position_details;
+DROP VIEW IF EXISTS portfolio_summary;
+
+CREATE VIEW portfolio_summary AS
+SELECT
+    COUNT(*) as total_positions,
+    SUM(current_quantity * current_price * latest_fractional_multiplier) as total_market_value,
+    SUM(total_cost_basis) as total_cost_basis,
+    SUM(current_quantity * current_price * latest_fractional_multiplier) - SUM(total_cost_basis) as total_unrealized_gain_loss,
+    (SUM(current_quantity * current_price * latest_fractional_multiplier) - SUM(total_cost_basis))
+        / NULLIF(SUM(total_cost_basis), 0) * 100 as total_return_percentage
+FROM positions
+WHERE current_quantity > 0;
+
+CREATE VIEW position_details AS
+SELECT
+    p.*,
+    (p.current_quantity * p.current_price * p.latest_fractional_multiplier) as market_value,
+    (p.current_quantity * p.current_price * p.latest_fractional_multiplier) - p.total_cost_basis as unrealized_pnl,
+    CASE
+        WHEN p.total_cost_basis > 0
+        THEN ((p.current_quantity * p.current_price * p.latest_fractional_multiplier) - p.total_cost_basis) / p.total_cost_basis * 100
+        ELSE 0
+    END as return_percentage
+FROM positions p
+WHERE p.current_quantity > 0;
+
+-- REFRESH MATERIALIZED VIEW CONCURRENTLY needs a unique index without a WHERE clause, so the
+-- single-row summary carries a constant key
+CREATE MATERIALIZED VIEW IF NOT EXISTS portfolio_summary_mv AS
+SELECT 1 AS id, s.*, CURRENT_TIMESTAMP AS refreshed_at
+FROM portfolio_summary s;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_portfolio_summary_mv_id ON portfolio_summary_mv (id);
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS position_details_mv AS
+SELECT * FROM position_details;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_position_details_mv_ticker ON position_details_mv (ticker);
+
+-- Every statement that changes positions draws a number from this sequence. Sequences are not
+-- transactional and take no row lock, so writers do not contend on it; the refresher compares its
+-- last value with the one it saw at the previous refresh.
+CREATE SEQUENCE IF NOT EXISTS positions_change_seq;
+
+CREATE OR REPLACE FUNCTION record_positions_change()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM nextval('positions_change_seq');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS positions_change ON positions;
+CREATE TRIGGER positions_change
+    AFTER INSERT OR UPDATE OR DELETE ON positions
+    FOR EACH STATEMENT EXECUTE FUNCTION record_positions_change();
@@ -0,0 +1,21 @@
+-- Transactional outbox
+-- Domain events are stored in the transaction that changes the aggregate and delivered asynchronously
+-- by the outbox dispatcher, at least once.
+CREATE TABLE outbox (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    aggregate_type VARCHAR(64) NOT NULL,
+    aggregate_id UUID,
+    event_type VARCHAR(64) NOT NULL,
+    payload JSONB NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    -- NULL once the message is parked after its last failed attempt
+    next_attempt_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    published_at TIMESTAMP WITH TIME ZONE
+);
+
+-- The dispatcher only ever scans undelivered messages
+CREATE INDEX idx_outbox_pending ON outbox (next_attempt_at, created_at) WHERE published_at IS NULL;
+CREATE INDEX idx_outbox_published_at ON outbox (published_at) WHERE published_at IS NOT NULL;
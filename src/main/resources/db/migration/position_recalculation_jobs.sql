@@ -0,0 +1,18 @@
+-- Progress of full position rebuilds, so an interrupted rebuild resumes after the last committed ticker
+CREATE TABLE position_recalculation_jobs (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    status VARCHAR(16) NOT NULL,
+    total_tickers INTEGER NOT NULL,
+    processed_tickers INTEGER NOT NULL DEFAULT 0,
+    last_ticker VARCHAR(20),
+    error TEXT,
+    started_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP WITH TIME ZONE
+);
+
+-- At most one rebuild runs at a time
+CREATE UNIQUE INDEX idx_position_recalculation_jobs_running
+    ON position_recalculation_jobs (status) WHERE status = 'RUNNING';
+
+CREATE INDEX idx_position_recalculation_jobs_started_at ON position_recalculation_jobs(started_at);
@@ -0,0 +1,8 @@
+-- Latest market price fetched per ticker, used to warm the price cache after a restart
+CREATE TABLE price_snapshots (
+    ticker VARCHAR(20) PRIMARY KEY,
+    price DECIMAL(18, 4) NOT NULL,
+    fetched_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_price_snapshots_fetched_at ON price_snapshots(fetched_at);
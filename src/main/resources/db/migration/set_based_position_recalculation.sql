@@ -0,0 +1,131 @@
+-- Set-based position recalculation
+-- Replaces the FOR EACH ROW transaction trigger with statement-level triggers that use transition
+-- tables, so a statement touching many transactions recalculates each affected ticker only once.
+
+-- Recalculate the positions of several tickers in one pass over their transactions
+CREATE OR REPLACE FUNCTION recalculate_positions(ticker_symbols VARCHAR(20)[])
+RETURNS VOID AS $$
+BEGIN
+    IF COALESCE(array_length(ticker_symbols, 1), 0) = 0 THEN
+        RETURN;
+    END IF;
+
+    -- Upsert tickers with remaining quantity and delete the others
+    WITH affected AS (
+        SELECT DISTINCT ticker FROM unnest(ticker_symbols) AS a(ticker)
+    ),
+    aggregates AS (
+        SELECT
+            t.ticker,
+            SUM(CASE WHEN t.transaction_type = 'BUY' THEN t.quantity ELSE -(t.quantity) END) as total_quantity,
+            -- Calculate weighted average cost using actual shares
+            (SUM(CASE WHEN t.transaction_type = 'BUY' THEN t.quantity * t.cost_per_share ELSE 0 END) + SUM(CASE WHEN t.transaction_type = 'BUY' THEN COALESCE(t.commission, 0) ELSE 0 END)) / NULLIF(SUM(CASE WHEN t.transaction_type = 'BUY' THEN t.quantity ELSE 0 END), 0) as avg_cost,
+            -- Calculate total cost basis
+            SUM(CASE WHEN t.transaction_type = 'BUY' THEN (t.quantity) * t.cost_per_share + COALESCE(t.commission, 0) ELSE -(t.quantity) * t.cost_per_share - COALESCE(t.commission, 0) END) as total_cost_basis,
+            SUM(COALESCE(t.commission, 0)) as total_commissions,
+            MIN(CASE WHEN t.transaction_type = 'BUY' THEN t.transaction_date END) as first_purchase,
+            MAX(t.transaction_date) as last_transaction
+        FROM transactions t
+        JOIN affected a ON a.ticker = t.ticker
+        GROUP BY t.ticker
+    ),
+    primary_currencies AS (
+        SELECT DISTINCT ON (t.ticker) t.ticker, t.currency
+        FROM transactions t
+        JOIN affected a ON a.ticker = t.ticker
+        WHERE t.transaction_type = 'BUY'
+        ORDER BY t.ticker, t.transaction_date
+    ),
+    upserted AS (
+        INSERT INTO positions (
+            ticker, current_quantity, avg_cost_per_share, primary_currency,
+            total_cost_basis, total_commissions, first_purchase_date, last_transaction_date
+        )
+        SELECT
+            ag.ticker, ag.total_quantity, ag.avg_cost, pc.currency,
+            ag.total_cost_basis, ag.total_commissions, ag.first_purchase, ag.last_transaction
+        FROM aggregates ag
+        LEFT JOIN primary_currencies pc ON pc.ticker = ag.ticker
+        WHERE ag.total_quantity > 0
+        ON CONFLICT (ticker) DO UPDATE SET
+            current_quantity = EXCLUDED.current_quantity,
+            avg_cost_per_share = EXCLUDED.avg_cost_per_share,
+            primary_currency = EXCLUDED.primary_currency,
+            total_cost_basis = EXCLUDED.total_cost_basis,
+            total_commissions = EXCLUDED.total_commissions,
+            first_purchase_date = EXCLUDED.first_purchase_date,
+            last_transaction_date = EXCLUDED.last_transaction_date,
+            updated_at = CURRENT_TIMESTAMP
+        RETURNING ticker
+    )
+    DELETE FROM positions p
+    USING affected a
+    WHERE p.ticker = a.ticker
+      AND NOT EXISTS (SELECT 1 FROM aggregates ag WHERE ag.ticker = a.ticker AND ag.total_quantity > 0);
+
+    -- Adjust current_price with the latest fractional multiplier and recalculate market values.
+    -- New positions still have no price, so only the updated ones are touched.
+    UPDATE positions p
+    SET current_price = p.current_price * m.multiplier,
+        current_market_value = p.current_quantity * p.current_price * m.multiplier,
+        unrealized_gain_loss = (p.current_quantity * p.current_price * m.multiplier) - p.total_cost_basis
+    FROM (
+        SELECT a.ticker, COALESCE(f.fractional_multiplier, 1.0) AS multiplier
+        FROM (SELECT DISTINCT ticker FROM unnest(ticker_symbols) AS u(ticker)) a
+        LEFT JOIN (
+            SELECT DISTINCT ON (ticker) ticker, fractional_multiplier
+            FROM transactions
+            WHERE ticker = ANY(ticker_symbols) AND is_fractional = true
+            ORDER BY ticker, transaction_date DESC
+        ) f ON f.ticker = a.ticker
+    ) m
+    WHERE p.ticker = m.ticker
+      AND p.current_price IS NOT NULL AND p.current_price > 0;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Keep the single-ticker procedure for explicit recalculations
+CREATE OR REPLACE FUNCTION recalculate_position(ticker_symbol VARCHAR(20))
+RETURNS VOID AS $$
+BEGIN
+    PERFORM recalculate_positions(ARRAY[ticker_symbol]);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Recalculate every ticker touched by a statement, once
+CREATE OR REPLACE FUNCTION trigger_recalculate_positions()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM recalculate_positions(ARRAY(SELECT DISTINCT ticker FROM new_transactions));
+    ELSIF TG_OP = 'UPDATE' THEN
+        -- For updates, recalculate both old and new ticker if they're different
+        PERFORM recalculate_positions(ARRAY(
+            SELECT ticker FROM new_transactions
+            UNION
+            SELECT ticker FROM old_transactions));
+    ELSE -- DELETE
+        PERFORM recalculate_positions(ARRAY(SELECT DISTINCT ticker FROM old_transactions));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS transaction_position_update ON transactions;
+DROP FUNCTION IF EXISTS trigger_recalculate_position();
+
+-- Transition tables can only be declared on single-event triggers
+CREATE TRIGGER transaction_position_insert
+    AFTER INSERT ON transactions
+    REFERENCING NEW TABLE AS new_transactions
+    FOR EACH STATEMENT EXECUTE FUNCTION trigger_recalculate_positions();
+
+CREATE TRIGGER transaction_position_update
+    AFTER UPDATE ON transactions
+    REFERENCING OLD TABLE AS old_transactions NEW TABLE AS new_transactions
+    FOR EACH STATEMENT EXECUTE FUNCTION trigger_recalculate_positions();
+
+CREATE TRIGGER transaction_position_delete
+    AFTER DELETE ON transactions
+    REFERENCING OLD TABLE AS old_transactions
+    FOR EACH STATEMENT EXECUTE FUNCTION trigger_recalculate_positions();
@@ -0,0 +1,10 @@
+-- Keyset pagination of transactions
+-- Listings page through transactions ordered by transaction_date then id, both descending, and
+-- continue after the last row of the previous page. These indexes serve each page as one range scan;
+-- they cover the leading columns of the date indexes they replace.
+
+CREATE INDEX IF NOT EXISTS idx_transactions_date_id ON transactions (transaction_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_transactions_ticker_date_id ON transactions (ticker, transaction_date DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_transactions_date;
+DROP INDEX IF EXISTS idx_transactions_ticker_date;
@@ -4,15 +4,19 @@ import com.portfolio.domain.exception.Errors;
 import com.portfolio.domain.exception.ServiceException;
 import com.portfolio.domain.model.Currency;
 import com.portfolio.domain.model.Dividend;
+import com.portfolio.domain.model.PortfolioDividends;
 import com.portfolio.domain.model.Position;
+import com.portfolio.domain.model.TickerDividends;
 import com.portfolio.domain.port.MarketDataService;
 import com.portfolio.domain.port.PositionRepository;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
@@ -35,6 +39,8 @@ class GetDividendsForPortfolioUseCaseTest {
         getDividendsUseCase = new GetDividendsForPortfolioUseCase();
         getDividendsUseCase.positionRepository = positionRepository;
         getDividendsUseCase.marketDataService = marketDataService;
+        getDividendsUseCase.concurrency = 8;
+        getDividendsUseCase.deadline = Duration.ofSeconds(5);
     }
 
     @Test
@@ -57,20 +63,22 @@ class GetDividendsForPortfolioUseCaseTest {
             .thenReturn(Uni.createFrom().item(List.of(msftDividend)));
 
         // When
-        Uni<Map<String, List<Dividend>>> uni = getDividendsUseCase.execute(startDate, endDate);
-        Map<String, List<Dividend>> result = uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+        Uni<PortfolioDividends> uni = getDividendsUseCase.execute(startDate, endDate);
+        PortfolioDividends result = uni.subscribe().withSubscriber(UniAssertSubscriber.create())
             .assertCompleted()
             .getItem();
 
         // Then
         assertNotNull(result);
-        assertEquals(2, result.size());
-        assertTrue(result.containsKey("AAPL"));
-        assertTrue(result.containsKey("MSFT"));
-        assertEquals(1, result.get("AAPL").size());
-        assertEquals(1, result.get("MSFT").size());
-        assertEquals(new BigDecimal("0.24"), result.get("AAPL").get(0).getAmount());
-        assertEquals(new BigDecimal("0.75"), result.get("MSFT").get(0).getAmount());
+        assertTrue(result.isComplete());
+        Map<String, List<Dividend>> dividends = result.dividends();
+        assertEquals(2, dividends.size());
+        assertTrue(dividends.containsKey("AAPL"));
+        assertTrue(dividends.containsKey("MSFT"));
+        assertEquals(1, dividends.get("AAPL").size());
+        assertEquals(1, dividends.get("MSFT").size());
+        assertEquals(new BigDecimal("0.24"), dividends.get("AAPL").get(0).getAmount());
+        assertEquals(new BigDecimal("0.75"), dividends.get("MSFT").get(0).getAmount());
         
         verify(positionRepository).findAllWithShares();
         verify(marketDataService).getDividends("AAPL", startDate, endDate);
@@ -86,14 +94,15 @@ class GetDividendsForPortfolioUseCaseTest {
         when(positionRepository.findAllWithShares()).thenReturn(Uni.createFrom().item(Collections.emptyList()));
 
         // When
-        Uni<Map<String, List<Dividend>>> uni = getDividendsUseCase.execute(startDate, endDate);
-        Map<String, List<Dividend>> result = uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+        Uni<PortfolioDividends> uni = getDividendsUseCase.execute(startDate, endDate);
+        PortfolioDividends result = uni.subscribe().withSubscriber(UniAssertSubscriber.create())
             .assertCompleted()
             .getItem();
 
         // Then
         assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertTrue(result.dividends().isEmpty());
+        assertTrue(result.isComplete());
         
         verify(positionRepository).findAllWithShares();
         verifyNoInteractions(marketDataService);
@@ -113,8 +122,8 @@ class GetDividendsForPortfolioUseCaseTest {
         when(positionRepository.findAllWithShares()).thenReturn(Uni.createFrom().failure(repositoryException));
 
         // When
-        Uni<Map<String, List<Dividend>>> uni = getDividendsUseCase.execute(startDate, endDate);
-        UniAssertSubscriber<Map<String, List<Dividend>>> subscriber = uni.subscribe().withSubscriber(UniAssertSubscriber.create());
+        Uni<PortfolioDividends> uni = getDividendsUseCase.execute(startDate, endDate);
+        UniAssertSubscriber<PortfolioDividends> subscriber = uni.subscribe().withSubscriber(UniAssertSubscriber.create());
 
         // Then
         ServiceException thrown = (ServiceException) subscriber.assertFailedWith(ServiceException.class).getFailure();
@@ -145,25 +154,113 @@ class GetDividendsForPortfolioUseCaseTest {
             .thenReturn(Uni.createFrom().failure(new RuntimeException("Market data error")));
 
         // When
-        Uni<Map<String, List<Dividend>>> uni = getDividendsUseCase.execute(startDate, endDate);
-        Map<String, List<Dividend>> result = uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+        Uni<PortfolioDividends> uni = getDividendsUseCase.execute(startDate, endDate);
+        PortfolioDividends result = uni.subscribe().withSubscriber(UniAssertSubscriber.create())
             .assertCompleted()
             .getItem();
 
-        // Then - Should not fail, but return empty list for failed ticker
+        // Then - Should not fail, but report the failed ticker
         assertNotNull(result);
-        assertEquals(2, result.size());
-        assertTrue(result.containsKey("AAPL"));
-        assertTrue(result.containsKey("FAIL"));
-        assertEquals(1, result.get("AAPL").size());
-        assertEquals(0, result.get("FAIL").size()); // Empty list for failed ticker
+        assertEquals(1, result.dividends().size());
+        assertEquals(1, result.dividends().get("AAPL").size());
+        assertFalse(result.dividends().containsKey("FAIL"));
+        assertEquals(List.of("FAIL"), result.failedTickers());
+        assertTrue(result.timedOutTickers().isEmpty());
+        assertFalse(result.isComplete());
         
         verify(positionRepository).findAllWithShares();
         verify(marketDataService).getDividends("AAPL", startDate, endDate);
         verify(marketDataService).getDividends("FAIL", startDate, endDate);
     }
 
+    @Test
+    void testExecuteReportsTickersPendingAtDeadlineAsTimedOut() {
+        // Given
+        LocalDate startDate = LocalDate.of(2023, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 12, 31);
+        getDividendsUseCase.deadline = Duration.ofMillis(200);
+
+        List<Position> positions = List.of(
+            createPosition("AAPL", new BigDecimal("100")),
+            createPosition("SLOW", new BigDecimal("50")));
+        Dividend aaplDividend = new Dividend("AAPL", "XNAS", "NASDAQ", LocalDate.of(2023, 5, 12), new BigDecimal("0.24"));
+
+        when(positionRepository.findAllWithShares()).thenReturn(Uni.createFrom().item(positions));
+        when(marketDataService.getDividends("AAPL", startDate, endDate))
+            .thenReturn(Uni.createFrom().item(List.of(aaplDividend)));
+        when(marketDataService.getDividends("SLOW", startDate, endDate))
+            .thenReturn(Uni.createFrom().nothing());
+
+        // When
+        PortfolioDividends result = getDividendsUseCase.execute(startDate, endDate)
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .awaitItem(Duration.ofSeconds(5))
+            .getItem();
+
+        // Then
+        assertEquals(List.of("AAPL"), List.copyOf(result.dividends().keySet()));
+        assertEquals(List.of("SLOW"), result.timedOutTickers());
+        assertTrue(result.failedTickers().isEmpty());
+    }
+
+    @Test
+    void testExecuteLimitsLookupsInFlight() {
+        // Given
+        LocalDate startDate = LocalDate.of(2023, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 12, 31);
+        getDividendsUseCase.concurrency = 2;
+        getDividendsUseCase.deadline = Duration.ofMillis(200);
+
+        List<Position> positions = List.of(
+            createPosition("AAPL", new BigDecimal("100")),
+            createPosition("MSFT", new BigDecimal("50")),
+            createPosition("KO", new BigDecimal("10")));
+
+        when(positionRepository.findAllWithShares()).thenReturn(Uni.createFrom().item(positions));
+        when(marketDataService.getDividends(anyString(), eq(startDate), eq(endDate)))
+            .thenReturn(Uni.createFrom().nothing());
 
+        // When
+        PortfolioDividends result = getDividendsUseCase.execute(startDate, endDate)
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .awaitItem(Duration.ofSeconds(5))
+            .getItem();
+
+        // Then - The third lookup never started while the first two were pending
+        assertEquals(List.of("AAPL", "MSFT", "KO"), result.timedOutTickers());
+        verify(marketDataService).getDividends("AAPL", startDate, endDate);
+        verify(marketDataService).getDividends("MSFT", startDate, endDate);
+        verify(marketDataService, never()).getDividends("KO", startDate, endDate);
+    }
+
+    @Test
+    void testStreamEmitsOneResultPerTicker() {
+        // Given
+        LocalDate startDate = LocalDate.of(2023, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 12, 31);
+
+        List<Position> positions = List.of(
+            createPosition("AAPL", new BigDecimal("100")),
+            createPosition("FAIL", new BigDecimal("50")));
+        Dividend aaplDividend = new Dividend("AAPL", "XNAS", "NASDAQ", LocalDate.of(2023, 5, 12), new BigDecimal("0.24"));
+
+        when(positionRepository.findAllWithShares()).thenReturn(Uni.createFrom().item(positions));
+        when(marketDataService.getDividends("AAPL", startDate, endDate))
+            .thenReturn(Uni.createFrom().item(List.of(aaplDividend)));
+        when(marketDataService.getDividends("FAIL", startDate, endDate))
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("Market data error")));
+
+        // When
+        List<TickerDividends> results = getDividendsUseCase.stream(startDate, endDate)
+            .subscribe().withSubscriber(AssertSubscriber.<TickerDividends>create(Long.MAX_VALUE))
+            .awaitCompletion(Duration.ofSeconds(5))
+            .getItems();
+
+        // Then
+        assertEquals(List.of(
+            TickerDividends.completed("AAPL", List.of(aaplDividend)),
+            TickerDividends.failed("FAIL")), results);
+    }
 
     private Position createPosition(String ticker, BigDecimal quantity) {
         Position position = new Position(ticker, Currency.USD);
@@ -0,0 +1,82 @@
+package com.portfolio.application.usecase.marketdata;
+
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import com.portfolio.domain.port.CacheInvalidator;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EvictCachedMarketDataUseCaseTest {
+    private CacheInvalidator cacheInvalidator;
+    private EvictCachedMarketDataUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        cacheInvalidator = mock(CacheInvalidator.class);
+        when(cacheInvalidator.cacheNames()).thenReturn(Set.of("stock-prices", "dividends"));
+        useCase = new EvictCachedMarketDataUseCase();
+        useCase.cacheInvalidator = cacheInvalidator;
+    }
+
+    @Test
+    void testEvictsNormalizedTickers() {
+        when(cacheInvalidator.evict(anyString(), anySet())).thenReturn(Uni.createFrom().voidItem());
+
+        useCase.execute("stock-prices", List.of(" aapl ", "MSFT"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        verify(cacheInvalidator).evict("stock-prices", Set.of("AAPL", "MSFT"));
+    }
+
+    @Test
+    void testEvictsWholeCacheWithoutTickers() {
+        when(cacheInvalidator.evict(anyString(), anySet())).thenReturn(Uni.createFrom().voidItem());
+
+        useCase.execute("dividends", null)
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        verify(cacheInvalidator).evict("dividends", Set.of());
+    }
+
+    @Test
+    void testRejectsUnknownCache() {
+        UniAssertSubscriber<Void> subscriber = useCase.execute("positions", List.of("AAPL"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        ServiceException thrown = (ServiceException) subscriber.assertFailedWith(ServiceException.class).getFailure();
+        assertEquals(Errors.EvictCache.INVALID_INPUT, thrown.getError());
+        verify(cacheInvalidator, never()).evict(anyString(), anySet());
+    }
+
+    @Test
+    void testRejectsBlankTickers() {
+        UniAssertSubscriber<Void> subscriber = useCase.execute("stock-prices", Arrays.asList(" ", null))
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        ServiceException thrown = (ServiceException) subscriber.assertFailedWith(ServiceException.class).getFailure();
+        assertEquals(Errors.EvictCache.INVALID_INPUT, thrown.getError());
+        assertEquals("Ticker cannot be null or empty", thrown.getMessage());
+        verify(cacheInvalidator, never()).evict(anyString(), anySet());
+    }
+
+    @Test
+    void testWrapsEvictionFailure() {
+        when(cacheInvalidator.evict(anyString(), anySet()))
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("Connection refused")));
+
+        UniAssertSubscriber<Void> subscriber = useCase.execute("stock-prices", List.of("AAPL"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        ServiceException thrown = (ServiceException) subscriber.assertFailedWith(ServiceException.class).getFailure();
+        assertEquals(Errors.EvictCache.PERSISTENCE_ERROR, thrown.getError());
+    }
+}
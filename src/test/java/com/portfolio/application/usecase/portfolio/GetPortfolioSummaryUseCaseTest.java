@@ -7,6 +7,7 @@ import com.portfolio.domain.model.Currency;
 import com.portfolio.domain.model.CurrentPosition;
 import com.portfolio.domain.model.Position;
 import com.portfolio.domain.model.PortfolioSummary;
+import com.portfolio.domain.port.PortfolioSummaryRepository;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +25,7 @@ import static org.mockito.Mockito.*;
 
 class GetPortfolioSummaryUseCaseTest {
     private GetPositionUseCase getPositionUseCase;
+    private PortfolioSummaryRepository portfolioSummaryRepository;
     private GetPortfolioSummaryUseCase portfolioSummaryUseCase;
 
     @BeforeEach
@@ -31,6 +33,8 @@ class GetPortfolioSummaryUseCaseTest {
         getPositionUseCase = mock(GetPositionUseCase.class);
         portfolioSummaryUseCase = new GetPortfolioSummaryUseCase();
         portfolioSummaryUseCase.getPositionUseCase = getPositionUseCase;
+        portfolioSummaryRepository = mock(PortfolioSummaryRepository.class);
+        portfolioSummaryUseCase.portfolioSummaryRepository = portfolioSummaryRepository;
     }
 
     @Test
@@ -240,6 +244,53 @@ class GetPortfolioSummaryUseCaseTest {
         verify(getPositionUseCase).getActivePositions();
     }
 
+    @Test
+    void testStoredPricingReadsPrecomputedSummary() {
+        // Given
+        PortfolioSummary stored = new PortfolioSummary(new BigDecimal("17550.00"), new BigDecimal("15000.00"),
+            new BigDecimal("2550.00"), new BigDecimal("17.000000"), 1, 1);
+        when(portfolioSummaryRepository.findStoredSummary()).thenReturn(Uni.createFrom().item(stored));
+
+        // When
+        PortfolioSummary summary = portfolioSummaryUseCase.getPortfolioSummary(GetPortfolioSummaryUseCase.Pricing.STORED)
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+        PortfolioSummary active = portfolioSummaryUseCase.getActiveSummary(GetPortfolioSummaryUseCase.Pricing.STORED)
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(stored, summary);
+        assertEquals(stored, active);
+        verify(portfolioSummaryRepository, times(2)).findStoredSummary();
+        verifyNoInteractions(getPositionUseCase);
+    }
+
+    @Test
+    void testStoredSummaryFailure() {
+        // Given
+        RuntimeException exception = new RuntimeException("View missing");
+        when(portfolioSummaryRepository.findStoredSummary()).thenReturn(Uni.createFrom().failure(exception));
+
+        // When
+        UniAssertSubscriber<PortfolioSummary> subscriber = portfolioSummaryUseCase.getStoredSummary()
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // Then
+        ServiceException thrown = (ServiceException) subscriber.assertFailedWith(ServiceException.class).getFailure();
+        assertEquals(Errors.GetPortfolioSummary.PERSISTENCE_ERROR, thrown.getError());
+        assertEquals(exception, thrown.getCause());
+    }
+
+    @Test
+    void testPricingFromString() {
+        assertEquals(GetPortfolioSummaryUseCase.Pricing.REAL_TIME, GetPortfolioSummaryUseCase.Pricing.fromString("real-time"));
+        assertEquals(GetPortfolioSummaryUseCase.Pricing.STORED, GetPortfolioSummaryUseCase.Pricing.fromString("Stored"));
+        assertThrows(IllegalArgumentException.class, () -> GetPortfolioSummaryUseCase.Pricing.fromString("cached"));
+    }
+
     private CurrentPosition createCurrentPosition(String ticker, BigDecimal currentPrice, boolean hasShares) {
         Position originalPosition = new Position();
         originalPosition.setId(UUID.randomUUID());
@@ -5,6 +5,7 @@ import com.portfolio.domain.exception.ServiceException;
 import com.portfolio.domain.model.Currency;
 import com.portfolio.domain.model.CurrentPosition;
 import com.portfolio.domain.model.Position;
+import com.portfolio.domain.model.PriceQuote;
 import com.portfolio.domain.port.MarketDataService;
 import com.portfolio.domain.port.PositionRepository;
 import io.smallrye.mutiny.Uni;
@@ -16,10 +17,14 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -38,6 +43,9 @@ class GetPositionUseCaseTest {
         useCase = new GetPositionUseCase();
         useCase.positionRepository = positionRepository;
         useCase.marketDataService = marketDataService;
+        useCase.enrichmentBatchSize = 50;
+        useCase.enrichmentConcurrency = 4;
+        useCase.enrichmentDeadline = Duration.ofSeconds(3);
     }
 
     @Test
@@ -48,7 +56,7 @@ class GetPositionUseCaseTest {
         BigDecimal realTimePrice = new BigDecimal("175.50");
         
         when(positionRepository.findById(id)).thenReturn(Uni.createFrom().item(position));
-        when(marketDataService.getCurrentPrice("AAPL")).thenReturn(Uni.createFrom().item(realTimePrice));
+        when(marketDataService.getCurrentQuote("AAPL")).thenReturn(Uni.createFrom().item(new PriceQuote(realTimePrice, LocalDateTime.now())));
 
         // When
         Uni<CurrentPosition> uni = useCase.getById(id);
@@ -62,7 +70,7 @@ class GetPositionUseCaseTest {
         assertEquals(position.getTicker(), result.getTicker());
         assertEquals(realTimePrice, result.getCurrentPrice());
         assertTrue(result.isCurrentPriceFresh());
-        verify(marketDataService).getCurrentPrice("AAPL");
+        verify(marketDataService).getCurrentQuote("AAPL");
     }
 
     @Test
@@ -73,7 +81,7 @@ class GetPositionUseCaseTest {
         RuntimeException marketDataException = new RuntimeException("Market data API error");
         
         when(positionRepository.findById(id)).thenReturn(Uni.createFrom().item(position));
-        when(marketDataService.getCurrentPrice("AAPL")).thenReturn(Uni.createFrom().failure(marketDataException));
+        when(marketDataService.getCurrentQuote("AAPL")).thenReturn(Uni.createFrom().failure(marketDataException));
 
         // When
         Uni<CurrentPosition> uni = useCase.getById(id);
@@ -87,7 +95,7 @@ class GetPositionUseCaseTest {
         assertEquals(position.getTicker(), result.getTicker());
         assertEquals(position.getCurrentPrice(), result.getCurrentPrice()); // Fallback to stored price
         assertFalse(result.isCurrentPriceFresh()); // Should use stored price timestamp
-        verify(marketDataService).getCurrentPrice("AAPL");
+        verify(marketDataService).getCurrentQuote("AAPL");
     }
 
     @Test
@@ -116,7 +124,7 @@ class GetPositionUseCaseTest {
         BigDecimal realTimePrice = new BigDecimal("300.25");
 
         when(positionRepository.findByTicker(ticker)).thenReturn(Uni.createFrom().item(position));
-        when(marketDataService.getCurrentPrice(ticker)).thenReturn(Uni.createFrom().item(realTimePrice));
+        when(marketDataService.getCurrentQuote(ticker)).thenReturn(Uni.createFrom().item(new PriceQuote(realTimePrice, LocalDateTime.now())));
 
         // When
         Uni<CurrentPosition> uni = useCase.getByTicker(ticker);
@@ -129,7 +137,7 @@ class GetPositionUseCaseTest {
         assertEquals(position.getTicker(), result.getTicker());
         assertEquals(realTimePrice, result.getCurrentPrice());
         assertTrue(result.isCurrentPriceFresh());
-        verify(marketDataService).getCurrentPrice(ticker);
+        verify(marketDataService).getCurrentQuote(ticker);
     }
 
     @Test
@@ -140,7 +148,7 @@ class GetPositionUseCaseTest {
         RuntimeException marketDataException = new RuntimeException("API rate limit exceeded");
         
         when(positionRepository.findByTicker(ticker)).thenReturn(Uni.createFrom().item(position));
-        when(marketDataService.getCurrentPrice(ticker)).thenReturn(Uni.createFrom().failure(marketDataException));
+        when(marketDataService.getCurrentQuote(ticker)).thenReturn(Uni.createFrom().failure(marketDataException));
 
         // When
         Uni<CurrentPosition> uni = useCase.getByTicker(ticker);
@@ -155,6 +163,28 @@ class GetPositionUseCaseTest {
         assertFalse(result.isCurrentPriceFresh());
     }
 
+    @Test
+    void testGetByTickerKeepsTimestampOfServedQuote() {
+        // Given
+        String ticker = "MSFT";
+        Position position = createTestPosition(ticker);
+        LocalDateTime quotedAt = LocalDateTime.now().minusMinutes(10);
+
+        when(positionRepository.findByTicker(ticker)).thenReturn(Uni.createFrom().item(position));
+        when(marketDataService.getCurrentQuote(ticker))
+            .thenReturn(Uni.createFrom().item(new PriceQuote(new BigDecimal("300.25"), quotedAt)));
+
+        // When
+        CurrentPosition result = useCase.getByTicker(ticker)
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(new BigDecimal("300.25"), result.getCurrentPrice());
+        assertEquals(quotedAt, result.getCurrentPriceTimestamp());
+    }
+
     @Test
     void testGetByTickerError() {
         // Given
@@ -181,8 +211,9 @@ class GetPositionUseCaseTest {
         List<Position> positions = List.of(position1, position2);
         
         when(positionRepository.findAll()).thenReturn(Uni.createFrom().item(positions));
-        when(marketDataService.getCurrentPrice("AAPL")).thenReturn(Uni.createFrom().item(new BigDecimal("175.50")));
-        when(marketDataService.getCurrentPrice("MSFT")).thenReturn(Uni.createFrom().item(new BigDecimal("300.25")));
+        when(marketDataService.getCurrentQuotes(Set.of("AAPL", "MSFT"))).thenReturn(Uni.createFrom().item(Map.of(
+            "AAPL", quote("175.50"),
+            "MSFT", quote("300.25"))));
 
         // When
         Uni<List<CurrentPosition>> uni = useCase.getAll();
@@ -197,8 +228,33 @@ class GetPositionUseCaseTest {
         assertEquals("MSFT", result.get(1).getTicker());
         assertEquals(new BigDecimal("175.50"), result.get(0).getCurrentPrice());
         assertEquals(new BigDecimal("300.25"), result.get(1).getCurrentPrice());
-        verify(marketDataService).getCurrentPrice("AAPL");
-        verify(marketDataService).getCurrentPrice("MSFT");
+        verify(marketDataService).getCurrentQuotes(Set.of("AAPL", "MSFT"));
+        verify(marketDataService, never()).getCurrentQuote(anyString());
+    }
+
+    @Test
+    void testGetAllWithBatchPriceFailure() {
+        // Given
+        Position position1 = createTestPosition("AAPL");
+        Position position2 = createTestPosition("MSFT");
+        List<Position> positions = List.of(position1, position2);
+
+        when(positionRepository.findAll()).thenReturn(Uni.createFrom().item(positions));
+        when(marketDataService.getCurrentQuotes(anySet()))
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("API error")));
+
+        // When
+        Uni<List<CurrentPosition>> uni = useCase.getAll();
+        List<CurrentPosition> result = uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(position1.getCurrentPrice(), result.get(0).getCurrentPrice());
+        assertEquals(position2.getCurrentPrice(), result.get(1).getCurrentPrice());
+        assertFalse(result.get(0).isCurrentPriceFresh());
+        assertFalse(result.get(1).isCurrentPriceFresh());
     }
 
     @Test
@@ -242,7 +298,8 @@ class GetPositionUseCaseTest {
         List<Position> positions = Collections.singletonList(position);
         
         when(positionRepository.findAllWithShares()).thenReturn(Uni.createFrom().item(positions));
-        when(marketDataService.getCurrentPrice("TSLA")).thenReturn(Uni.createFrom().item(new BigDecimal("800.75")));
+        when(marketDataService.getCurrentQuotes(Set.of("TSLA")))
+            .thenReturn(Uni.createFrom().item(Map.of("TSLA", quote("800.75"))));
 
         // When
         Uni<List<CurrentPosition>> uni = useCase.getActivePositions();
@@ -255,7 +312,7 @@ class GetPositionUseCaseTest {
         assertEquals(1, result.size());
         assertEquals("TSLA", result.get(0).getTicker());
         assertEquals(new BigDecimal("800.75"), result.get(0).getCurrentPrice());
-        verify(marketDataService).getCurrentPrice("TSLA");
+        verify(marketDataService).getCurrentQuotes(Set.of("TSLA"));
     }
 
     @Test
@@ -266,8 +323,9 @@ class GetPositionUseCaseTest {
         List<Position> positions = List.of(position1, position2);
         
         when(positionRepository.findAllWithShares()).thenReturn(Uni.createFrom().item(positions));
-        when(marketDataService.getCurrentPrice("AAPL")).thenReturn(Uni.createFrom().item(new BigDecimal("175.50")));
-        when(marketDataService.getCurrentPrice("MSFT")).thenReturn(Uni.createFrom().failure(new RuntimeException("API error")));
+        // MSFT could not be priced, so it is absent from the batch result
+        when(marketDataService.getCurrentQuotes(Set.of("AAPL", "MSFT")))
+            .thenReturn(Uni.createFrom().item(Map.of("AAPL", quote("175.50"))));
 
         // When
         Uni<List<CurrentPosition>> uni = useCase.getActivePositions();
@@ -288,6 +346,74 @@ class GetPositionUseCaseTest {
         assertFalse(result.get(1).isCurrentPriceFresh());
     }
 
+    @Test
+    void testGetActivePositionsEnrichesBatchesConcurrently() {
+        // Given
+        int positionCount = 20;
+        Duration latency = Duration.ofMillis(100);
+        useCase.enrichmentBatchSize = 1;
+        useCase.enrichmentConcurrency = 10;
+
+        List<Position> positions = new ArrayList<>();
+        for (int i = 0; i < positionCount; i++) {
+            positions.add(createTestPosition("T" + i));
+        }
+
+        when(positionRepository.findAllWithShares()).thenReturn(Uni.createFrom().item(positions));
+        when(marketDataService.getCurrentQuotes(anySet())).thenAnswer(invocation -> {
+            Set<String> batch = invocation.getArgument(0);
+            String ticker = batch.iterator().next();
+            BigDecimal price = new BigDecimal(ticker.substring(1)).add(BigDecimal.ONE);
+            return Uni.createFrom().item(Map.of(ticker, new PriceQuote(price, LocalDateTime.now()))).onItem().delayIt().by(latency);
+        });
+
+        // When
+        long start = System.nanoTime();
+        List<CurrentPosition> result = useCase.getActivePositions()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .awaitItem(Duration.ofSeconds(5))
+            .getItem();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Then
+        // Sequential enrichment would take positionCount * latency (2s); ten batches in flight need about 2 * latency
+        assertTrue(elapsed.compareTo(latency.multipliedBy(positionCount / 2)) < 0,
+            "Enrichment of %d positions took %d ms".formatted(positionCount, elapsed.toMillis()));
+        assertEquals(positionCount, result.size());
+        for (int i = 0; i < positionCount; i++) {
+            assertEquals("T" + i, result.get(i).getTicker());
+            assertEquals(new BigDecimal(i + 1), result.get(i).getCurrentPrice());
+        }
+    }
+
+    @Test
+    void testGetActivePositionsFallsBackToStoredPriceAfterDeadline() {
+        // Given
+        useCase.enrichmentBatchSize = 1;
+        useCase.enrichmentDeadline = Duration.ofMillis(200);
+        Position position1 = createTestPosition("AAPL");
+        Position position2 = createTestPosition("SLOW");
+
+        when(positionRepository.findAllWithShares()).thenReturn(Uni.createFrom().item(List.of(position1, position2)));
+        when(marketDataService.getCurrentQuotes(Set.of("AAPL")))
+            .thenReturn(Uni.createFrom().item(Map.of("AAPL", quote("175.50"))));
+        when(marketDataService.getCurrentQuotes(Set.of("SLOW")))
+            .thenReturn(Uni.createFrom().nothing());
+
+        // When
+        List<CurrentPosition> result = useCase.getActivePositions()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .awaitItem(Duration.ofSeconds(2))
+            .getItem();
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(new BigDecimal("175.50"), result.get(0).getCurrentPrice());
+        assertTrue(result.get(0).isCurrentPriceFresh());
+        assertEquals(position2.getCurrentPrice(), result.get(1).getCurrentPrice());
+        assertFalse(result.get(1).isCurrentPriceFresh());
+    }
+
     @Test
     void testGetActivePositionsError() {
         // Given
@@ -411,7 +537,7 @@ class GetPositionUseCaseTest {
         RuntimeException marketDataException = new RuntimeException("Service unavailable");
 
         when(positionRepository.findById(id)).thenReturn(Uni.createFrom().item(position));
-        when(marketDataService.getCurrentPrice(position.getTicker())).thenReturn(Uni.createFrom().failure(marketDataException));
+        when(marketDataService.getCurrentQuote(position.getTicker())).thenReturn(Uni.createFrom().failure(marketDataException));
 
         // When
         Uni<CurrentPosition> uni = useCase.getById(id);
@@ -424,7 +550,7 @@ class GetPositionUseCaseTest {
         assertEquals(expectedFallback, result.getCurrentPrice());
         assertFalse(result.isCurrentPriceFresh());
 
-        verify(marketDataService).getCurrentPrice(position.getTicker());
+        verify(marketDataService).getCurrentQuote(position.getTicker());
     }
 
     @Test
@@ -459,6 +585,10 @@ class GetPositionUseCaseTest {
         );
     }
 
+    private static PriceQuote quote(String price) {
+        return new PriceQuote(new BigDecimal(price), LocalDateTime.now());
+    }
+
     private static Position createTestPosition(String ticker) {
         Position position = new Position();
         position.setId(UUID.randomUUID());
@@ -0,0 +1,133 @@
+package com.portfolio.application.usecase.position;
+
+import com.portfolio.domain.event.DomainEvent;
+import com.portfolio.domain.event.TransactionCreatedEvent;
+import com.portfolio.domain.event.TransactionDeletedEvent;
+import com.portfolio.domain.event.TransactionUpdatedEvent;
+import com.portfolio.domain.model.Currency;
+import com.portfolio.domain.model.Position;
+import com.portfolio.domain.model.PositionDelta;
+import com.portfolio.domain.model.Transaction;
+import com.portfolio.domain.model.TransactionType;
+import com.portfolio.domain.port.PositionRepository;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PositionProjectorTest {
+    private PositionRepository positionRepository;
+    private PositionProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        positionRepository = mock(PositionRepository.class);
+        projector = new PositionProjector();
+        projector.positionRepository = positionRepository;
+    }
+
+    private static Transaction transaction(String ticker, TransactionType type, String quantity, String price,
+                                           LocalDate date) {
+        return new Transaction(UUID.randomUUID(), ticker, type, new BigDecimal(quantity), new BigDecimal(price),
+            new BigDecimal("1.00"), Currency.USD, date, null, true, false, BigDecimal.ONE, Currency.USD,
+            new ArrayList<>());
+    }
+
+    private void project(List<DomainEvent<?>> events) {
+        projector.project(events)
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted();
+    }
+
+    @Test
+    void testCreatedTransactionIsAppliedAsDelta() {
+        // Given
+        Transaction buy = transaction("AAPL", TransactionType.BUY, "10", "150.00", LocalDate.of(2024, 1, 15));
+        when(positionRepository.applyDelta(any())).thenReturn(Uni.createFrom().item(true));
+
+        // When
+        project(List.of(new TransactionCreatedEvent(buy)));
+
+        // Then
+        verify(positionRepository).applyDelta(PositionDelta.applying(buy));
+        verify(positionRepository, never()).recalculatePosition(anyString());
+    }
+
+    @Test
+    void testUpdateOfSameTickerIsFoldedIntoOneDelta() {
+        // Given
+        Transaction previous = transaction("AAPL", TransactionType.BUY, "10", "150.00", LocalDate.of(2024, 1, 15));
+        Transaction current = transaction("AAPL", TransactionType.BUY, "12", "150.00", LocalDate.of(2024, 1, 15));
+        when(positionRepository.applyDelta(any())).thenReturn(Uni.createFrom().item(true));
+
+        // When
+        project(List.of(new TransactionUpdatedEvent(current, previous)));
+
+        // Then
+        ArgumentCaptor<PositionDelta> delta = ArgumentCaptor.forClass(PositionDelta.class);
+        verify(positionRepository).applyDelta(delta.capture());
+        assertEquals("AAPL", delta.getValue().ticker());
+        assertEquals(0, new BigDecimal("2").compareTo(delta.getValue().quantity()));
+        assertEquals(0, new BigDecimal("300.00").compareTo(delta.getValue().costBasis()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(delta.getValue().commissions()));
+    }
+
+    @Test
+    void testUpdateMovingTickerTouchesBothPositions() {
+        // Given
+        Transaction previous = transaction("AAPL", TransactionType.BUY, "10", "150.00", LocalDate.of(2024, 1, 15));
+        Transaction current = transaction("MSFT", TransactionType.BUY, "10", "150.00", LocalDate.of(2024, 1, 15));
+        when(positionRepository.applyDelta(any())).thenReturn(Uni.createFrom().item(true));
+
+        // When
+        project(List.of(new TransactionUpdatedEvent(current, previous)));
+
+        // Then
+        verify(positionRepository).applyDelta(PositionDelta.reverting(previous));
+        verify(positionRepository).applyDelta(PositionDelta.applying(current));
+    }
+
+    @Test
+    void testRecalculatesWhenDeltaCannotBeApplied() {
+        // Given
+        Transaction deleted = transaction("AAPL", TransactionType.SELL, "5", "180.00", LocalDate.of(2024, 3, 1));
+        when(positionRepository.applyDelta(any())).thenReturn(Uni.createFrom().item(false));
+        when(positionRepository.recalculatePosition("AAPL")).thenReturn(Uni.createFrom().item(mock(Position.class)));
+
+        // When
+        project(List.of(new TransactionDeletedEvent(deleted)));
+
+        // Then
+        verify(positionRepository).applyDelta(PositionDelta.reverting(deleted));
+        verify(positionRepository).recalculatePosition("AAPL");
+    }
+
+    @Test
+    void testFailureIsPropagated() {
+        // Given
+        Transaction buy = transaction("AAPL", TransactionType.BUY, "10", "150.00", LocalDate.of(2024, 1, 15));
+        when(positionRepository.applyDelta(any())).thenReturn(Uni.createFrom().failure(new RuntimeException("Database error")));
+
+        // When / Then
+        projector.project(List.of(new TransactionCreatedEvent(buy)))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertFailedWith(RuntimeException.class, "Database error");
+    }
+
+    @Test
+    void testNoEventsTouchNothing() {
+        project(List.of());
+
+        verifyNoInteractions(positionRepository);
+    }
+}
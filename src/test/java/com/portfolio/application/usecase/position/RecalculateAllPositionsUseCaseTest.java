@@ -0,0 +1,229 @@
+package com.portfolio.application.usecase.position;
+
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import com.portfolio.domain.model.RecalculationJob;
+import com.portfolio.domain.port.JobRunner;
+import com.portfolio.domain.port.PositionRepository;
+import com.portfolio.domain.port.RecalculationJobRepository;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RecalculateAllPositionsUseCaseTest {
+    private static final UUID JOB_ID = UUID.randomUUID();
+
+    private PositionRepository positionRepository;
+    private RecalculationJobRepository jobRepository;
+    private JobRunner jobRunner;
+    private RecalculateAllPositionsUseCase useCase;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        positionRepository = mock(PositionRepository.class);
+        jobRepository = mock(RecalculationJobRepository.class);
+        jobRunner = mock(JobRunner.class);
+        useCase = new RecalculateAllPositionsUseCase();
+        useCase.positionRepository = positionRepository;
+        useCase.jobRepository = jobRepository;
+        useCase.jobRunner = jobRunner;
+        useCase.batchSize = 2;
+        useCase.concurrency = 2;
+
+        when(positionRepository.recalculatePositions(anyList())).thenReturn(Uni.createFrom().voidItem());
+        when(jobRepository.recordProgress(eq(JOB_ID), anyInt(), anyString())).thenAnswer(invocation ->
+            Uni.createFrom().item(job(RecalculationJob.Status.RUNNING, invocation.getArgument(1), invocation.getArgument(2))));
+        when(jobRepository.finish(eq(JOB_ID), any(), any())).thenAnswer(invocation ->
+            Uni.createFrom().item(job(invocation.getArgument(1), 0, null)));
+        when(jobRunner.runExclusively(eq(RecalculateAllPositionsUseCase.JOB + JOB_ID), any())).thenAnswer(invocation ->
+            ((Supplier<Uni<?>>) invocation.getArgument(1)).get().replaceWith(true));
+    }
+
+    private static RecalculationJob job(RecalculationJob.Status status, int processed, String lastTicker) {
+        return new RecalculationJob(JOB_ID, status, 5, processed, lastTicker, null,
+            LocalDateTime.now(), LocalDateTime.now(), null);
+    }
+
+    @Test
+    void testRunRecalculatesTickersInBatchesAndCommitsProgressPerRound() {
+        // Given
+        when(positionRepository.findTickersAfter(null, 4))
+            .thenReturn(Uni.createFrom().item(List.of("AAPL", "GOOGL", "KO", "MSFT")));
+        when(positionRepository.findTickersAfter("MSFT", 4))
+            .thenReturn(Uni.createFrom().item(List.of("TSLA")));
+        when(positionRepository.findTickersAfter("TSLA", 4))
+            .thenReturn(Uni.createFrom().item(List.of()));
+
+        // When
+        RecalculationJob result = useCase.run(job(RecalculationJob.Status.RUNNING, 0, null))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(RecalculationJob.Status.COMPLETED, result.status());
+        verify(positionRepository).recalculatePositions(List.of("AAPL", "GOOGL"));
+        verify(positionRepository).recalculatePositions(List.of("KO", "MSFT"));
+        verify(positionRepository).recalculatePositions(List.of("TSLA"));
+        verify(jobRepository).recordProgress(JOB_ID, 4, "MSFT");
+        verify(jobRepository).recordProgress(JOB_ID, 1, "TSLA");
+        verify(jobRepository).finish(JOB_ID, RecalculationJob.Status.COMPLETED, null);
+    }
+
+    @Test
+    void testRunResumesAfterLastCommittedTicker() {
+        // Given
+        when(positionRepository.findTickersAfter("KO", 4)).thenReturn(Uni.createFrom().item(List.of("MSFT")));
+        when(positionRepository.findTickersAfter("MSFT", 4)).thenReturn(Uni.createFrom().item(List.of()));
+
+        // When
+        useCase.run(job(RecalculationJob.Status.RUNNING, 3, "KO"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted();
+
+        // Then
+        verify(positionRepository, never()).findTickersAfter(isNull(), anyInt());
+        verify(positionRepository).recalculatePositions(List.of("MSFT"));
+    }
+
+    @Test
+    void testRunMarksJobFailedWithoutRecordingProgressOfFailedRound() {
+        // Given
+        when(positionRepository.findTickersAfter(null, 4)).thenReturn(Uni.createFrom().item(List.of("AAPL", "MSFT")));
+        when(positionRepository.recalculatePositions(List.of("AAPL", "MSFT")))
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("deadlock detected")));
+
+        // When
+        useCase.run(job(RecalculationJob.Status.RUNNING, 0, null))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertFailedWith(RuntimeException.class, "deadlock detected");
+
+        // Then
+        verify(jobRepository, never()).recordProgress(any(), anyInt(), any());
+        verify(jobRepository).finish(JOB_ID, RecalculationJob.Status.FAILED, "deadlock detected");
+    }
+
+    @Test
+    void testStartCreatesJobOverAllTickers() {
+        // Given
+        RecalculationJob created = job(RecalculationJob.Status.RUNNING, 0, null);
+        when(jobRepository.findRunning()).thenReturn(Uni.createFrom().nullItem());
+        when(positionRepository.countTickers()).thenReturn(Uni.createFrom().item(5L));
+        when(jobRepository.create(5)).thenReturn(Uni.createFrom().item(created));
+        when(jobRepository.findById(JOB_ID)).thenReturn(Uni.createFrom().item(created));
+        when(positionRepository.findTickersAfter(null, 4)).thenReturn(Uni.createFrom().item(List.of()));
+
+        // When
+        RecalculationJob result = useCase.start()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(created, result);
+        verify(jobRepository).finish(JOB_ID, RecalculationJob.Status.COMPLETED, null);
+    }
+
+    @Test
+    void testStartResumesInterruptedJobInsteadOfCreatingOne() {
+        // Given
+        RecalculationJob interrupted = job(RecalculationJob.Status.RUNNING, 3, "KO");
+        when(jobRepository.findRunning()).thenReturn(Uni.createFrom().item(interrupted));
+        when(jobRepository.findById(JOB_ID)).thenReturn(Uni.createFrom().item(interrupted));
+        when(positionRepository.findTickersAfter("KO", 4)).thenReturn(Uni.createFrom().item(List.of()));
+
+        // When
+        RecalculationJob result = useCase.start()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(interrupted, result);
+        verify(jobRepository, never()).create(anyInt());
+        verify(positionRepository).findTickersAfter("KO", 4);
+    }
+
+    @Test
+    void testStartLeavesJobDrivenByAnotherInstance() {
+        // Given
+        RecalculationJob running = job(RecalculationJob.Status.RUNNING, 3, "KO");
+        when(jobRepository.findRunning()).thenReturn(Uni.createFrom().item(running));
+        when(jobRunner.runExclusively(eq(RecalculateAllPositionsUseCase.JOB + JOB_ID), any()))
+            .thenReturn(Uni.createFrom().item(false));
+
+        // When
+        RecalculationJob result = useCase.start()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(running, result);
+        verify(jobRepository, never()).findById(any());
+        verifyNoInteractions(positionRepository);
+    }
+
+    @Test
+    void testDriveContinuesFromProgressCommittedBeforeLockWasTaken() {
+        // Given
+        when(jobRepository.findById(JOB_ID)).thenReturn(Uni.createFrom().item(job(RecalculationJob.Status.RUNNING, 4, "MSFT")));
+        when(positionRepository.findTickersAfter("MSFT", 4)).thenReturn(Uni.createFrom().item(List.of()));
+
+        // When
+        useCase.drive(JOB_ID).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        verify(positionRepository).findTickersAfter("MSFT", 4);
+        verify(jobRepository).finish(JOB_ID, RecalculationJob.Status.COMPLETED, null);
+    }
+
+    @Test
+    void testDriveSkipsJobCompletedBeforeLockWasTaken() {
+        // Given
+        when(jobRepository.findById(JOB_ID)).thenReturn(Uni.createFrom().item(job(RecalculationJob.Status.COMPLETED, 5, "TSLA")));
+
+        // When
+        useCase.drive(JOB_ID).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        verifyNoInteractions(positionRepository);
+        verify(jobRepository, never()).recordProgress(any(), anyInt(), any());
+        verify(jobRepository, never()).finish(any(), any(), any());
+    }
+
+    @Test
+    void testStartWrapsPersistenceFailure() {
+        // Given
+        when(jobRepository.findRunning()).thenReturn(Uni.createFrom().failure(new RuntimeException("DB down")));
+
+        // When
+        Throwable failure = useCase.start()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertFailedWith(ServiceException.class)
+            .getFailure();
+
+        // Then
+        assertEquals(Errors.RecalculateAllPositions.PERSISTENCE_ERROR, ((ServiceException) failure).getError());
+    }
+
+    @Test
+    void testGetJobRejectsNullId() {
+        Throwable failure = useCase.getJob(null)
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertFailedWith(ServiceException.class)
+            .getFailure();
+
+        assertEquals(Errors.RecalculateAllPositions.INVALID_INPUT, ((ServiceException) failure).getError());
+    }
+}
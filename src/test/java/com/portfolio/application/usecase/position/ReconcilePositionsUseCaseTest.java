@@ -0,0 +1,78 @@
+package com.portfolio.application.usecase.position;
+
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import com.portfolio.domain.port.PositionRepository;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReconcilePositionsUseCaseTest {
+    private PositionRepository positionRepository;
+    private ReconcilePositionsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        positionRepository = mock(PositionRepository.class);
+        useCase = new ReconcilePositionsUseCase();
+        useCase.positionRepository = positionRepository;
+        useCase.tolerance = new BigDecimal("0.01");
+    }
+
+    @Test
+    void testExecuteRecalculatesDriftedPositions() {
+        // Given
+        when(positionRepository.findDriftedTickers(new BigDecimal("0.01")))
+            .thenReturn(Uni.createFrom().item(List.of("AAPL", "KO")));
+        when(positionRepository.recalculatePositions(List.of("AAPL", "KO"))).thenReturn(Uni.createFrom().voidItem());
+
+        // When
+        List<String> drifted = useCase.execute()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(List.of("AAPL", "KO"), drifted);
+        verify(positionRepository).recalculatePositions(List.of("AAPL", "KO"));
+    }
+
+    @Test
+    void testExecuteWithoutDriftRecalculatesNothing() {
+        // Given
+        when(positionRepository.findDriftedTickers(any())).thenReturn(Uni.createFrom().item(List.of()));
+
+        // When
+        List<String> drifted = useCase.execute()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertTrue(drifted.isEmpty());
+        verify(positionRepository, never()).recalculatePositions(any());
+    }
+
+    @Test
+    void testExecuteFailure() {
+        // Given
+        when(positionRepository.findDriftedTickers(any()))
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("Database error")));
+
+        // When
+        Throwable failure = useCase.execute()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertFailedWith(ServiceException.class)
+            .getFailure();
+
+        // Then
+        assertEquals(Errors.ReconcilePositions.PERSISTENCE_ERROR, ((ServiceException) failure).getError());
+    }
+}
@@ -0,0 +1,97 @@
+package com.portfolio.application.usecase.position;
+
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import com.portfolio.domain.model.PriceQuote;
+import com.portfolio.domain.port.HeldTickerRepository;
+import com.portfolio.domain.port.MarketDataService;
+import com.portfolio.domain.port.PositionRepository;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RefreshMarketPricesUseCaseTest {
+    private HeldTickerRepository heldTickerRepository;
+    private MarketDataService marketDataService;
+    private PositionRepository positionRepository;
+    private RefreshMarketPricesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        heldTickerRepository = mock(HeldTickerRepository.class);
+        marketDataService = mock(MarketDataService.class);
+        positionRepository = mock(PositionRepository.class);
+        useCase = new RefreshMarketPricesUseCase();
+        useCase.heldTickerRepository = heldTickerRepository;
+        useCase.marketDataService = marketDataService;
+        useCase.positionRepository = positionRepository;
+    }
+
+    private static PriceQuote quote(String price) {
+        return new PriceQuote(new BigDecimal(price), LocalDateTime.now());
+    }
+
+    @Test
+    void testExecuteWritesRefreshedPricesOfHeldTickers() {
+        // Given
+        when(heldTickerRepository.findHeldTickers()).thenReturn(Uni.createFrom().item(Set.of("AAPL", "MSFT", "GONE")));
+        when(marketDataService.refreshQuotes(Set.of("AAPL", "MSFT", "GONE")))
+            .thenReturn(Uni.createFrom().item(Map.of("AAPL", quote("176.10"), "MSFT", quote("300.25"))));
+        when(positionRepository.updateMarketPrices(anyMap())).thenReturn(Uni.createFrom().item(Set.of("AAPL", "MSFT")));
+
+        // When
+        Integer updated = useCase.execute()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then - Unpriced tickers keep their stored price
+        assertEquals(2, updated);
+        verify(positionRepository).updateMarketPrices(
+            Map.of("AAPL", new BigDecimal("176.10"), "MSFT", new BigDecimal("300.25")));
+    }
+
+    @Test
+    void testExecuteWithoutHeldTickersSkipsMarketData() {
+        // Given
+        when(heldTickerRepository.findHeldTickers()).thenReturn(Uni.createFrom().item(Set.of()));
+
+        // When
+        Integer updated = useCase.execute()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(0, updated);
+        verifyNoInteractions(marketDataService, positionRepository);
+    }
+
+    @Test
+    void testExecuteWrapsPersistenceFailure() {
+        // Given
+        when(heldTickerRepository.findHeldTickers()).thenReturn(Uni.createFrom().item(Set.of("AAPL")));
+        when(marketDataService.refreshQuotes(Set.of("AAPL")))
+            .thenReturn(Uni.createFrom().item(Map.of("AAPL", quote("176.10"))));
+        when(positionRepository.updateMarketPrices(anyMap()))
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("DB down")));
+
+        // When
+        Throwable failure = useCase.execute()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertFailedWith(ServiceException.class)
+            .getFailure();
+
+        // Then
+        assertEquals(Errors.UpdateMarketData.PERSISTENCE_ERROR, ((ServiceException) failure).getError());
+    }
+}
@@ -0,0 +1,93 @@
+package com.portfolio.application.usecase.position;
+
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import com.portfolio.domain.model.MarketPriceUpdate;
+import com.portfolio.domain.port.PositionRepository;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UpdateMarketPricesUseCaseTest {
+    private PositionRepository positionRepository;
+    private UpdateMarketPricesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        positionRepository = mock(PositionRepository.class);
+        useCase = new UpdateMarketPricesUseCase();
+        useCase.positionRepository = positionRepository;
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidInputProvider")
+    void testInputValidation(Map<String, BigDecimal> prices, String expectedMessage) {
+        UniAssertSubscriber<MarketPriceUpdate> subscriber = useCase.execute(prices)
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        ServiceException thrown = (ServiceException) subscriber.assertFailedWith(ServiceException.class).getFailure();
+        assertEquals(Errors.UpdateMarketData.INVALID_INPUT, thrown.getError());
+        assertEquals(expectedMessage, thrown.getMessage());
+        verifyNoInteractions(positionRepository);
+    }
+
+    static Stream<Arguments> invalidInputProvider() {
+        Map<String, BigDecimal> nullPrice = new HashMap<>();
+        nullPrice.put("AAPL", null);
+        return Stream.of(
+            Arguments.of(null, "Prices cannot be null or empty"),
+            Arguments.of(Map.of(), "Prices cannot be null or empty"),
+            Arguments.of(Map.of("  ", BigDecimal.ONE), "Ticker cannot be null or empty"),
+            Arguments.of(nullPrice, "Price must be positive for ticker AAPL"),
+            Arguments.of(Map.of(" AAPL ", BigDecimal.ZERO), "Price must be positive for ticker AAPL")
+        );
+    }
+
+    @Test
+    void testExecuteReportsUpdatedAndUnknownTickers() {
+        when(positionRepository.updateMarketPrices(anyMap())).thenReturn(Uni.createFrom().item(Set.of("AAPL", "MSFT")));
+
+        MarketPriceUpdate result = useCase.execute(Map.of(
+                " AAPL", new BigDecimal("176.10"),
+                "MSFT", new BigDecimal("300.25"),
+                "ZZZZ", new BigDecimal("1.00")))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        assertEquals(List.of("AAPL", "MSFT"), result.updatedTickers());
+        assertEquals(List.of("ZZZZ"), result.unknownTickers());
+        verify(positionRepository).updateMarketPrices(Map.of(
+            "AAPL", new BigDecimal("176.10"),
+            "MSFT", new BigDecimal("300.25"),
+            "ZZZZ", new BigDecimal("1.00")));
+    }
+
+    @Test
+    void testExecutePersistenceError() {
+        when(positionRepository.updateMarketPrices(anyMap()))
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("DB error")));
+
+        Throwable failure = useCase.execute(Map.of("AAPL", new BigDecimal("176.10")))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertFailedWith(ServiceException.class)
+            .getFailure();
+
+        assertEquals(Errors.UpdateMarketData.PERSISTENCE_ERROR, ((ServiceException) failure).getError());
+        assertEquals("Error updating market prices for 1 tickers", failure.getMessage());
+    }
+}
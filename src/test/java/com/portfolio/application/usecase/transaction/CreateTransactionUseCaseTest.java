@@ -1,11 +1,15 @@
 package com.portfolio.application.usecase.transaction;
 
 import com.portfolio.application.command.CreateTransactionCommand;
+import com.portfolio.application.usecase.position.PositionProjector;
+import com.portfolio.domain.event.DomainEvent;
+import com.portfolio.domain.event.TransactionCreatedEvent;
 import com.portfolio.domain.exception.Errors;
 import com.portfolio.domain.exception.ServiceException;
 import com.portfolio.domain.model.Currency;
 import com.portfolio.domain.model.Transaction;
 import com.portfolio.domain.model.TransactionType;
+import com.portfolio.domain.port.OutboxRepository;
 import com.portfolio.domain.port.TransactionRepository;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
@@ -15,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,6 +28,8 @@ import static org.mockito.Mockito.*;
 
 class CreateTransactionUseCaseTest {
     private TransactionRepository transactionRepository;
+    private PositionProjector positionProjector;
+    private OutboxRepository outboxRepository;
     private CreateTransactionUseCase useCase;
 
     @BeforeEach
@@ -30,6 +37,12 @@ class CreateTransactionUseCaseTest {
         transactionRepository = mock(TransactionRepository.class);
         useCase = new CreateTransactionUseCase();
         useCase.transactionRepository = transactionRepository;
+        positionProjector = mock(PositionProjector.class);
+        when(positionProjector.project(any())).thenReturn(Uni.createFrom().voidItem());
+        useCase.positionProjector = positionProjector;
+        outboxRepository = mock(OutboxRepository.class);
+        when(outboxRepository.append(any(), any())).thenReturn(Uni.createFrom().voidItem());
+        useCase.outboxRepository = outboxRepository;
     }
 
     @Test
@@ -101,6 +114,66 @@ class CreateTransactionUseCaseTest {
         verify(transactionRepository).save(any(Transaction.class));
     }
 
+    @Test
+    void testExecuteProjectsCreatedEventOntoPosition() {
+        // Given
+        CreateTransactionCommand command = createValidCommand();
+        when(transactionRepository.save(any(Transaction.class)))
+            .thenAnswer(invocation -> Uni.createFrom().item(invocation.getArgument(0)));
+
+        // When
+        Transaction saved = useCase.execute(command)
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        verify(positionProjector).project(argThat((List<DomainEvent<?>> events) -> events.size() == 1
+            && events.get(0) instanceof TransactionCreatedEvent event
+            && event.getData() == saved));
+        assertTrue(saved.getDomainEvents().isEmpty());
+        verify(outboxRepository).append(eq(saved.getId()), argThat(events -> events.size() == 1
+            && events.get(0) instanceof TransactionCreatedEvent));
+    }
+
+    @Test
+    void testExecuteOutboxFailure() {
+        // Given
+        CreateTransactionCommand command = createValidCommand();
+        when(transactionRepository.save(any(Transaction.class)))
+            .thenAnswer(invocation -> Uni.createFrom().item(invocation.getArgument(0)));
+        when(outboxRepository.append(any(), any()))
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("Database error")));
+
+        // When
+        var failure = useCase.execute(command)
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertFailedWith(ServiceException.class)
+            .getFailure();
+
+        // Then
+        assertEquals(Errors.CreateTransaction.PERSISTENCE_ERROR, ((ServiceException) failure).getError());
+    }
+
+    @Test
+    void testExecuteProjectionFailure() {
+        // Given
+        CreateTransactionCommand command = createValidCommand();
+        when(transactionRepository.save(any(Transaction.class)))
+            .thenAnswer(invocation -> Uni.createFrom().item(invocation.getArgument(0)));
+        when(positionProjector.project(any()))
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("Database error")));
+
+        // When
+        var failure = useCase.execute(command)
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertFailedWith(ServiceException.class)
+            .getFailure();
+
+        // Then
+        assertEquals(Errors.CreateTransaction.PERSISTENCE_ERROR, ((ServiceException) failure).getError());
+    }
+
     @Test
     void testExecuteWithComplexTransaction() {
         // Given
@@ -1,10 +1,14 @@
 package com.portfolio.application.usecase.transaction;
 
+import com.portfolio.application.usecase.position.PositionProjector;
+import com.portfolio.domain.event.DomainEvent;
+import com.portfolio.domain.event.TransactionDeletedEvent;
 import com.portfolio.domain.exception.Errors;
 import com.portfolio.domain.exception.ServiceException;
 import com.portfolio.domain.model.Currency;
 import com.portfolio.domain.model.Transaction;
 import com.portfolio.domain.model.TransactionType;
+import com.portfolio.domain.port.OutboxRepository;
 import com.portfolio.domain.port.TransactionRepository;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
@@ -16,7 +20,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -25,6 +30,8 @@ import static org.mockito.Mockito.*;
 
 class DeleteTransactionUseCaseTest {
     private TransactionRepository transactionRepository;
+    private PositionProjector positionProjector;
+    private OutboxRepository outboxRepository;
     private DeleteTransactionUseCase useCase;
 
     @BeforeEach
@@ -32,6 +39,12 @@ class DeleteTransactionUseCaseTest {
         transactionRepository = mock(TransactionRepository.class);
         useCase = new DeleteTransactionUseCase();
         useCase.transactionRepository = transactionRepository;
+        positionProjector = mock(PositionProjector.class);
+        when(positionProjector.project(any())).thenReturn(Uni.createFrom().voidItem());
+        useCase.positionProjector = positionProjector;
+        outboxRepository = mock(OutboxRepository.class);
+        when(outboxRepository.append(any(), any())).thenReturn(Uni.createFrom().voidItem());
+        useCase.outboxRepository = outboxRepository;
     }
 
     @Test
@@ -57,6 +70,12 @@ class DeleteTransactionUseCaseTest {
         assertTrue(deleted);
         verify(transactionRepository).findById(transactionId);
         verify(transactionRepository).deleteById(transactionId);
+        verify(positionProjector).project(argThat((List<DomainEvent<?>> events) -> events.size() == 1
+            && events.get(0) instanceof TransactionDeletedEvent event
+            && event.getData() == existingTransaction));
+        assertTrue(existingTransaction.getDomainEvents().isEmpty());
+        verify(outboxRepository).append(eq(transactionId), argThat(events -> events.size() == 1
+            && events.get(0) instanceof TransactionDeletedEvent));
     }
 
     @Test
@@ -104,6 +123,7 @@ class DeleteTransactionUseCaseTest {
         assertFalse(deleted);
         verify(transactionRepository).findById(transactionId);
         verify(transactionRepository).deleteById(transactionId);
+        verifyNoInteractions(positionProjector, outboxRepository);
     }
 
     @Test
@@ -203,7 +223,7 @@ class DeleteTransactionUseCaseTest {
             false,
             BigDecimal.ONE,
             null,
-            Collections.emptyList()
+            new ArrayList<>()
         );
     }
 
@@ -222,7 +242,7 @@ class DeleteTransactionUseCaseTest {
             false,
             BigDecimal.ONE,
             null,
-            Collections.emptyList()
+            new ArrayList<>()
         );
     }
 }
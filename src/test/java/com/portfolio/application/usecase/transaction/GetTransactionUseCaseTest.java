@@ -1,7 +1,11 @@
 package com.portfolio.application.usecase.transaction;
 
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
 import com.portfolio.domain.model.Currency;
 import com.portfolio.domain.model.Transaction;
+import com.portfolio.domain.model.TransactionCursor;
+import com.portfolio.domain.model.TransactionPage;
 import com.portfolio.domain.model.TransactionType;
 import com.portfolio.domain.port.TransactionRepository;
 import io.smallrye.mutiny.Multi;
@@ -33,6 +37,8 @@ class GetTransactionUseCaseTest {
         transactionRepository = mock(TransactionRepository.class);
         useCase = new GetTransactionUseCase();
         useCase.transactionRepository = transactionRepository;
+        useCase.defaultPageSize = 100;
+        useCase.maxPageSize = 1000;
     }
 
     @Test
@@ -41,7 +47,7 @@ class GetTransactionUseCaseTest {
         UUID transactionId = UUID.randomUUID();
         Transaction transaction = createTransaction(transactionId, "AAPL");
 
-        when(transactionRepository.findById(transactionId))
+        when(transactionRepository.findByIdForRead(transactionId))
             .thenReturn(Uni.createFrom().item(transaction));
 
         // When
@@ -54,7 +60,7 @@ class GetTransactionUseCaseTest {
             .getItem();
 
         assertEquals(transaction, actualTransaction);
-        verify(transactionRepository).findById(transactionId);
+        verify(transactionRepository).findByIdForRead(transactionId);
     }
 
     @Test
@@ -62,7 +68,7 @@ class GetTransactionUseCaseTest {
         // Given
         UUID transactionId = UUID.randomUUID();
 
-        when(transactionRepository.findById(transactionId))
+        when(transactionRepository.findByIdForRead(transactionId))
             .thenReturn(Uni.createFrom().nullItem());
 
         // When
@@ -75,7 +81,7 @@ class GetTransactionUseCaseTest {
             .getItem();
 
         assertNull(actualTransaction);
-        verify(transactionRepository).findById(transactionId);
+        verify(transactionRepository).findByIdForRead(transactionId);
     }
 
     @Test
@@ -84,7 +90,7 @@ class GetTransactionUseCaseTest {
         UUID transactionId = UUID.randomUUID();
         RuntimeException exception = new RuntimeException("Database error");
 
-        when(transactionRepository.findById(transactionId))
+        when(transactionRepository.findByIdForRead(transactionId))
             .thenReturn(Uni.createFrom().failure(exception));
 
         // When
@@ -95,7 +101,7 @@ class GetTransactionUseCaseTest {
             .withSubscriber(UniAssertSubscriber.create())
             .assertFailedWith(RuntimeException.class);
 
-        verify(transactionRepository).findById(transactionId);
+        verify(transactionRepository).findByIdForRead(transactionId);
     }
 
     @Test
@@ -173,8 +179,8 @@ class GetTransactionUseCaseTest {
             createInactiveTransaction(UUID.randomUUID(), "MSFT")
         );
 
-        when(transactionRepository.findAll())
-            .thenReturn(Uni.createFrom().item(allTransactions));
+        when(transactionRepository.streamAll())
+            .thenReturn(Multi.createFrom().iterable(allTransactions));
 
         // When
         Multi<Transaction> result = useCase.getAll();
@@ -187,7 +193,7 @@ class GetTransactionUseCaseTest {
 
         assertEquals(2, actualTransactions.size());
         assertEquals(allTransactions, actualTransactions);
-        verify(transactionRepository).findAll();
+        verify(transactionRepository).streamAll();
     }
 
     @Test
@@ -436,6 +442,53 @@ class GetTransactionUseCaseTest {
         );
     }
 
+    @Test
+    void testSearchPageDecodesTokenAndCapsLimit() {
+        // Given
+        TransactionCursor after = new TransactionCursor(LocalDate.of(2024, 1, 15), UUID.randomUUID());
+        TransactionPage page = new TransactionPage(List.of(createTransaction(UUID.randomUUID(), "AAPL")), null);
+        when(transactionRepository.searchPage("AAPL", TransactionType.BUY, null, null, after, 1000))
+            .thenReturn(Uni.createFrom().item(page));
+
+        // When
+        TransactionPage result = useCase.searchPage("AAPL", TransactionType.BUY, null, null, after.encode(), 5000)
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(page, result);
+        verify(transactionRepository).searchPage("AAPL", TransactionType.BUY, null, null, after, 1000);
+    }
+
+    @Test
+    void testFirstPagesUseDefaultSize() {
+        // Given
+        TransactionPage page = new TransactionPage(Collections.emptyList(), null);
+        when(transactionRepository.searchPage(any(), any(), any(), any(), any(), anyInt()))
+            .thenReturn(Uni.createFrom().item(page));
+
+        // When
+        useCase.getAllPage(null, null).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+        useCase.getByTickerPage("MSFT", "", 0).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        verify(transactionRepository).searchPage(null, null, null, null, null, 100);
+        verify(transactionRepository).searchPage("MSFT", null, null, null, null, 100);
+    }
+
+    @Test
+    void testSearchPageRejectsInvalidToken() {
+        // When
+        UniAssertSubscriber<TransactionPage> subscriber = useCase.getAllPage("not-a-token", 10)
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // Then
+        ServiceException thrown = (ServiceException) subscriber.assertFailedWith(ServiceException.class).getFailure();
+        assertEquals(Errors.GetTransaction.INVALID_INPUT, thrown.getError());
+        verifyNoInteractions(transactionRepository);
+    }
+
     private Transaction createTransaction(UUID id, String ticker) {
         return new Transaction(
             id,
@@ -1,11 +1,15 @@
 package com.portfolio.application.usecase.transaction;
 
 import com.portfolio.application.command.UpdateTransactionCommand;
+import com.portfolio.application.usecase.position.PositionProjector;
+import com.portfolio.domain.event.DomainEvent;
+import com.portfolio.domain.event.TransactionUpdatedEvent;
 import com.portfolio.domain.exception.Errors;
 import com.portfolio.domain.exception.ServiceException;
 import com.portfolio.domain.model.Currency;
 import com.portfolio.domain.model.Transaction;
 import com.portfolio.domain.model.TransactionType;
+import com.portfolio.domain.port.OutboxRepository;
 import com.portfolio.domain.port.TransactionRepository;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
@@ -19,6 +23,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -28,6 +33,8 @@ import static org.mockito.Mockito.*;
 
 class UpdateTransactionUseCaseTest {
     private TransactionRepository transactionRepository;
+    private PositionProjector positionProjector;
+    private OutboxRepository outboxRepository;
     private UpdateTransactionUseCase useCase;
 
     @BeforeEach
@@ -35,6 +42,12 @@ class UpdateTransactionUseCaseTest {
         transactionRepository = mock(TransactionRepository.class);
         useCase = new UpdateTransactionUseCase();
         useCase.transactionRepository = transactionRepository;
+        positionProjector = mock(PositionProjector.class);
+        when(positionProjector.project(any())).thenReturn(Uni.createFrom().voidItem());
+        useCase.positionProjector = positionProjector;
+        outboxRepository = mock(OutboxRepository.class);
+        when(outboxRepository.append(any(), any())).thenReturn(Uni.createFrom().voidItem());
+        useCase.outboxRepository = outboxRepository;
     }
 
     @Test
@@ -131,6 +144,12 @@ class UpdateTransactionUseCaseTest {
         assertEquals(existingTransaction.getTransactionType(), actualTransaction.getTransactionType());
         assertEquals(existingTransaction.getQuantity(), actualTransaction.getQuantity());
         assertEquals(existingTransaction.getPrice(), actualTransaction.getPrice());
+        verify(positionProjector).project(argThat((List<DomainEvent<?>> events) -> events.size() == 1
+            && events.get(0) instanceof TransactionUpdatedEvent event
+            && event.getData() == actualTransaction
+            && "AAPL".equals(event.getPrevious().getTicker())));
+        verify(outboxRepository).append(eq(transactionId), argThat(events -> events.size() == 1
+            && events.get(0) instanceof TransactionUpdatedEvent));
     }
 
     @ParameterizedTest
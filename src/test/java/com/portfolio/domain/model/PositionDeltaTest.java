@@ -0,0 +1,136 @@
+package com.portfolio.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionDeltaTest {
+
+    private static Transaction transaction(TransactionType type, String quantity, String price, String fees,
+                                           LocalDate date, Currency currency) {
+        return new Transaction(UUID.randomUUID(), "AAPL", type, new BigDecimal(quantity), new BigDecimal(price),
+            fees != null ? new BigDecimal(fees) : null, currency, date, null, true, false, BigDecimal.ONE, currency,
+            new ArrayList<>());
+    }
+
+    private static void assertAmount(String expected, BigDecimal actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo(actual), "expected " + expected + " but was " + actual);
+    }
+
+    @Test
+    void testBuyAddsSharesCostAndPurchaseDate() {
+        Transaction buy = transaction(TransactionType.BUY, "10", "150.00", "9.99", LocalDate.of(2024, 1, 15), Currency.USD);
+
+        PositionDelta delta = PositionDelta.applying(buy);
+
+        assertAmount("10", delta.quantity());
+        assertAmount("10", delta.boughtQuantity());
+        assertAmount("1509.99", delta.boughtCost());
+        assertAmount("1509.99", delta.costBasis());
+        assertAmount("9.99", delta.commissions());
+        assertEquals(LocalDate.of(2024, 1, 15), delta.lastTransactionDate());
+        assertEquals(LocalDate.of(2024, 1, 15), delta.firstPurchaseDate());
+        assertEquals(Currency.USD, delta.purchaseCurrency());
+        assertNull(delta.removedTransactionDate());
+        assertNull(delta.removedPurchaseDate());
+    }
+
+    @Test
+    void testSellRemovesSharesAndCost() {
+        Transaction sell = transaction(TransactionType.SELL, "4", "180.00", null, LocalDate.of(2024, 3, 1), Currency.USD);
+
+        PositionDelta delta = PositionDelta.applying(sell);
+
+        assertAmount("-4", delta.quantity());
+        assertAmount("0", delta.boughtQuantity());
+        assertAmount("0", delta.boughtCost());
+        assertAmount("-720.00", delta.costBasis());
+        assertAmount("0", delta.commissions());
+        assertEquals(LocalDate.of(2024, 3, 1), delta.lastTransactionDate());
+        assertNull(delta.firstPurchaseDate());
+        assertNull(delta.purchaseCurrency());
+    }
+
+    @Test
+    void testRevertingNegatesAmountsAndRemovesDates() {
+        Transaction buy = transaction(TransactionType.BUY, "10", "150.00", "9.99", LocalDate.of(2024, 1, 15), Currency.USD);
+
+        PositionDelta delta = PositionDelta.reverting(buy);
+
+        assertAmount("-10", delta.quantity());
+        assertAmount("-10", delta.boughtQuantity());
+        assertAmount("-1509.99", delta.boughtCost());
+        assertAmount("-1509.99", delta.costBasis());
+        assertAmount("-9.99", delta.commissions());
+        assertNull(delta.lastTransactionDate());
+        assertNull(delta.firstPurchaseDate());
+        assertEquals(LocalDate.of(2024, 1, 15), delta.removedTransactionDate());
+        assertEquals(LocalDate.of(2024, 1, 15), delta.removedPurchaseDate());
+    }
+
+    @Test
+    void testPlusSumsAmountsAndKeepsEarliestPurchase() {
+        PositionDelta first = PositionDelta.applying(
+            transaction(TransactionType.BUY, "10", "150.00", "1.00", LocalDate.of(2024, 2, 1), Currency.USD));
+        PositionDelta second = PositionDelta.applying(
+            transaction(TransactionType.BUY, "5", "140.00", "1.00", LocalDate.of(2024, 1, 1), Currency.EUR));
+
+        PositionDelta combined = first.plus(second);
+
+        assertAmount("15", combined.quantity());
+        assertAmount("2202.00", combined.costBasis());
+        assertAmount("2.00", combined.commissions());
+        assertEquals(LocalDate.of(2024, 2, 1), combined.lastTransactionDate());
+        assertEquals(LocalDate.of(2024, 1, 1), combined.firstPurchaseDate());
+        assertEquals(Currency.EUR, combined.purchaseCurrency());
+    }
+
+    @Test
+    void testUpdateOfUnchangedAmountsCancelsOut() {
+        Transaction previous = transaction(TransactionType.BUY, "10", "150.00", "1.00", LocalDate.of(2024, 1, 15), Currency.USD);
+        Transaction current = transaction(TransactionType.BUY, "10", "150.00", "1.00", LocalDate.of(2024, 1, 20), Currency.USD);
+
+        PositionDelta delta = PositionDelta.reverting(previous).plus(PositionDelta.applying(current));
+
+        assertAmount("0", delta.quantity());
+        assertAmount("0", delta.costBasis());
+        assertEquals(LocalDate.of(2024, 1, 20), delta.lastTransactionDate());
+        assertEquals(LocalDate.of(2024, 1, 15), delta.removedTransactionDate());
+        assertEquals(LocalDate.of(2024, 1, 15), delta.removedPurchaseDate());
+    }
+
+    @Test
+    void testTracksLatestFractionalTransaction() {
+        Transaction earlier = new Transaction(UUID.randomUUID(), "AAPL", TransactionType.BUY, new BigDecimal("0.5"),
+            new BigDecimal("150.00"), null, Currency.USD, LocalDate.of(2024, 1, 15), null, true, true,
+            new BigDecimal("0.5"), Currency.USD, new ArrayList<>());
+        Transaction later = new Transaction(UUID.randomUUID(), "AAPL", TransactionType.BUY, new BigDecimal("0.25"),
+            new BigDecimal("160.00"), null, Currency.USD, LocalDate.of(2024, 2, 1), null, true, true,
+            new BigDecimal("0.25"), Currency.USD, new ArrayList<>());
+
+        PositionDelta combined = PositionDelta.applying(later).plus(PositionDelta.applying(earlier));
+        PositionDelta reverted = PositionDelta.reverting(later);
+
+        assertEquals(new BigDecimal("0.25"), combined.fractionalMultiplier());
+        assertEquals(LocalDate.of(2024, 2, 1), combined.fractionalDate());
+        assertNull(reverted.fractionalDate());
+        assertEquals(LocalDate.of(2024, 2, 1), reverted.removedFractionalDate());
+        assertNull(PositionDelta.applying(
+            transaction(TransactionType.BUY, "10", "150.00", null, LocalDate.of(2024, 1, 15), Currency.USD)).fractionalDate());
+    }
+
+    @Test
+    void testPlusRejectsDifferentTickers() {
+        PositionDelta apple = PositionDelta.applying(
+            transaction(TransactionType.BUY, "10", "150.00", "1.00", LocalDate.of(2024, 1, 15), Currency.USD));
+        PositionDelta other = new PositionDelta("MSFT", BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE,
+            BigDecimal.ZERO, null, null, null, null, null, null, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> apple.plus(other));
+    }
+}
@@ -0,0 +1,34 @@
+package com.portfolio.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionCursorTest {
+
+    @Test
+    void testEncodedCursorDecodesToItself() {
+        TransactionCursor cursor = new TransactionCursor(LocalDate.of(2024, 1, 15), UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertEquals(cursor, TransactionCursor.decode(token));
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), "token is not URL-safe: " + token);
+    }
+
+    @Test
+    void testMissingTokenStartsAtFirstPage() {
+        assertNull(TransactionCursor.decode(null));
+        assertNull(TransactionCursor.decode(" "));
+    }
+
+    @Test
+    void testInvalidTokensAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> TransactionCursor.decode("not a token"));
+        assertThrows(IllegalArgumentException.class, () -> TransactionCursor.decode("bm8tc2VwYXJhdG9y"));
+        assertThrows(IllegalArgumentException.class, () -> TransactionCursor.decode("MjAyNC0xMy0wMXx4"));
+    }
+}
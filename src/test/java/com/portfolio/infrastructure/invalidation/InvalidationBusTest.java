@@ -0,0 +1,183 @@
+package com.portfolio.infrastructure.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.infrastructure.marketdata.history.DividendHistoryStore;
+import com.portfolio.infrastructure.persistence.readmodel.PositionReadModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.cache.Cache;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import io.vertx.pgclient.PgConnectOptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InvalidationBusTest {
+    private static final String OTHER_INSTANCE = "other-instance";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Pool pool;
+    private PreparedQuery<RowSet<Row>> preparedQuery;
+    private Cache priceCache;
+    private Cache invalidTickerCache;
+    private DividendHistoryStore dividendHistory;
+    private PositionReadModel positionReadModel;
+    private SimpleMeterRegistry meterRegistry;
+    private InvalidationBus bus;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        pool = mock(Pool.class);
+        preparedQuery = mock(PreparedQuery.class);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(mock(RowSet.class)));
+        priceCache = mock(Cache.class);
+        invalidTickerCache = mock(Cache.class);
+        for (Cache cache : List.of(priceCache, invalidTickerCache)) {
+            when(cache.invalidate(any())).thenReturn(Uni.createFrom().voidItem());
+            when(cache.invalidateAll()).thenReturn(Uni.createFrom().voidItem());
+        }
+        dividendHistory = mock(DividendHistoryStore.class);
+        positionReadModel = mock(PositionReadModel.class);
+        meterRegistry = new SimpleMeterRegistry();
+        bus = bus(true);
+    }
+
+    private InvalidationBus bus(boolean enabled) {
+        return new InvalidationBus(mock(Vertx.class), pool, objectMapper, priceCache, invalidTickerCache,
+            dividendHistory, positionReadModel, enabled, "portfolio_invalidation", Duration.ofSeconds(5),
+            new PgConnectOptions(), meterRegistry);
+    }
+
+    private String message(String origin, InvalidationMessage.Type type, String cache, List<String> keys) throws Exception {
+        return objectMapper.writeValueAsString(new InvalidationMessage(origin, type, cache, keys));
+    }
+
+    @Test
+    void testPayloadsAreSplitToStayBelowNotifyLimit() throws Exception {
+        // Given
+        List<String> tickers = IntStream.range(0, InvalidationBus.MAX_KEYS_PER_MESSAGE + 1)
+            .mapToObj(i -> "T%04d".formatted(i))
+            .toList();
+
+        // When
+        List<String> payloads = bus.payloads(InvalidationMessage.Type.POSITIONS_CHANGED, null, tickers);
+
+        // Then
+        assertEquals(2, payloads.size());
+        InvalidationMessage first = objectMapper.readValue(payloads.get(0), InvalidationMessage.class);
+        InvalidationMessage second = objectMapper.readValue(payloads.get(1), InvalidationMessage.class);
+        assertEquals(bus.instanceId, first.origin());
+        assertEquals(InvalidationMessage.Type.POSITIONS_CHANGED, first.type());
+        assertEquals(InvalidationBus.MAX_KEYS_PER_MESSAGE, first.keys().size());
+        assertEquals(List.of("T0200"), second.keys());
+        assertTrue(payloads.stream().allMatch(payload -> payload.length() < 8000));
+    }
+
+    @Test
+    void testNoPayloadWithoutTickersOrWhenDisabled() {
+        assertTrue(bus.payloads(InvalidationMessage.Type.PRICES_UPDATED, null, Set.of()).isEmpty());
+        assertTrue(bus(false).payloads(InvalidationMessage.Type.PRICES_UPDATED, null, Set.of("AAPL")).isEmpty());
+        assertEquals(1, bus.payloads(InvalidationMessage.Type.CACHE_EVICTED, "dividends", Set.of()).size());
+    }
+
+    @Test
+    void testPublishNotifiesChannel() throws Exception {
+        // When
+        bus.publish(InvalidationMessage.Type.PRICES_UPDATED, null, Set.of("AAPL"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        verify(pool).preparedQuery(InvalidationBus.NOTIFY_SQL);
+        ArgumentCaptor<Tuple> parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(preparedQuery).execute(parameters.capture());
+        assertEquals("portfolio_invalidation", parameters.getValue().getString(0));
+        InvalidationMessage sent = objectMapper.readValue(parameters.getValue().getString(1), InvalidationMessage.class);
+        assertEquals(InvalidationMessage.Type.PRICES_UPDATED, sent.type());
+        assertEquals(List.of("AAPL"), sent.keys());
+        assertEquals(1.0, meterRegistry.get("invalidation.messages").tag("direction", "published").counter().count());
+    }
+
+    @Test
+    void testPublishFailureIsOnlyLogged() {
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().failure(new RuntimeException("Connection refused")));
+
+        bus.publish(InvalidationMessage.Type.POSITIONS_CHANGED, null, Set.of("AAPL"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+    }
+
+    @Test
+    void testPriceUpdateOfOtherInstanceEvictsPricesAndReloadsPositions() throws Exception {
+        // When
+        bus.onNotification(message(OTHER_INSTANCE, InvalidationMessage.Type.PRICES_UPDATED, null, List.of("AAPL", "MSFT")));
+
+        // Then
+        verify(priceCache).invalidate("AAPL");
+        verify(priceCache).invalidate("MSFT");
+        verify(positionReadModel).refreshInBackground();
+        verifyNoInteractions(invalidTickerCache, dividendHistory);
+        assertEquals(1.0, meterRegistry.get("invalidation.messages").tag("direction", "received").counter().count());
+    }
+
+    @Test
+    void testIgnoresOwnAndMalformedMessages() throws Exception {
+        bus.onNotification(message(bus.instanceId, InvalidationMessage.Type.POSITIONS_CHANGED, null, List.of("AAPL")));
+        bus.onNotification("not json");
+
+        verifyNoInteractions(positionReadModel, priceCache);
+    }
+
+    @Test
+    void testCacheEvictionOfOtherInstanceIsAppliedLocally() throws Exception {
+        // When
+        bus.onNotification(message(OTHER_INSTANCE, InvalidationMessage.Type.CACHE_EVICTED, "dividends", List.of("AAPL")));
+        bus.onNotification(message(OTHER_INSTANCE, InvalidationMessage.Type.CACHE_EVICTED, "invalid-tickers", List.of()));
+
+        // Then
+        verify(dividendHistory).evict("AAPL");
+        verify(invalidTickerCache).invalidateAll();
+        verifyNoInteractions(positionReadModel, priceCache);
+    }
+
+    @Test
+    void testEvictAppliesLocallyThenPublishes() throws Exception {
+        // When
+        bus.evict("dividends", Set.of()).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        verify(dividendHistory).clear();
+        ArgumentCaptor<Tuple> parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(preparedQuery).execute(parameters.capture());
+        InvalidationMessage sent = objectMapper.readValue(parameters.getValue().getString(1), InvalidationMessage.class);
+        assertEquals(InvalidationMessage.Type.CACHE_EVICTED, sent.type());
+        assertEquals("dividends", sent.cache());
+        assertEquals(List.of(), sent.keys());
+    }
+
+    @Test
+    void testResubscriptionDropsCachedPricesAndReloadsPositions() {
+        // First subscription
+        bus.onSubscribed();
+        verifyNoInteractions(priceCache, positionReadModel);
+
+        // After a lost connection
+        bus.onSubscribed();
+        verify(priceCache).invalidateAll();
+        verify(positionReadModel).refreshInBackground();
+    }
+}
@@ -3,12 +3,24 @@ package com.portfolio.infrastructure.marketdata.adapter;
 import com.portfolio.domain.exception.Errors;
 import com.portfolio.domain.exception.ServiceException;
 import com.portfolio.domain.model.Dividend;
+import com.portfolio.domain.model.PriceQuote;
+import com.portfolio.domain.port.PriceSnapshotRepository;
+import com.portfolio.infrastructure.marketdata.breaker.TwelveDataCircuitBreaker;
+import com.portfolio.infrastructure.marketdata.calendar.ExchangeCalendar;
+import com.portfolio.infrastructure.marketdata.calendar.PriceTtlPolicy;
 import com.portfolio.infrastructure.marketdata.client.TwelveDataClient;
 import com.portfolio.infrastructure.marketdata.dto.TwelveDataDividendResponse;
 import com.portfolio.infrastructure.marketdata.dto.TwelveDataDividendsMeta;
 import com.portfolio.infrastructure.marketdata.dto.TwelveDataDividendsWrapper;
 import com.portfolio.infrastructure.marketdata.dto.TwelveDataPriceResponse;
+import com.portfolio.infrastructure.marketdata.history.DividendHistoryStore;
 import com.portfolio.infrastructure.marketdata.mapper.DividendMapper;
+import com.portfolio.infrastructure.marketdata.ratelimit.TwelveDataRateLimiter;
+import com.portfolio.infrastructure.marketdata.stream.TwelveDataPriceStream;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CaffeineCache;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import jakarta.ws.rs.WebApplicationException;
@@ -18,10 +30,19 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,14 +51,71 @@ class TwelveDataMarketDataServiceTest {
     private TwelveDataClient twelveDataClient;
     private DividendMapper dividendMapper;
     private TwelveDataMarketDataService marketDataService;
+    private Map<Object, CompletableFuture<Object>> cachedPrices;
+    private Map<Object, CompletableFuture<Object>> invalidTickers;
+    private TwelveDataCircuitBreaker circuitBreaker;
+    private PriceSnapshotRepository snapshotRepository;
+    private TwelveDataPriceStream priceStream;
+    private PriceTtlPolicy ttlPolicy;
+    private MeterRegistry meterRegistry;
     private static final String TEST_API_KEY = "test-api-key-12345";
 
     @BeforeEach
     void setUp() {
         twelveDataClient = mock(TwelveDataClient.class);
         dividendMapper = mock(DividendMapper.class);
-        marketDataService = new TwelveDataMarketDataService(twelveDataClient, dividendMapper);
+        meterRegistry = new SimpleMeterRegistry();
+        TwelveDataRateLimiter rateLimiter = new TwelveDataRateLimiter(10_000,
+            Duration.ofSeconds(2), Duration.ofSeconds(10), Duration.ofMinutes(1), meterRegistry);
+        circuitBreaker = new TwelveDataCircuitBreaker(3, Duration.ofSeconds(30), Duration.ofSeconds(30), meterRegistry);
+        snapshotRepository = mock(PriceSnapshotRepository.class);
+        when(snapshotRepository.findByTickers(anySet(), any())).thenReturn(Uni.createFrom().item(Map.of()));
+        when(snapshotRepository.saveAll(anyMap())).thenReturn(Uni.createFrom().voidItem());
+        DividendHistoryStore dividendHistory = new DividendHistoryStore();
+        dividendHistory.historyTtl = Duration.ofDays(15);
+        dividendHistory.recentTtl = Duration.ofDays(1);
+        priceStream = mock(TwelveDataPriceStream.class);
+        when(priceStream.quote(anyString())).thenReturn(Optional.empty());
+        // Tickers default to an exchange without a known session, so the flat soft and hard TTLs apply
+        ttlPolicy = new PriceTtlPolicy(new ExchangeCalendar(), Duration.ofMinutes(5), Duration.ofMinutes(30),
+            Duration.ofMinutes(15), Duration.ofDays(4), "TEST");
+        cachedPrices = new HashMap<>();
+        invalidTickers = new HashMap<>();
+        marketDataService = new TwelveDataMarketDataService(twelveDataClient, dividendMapper, createCache(cachedPrices),
+            createCache(invalidTickers), rateLimiter, circuitBreaker, snapshotRepository, dividendHistory, priceStream,
+            ttlPolicy, meterRegistry);
         marketDataService.apiKey = TEST_API_KEY;
+        marketDataService.batchSize = 120;
+        marketDataService.preloadTimeout = Duration.ofSeconds(1);
+    }
+
+    private Cache createCache(Map<Object, CompletableFuture<Object>> entries) {
+        CaffeineCache caffeineCache = mock(CaffeineCache.class);
+        when(caffeineCache.getIfPresent(any())).thenAnswer(invocation -> entries.get(invocation.getArgument(0)));
+        doAnswer(invocation -> entries.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(caffeineCache).put(any(), any());
+        Cache cache = mock(Cache.class);
+        when(cache.as(CaffeineCache.class)).thenReturn(caffeineCache);
+        return cache;
+    }
+
+    private double priceRequestCount(String type) {
+        return meterRegistry.get("market.data.price.requests").tag("type", type).counter().count();
+    }
+
+    private void cacheQuote(String ticker, String price, Duration age) {
+        cachedPrices.put(ticker, CompletableFuture.completedFuture(
+            new PriceQuote(new BigDecimal(price), LocalDateTime.now().minus(age))));
+    }
+
+    private BigDecimal cachedPrice(String ticker) {
+        return ((PriceQuote) cachedPrices.get(ticker).join()).price();
+    }
+
+    private TwelveDataPriceResponse createPriceResponse(String price) {
+        TwelveDataPriceResponse response = new TwelveDataPriceResponse();
+        response.setPrice(price != null ? new BigDecimal(price) : null);
+        return response;
     }
 
     // Helper methods for creating test data
@@ -291,6 +369,78 @@ class TwelveDataMarketDataServiceTest {
         verify(twelveDataClient).getPrice("SERVICE_EX", TEST_API_KEY);
     }
 
+    @Test
+    void testGetCurrentPriceServesCachedPrice() {
+        // Given
+        cacheQuote("AAPL", "175.50", Duration.ofMinutes(1));
+
+        // When
+        BigDecimal result = marketDataService.getCurrentPrice("aapl")
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(new BigDecimal("175.50"), result);
+        verifyNoInteractions(twelveDataClient);
+    }
+
+    @Test
+    void testGetCurrentPriceCoalescesConcurrentMisses() {
+        // Given
+        CompletableFuture<TwelveDataPriceResponse> pendingResponse = new CompletableFuture<>();
+        when(twelveDataClient.getPrice("AAPL", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().completionStage(pendingResponse));
+
+        // When
+        List<UniAssertSubscriber<BigDecimal>> subscribers = List.of(
+            marketDataService.getCurrentPrice("AAPL").subscribe().withSubscriber(UniAssertSubscriber.create()),
+            marketDataService.getCurrentPrice("aapl").subscribe().withSubscriber(UniAssertSubscriber.create()),
+            marketDataService.getCurrentPrice(" AAPL ").subscribe().withSubscriber(UniAssertSubscriber.create()));
+        pendingResponse.complete(createPriceResponse("175.50"));
+
+        // Then
+        subscribers.forEach(subscriber -> assertEquals(new BigDecimal("175.50"), subscriber.assertCompleted().getItem()));
+        verify(twelveDataClient, times(1)).getPrice("AAPL", TEST_API_KEY);
+        assertEquals(1.0, priceRequestCount("originating"));
+        assertEquals(2.0, priceRequestCount("coalesced"));
+        assertEquals(new BigDecimal("175.50"), cachedPrice("AAPL"));
+    }
+
+    @Test
+    void testGetCurrentPricePropagatesSharedFailureWithoutCachingIt() {
+        // Given
+        CompletableFuture<TwelveDataPriceResponse> pendingResponse = new CompletableFuture<>();
+        when(twelveDataClient.getPrice("MSFT", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().completionStage(pendingResponse))
+            .thenReturn(Uni.createFrom().item(createPriceResponse("300.25")));
+
+        UniAssertSubscriber<BigDecimal> first = marketDataService.getCurrentPrice("MSFT")
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<BigDecimal> second = marketDataService.getCurrentPrice("MSFT")
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // When
+        pendingResponse.completeExceptionally(new RuntimeException("connection reset"));
+
+        // Then
+        assertEquals(Errors.MarketData.NETWORK_ERROR,
+            ((ServiceException) first.assertFailedWith(ServiceException.class).getFailure()).getError());
+        assertEquals(Errors.MarketData.NETWORK_ERROR,
+            ((ServiceException) second.assertFailedWith(ServiceException.class).getFailure()).getError());
+        assertFalse(cachedPrices.containsKey("MSFT"));
+
+        // A later call starts a fresh request instead of replaying the failure
+        BigDecimal retried = marketDataService.getCurrentPrice("MSFT")
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+        assertEquals(new BigDecimal("300.25"), retried);
+        verify(twelveDataClient, times(2)).getPrice("MSFT", TEST_API_KEY);
+        assertEquals(2.0, priceRequestCount("originating"));
+        assertEquals(1.0, priceRequestCount("coalesced"));
+    }
+
     // ===================
     // DIVIDEND TESTS
     // ===================
@@ -337,6 +487,29 @@ class TwelveDataMarketDataServiceTest {
         verify(dividendMapper).toDomain(wrapper);
     }
 
+    @Test
+    void testGetDividendsTeachesTickerExchangeToTtlPolicy() {
+        // Given
+        TwelveDataDividendsMeta meta = createMeta("AAPL", "Apple Inc.", "USD", "NASDAQ", "XNGS", "America/New_York");
+        TwelveDataDividendsWrapper wrapper = createWrapper(meta, List.of());
+        when(twelveDataClient.getDividends("AAPL", "2023-01-01", "2023-12-31", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(wrapper));
+        ZoneId newYork = ZoneId.of("America/New_York");
+        LocalDateTime saturday = ZonedDateTime.of(2024, 3, 2, 12, 0, 0, 0, newYork)
+            .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        LocalDateTime mondayOpen = ZonedDateTime.of(2024, 3, 4, 9, 30, 0, 0, newYork)
+            .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        assertEquals(saturday.plusMinutes(30), ttlPolicy.expiresAt("AAPL", saturday));
+
+        // When
+        marketDataService.getDividends("AAPL", LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted();
+
+        // Then - A price fetched over the weekend now lives until the next NASDAQ open
+        assertEquals(mondayOpen, ttlPolicy.expiresAt("AAPL", saturday));
+    }
+
     @Test
     void testGetDividendsWithEmptyResult() {
         // Given
@@ -477,4 +650,534 @@ class TwelveDataMarketDataServiceTest {
         assertSame(originalException, thrown); // Should be the same instance, not wrapped
         verify(twelveDataClient).getDividends("SERVICE_EX", "2020-01-01", "2023-12-31", TEST_API_KEY);
     }
+
+    @Test
+    void testGetCurrentQuotesFetchesMissingTickersInOneBatch() {
+        // Given
+        Map<String, TwelveDataPriceResponse> response = new HashMap<>();
+        response.put("AAPL", createPriceResponse("175.50"));
+        response.put("MSFT", createPriceResponse("300.25"));
+        when(twelveDataClient.getPrices("AAPL,MSFT", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(response));
+
+        // When
+        Map<String, PriceQuote> result = marketDataService.getCurrentQuotes(Set.of(" aapl", "MSFT"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(new BigDecimal("175.50"), result.get("AAPL").price());
+        assertEquals(new BigDecimal("300.25"), result.get("MSFT").price());
+        assertEquals(result.get("AAPL").timestamp(), result.get("MSFT").timestamp());
+        assertEquals(new BigDecimal("175.50"), cachedPrice("AAPL"));
+        assertEquals(new BigDecimal("300.25"), cachedPrice("MSFT"));
+        verify(twelveDataClient, never()).getPrice(anyString(), anyString());
+    }
+
+    @Test
+    void testGetCurrentQuotesServesCachedTickersWithoutApiCall() {
+        // Given
+        cacheQuote("AAPL", "175.50", Duration.ofMinutes(1));
+        when(twelveDataClient.getPrice("MSFT", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(createPriceResponse("300.25")));
+
+        // When
+        Map<String, PriceQuote> result = marketDataService.getCurrentQuotes(Set.of("AAPL", "MSFT"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(new BigDecimal("175.50"), result.get("AAPL").price());
+        assertEquals(new BigDecimal("300.25"), result.get("MSFT").price());
+        verify(twelveDataClient).getPrice("MSFT", TEST_API_KEY);
+        verify(twelveDataClient, never()).getPrice(eq("AAPL"), anyString());
+        verify(twelveDataClient, never()).getPrices(anyString(), anyString());
+    }
+
+    @Test
+    void testGetCurrentQuotesChunksRequestsToBatchSize() {
+        // Given
+        marketDataService.batchSize = 2;
+        Map<String, TwelveDataPriceResponse> firstBatch = new HashMap<>();
+        firstBatch.put("AAPL", createPriceResponse("175.50"));
+        firstBatch.put("GOOGL", createPriceResponse("140.10"));
+        when(twelveDataClient.getPrices("AAPL,GOOGL", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(firstBatch));
+        when(twelveDataClient.getPrice("MSFT", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(createPriceResponse("300.25")));
+
+        // When
+        Map<String, PriceQuote> result = marketDataService.getCurrentQuotes(Set.of("MSFT", "GOOGL", "AAPL"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(3, result.size());
+        verify(twelveDataClient).getPrices("AAPL,GOOGL", TEST_API_KEY);
+        verify(twelveDataClient).getPrice("MSFT", TEST_API_KEY);
+    }
+
+    @Test
+    void testGetCurrentQuotesSkipsUnpricedSymbolsAndFailedBatches() {
+        // Given
+        marketDataService.batchSize = 2;
+        Map<String, TwelveDataPriceResponse> firstBatch = new HashMap<>();
+        firstBatch.put("AAPL", createPriceResponse("175.50"));
+        firstBatch.put("INVALID", createPriceResponse(null));
+        when(twelveDataClient.getPrices("AAPL,INVALID", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(firstBatch));
+        when(twelveDataClient.getPrice("MSFT", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("connection refused")));
+
+        // When
+        Map<String, PriceQuote> result = marketDataService.getCurrentQuotes(Set.of("AAPL", "INVALID", "MSFT"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(Set.of("AAPL"), result.keySet());
+        assertEquals(new BigDecimal("175.50"), result.get("AAPL").price());
+        assertFalse(cachedPrices.containsKey("INVALID"));
+        assertFalse(cachedPrices.containsKey("MSFT"));
+    }
+
+    @Test
+    void testGetCurrentQuotesAndGetCurrentQuoteShareConcurrentBatchRequest() {
+        // Given
+        CompletableFuture<Map<String, TwelveDataPriceResponse>> pendingResponse = new CompletableFuture<>();
+        when(twelveDataClient.getPrices("AAPL,MSFT", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().completionStage(pendingResponse));
+
+        // When
+        UniAssertSubscriber<Map<String, PriceQuote>> batch = marketDataService.getCurrentQuotes(Set.of("AAPL", "MSFT"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<Map<String, PriceQuote>> overlappingBatch = marketDataService.getCurrentQuotes(Set.of("msft"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<PriceQuote> single = marketDataService.getCurrentQuote("AAPL")
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+        Map<String, TwelveDataPriceResponse> response = new HashMap<>();
+        response.put("AAPL", createPriceResponse("175.50"));
+        response.put("MSFT", createPriceResponse("300.25"));
+        pendingResponse.complete(response);
+
+        // Then
+        assertEquals(Set.of("AAPL", "MSFT"), batch.assertCompleted().getItem().keySet());
+        assertEquals(new BigDecimal("300.25"), overlappingBatch.assertCompleted().getItem().get("MSFT").price());
+        assertEquals(new BigDecimal("175.50"), single.assertCompleted().getItem().price());
+        verify(twelveDataClient, times(1)).getPrices(anyString(), anyString());
+        verify(twelveDataClient, never()).getPrice(anyString(), anyString());
+        assertEquals(2.0, priceRequestCount("originating"));
+        assertEquals(2.0, priceRequestCount("coalesced"));
+    }
+
+    @Test
+    void testGetCurrentQuotesJoinsInFlightSingleRequest() {
+        // Given
+        CompletableFuture<TwelveDataPriceResponse> pendingResponse = new CompletableFuture<>();
+        when(twelveDataClient.getPrice("AAPL", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().completionStage(pendingResponse));
+        when(twelveDataClient.getPrice("MSFT", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(createPriceResponse("300.25")));
+
+        // When
+        UniAssertSubscriber<PriceQuote> single = marketDataService.getCurrentQuote("AAPL")
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<Map<String, PriceQuote>> batch = marketDataService.getCurrentQuotes(Set.of("AAPL", "MSFT"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+        pendingResponse.complete(createPriceResponse("175.50"));
+
+        // Then
+        assertEquals(new BigDecimal("175.50"), single.assertCompleted().getItem().price());
+        Map<String, PriceQuote> quotes = batch.assertCompleted().getItem();
+        assertEquals(new BigDecimal("175.50"), quotes.get("AAPL").price());
+        assertEquals(new BigDecimal("300.25"), quotes.get("MSFT").price());
+        verify(twelveDataClient, times(1)).getPrice("AAPL", TEST_API_KEY);
+        verify(twelveDataClient, never()).getPrices(anyString(), anyString());
+    }
+
+    @Test
+    void testGetCurrentQuotesWithEmptyInput() {
+        // When
+        Map<String, PriceQuote> result = marketDataService.getCurrentQuotes(Set.of())
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(twelveDataClient);
+    }
+
+    @Test
+    void testGetCurrentQuoteServesStalePriceAndRefreshesOnceInBackground() {
+        // Given
+        cacheQuote("AAPL", "170.00", Duration.ofMinutes(10));
+        CompletableFuture<TwelveDataPriceResponse> pendingResponse = new CompletableFuture<>();
+        when(twelveDataClient.getPrice("AAPL", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().completionStage(pendingResponse));
+
+        // When
+        PriceQuote first = marketDataService.getCurrentQuote("AAPL")
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+        PriceQuote second = marketDataService.getCurrentQuote("AAPL")
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then - stale quote served with its original timestamp, a single refresh started
+        assertEquals(new BigDecimal("170.00"), first.price());
+        assertTrue(first.timestamp().isBefore(LocalDateTime.now().minusMinutes(9)));
+        assertEquals(first, second);
+        verify(twelveDataClient, times(1)).getPrice("AAPL", TEST_API_KEY);
+
+        // The refreshed price replaces the stale entry once the request completes
+        pendingResponse.complete(createPriceResponse("175.50"));
+        assertEquals(new BigDecimal("175.50"), cachedPrice("AAPL"));
+    }
+
+    @Test
+    void testGetCurrentQuoteWaitsForFreshPriceWhenCachedPriceExpired() {
+        // Given
+        cacheQuote("AAPL", "170.00", Duration.ofMinutes(45));
+        when(twelveDataClient.getPrice("AAPL", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(createPriceResponse("175.50")));
+
+        // When
+        PriceQuote result = marketDataService.getCurrentQuote("AAPL")
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(new BigDecimal("175.50"), result.price());
+        assertTrue(result.timestamp().isAfter(LocalDateTime.now().minusMinutes(1)));
+        assertEquals(1.0, priceRequestCount("originating"));
+    }
+
+    @Test
+    void testGetCurrentQuotesServesStalePricesAndRefreshesThemInBackground() {
+        // Given
+        cacheQuote("AAPL", "170.00", Duration.ofMinutes(10));
+        cacheQuote("MSFT", "300.25", Duration.ofMinutes(1));
+        when(twelveDataClient.getPrice("AAPL", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(createPriceResponse("175.50")));
+
+        // When
+        Map<String, PriceQuote> result = marketDataService.getCurrentQuotes(Set.of("AAPL", "MSFT"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(new BigDecimal("170.00"), result.get("AAPL").price());
+        assertEquals(new BigDecimal("300.25"), result.get("MSFT").price());
+        verify(twelveDataClient).getPrice("AAPL", TEST_API_KEY);
+        verify(twelveDataClient, never()).getPrice(eq("MSFT"), anyString());
+        assertEquals(new BigDecimal("175.50"), cachedPrice("AAPL"));
+    }
+
+    @Test
+    void testGetCurrentQuoteRemembersInvalidTicker() {
+        // Given
+        when(twelveDataClient.getPrice("NOPE", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().failure(new WebApplicationException("Invalid ticker", 404)));
+
+        // When
+        UniAssertSubscriber<PriceQuote> first = marketDataService.getCurrentQuote("NOPE")
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<PriceQuote> second = marketDataService.getCurrentQuote("nope")
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+        Map<String, PriceQuote> batch = marketDataService.getCurrentQuotes(Set.of("NOPE"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(Errors.MarketData.INVALID_TICKER,
+            ((ServiceException) first.assertFailedWith(ServiceException.class).getFailure()).getError());
+        assertEquals(Errors.MarketData.INVALID_TICKER,
+            ((ServiceException) second.assertFailedWith(ServiceException.class).getFailure()).getError());
+        assertTrue(batch.isEmpty());
+        assertTrue(invalidTickers.containsKey("NOPE"));
+        verify(twelveDataClient, times(1)).getPrice("NOPE", TEST_API_KEY);
+        assertEquals(TwelveDataCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testGetCurrentQuoteFailsFastWhileCircuitBreakerIsOpen() {
+        // Given
+        when(twelveDataClient.getPrice(anyString(), eq(TEST_API_KEY)))
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("connection refused")));
+        for (String ticker : List.of("AAPL", "MSFT", "GOOGL")) {
+            marketDataService.getCurrentQuote(ticker)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(ServiceException.class);
+        }
+        assertEquals(TwelveDataCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        // When
+        UniAssertSubscriber<PriceQuote> subscriber = marketDataService.getCurrentQuote("TSLA")
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+        Map<String, PriceQuote> batch = marketDataService.getCurrentQuotes(Set.of("AMZN", "NVDA"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(Errors.MarketData.CIRCUIT_OPEN,
+            ((ServiceException) subscriber.assertFailedWith(ServiceException.class).getFailure()).getError());
+        assertTrue(batch.isEmpty());
+        verify(twelveDataClient, never()).getPrice(eq("TSLA"), anyString());
+        verify(twelveDataClient, never()).getPrices(anyString(), anyString());
+        assertTrue(invalidTickers.isEmpty());
+    }
+
+    @Test
+    void testGetCurrentQuoteServesRecentSnapshotWithoutApiCall() {
+        // Given
+        PriceQuote snapshot = new PriceQuote(new BigDecimal("175.50"), LocalDateTime.now().minusMinutes(2));
+        when(snapshotRepository.findByTickers(eq(Set.of("AAPL")), any()))
+            .thenReturn(Uni.createFrom().item(Map.of("AAPL", snapshot)));
+
+        // When
+        PriceQuote result = marketDataService.getCurrentQuote("AAPL")
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(snapshot, result);
+        assertEquals(new BigDecimal("175.50"), cachedPrice("AAPL"));
+        verifyNoInteractions(twelveDataClient);
+        verify(snapshotRepository, never()).saveAll(anyMap());
+    }
+
+    @Test
+    void testGetCurrentQuoteWritesFetchedPriceThroughToSnapshots() {
+        // Given
+        when(twelveDataClient.getPrice("AAPL", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(createPriceResponse("175.50")));
+
+        // When
+        PriceQuote result = marketDataService.getCurrentQuote("AAPL")
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        verify(snapshotRepository).saveAll(Map.of("AAPL", result));
+    }
+
+    @Test
+    void testGetCurrentQuoteFallsThroughToApiWhenSnapshotLookupFails() {
+        // Given
+        when(snapshotRepository.findByTickers(anySet(), any()))
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("database unavailable")));
+        when(twelveDataClient.getPrice("AAPL", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(createPriceResponse("175.50")));
+
+        // When
+        PriceQuote result = marketDataService.getCurrentQuote("AAPL")
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(new BigDecimal("175.50"), result.price());
+    }
+
+    @Test
+    void testGetCurrentQuotesServesSnapshotsBeforeFetching() {
+        // Given
+        PriceQuote snapshot = new PriceQuote(new BigDecimal("175.50"), LocalDateTime.now().minusMinutes(1));
+        when(snapshotRepository.findByTickers(eq(Set.of("AAPL", "MSFT")), any()))
+            .thenReturn(Uni.createFrom().item(Map.of("AAPL", snapshot)));
+        when(twelveDataClient.getPrice("MSFT", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(createPriceResponse("300.25")));
+
+        // When
+        Map<String, PriceQuote> result = marketDataService.getCurrentQuotes(Set.of("AAPL", "MSFT"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(snapshot, result.get("AAPL"));
+        assertEquals(new BigDecimal("300.25"), result.get("MSFT").price());
+        verify(twelveDataClient, never()).getPrice(eq("AAPL"), anyString());
+        verify(snapshotRepository).saveAll(Map.of("MSFT", result.get("MSFT")));
+    }
+
+    @Test
+    void testPreloadPriceCacheLoadsHeldTickerSnapshots() {
+        // Given
+        PriceQuote snapshot = new PriceQuote(new BigDecimal("175.50"), LocalDateTime.now().minusMinutes(3));
+        when(snapshotRepository.findForHeldPositions(any()))
+            .thenReturn(Uni.createFrom().item(Map.of("AAPL", snapshot)));
+
+        // When
+        marketDataService.preloadPriceCache(null);
+
+        // Then
+        assertEquals(new BigDecimal("175.50"), cachedPrice("AAPL"));
+        PriceQuote result = marketDataService.getCurrentQuote("AAPL")
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+        assertEquals(snapshot, result);
+        verifyNoInteractions(twelveDataClient);
+    }
+
+    @Test
+    void testGetDividendsFetchesOnlyMissingSubRanges() {
+        // Given
+        TwelveDataDividendsMeta meta = createMeta("AAPL", "Apple Inc.", "USD", "NASDAQ", "XNGS", "America/New_York");
+        TwelveDataDividendsWrapper secondHalf = createWrapper(meta, List.of());
+        TwelveDataDividendsWrapper firstHalf = createWrapper(meta, List.of());
+        Dividend august = new Dividend("AAPL", "XNGS", "NASDAQ", LocalDate.of(2023, 8, 11), new BigDecimal("0.24"));
+        Dividend may = new Dividend("AAPL", "XNGS", "NASDAQ", LocalDate.of(2023, 5, 12), new BigDecimal("0.24"));
+        Dividend february = new Dividend("AAPL", "XNGS", "NASDAQ", LocalDate.of(2023, 2, 10), new BigDecimal("0.23"));
+
+        when(twelveDataClient.getDividends("AAPL", "2023-06-01", "2023-12-31", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(secondHalf));
+        when(twelveDataClient.getDividends("AAPL", "2023-01-01", "2023-05-31", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(firstHalf));
+        when(dividendMapper.toDomain(secondHalf)).thenReturn(List.of(august));
+        when(dividendMapper.toDomain(firstHalf)).thenReturn(List.of(may, february));
+
+        // When
+        List<Dividend> recent = marketDataService.getDividends("AAPL", LocalDate.of(2023, 6, 1), LocalDate.of(2023, 12, 31))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+        List<Dividend> fullYear = marketDataService.getDividends("AAPL", LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+        List<Dividend> spring = marketDataService.getDividends("aapl", LocalDate.of(2023, 3, 1), LocalDate.of(2023, 9, 30))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(List.of(august), recent);
+        assertEquals(List.of(august, may, february), fullYear);
+        assertEquals(List.of(august, may), spring);
+        verify(twelveDataClient).getDividends("AAPL", "2023-06-01", "2023-12-31", TEST_API_KEY);
+        verify(twelveDataClient).getDividends("AAPL", "2023-01-01", "2023-05-31", TEST_API_KEY);
+        verifyNoMoreInteractions(twelveDataClient);
+    }
+
+    @Test
+    void testGetDividendsDoesNotRecordFailedRange() {
+        // Given
+        TwelveDataDividendsMeta meta = createMeta("MSFT", "Microsoft", "USD", "NASDAQ", "XNGS", "America/New_York");
+        TwelveDataDividendsWrapper wrapper = createWrapper(meta, List.of());
+        when(twelveDataClient.getDividends("MSFT", "2023-01-01", "2023-12-31", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("connection reset")))
+            .thenReturn(Uni.createFrom().item(wrapper));
+        when(dividendMapper.toDomain(wrapper)).thenReturn(List.of());
+
+        // When
+        marketDataService.getDividends("MSFT", LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertFailedWith(ServiceException.class);
+        List<Dividend> retried = marketDataService.getDividends("MSFT", LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertTrue(retried.isEmpty());
+        verify(twelveDataClient, times(2)).getDividends("MSFT", "2023-01-01", "2023-12-31", TEST_API_KEY);
+    }
+
+    @Test
+    void testGetCurrentQuoteServesLiveStreamedQuote() {
+        // Given
+        PriceQuote streamed = new PriceQuote(new BigDecimal("176.10"), LocalDateTime.now());
+        cacheQuote("AAPL", "175.50", Duration.ofMinutes(10));
+        when(priceStream.quote("AAPL")).thenReturn(Optional.of(streamed));
+
+        // When
+        PriceQuote result = marketDataService.getCurrentQuote("aapl")
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then - No stale refresh or snapshot lookup while the stream is live
+        assertEquals(streamed, result);
+        verifyNoInteractions(twelveDataClient);
+        verifyNoInteractions(snapshotRepository);
+    }
+
+    @Test
+    void testGetCurrentQuotesFetchesOnlyTickersWithoutStreamedQuote() {
+        // Given
+        PriceQuote streamed = new PriceQuote(new BigDecimal("176.10"), LocalDateTime.now());
+        when(priceStream.quote("AAPL")).thenReturn(Optional.of(streamed));
+        when(twelveDataClient.getPrice("MSFT", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(createPriceResponse("300.25")));
+
+        // When
+        Map<String, PriceQuote> result = marketDataService.getCurrentQuotes(Set.of("AAPL", "MSFT"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(streamed, result.get("AAPL"));
+        assertEquals(new BigDecimal("300.25"), result.get("MSFT").price());
+        verify(twelveDataClient, never()).getPrice(eq("AAPL"), anyString());
+    }
+
+    @Test
+    void testRefreshQuotesFetchesStaleAndMissingTickersAndReusesFreshOnes() {
+        // Given
+        cacheQuote("AAPL", "175.50", Duration.ofMinutes(1));
+        cacheQuote("MSFT", "299.00", Duration.ofMinutes(10));
+        Map<String, TwelveDataPriceResponse> response = new HashMap<>();
+        response.put("GOOGL", createPriceResponse("140.10"));
+        response.put("MSFT", createPriceResponse("300.25"));
+        when(twelveDataClient.getPrices("GOOGL,MSFT", TEST_API_KEY))
+            .thenReturn(Uni.createFrom().item(response));
+
+        // When
+        Map<String, PriceQuote> result = marketDataService.refreshQuotes(Set.of("aapl", "MSFT", "GOOGL"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then - Stale quotes are fetched, not served, and snapshots are not consulted
+        assertEquals(new BigDecimal("175.50"), result.get("AAPL").price());
+        assertEquals(new BigDecimal("300.25"), result.get("MSFT").price());
+        assertEquals(new BigDecimal("140.10"), result.get("GOOGL").price());
+        assertEquals(new BigDecimal("300.25"), cachedPrice("MSFT"));
+        verify(snapshotRepository, never()).findByTickers(anySet(), any());
+        verify(snapshotRepository).saveAll(anyMap());
+    }
+
+    @Test
+    void testRefreshQuotesSkipsStreamedAndKnownInvalidTickers() {
+        // Given
+        PriceQuote streamed = new PriceQuote(new BigDecimal("176.10"), LocalDateTime.now());
+        when(priceStream.quote("AAPL")).thenReturn(Optional.of(streamed));
+        invalidTickers.put("INVALID", CompletableFuture.completedFuture(Boolean.TRUE));
+
+        // When
+        Map<String, PriceQuote> result = marketDataService.refreshQuotes(Set.of("AAPL", "INVALID"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(Map.of("AAPL", streamed), result);
+        verifyNoInteractions(twelveDataClient);
+    }
 }
@@ -0,0 +1,164 @@
+package com.portfolio.infrastructure.marketdata.breaker;
+
+import com.portfolio.domain.exception.Error;
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwelveDataCircuitBreakerTest {
+    private MeterRegistry meterRegistry;
+    private TwelveDataCircuitBreaker circuitBreaker;
+    private AtomicLong clock;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong(0);
+        calls = new AtomicInteger();
+        circuitBreaker = new TwelveDataCircuitBreaker(3, Duration.ofSeconds(10), Duration.ofSeconds(30), meterRegistry);
+        circuitBreaker.nanoClock = clock::get;
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    private UniAssertSubscriber<String> succeed() {
+        return circuitBreaker.call(() -> {
+                calls.incrementAndGet();
+                return Uni.createFrom().item("ok");
+            })
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+    }
+
+    private UniAssertSubscriber<String> fail(Error error) {
+        return circuitBreaker.<String>call(() -> {
+                calls.incrementAndGet();
+                return Uni.createFrom().failure(new ServiceException(error, "failure"));
+            })
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+    }
+
+    private Error failureError(UniAssertSubscriber<String> subscriber) {
+        return ((ServiceException) subscriber.assertFailedWith(ServiceException.class).getFailure()).getError();
+    }
+
+    @Test
+    void testOpensAfterBurstOfApiAndNetworkErrors() {
+        // When
+        fail(Errors.MarketData.API_ERROR);
+        fail(Errors.MarketData.NETWORK_ERROR);
+        fail(Errors.MarketData.API_ERROR);
+
+        // Then
+        assertEquals(TwelveDataCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        UniAssertSubscriber<String> rejected = succeed();
+        assertEquals(Errors.MarketData.CIRCUIT_OPEN, failureError(rejected));
+        assertEquals(3, calls.get());
+        assertEquals(1.0, meterRegistry.get("market.data.circuit.breaker.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("market.data.circuit.breaker.state").gauge().value());
+    }
+
+    @Test
+    void testIgnoresFailuresOutsideWindowAndInvalidTickers() {
+        // When
+        fail(Errors.MarketData.API_ERROR);
+        fail(Errors.MarketData.API_ERROR);
+        advance(Duration.ofSeconds(11));
+        fail(Errors.MarketData.API_ERROR);
+        fail(Errors.MarketData.INVALID_TICKER);
+        fail(Errors.MarketData.RATE_LIMITED);
+
+        // Then
+        assertEquals(TwelveDataCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        succeed().assertCompleted().assertItem("ok");
+    }
+
+    @Test
+    void testOpensAfterFailuresInterleavedWithSuccessesWithinWindow() {
+        // When
+        fail(Errors.MarketData.API_ERROR);
+        succeed().assertCompleted();
+        advance(Duration.ofSeconds(4));
+        fail(Errors.MarketData.NETWORK_ERROR);
+        succeed().assertCompleted();
+        succeed().assertCompleted();
+        advance(Duration.ofSeconds(4));
+        assertEquals(2, circuitBreaker.getRecentFailures());
+        fail(Errors.MarketData.API_ERROR);
+
+        // Then
+        assertEquals(TwelveDataCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(Errors.MarketData.CIRCUIT_OPEN, failureError(succeed()));
+        assertEquals(6, calls.get());
+    }
+
+    @Test
+    void testSuccessfulTrialCallClosesBreaker() {
+        // Given
+        fail(Errors.MarketData.NETWORK_ERROR);
+        fail(Errors.MarketData.NETWORK_ERROR);
+        fail(Errors.MarketData.NETWORK_ERROR);
+
+        // When
+        advance(Duration.ofSeconds(30));
+
+        // Then
+        assertEquals(TwelveDataCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        succeed().assertCompleted().assertItem("ok");
+        assertEquals(TwelveDataCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(0, circuitBreaker.getRecentFailures());
+    }
+
+    @Test
+    void testFailedTrialCallReopensBreaker() {
+        // Given
+        fail(Errors.MarketData.API_ERROR);
+        fail(Errors.MarketData.API_ERROR);
+        fail(Errors.MarketData.API_ERROR);
+        advance(Duration.ofSeconds(30));
+
+        // When
+        fail(Errors.MarketData.API_ERROR);
+
+        // Then
+        assertEquals(TwelveDataCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(Errors.MarketData.CIRCUIT_OPEN, failureError(succeed()));
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void testLetsOnlyOneTrialCallThroughWhileHalfOpen() {
+        // Given
+        fail(Errors.MarketData.API_ERROR);
+        fail(Errors.MarketData.API_ERROR);
+        fail(Errors.MarketData.API_ERROR);
+        advance(Duration.ofSeconds(30));
+
+        // When
+        UniAssertSubscriber<String> trial = circuitBreaker.<String>call(() -> Uni.createFrom().nothing())
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<String> concurrent = succeed();
+
+        // Then
+        trial.assertNotTerminated();
+        assertEquals(Errors.MarketData.CIRCUIT_OPEN, failureError(concurrent));
+
+        // A cancelled trial frees the slot for the next call
+        trial.cancel();
+        succeed().assertCompleted();
+        assertEquals(TwelveDataCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+}
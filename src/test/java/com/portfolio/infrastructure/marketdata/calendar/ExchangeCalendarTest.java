@@ -0,0 +1,65 @@
+package com.portfolio.infrastructure.marketdata.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangeCalendarTest {
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    private final ExchangeCalendar calendar = new ExchangeCalendar();
+
+    private static ZonedDateTime newYork(int month, int day, int hour, int minute) {
+        return ZonedDateTime.of(2024, month, day, hour, minute, 0, 0, NEW_YORK);
+    }
+
+    @Test
+    void testFindsSessionByMicOrExchangeName() {
+        TradingSession nasdaq = calendar.session("XNGS").orElseThrow();
+
+        assertEquals(NEW_YORK, nasdaq.zone());
+        assertEquals(LocalTime.of(9, 30), nasdaq.open());
+        assertEquals(nasdaq, calendar.session("nasdaq").orElseThrow());
+        assertEquals(ZoneId.of("Europe/London"), calendar.session("XLON").orElseThrow().zone());
+        assertTrue(calendar.session("XXXX").isEmpty());
+        assertTrue(calendar.session(null).isEmpty());
+    }
+
+    @Test
+    void testIsOpenDuringRegularHoursAndCloseGrace() {
+        TradingSession session = calendar.session("XNYS").orElseThrow();
+        Duration grace = Duration.ofMinutes(15);
+
+        // Friday 1 March 2024
+        assertFalse(session.isOpen(newYork(3, 1, 9, 29), grace));
+        assertTrue(session.isOpen(newYork(3, 1, 9, 30), grace));
+        assertTrue(session.isOpen(newYork(3, 1, 16, 10), grace));
+        assertFalse(session.isOpen(newYork(3, 1, 16, 15), grace));
+        // Saturday
+        assertFalse(session.isOpen(newYork(3, 2, 12, 0), grace));
+        // The moment is converted to the exchange time zone
+        assertTrue(session.isOpen(newYork(3, 1, 10, 0).withZoneSameInstant(ZoneId.of("Asia/Tokyo")), grace));
+    }
+
+    @Test
+    void testNextOpenSkipsWeekends() {
+        TradingSession session = calendar.session("XNYS").orElseThrow();
+
+        assertEquals(newYork(3, 1, 9, 30), session.nextOpen(newYork(3, 1, 7, 0)));
+        assertEquals(newYork(3, 4, 9, 30), session.nextOpen(newYork(3, 1, 9, 30)));
+        assertEquals(newYork(3, 4, 9, 30), session.nextOpen(newYork(3, 1, 17, 0)));
+        assertEquals(newYork(3, 4, 9, 30), session.nextOpen(newYork(3, 3, 23, 0)));
+        assertEquals(newYork(3, 5, 9, 30), session.nextOpen(newYork(3, 4, 18, 0)));
+    }
+
+    @Test
+    void testRejectsSessionClosingBeforeItOpens() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new TradingSession(NEW_YORK, LocalTime.of(16, 0), LocalTime.of(9, 30)));
+    }
+}
@@ -0,0 +1,92 @@
+package com.portfolio.infrastructure.marketdata.calendar;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceTtlPolicyTest {
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    private PriceTtlPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        policy = new PriceTtlPolicy(new ExchangeCalendar(), Duration.ofMinutes(5), Duration.ofMinutes(30),
+            Duration.ofMinutes(15), Duration.ofDays(4), "XNYS");
+    }
+
+    private static LocalDateTime at(ZoneId zone, int month, int day, int hour, int minute) {
+        return ZonedDateTime.of(2024, month, day, hour, minute, 0, 0, zone)
+            .withZoneSameInstant(ZoneId.systemDefault())
+            .toLocalDateTime();
+    }
+
+    @Test
+    void testShortLifetimeWhileMarketIsOpen() {
+        LocalDateTime fetchedAt = at(NEW_YORK, 3, 1, 11, 0);
+
+        assertEquals(fetchedAt.plusMinutes(5), policy.freshUntil("AAPL", fetchedAt));
+        assertEquals(fetchedAt.plusMinutes(30), policy.expiresAt("AAPL", fetchedAt));
+    }
+
+    @Test
+    void testCloseGraceKeepsShortLifetimeRightAfterTheClose() {
+        LocalDateTime fetchedAt = at(NEW_YORK, 3, 1, 16, 5);
+
+        assertEquals(fetchedAt.plusMinutes(5), policy.freshUntil("AAPL", fetchedAt));
+    }
+
+    @Test
+    void testLivesUntilNextOpenWhileMarketIsClosed() {
+        LocalDateTime mondayOpen = at(NEW_YORK, 3, 4, 9, 30);
+
+        // Friday evening and over the weekend
+        assertEquals(mondayOpen, policy.freshUntil("AAPL", at(NEW_YORK, 3, 1, 16, 30)));
+        assertEquals(mondayOpen, policy.expiresAt("AAPL", at(NEW_YORK, 3, 2, 12, 0)));
+        // Before the open on a trading day
+        assertEquals(at(NEW_YORK, 3, 5, 9, 30), policy.expiresAt("AAPL", at(NEW_YORK, 3, 5, 6, 0)));
+    }
+
+    @Test
+    void testUsesLearnedExchangeOfTicker() {
+        policy.rememberExchange("VOD", "XLON", "LSE");
+        LocalDateTime fetchedAt = at(NEW_YORK, 3, 1, 11, 0);
+
+        // 16:00 in London, the LSE is still trading while New York is open
+        assertEquals(fetchedAt.plusMinutes(30), policy.expiresAt("VOD", fetchedAt));
+        // 17:00 in London, the LSE has closed until Monday
+        assertEquals(at(LONDON, 3, 4, 8, 0), policy.expiresAt("VOD", at(NEW_YORK, 3, 1, 12, 0)));
+    }
+
+    @Test
+    void testFallsBackToExchangeNameWithoutMic() {
+        policy.rememberExchange("SHOP", null, "TSX");
+
+        assertEquals(at(NEW_YORK, 3, 4, 9, 30), policy.expiresAt("SHOP", at(NEW_YORK, 3, 2, 12, 0)));
+    }
+
+    @Test
+    void testUsesFlatTtlsForExchangeWithoutKnownSession() {
+        policy.rememberExchange("XYZ", "XXXX", null);
+        LocalDateTime saturday = at(NEW_YORK, 3, 2, 12, 0);
+
+        assertEquals(saturday.plusMinutes(5), policy.freshUntil("XYZ", saturday));
+        assertEquals(saturday.plusMinutes(30), policy.expiresAt("XYZ", saturday));
+    }
+
+    @Test
+    void testClosedLifetimeIsBoundedByMaxAge() {
+        policy = new PriceTtlPolicy(new ExchangeCalendar(), Duration.ofMinutes(5), Duration.ofMinutes(30),
+            Duration.ofMinutes(15), Duration.ofHours(12), "XNYS");
+        LocalDateTime fridayEvening = at(NEW_YORK, 3, 1, 18, 0);
+
+        assertEquals(fridayEvening.plusHours(12), policy.expiresAt("AAPL", fridayEvening));
+    }
+}
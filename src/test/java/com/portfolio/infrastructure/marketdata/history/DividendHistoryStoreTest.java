@@ -0,0 +1,146 @@
+package com.portfolio.infrastructure.marketdata.history;
+
+import com.portfolio.domain.model.Dividend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DividendHistoryStoreTest {
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+
+    private DividendHistoryStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new DividendHistoryStore();
+        store.historyTtl = Duration.ofDays(15);
+        store.recentTtl = Duration.ofDays(1);
+        setToday(LocalDate.of(2024, 3, 1));
+    }
+
+    private void setToday(LocalDate today) {
+        store.clock = Clock.fixed(today.atStartOfDay(ZONE).toInstant().plusSeconds(3600), ZONE);
+    }
+
+    private static DateRange range(String start, String end) {
+        return new DateRange(LocalDate.parse(start), LocalDate.parse(end));
+    }
+
+    private static Dividend dividend(String exDate, String amount) {
+        return new Dividend("AAPL", "XNGS", "NASDAQ", LocalDate.parse(exDate), new BigDecimal(amount));
+    }
+
+    @Test
+    void testWholeRangeIsMissingWithoutHistory() {
+        assertEquals(List.of(range("2023-01-01", "2023-12-31")),
+            store.missingRanges("AAPL", range("2023-01-01", "2023-12-31")));
+    }
+
+    @Test
+    void testMissingRangesAreTheGapsAroundCoveredRanges() {
+        store.record("AAPL", range("2023-03-01", "2023-04-30"), List.of());
+        store.record("AAPL", range("2023-07-01", "2023-08-31"), List.of());
+
+        List<DateRange> missing = store.missingRanges("AAPL", range("2023-01-01", "2023-12-31"));
+
+        assertEquals(List.of(
+            range("2023-01-01", "2023-02-28"),
+            range("2023-05-01", "2023-06-30"),
+            range("2023-09-01", "2023-12-31")), missing);
+    }
+
+    @Test
+    void testCoveredRangeHasNothingMissing() {
+        store.record("AAPL", range("2023-01-01", "2023-06-30"), List.of());
+        store.record("AAPL", range("2023-07-01", "2023-12-31"), List.of());
+
+        assertTrue(store.missingRanges("AAPL", range("2023-02-01", "2023-11-30")).isEmpty());
+        assertFalse(store.missingRanges("MSFT", range("2023-02-01", "2023-11-30")).isEmpty());
+    }
+
+    @Test
+    void testSliceMergesRecordedRangesMostRecentFirst() {
+        store.record("AAPL", range("2023-06-01", "2023-12-31"), List.of(dividend("2023-08-11", "0.24")));
+        store.record("AAPL", range("2023-01-01", "2023-05-31"),
+            List.of(dividend("2023-02-10", "0.23"), dividend("2023-05-12", "0.24")));
+
+        List<Dividend> slice = store.slice("AAPL", range("2023-03-01", "2023-12-31"));
+
+        assertEquals(List.of(LocalDate.parse("2023-08-11"), LocalDate.parse("2023-05-12")),
+            slice.stream().map(Dividend::getExDate).toList());
+    }
+
+    @Test
+    void testRecordReplacesDividendsOfRefetchedRange() {
+        store.record("AAPL", range("2023-01-01", "2023-12-31"),
+            List.of(dividend("2023-02-10", "0.23"), dividend("2023-08-11", "0.24")));
+
+        store.record("AAPL", range("2023-07-01", "2023-12-31"), List.of(dividend("2023-08-11", "0.25")));
+
+        List<Dividend> slice = store.slice("AAPL", range("2023-01-01", "2023-12-31"));
+        assertEquals(2, slice.size());
+        assertEquals(new BigDecimal("0.25"), slice.get(0).getAmount());
+        assertEquals(new BigDecimal("0.23"), slice.get(1).getAmount());
+        assertTrue(store.missingRanges("AAPL", range("2023-01-01", "2023-12-31")).isEmpty());
+    }
+
+    @Test
+    void testIgnoresDividendsOutsideRecordedRange() {
+        store.record("AAPL", range("2023-06-01", "2023-12-31"),
+            List.of(dividend("2023-05-12", "0.24"), dividend("2023-08-11", "0.24")));
+
+        assertEquals(1, store.slice("AAPL", range("2023-01-01", "2023-12-31")).size());
+    }
+
+    @Test
+    void testRangesExpireAfterTheirTtl() {
+        store.record("AAPL", range("2023-01-01", "2023-12-31"), List.of(dividend("2023-08-11", "0.24")));
+        store.record("AAPL", range("2024-01-01", "2024-12-31"), List.of());
+
+        // Two days later only the range reaching the fetch date has expired
+        setToday(LocalDate.of(2024, 3, 3));
+        assertEquals(List.of(range("2024-01-01", "2024-12-31")),
+            store.missingRanges("AAPL", range("2023-01-01", "2024-12-31")));
+
+        // After the history TTL everything is fetched again
+        setToday(LocalDate.of(2024, 3, 17));
+        assertEquals(List.of(range("2023-01-01", "2024-12-31")),
+            store.missingRanges("AAPL", range("2023-01-01", "2024-12-31")));
+    }
+
+    @Test
+    void testExpiredRangesDropTheirDividendsOnNextRecord() {
+        store.record("AAPL", range("2023-01-01", "2023-12-31"), List.of(dividend("2023-08-11", "0.24")));
+        setToday(LocalDate.of(2024, 3, 20));
+
+        store.record("AAPL", range("2024-01-01", "2024-02-29"), List.of());
+
+        assertTrue(store.slice("AAPL", range("2023-01-01", "2024-12-31")).isEmpty());
+    }
+
+    @Test
+    void testEvictForgetsOnlyThatTicker() {
+        store.record("AAPL", range("2023-01-01", "2023-12-31"), List.of(dividend("2023-05-12", "0.24")));
+        store.record("MSFT", range("2023-01-01", "2023-12-31"), List.of());
+
+        store.evict("AAPL");
+
+        assertEquals(List.of(range("2023-01-01", "2023-12-31")),
+            store.missingRanges("AAPL", range("2023-01-01", "2023-12-31")));
+        assertTrue(store.slice("AAPL", range("2023-01-01", "2023-12-31")).isEmpty());
+        assertTrue(store.missingRanges("MSFT", range("2023-01-01", "2023-12-31")).isEmpty());
+    }
+
+    @Test
+    void testRejectsInvertedRange() {
+        assertThrows(IllegalArgumentException.class, () -> range("2023-12-31", "2023-01-01"));
+    }
+}
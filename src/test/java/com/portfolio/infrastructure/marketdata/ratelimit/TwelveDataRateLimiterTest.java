@@ -0,0 +1,155 @@
+package com.portfolio.infrastructure.marketdata.ratelimit;
+
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TwelveDataRateLimiterTest {
+    private static final int CREDITS_PER_MINUTE = 60;
+
+    private MeterRegistry meterRegistry;
+    private TwelveDataRateLimiter rateLimiter;
+    private AtomicLong clock;
+    private AtomicReference<Runnable> scheduledDrain;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong(0);
+        scheduledDrain = new AtomicReference<>();
+
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        when(scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            scheduledDrain.set(invocation.getArgument(0));
+            return null;
+        });
+
+        rateLimiter = new TwelveDataRateLimiter(CREDITS_PER_MINUTE,
+            Duration.ofSeconds(2), Duration.ofSeconds(10), Duration.ofMinutes(1), meterRegistry);
+        rateLimiter.nanoClock = clock::get;
+        rateLimiter.scheduler = scheduler;
+    }
+
+    private void advanceAndDrain(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+        scheduledDrain.get().run();
+    }
+
+    private double queueDepth(CallPriority priority) {
+        return meterRegistry.get("market.data.rate.limiter.queue.depth")
+            .tag("priority", priority.name().toLowerCase())
+            .gauge().value();
+    }
+
+    private UniAssertSubscriber<String> submit(CallPriority priority, int cost, String result) {
+        return rateLimiter.submit(priority, cost, () -> Uni.createFrom().item(result))
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+    }
+
+    @Test
+    void testServesCallsImmediatelyWhileCreditsLast() {
+        // When
+        UniAssertSubscriber<String> first = submit(CallPriority.INTERACTIVE, 40, "first");
+        UniAssertSubscriber<String> second = submit(CallPriority.BACKGROUND, 20, "second");
+
+        // Then
+        first.assertCompleted().assertItem("first");
+        second.assertCompleted().assertItem("second");
+        assertEquals(0.0, meterRegistry.get("market.data.rate.limiter.credits").gauge().value(), 0.001);
+        assertEquals(2, meterRegistry.get("market.data.rate.limiter.wait").timer().count());
+    }
+
+    @Test
+    void testRejectsCallThatCannotBeServedWithinMaxWait() {
+        // Given
+        submit(CallPriority.INTERACTIVE, CREDITS_PER_MINUTE, "drain").assertCompleted();
+        AtomicInteger calls = new AtomicInteger();
+
+        // When - five credits take five seconds to refill, the interactive limit is two
+        UniAssertSubscriber<String> subscriber = rateLimiter
+            .submit(CallPriority.INTERACTIVE, 5, () -> {
+                calls.incrementAndGet();
+                return Uni.createFrom().item("late");
+            })
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // Then
+        ServiceException thrown = (ServiceException) subscriber.assertFailedWith(ServiceException.class).getFailure();
+        assertEquals(Errors.MarketData.RATE_LIMITED, thrown.getError());
+        assertEquals(0, calls.get());
+        assertEquals(0.0, queueDepth(CallPriority.INTERACTIVE));
+    }
+
+    @Test
+    void testServesQueuedCallsInPriorityOrder() {
+        // Given
+        submit(CallPriority.INTERACTIVE, CREDITS_PER_MINUTE, "drain").assertCompleted();
+
+        // When
+        UniAssertSubscriber<String> background = submit(CallPriority.BACKGROUND, 1, "background");
+        UniAssertSubscriber<String> interactive = submit(CallPriority.INTERACTIVE, 1, "interactive");
+
+        // Then
+        background.assertNotTerminated();
+        interactive.assertNotTerminated();
+        assertEquals(1.0, queueDepth(CallPriority.INTERACTIVE));
+        assertEquals(1.0, queueDepth(CallPriority.BACKGROUND));
+
+        advanceAndDrain(Duration.ofSeconds(1));
+        interactive.assertCompleted().assertItem("interactive");
+        background.assertNotTerminated();
+        assertEquals(1.0, meterRegistry.get("market.data.rate.limiter.oldest.wait").gauge().value(), 0.001);
+
+        advanceAndDrain(Duration.ofSeconds(1));
+        background.assertCompleted().assertItem("background");
+        assertEquals(0.0, queueDepth(CallPriority.BACKGROUND));
+    }
+
+    @Test
+    void testRejectsQueuedCallOvertakenPastItsDeadline() {
+        // Given
+        submit(CallPriority.INTERACTIVE, CREDITS_PER_MINUTE, "drain").assertCompleted();
+        UniAssertSubscriber<String> dividends = submit(CallPriority.DIVIDENDS, 8, "dividends");
+        UniAssertSubscriber<String> firstInteractive = submit(CallPriority.INTERACTIVE, 2, "first");
+
+        // When - interactive calls keep jumping ahead of the dividend lookup
+        advanceAndDrain(Duration.ofSeconds(2));
+        firstInteractive.assertCompleted();
+        UniAssertSubscriber<String> secondInteractive = submit(CallPriority.INTERACTIVE, 2, "second");
+        advanceAndDrain(Duration.ofSeconds(2));
+        secondInteractive.assertCompleted();
+
+        // Then - six of the eight credits are back when the ten second dividends deadline passes
+        advanceAndDrain(Duration.ofSeconds(6));
+        dividends.assertNotTerminated();
+        advanceAndDrain(Duration.ofMillis(1));
+        ServiceException thrown = (ServiceException) dividends.assertFailedWith(ServiceException.class).getFailure();
+        assertEquals(Errors.MarketData.RATE_LIMITED, thrown.getError());
+        assertEquals(0.0, queueDepth(CallPriority.DIVIDENDS));
+    }
+
+    @Test
+    void testChargesOversizedCallTheWholeBucket() {
+        // When
+        UniAssertSubscriber<String> subscriber = submit(CallPriority.BACKGROUND, 500, "batch");
+
+        // Then
+        subscriber.assertCompleted().assertItem("batch");
+        assertEquals(0.0, meterRegistry.get("market.data.rate.limiter.credits").gauge().value(), 0.001);
+    }
+}
@@ -0,0 +1,88 @@
+package com.portfolio.infrastructure.marketdata.stream;
+
+import com.portfolio.domain.model.PriceQuote;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceBookTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 15, 30);
+
+    private final PriceBook priceBook = new PriceBook();
+
+    private static PriceQuote quote(String price, LocalDateTime timestamp) {
+        return new PriceQuote(new BigDecimal(price), timestamp);
+    }
+
+    @Test
+    void testKeepsLatestQuotePerTicker() {
+        assertTrue(priceBook.update("AAPL", quote("175.50", NOW)));
+        assertTrue(priceBook.update("AAPL", quote("175.60", NOW.plusSeconds(1))));
+        assertTrue(priceBook.update("MSFT", quote("300.25", NOW)));
+
+        assertEquals(new BigDecimal("175.60"), priceBook.get("AAPL").orElseThrow().price());
+        assertEquals(new BigDecimal("300.25"), priceBook.get("MSFT").orElseThrow().price());
+        assertTrue(priceBook.get("KO").isEmpty());
+        assertEquals(2, priceBook.size());
+    }
+
+    @Test
+    void testDropsOutOfOrderTick() {
+        priceBook.update("AAPL", quote("175.60", NOW.plusSeconds(1)));
+
+        assertFalse(priceBook.update("AAPL", quote("175.50", NOW)));
+
+        assertEquals(new BigDecimal("175.60"), priceBook.get("AAPL").orElseThrow().price());
+    }
+
+    @Test
+    void testRemove() {
+        priceBook.update("AAPL", quote("175.50", NOW));
+
+        priceBook.remove("AAPL");
+
+        assertTrue(priceBook.get("AAPL").isEmpty());
+        assertEquals(0, priceBook.size());
+    }
+
+    @Test
+    void testConcurrentWritersKeepNewestTick() throws Exception {
+        int writers = 8;
+        int ticksPerWriter = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int writer = 0; writer < writers; writer++) {
+                int offset = writer;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int tick = 0; tick < ticksPerWriter; tick++) {
+                        int second = tick * writers + offset;
+                        priceBook.update("AAPL", quote(String.valueOf(second), NOW.plusSeconds(second)));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int newest = writers * ticksPerWriter - 1;
+        assertEquals(new BigDecimal(newest), priceBook.get("AAPL").orElseThrow().price());
+    }
+}
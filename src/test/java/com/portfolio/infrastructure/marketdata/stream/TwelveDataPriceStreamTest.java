@@ -0,0 +1,204 @@
+package com.portfolio.infrastructure.marketdata.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.domain.model.PriceQuote;
+import com.portfolio.domain.port.HeldTickerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.http.HttpServer;
+import io.vertx.mutiny.core.http.ServerWebSocket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the price stream against a local stub of the TwelveData WebSocket server
+ */
+class TwelveDataPriceStreamTest {
+    private static final long TIMESTAMP = 1_700_000_000L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    private final BlockingQueue<ServerWebSocket> connections = new LinkedBlockingQueue<>();
+    private final AtomicLong clock = new AtomicLong();
+
+    private Vertx vertx;
+    private HttpServer server;
+    private HeldTickerRepository heldTickerRepository;
+    private PriceBook priceBook;
+    private MeterRegistry meterRegistry;
+    private TwelveDataPriceStream priceStream;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        server = vertx.createHttpServer()
+            .webSocketHandler(socket -> {
+                socket.textMessageHandler(received::add);
+                connections.add(socket);
+            })
+            .listen(0)
+            .await().atMost(Duration.ofSeconds(5));
+
+        heldTickerRepository = mock(HeldTickerRepository.class);
+        when(heldTickerRepository.findHeldTickers()).thenReturn(Uni.createFrom().item(Set.of("AAPL", "MSFT")));
+        priceBook = new PriceBook();
+        meterRegistry = new SimpleMeterRegistry();
+        priceStream = new TwelveDataPriceStream(vertx, priceBook, heldTickerRepository, objectMapper, true,
+            "ws://localhost:" + server.actualPort() + "/v1/quotes/price", "test-api-key",
+            Duration.ofSeconds(30), Duration.ofMinutes(1), Duration.ofMinutes(1), Duration.ofMillis(100), meterRegistry);
+        priceStream.nanoClock = clock::get;
+    }
+
+    @AfterEach
+    void tearDown() {
+        priceStream.stop();
+        server.close().await().atMost(Duration.ofSeconds(5));
+        vertx.close().await().atMost(Duration.ofSeconds(5));
+    }
+
+    private ServerWebSocket connect() throws InterruptedException {
+        priceStream.start();
+        ServerWebSocket socket = connections.poll(5, TimeUnit.SECONDS);
+        assertNotNull(socket, "Price stream did not connect");
+        return socket;
+    }
+
+    private void assertReceived(String expectedJson) throws Exception {
+        String message = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(message, "Expected message " + expectedJson);
+        assertEquals(objectMapper.readTree(expectedJson), objectMapper.readTree(message));
+    }
+
+    private static void sendPrice(ServerWebSocket socket, String symbol, String price, long timestamp) {
+        socket.writeTextMessageAndForget("""
+            {"event":"price","symbol":"%s","currency":"USD","exchange":"NASDAQ","type":"Common Stock","timestamp":%d,"price":%s}
+            """.formatted(symbol, timestamp, price));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void testSubscribesHeldTickersAndServesTicksFromPriceBook() throws Exception {
+        // When
+        ServerWebSocket socket = connect();
+
+        // Then
+        assertEquals("apikey=test-api-key", socket.query());
+        assertReceived("{\"action\":\"subscribe\",\"params\":{\"symbols\":\"AAPL,MSFT\"}}");
+        assertTrue(priceStream.quote("AAPL").isEmpty());
+
+        sendPrice(socket, "AAPL", "176.1", TIMESTAMP);
+        await(() -> priceStream.quote("AAPL").isPresent());
+
+        PriceQuote quote = priceStream.quote("AAPL").orElseThrow();
+        assertEquals(new BigDecimal("176.1"), quote.price());
+        assertEquals(LocalDateTime.ofInstant(Instant.ofEpochSecond(TIMESTAMP), ZoneId.systemDefault()), quote.timestamp());
+        assertTrue(priceStream.quote("MSFT").isEmpty());
+        assertEquals(1.0, meterRegistry.get("market.data.stream.ticks").counter().count());
+    }
+
+    @Test
+    void testReconcileUnsubscribesClosedPositions() throws Exception {
+        // Given
+        ServerWebSocket socket = connect();
+        assertReceived("{\"action\":\"subscribe\",\"params\":{\"symbols\":\"AAPL,MSFT\"}}");
+        sendPrice(socket, "MSFT", "300.25", TIMESTAMP);
+        await(() -> priceStream.quote("MSFT").isPresent());
+
+        // When
+        when(heldTickerRepository.findHeldTickers()).thenReturn(Uni.createFrom().item(Set.of("AAPL", "KO")));
+        priceStream.reconcile().await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        assertReceived("{\"action\":\"subscribe\",\"params\":{\"symbols\":\"KO\"}}");
+        assertReceived("{\"action\":\"unsubscribe\",\"params\":{\"symbols\":\"MSFT\"}}");
+        assertTrue(priceStream.quote("MSFT").isEmpty());
+        assertTrue(priceBook.get("MSFT").isEmpty());
+    }
+
+    @Test
+    void testFallsBackWhenStreamGoesQuiet() throws Exception {
+        // Given
+        ServerWebSocket socket = connect();
+        assertReceived("{\"action\":\"subscribe\",\"params\":{\"symbols\":\"AAPL,MSFT\"}}");
+        sendPrice(socket, "AAPL", "176.1", TIMESTAMP);
+        await(priceStream::isLive);
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // Then
+        assertFalse(priceStream.isLive());
+        assertTrue(priceStream.quote("AAPL").isEmpty());
+
+        // A new tick brings the stream back
+        sendPrice(socket, "AAPL", "176.2", TIMESTAMP + 40);
+        await(() -> priceStream.quote("AAPL").isPresent());
+        assertEquals(new BigDecimal("176.2"), priceStream.quote("AAPL").orElseThrow().price());
+    }
+
+    @Test
+    void testIgnoresRejectedSubscriptionsAndUnknownMessages() throws Exception {
+        // Given
+        ServerWebSocket socket = connect();
+        assertReceived("{\"action\":\"subscribe\",\"params\":{\"symbols\":\"AAPL,MSFT\"}}");
+
+        // When
+        socket.writeTextMessageAndForget("""
+            {"event":"subscribe-status","status":"ok","success":[{"symbol":"AAPL"}],"fails":[{"symbol":"MSFT"}]}
+            """);
+        socket.writeTextMessageAndForget("not json");
+        socket.writeTextMessageAndForget("{\"event\":\"heartbeat\",\"status\":\"ok\"}");
+        sendPrice(socket, "MSFT", "300.25", TIMESTAMP);
+        sendPrice(socket, "AAPL", "176.1", TIMESTAMP);
+        await(() -> priceStream.quote("AAPL").isPresent());
+
+        // Then
+        assertTrue(priceBook.get("MSFT").isEmpty());
+        assertTrue(priceStream.quote("MSFT").isEmpty());
+    }
+
+    @Test
+    void testReconnectsAndResubscribesAfterConnectionLoss() throws Exception {
+        // Given
+        ServerWebSocket socket = connect();
+        assertReceived("{\"action\":\"subscribe\",\"params\":{\"symbols\":\"AAPL,MSFT\"}}");
+        sendPrice(socket, "AAPL", "176.1", TIMESTAMP);
+        await(priceStream::isLive);
+
+        // When
+        socket.closeAndForget();
+
+        // Then
+        await(() -> !priceStream.isLive());
+        ServerWebSocket reconnected = connections.poll(5, TimeUnit.SECONDS);
+        assertNotNull(reconnected, "Price stream did not reconnect");
+        assertReceived("{\"action\":\"subscribe\",\"params\":{\"symbols\":\"AAPL,MSFT\"}}");
+    }
+}
@@ -0,0 +1,59 @@
+package com.portfolio.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.domain.event.TransactionCreatedEvent;
+import com.portfolio.domain.event.TransactionUpdatedEvent;
+import com.portfolio.domain.model.Currency;
+import com.portfolio.domain.model.Transaction;
+import com.portfolio.domain.model.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainEventSerializerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DomainEventSerializer serializer = new DomainEventSerializer(objectMapper);
+
+    private static Transaction transaction(String ticker, String quantity) {
+        return new Transaction(null, ticker, TransactionType.BUY, new BigDecimal(quantity), new BigDecimal("150.50"),
+            new BigDecimal("9.99"), Currency.USD, LocalDate.of(2024, 1, 15), "Initial purchase", true, false,
+            BigDecimal.ONE, Currency.USD, new ArrayList<>());
+    }
+
+    @Test
+    void testSerializesCreatedEventWithAggregateId() throws Exception {
+        UUID transactionId = UUID.randomUUID();
+        TransactionCreatedEvent event = new TransactionCreatedEvent(transaction("AAPL", "10"));
+
+        JsonNode payload = objectMapper.readTree(serializer.serialize(transactionId, event));
+
+        assertEquals(event.getEventId().toString(), payload.get("eventId").asText());
+        assertEquals("TransactionCreatedEvent", payload.get("eventType").asText());
+        assertEquals("Transaction", payload.get("aggregateType").asText());
+        assertEquals(transactionId.toString(), payload.get("aggregateId").asText());
+        assertEquals(event.getOccurredAt().toString(), payload.get("occurredAt").asText());
+        assertEquals("AAPL", payload.at("/data/ticker").asText());
+        assertEquals("BUY", payload.at("/data/transactionType").asText());
+        assertEquals(new BigDecimal("10"), payload.at("/data/quantity").decimalValue());
+        assertEquals("2024-01-15", payload.at("/data/transactionDate").asText());
+        assertFalse(payload.has("previous"));
+        assertFalse(payload.get("data").has("domainEvents"));
+    }
+
+    @Test
+    void testSerializesPreviousStateOfUpdates() throws Exception {
+        TransactionUpdatedEvent event = new TransactionUpdatedEvent(transaction("AAPL", "12"), transaction("AAPL", "10"));
+
+        JsonNode payload = objectMapper.readTree(serializer.serialize(UUID.randomUUID(), event));
+
+        assertEquals("TransactionUpdatedEvent", serializer.eventType(event));
+        assertEquals(new BigDecimal("12"), payload.at("/data/quantity").decimalValue());
+        assertEquals(new BigDecimal("10"), payload.at("/previous/quantity").decimalValue());
+    }
+}
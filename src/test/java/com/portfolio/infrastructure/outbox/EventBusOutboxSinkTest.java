@@ -0,0 +1,52 @@
+package com.portfolio.infrastructure.outbox;
+
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.eventbus.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventBusOutboxSinkTest {
+    private Vertx vertx;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close().await().atMost(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testPublishesPayloadWithHeadersAtEventTypeAddress() throws Exception {
+        BlockingQueue<Message<String>> received = new LinkedBlockingQueue<>();
+        vertx.eventBus().<String>consumer("portfolio.events.TransactionCreatedEvent", received::add);
+        EventBusOutboxSink sink = new EventBusOutboxSink(vertx.eventBus(), "portfolio.events");
+        UUID messageId = UUID.randomUUID();
+        UUID aggregateId = UUID.randomUUID();
+
+        sink.publish(new OutboxMessage(messageId, "TransactionCreatedEvent", "Transaction", aggregateId,
+                "{\"ticker\":\"AAPL\"}", OffsetDateTime.now(), 0))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted();
+
+        Message<String> message = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(message);
+        assertEquals("{\"ticker\":\"AAPL\"}", message.body());
+        assertEquals(messageId.toString(), message.headers().get("message-id"));
+        assertEquals("TransactionCreatedEvent", message.headers().get("event-type"));
+        assertEquals(aggregateId.toString(), message.headers().get("aggregate-id"));
+    }
+}
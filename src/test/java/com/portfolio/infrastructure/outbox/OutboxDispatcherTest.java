@@ -0,0 +1,165 @@
+package com.portfolio.infrastructure.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.mutiny.sqlclient.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OutboxDispatcherTest {
+    private Pool pool;
+    private SqlConnection connection;
+    private OutboxSink sink;
+    private MeterRegistry meterRegistry;
+    private OutboxDispatcher dispatcher;
+    private PreparedQuery<RowSet<Row>> claimQuery;
+    private PreparedQuery<RowSet<Row>> publishedQuery;
+    private PreparedQuery<RowSet<Row>> failedQuery;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        pool = mock(Pool.class);
+        connection = mock(SqlConnection.class);
+        sink = mock(OutboxSink.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(pool.withTransaction(any(Function.class))).thenAnswer(invocation ->
+            ((Function<SqlConnection, Uni<?>>) invocation.getArgument(0)).apply(connection));
+
+        claimQuery = mock(PreparedQuery.class);
+        publishedQuery = mock(PreparedQuery.class);
+        failedQuery = mock(PreparedQuery.class);
+        when(connection.preparedQuery(OutboxDispatcher.CLAIM_SQL)).thenReturn(claimQuery);
+        when(connection.preparedQuery(OutboxDispatcher.MARK_PUBLISHED_SQL)).thenReturn(publishedQuery);
+        when(connection.preparedQuery(OutboxDispatcher.MARK_FAILED_SQL)).thenReturn(failedQuery);
+        when(publishedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(mock(RowSet.class)));
+        when(failedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(mock(RowSet.class)));
+
+        dispatcher = new OutboxDispatcher(pool, sink, 2, 3, Duration.ofSeconds(1), Duration.ofSeconds(3),
+            Duration.ofSeconds(1), Duration.ofDays(7), meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RowSet<Row> rowSetOf(Row... rows) {
+        RowSet<Row> rowSet = mock(RowSet.class);
+        RowIterator<Row> iterator = mock(RowIterator.class);
+        List<Row> remaining = new ArrayList<>(List.of(rows));
+        when(iterator.hasNext()).thenAnswer(invocation -> !remaining.isEmpty());
+        when(iterator.next()).thenAnswer(invocation -> remaining.remove(0));
+        when(rowSet.iterator()).thenReturn(iterator);
+        return rowSet;
+    }
+
+    private static Row messageRow(UUID id, int attempts) {
+        Row row = mock(Row.class);
+        when(row.getUUID("id")).thenReturn(id);
+        when(row.getString("event_type")).thenReturn("TransactionCreatedEvent");
+        when(row.getString("aggregate_type")).thenReturn("Transaction");
+        when(row.getUUID("aggregate_id")).thenReturn(UUID.randomUUID());
+        when(row.getString("payload")).thenReturn("{}");
+        when(row.getOffsetDateTime("created_at")).thenReturn(OffsetDateTime.now().minusSeconds(2));
+        when(row.getInteger("attempts")).thenReturn(attempts);
+        return row;
+    }
+
+    private double count(String counter) {
+        return meterRegistry.get(counter).counter().count();
+    }
+
+    @Test
+    void testDeliveredMessagesAreMarkedPublished() {
+        // Given
+        UUID first = UUID.randomUUID();
+        when(claimQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rowSetOf(messageRow(first, 0))));
+        when(sink.publish(any())).thenReturn(Uni.createFrom().voidItem());
+
+        // When
+        Integer claimed = dispatcher.drain()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(1, claimed);
+        ArgumentCaptor<Tuple> parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(publishedQuery).execute(parameters.capture());
+        assertArrayEquals(new UUID[]{first}, parameters.getValue().getArrayOfUUIDs(0));
+        verifyNoInteractions(failedQuery);
+        assertEquals(1.0, count("outbox.messages.published"));
+        assertEquals(1, meterRegistry.get("outbox.delivery.latency").timer().count());
+    }
+
+    @Test
+    void testFailedMessagesAreRetriedWithBackoffAndParkedAfterLastAttempt() {
+        // Given
+        UUID retried = UUID.randomUUID();
+        UUID exhausted = UUID.randomUUID();
+        when(claimQuery.execute(any(Tuple.class)))
+            .thenReturn(Uni.createFrom().item(rowSetOf(messageRow(retried, 1), messageRow(exhausted, 2))))
+            .thenReturn(Uni.createFrom().item(rowSetOf()));
+        when(sink.publish(any())).thenReturn(Uni.createFrom().failure(new RuntimeException("Broker down")));
+
+        // When
+        Integer claimed = dispatcher.drain()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(2, claimed);
+        ArgumentCaptor<Tuple> parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(failedQuery).execute(parameters.capture());
+        assertArrayEquals(new UUID[]{retried, exhausted}, parameters.getValue().getArrayOfUUIDs(0));
+        assertArrayEquals(new String[]{"Broker down", "Broker down"}, parameters.getValue().getArrayOfStrings(1));
+        assertArrayEquals(new Long[]{2000L, null}, parameters.getValue().getArrayOfLongs(2));
+        verifyNoInteractions(publishedQuery);
+        assertEquals(2.0, count("outbox.messages.failed"));
+        assertEquals(1.0, count("outbox.messages.parked"));
+        // A full batch is followed by another claim
+        verify(claimQuery, times(2)).execute(any(Tuple.class));
+    }
+
+    @Test
+    void testEmptyOutboxClaimsOnce() {
+        when(claimQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rowSetOf()));
+
+        Integer claimed = dispatcher.drain()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        assertEquals(0, claimed);
+        verify(claimQuery).execute(any(Tuple.class));
+        verifyNoInteractions(sink);
+    }
+
+    @Test
+    void testNextRetryDelayDoublesUpToMaximum() {
+        assertEquals(Duration.ofSeconds(1), dispatcher.nextRetryDelay(1));
+        assertEquals(Duration.ofSeconds(2), dispatcher.nextRetryDelay(2));
+        assertNull(dispatcher.nextRetryDelay(3));
+
+        OutboxDispatcher patient = new OutboxDispatcher(pool, sink, 2, 10, Duration.ofSeconds(1), Duration.ofSeconds(3),
+            Duration.ofSeconds(1), Duration.ofDays(7), new SimpleMeterRegistry());
+        assertEquals(Duration.ofSeconds(3), patient.nextRetryDelay(5));
+    }
+}
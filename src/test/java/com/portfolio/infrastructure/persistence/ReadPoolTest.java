@@ -0,0 +1,132 @@
+package com.portfolio.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import io.vertx.pgclient.PgException;
+import io.vertx.sqlclient.ClosedConnectionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadPoolTest {
+    private static final String SQL = "SELECT 1";
+
+    private PreparedQuery<RowSet<Row>> readQuery;
+    private PreparedQuery<RowSet<Row>> primaryQuery;
+    private Pool primary;
+    private SimpleMeterRegistry meterRegistry;
+    private ReadPool readPool;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Pool reads = mock(Pool.class);
+        primary = mock(Pool.class);
+        readQuery = mock(PreparedQuery.class);
+        primaryQuery = mock(PreparedQuery.class);
+        when(reads.preparedQuery(SQL)).thenReturn(readQuery);
+        when(primary.preparedQuery(SQL)).thenReturn(primaryQuery);
+        meterRegistry = new SimpleMeterRegistry();
+        readPool = new ReadPool(reads, primary, meterRegistry);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReadsFromReadPool() {
+        // Given
+        RowSet<Row> rows = mock(RowSet.class);
+        when(readQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rows));
+
+        // When
+        RowSet<Row> result = readPool.execute(SQL, Tuple.of("AAPL"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        assertSame(rows, result);
+        verifyNoInteractions(primary);
+        assertEquals(0.0, meterRegistry.get("datasource.reads.fallbacks").counter().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFailedReadRunsAgainOnPrimary() {
+        // Given
+        RowSet<Row> rows = mock(RowSet.class);
+        when(readQuery.execute()).thenReturn(Uni.createFrom().failure(new ConnectException("Connection refused")));
+        when(primaryQuery.execute()).thenReturn(Uni.createFrom().item(rows));
+
+        // When
+        RowSet<Row> result = readPool.execute(SQL)
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        assertSame(rows, result);
+        assertEquals(1.0, meterRegistry.get("datasource.reads.fallbacks").counter().count());
+    }
+
+    @Test
+    void testFailureOnPrimaryIsPropagated() {
+        // Given
+        when(readQuery.execute()).thenReturn(Uni.createFrom().failure(new ConnectException("Connection refused")));
+        when(primaryQuery.execute()).thenReturn(Uni.createFrom().failure(new RuntimeException("DB down")));
+
+        // When
+        UniAssertSubscriber<RowSet<Row>> subscriber = readPool.execute(SQL)
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // Then
+        subscriber.assertFailedWith(RuntimeException.class, "DB down");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReadOnClosedConnectionRunsAgainOnPrimary() {
+        // Given
+        RowSet<Row> rows = mock(RowSet.class);
+        when(readQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().failure(ClosedConnectionException.INSTANCE));
+        when(primaryQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rows));
+
+        // When
+        RowSet<Row> result = readPool.execute(SQL, Tuple.of("AAPL"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        assertSame(rows, result);
+        assertEquals(1.0, meterRegistry.get("datasource.reads.fallbacks").counter().count());
+    }
+
+    @Test
+    void testStatementErrorIsPropagatedWithoutRunningOnPrimary() {
+        // Given
+        when(readQuery.execute(any(Tuple.class)))
+            .thenReturn(Uni.createFrom().failure(new PgException("invalid input syntax for type uuid", "ERROR", "22P02", null)));
+
+        // When
+        UniAssertSubscriber<RowSet<Row>> subscriber = readPool.execute(SQL, Tuple.of("not-a-uuid"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // Then
+        subscriber.assertFailedWith(PgException.class);
+        verifyNoInteractions(primary);
+        assertEquals(0.0, meterRegistry.get("datasource.reads.fallbacks").counter().count());
+    }
+
+    @Test
+    void testDetectsUnavailableReplica() {
+        assertTrue(ReadPool.isUnavailable(new ConnectException("Connection refused")));
+        assertTrue(ReadPool.isUnavailable(new RuntimeException(ClosedConnectionException.INSTANCE)));
+        assertTrue(ReadPool.isUnavailable(new PgException("the database system is starting up", "FATAL", "57P03", null)));
+        assertFalse(ReadPool.isUnavailable(new PgException("canceling statement due to statement timeout", "ERROR", "57014", null)));
+        assertFalse(ReadPool.isUnavailable(new IllegalStateException("unexpected row")));
+    }
+}
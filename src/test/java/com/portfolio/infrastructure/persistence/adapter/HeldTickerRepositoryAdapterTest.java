@@ -0,0 +1,52 @@
+package com.portfolio.infrastructure.persistence.adapter;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HeldTickerRepositoryAdapterTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFindHeldTickers() {
+        // Given
+        Pool pool = mock(Pool.class);
+        PreparedQuery<RowSet<Row>> preparedQuery = mock(PreparedQuery.class);
+        RowSet<Row> rowSet = mock(RowSet.class);
+        RowIterator<Row> iterator = mock(RowIterator.class);
+        List<Row> remaining = new ArrayList<>(List.of(tickerRow("AAPL"), tickerRow("MSFT")));
+        when(iterator.hasNext()).thenAnswer(invocation -> !remaining.isEmpty());
+        when(iterator.next()).thenAnswer(invocation -> remaining.remove(0));
+        when(rowSet.iterator()).thenReturn(iterator);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute()).thenReturn(Uni.createFrom().item(rowSet));
+
+        // When
+        Set<String> tickers = new HeldTickerRepositoryAdapter(pool).findHeldTickers()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(Set.of("AAPL", "MSFT"), tickers);
+        verify(pool).preparedQuery(HeldTickerRepositoryAdapter.FIND_HELD_TICKERS_SQL);
+    }
+
+    private static Row tickerRow(String ticker) {
+        Row row = mock(Row.class);
+        when(row.getString("ticker")).thenReturn(ticker);
+        return row;
+    }
+}
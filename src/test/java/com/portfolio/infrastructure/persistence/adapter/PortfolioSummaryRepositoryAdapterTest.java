@@ -0,0 +1,145 @@
+package com.portfolio.infrastructure.persistence.adapter;
+
+import com.portfolio.domain.model.PortfolioSummary;
+import com.portfolio.infrastructure.persistence.ReadPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PortfolioSummaryRepositoryAdapterTest {
+    private Pool pool;
+    private PortfolioSummaryRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        pool = mock(Pool.class);
+        adapter = new PortfolioSummaryRepositoryAdapter(pool, new ReadPool(pool, mock(Pool.class), new SimpleMeterRegistry()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private PreparedQuery<RowSet<Row>> stubQuery(String sql, Row... rows) {
+        PreparedQuery<RowSet<Row>> preparedQuery = mock(PreparedQuery.class);
+        RowSet<Row> rowSet = mock(RowSet.class);
+        when(rowSet.iterator()).thenAnswer(invocation -> {
+            List<Row> remaining = new ArrayList<>(List.of(rows));
+            RowIterator<Row> iterator = mock(RowIterator.class);
+            when(iterator.hasNext()).thenAnswer(next -> !remaining.isEmpty());
+            when(iterator.next()).thenAnswer(next -> remaining.remove(0));
+            return iterator;
+        });
+        when(pool.preparedQuery(sql)).thenReturn(preparedQuery);
+        when(preparedQuery.execute()).thenReturn(Uni.createFrom().item(rowSet));
+        return preparedQuery;
+    }
+
+    private static Row versionRow(long version) {
+        Row row = mock(Row.class);
+        when(row.getLong("last_value")).thenReturn(version);
+        return row;
+    }
+
+    @Test
+    void testFindStoredSummary() {
+        // Given
+        Row row = mock(Row.class);
+        when(row.getLong("total_positions")).thenReturn(2L);
+        when(row.getBigDecimal("total_market_value")).thenReturn(new BigDecimal("17550.00"));
+        when(row.getBigDecimal("total_cost_basis")).thenReturn(new BigDecimal("15000.00"));
+        when(row.getBigDecimal("total_unrealized_gain_loss")).thenReturn(new BigDecimal("2550.00"));
+        when(row.getBigDecimal("total_return_percentage")).thenReturn(new BigDecimal("17.0000000000"));
+        stubQuery(PortfolioSummaryRepositoryAdapter.FIND_STORED_SUMMARY_SQL, row);
+
+        // When
+        PortfolioSummary summary = adapter.findStoredSummary()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(new BigDecimal("17550.00"), summary.totalMarketValue());
+        assertEquals(new BigDecimal("15000.00"), summary.totalCost());
+        assertEquals(new BigDecimal("2550.00"), summary.totalUnrealizedGainLoss());
+        assertEquals(new BigDecimal("17.000000"), summary.totalUnrealizedGainLossPercentage());
+        assertEquals(2, summary.totalPositions());
+        assertEquals(2, summary.activePositions());
+    }
+
+    @Test
+    void testFindStoredSummaryWithoutPositions() {
+        // Given
+        Row row = mock(Row.class);
+        when(row.getLong("total_positions")).thenReturn(0L);
+        stubQuery(PortfolioSummaryRepositoryAdapter.FIND_STORED_SUMMARY_SQL, row);
+
+        // When
+        PortfolioSummary summary = adapter.findStoredSummary()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        // Then
+        assertEquals(BigDecimal.ZERO, summary.totalMarketValue());
+        assertEquals(BigDecimal.ZERO, summary.totalCost());
+        assertEquals(0, summary.totalPositions());
+    }
+
+    @Test
+    void testRefreshIfChangedOnlyRefreshesWhenPositionsChanged() {
+        // Given
+        Row version = versionRow(42L);
+        stubQuery(PortfolioSummaryRepositoryAdapter.CHANGE_VERSION_SQL, version);
+        PreparedQuery<RowSet<Row>> refreshSummary = stubQuery(PortfolioSummaryRepositoryAdapter.REFRESH_SUMMARY_SQL);
+        PreparedQuery<RowSet<Row>> refreshDetails = stubQuery(PortfolioSummaryRepositoryAdapter.REFRESH_DETAILS_SQL);
+
+        // When
+        Boolean first = adapter.refreshIfChanged()
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+        Boolean unchanged = adapter.refreshIfChanged()
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+        when(version.getLong("last_value")).thenReturn(43L);
+        Boolean changed = adapter.refreshIfChanged()
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        assertTrue(first);
+        assertFalse(unchanged);
+        assertTrue(changed);
+        verify(refreshSummary, times(2)).execute();
+        verify(refreshDetails, times(2)).execute();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFailedRefreshIsRetried() {
+        // Given
+        stubQuery(PortfolioSummaryRepositoryAdapter.CHANGE_VERSION_SQL, versionRow(42L));
+        PreparedQuery<RowSet<Row>> refreshSummary = stubQuery(PortfolioSummaryRepositoryAdapter.REFRESH_SUMMARY_SQL);
+        stubQuery(PortfolioSummaryRepositoryAdapter.REFRESH_DETAILS_SQL);
+        RowSet<Row> empty = mock(RowSet.class);
+        when(refreshSummary.execute())
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("lock timeout")))
+            .thenReturn(Uni.createFrom().item(empty));
+
+        // When
+        adapter.refreshIfChanged().subscribe().withSubscriber(UniAssertSubscriber.create()).assertFailed();
+        Boolean retried = adapter.refreshIfChanged()
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        assertTrue(retried);
+    }
+}
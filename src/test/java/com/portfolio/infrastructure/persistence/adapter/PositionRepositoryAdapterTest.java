@@ -1,16 +1,36 @@
 package com.portfolio.infrastructure.persistence.adapter;
 
+import com.portfolio.domain.model.Currency;
 import com.portfolio.domain.model.Position;
+import com.portfolio.domain.model.PositionDelta;
+import com.portfolio.infrastructure.invalidation.InvalidationBus;
+import com.portfolio.infrastructure.invalidation.InvalidationMessage;
 import com.portfolio.infrastructure.persistence.entity.PositionEntity;
 import com.portfolio.infrastructure.persistence.repository.PositionPanacheRepository;
 import com.portfolio.infrastructure.persistence.mapper.PositionEntityMapper;
+import com.portfolio.infrastructure.persistence.readmodel.PositionReadModel;
+import com.portfolio.infrastructure.persistence.readmodel.PositionSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -19,13 +39,26 @@ import static org.mockito.Mockito.*;
 class PositionRepositoryAdapterTest {
     private PositionPanacheRepository panacheRepository;
     private PositionEntityMapper positionEntityMapper;
+    private Pool pool;
+    private PositionReadModel readModel;
+    private InvalidationBus invalidationBus;
+    private PositionSqlReader sqlReader;
     private PositionRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
         panacheRepository = mock(PositionPanacheRepository.class);
         positionEntityMapper = mock(PositionEntityMapper.class);
-        adapter = new PositionRepositoryAdapter(panacheRepository, positionEntityMapper);
+        pool = mock(Pool.class);
+        readModel = mock(PositionReadModel.class);
+        when(readModel.current()).thenReturn(Optional.empty());
+        invalidationBus = mock(InvalidationBus.class);
+        when(invalidationBus.channel()).thenReturn("portfolio_invalidation");
+        when(invalidationBus.payloads(any(), any(), any())).thenReturn(List.of());
+        when(invalidationBus.publish(any(), any(), any())).thenReturn(Uni.createFrom().voidItem());
+        sqlReader = mock(PositionSqlReader.class);
+        adapter = new PositionRepositoryAdapter(panacheRepository, positionEntityMapper, pool, readModel, invalidationBus,
+            sqlReader, false);
     }
 
     @Test
@@ -138,6 +171,144 @@ class PositionRepositoryAdapterTest {
         assertNull(result);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUpdateMarketPrices() {
+        PreparedQuery<RowSet<Row>> preparedQuery = mock(PreparedQuery.class);
+        RowSet<Row> rowSet = mock(RowSet.class);
+        RowIterator<Row> iterator = mock(RowIterator.class);
+        List<Row> remaining = new ArrayList<>(List.of(tickerRow("AAPL")));
+        when(iterator.hasNext()).thenAnswer(invocation -> !remaining.isEmpty());
+        when(iterator.next()).thenAnswer(invocation -> remaining.remove(0));
+        when(rowSet.iterator()).thenReturn(iterator);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rowSet));
+        Map<String, BigDecimal> prices = new LinkedHashMap<>();
+        prices.put("AAPL", new BigDecimal("176.10"));
+        prices.put("UNKNOWN", new BigDecimal("300.25"));
+
+        Set<String> updated = adapter.updateMarketPrices(prices)
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        assertEquals(Set.of("AAPL"), updated);
+        verify(pool).preparedQuery(PositionRepositoryAdapter.UPDATE_MARKET_PRICES_SQL);
+        ArgumentCaptor<Tuple> parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(preparedQuery).execute(parameters.capture());
+        assertArrayEquals(new String[]{"AAPL", "UNKNOWN"}, parameters.getValue().getArrayOfStrings(0));
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("176.10"), new BigDecimal("300.25")},
+            parameters.getValue().getArrayOfBigDecimals(1));
+        verifyNoInteractions(panacheRepository);
+        verify(readModel).refreshInBackground();
+        verify(invalidationBus).publish(InvalidationMessage.Type.PRICES_UPDATED, null, Set.of("AAPL"));
+    }
+
+    @Test
+    void testUpdateMarketPricesWithoutPricesSkipsQuery() {
+        Set<String> updated = adapter.updateMarketPrices(Map.of())
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        assertTrue(updated.isEmpty());
+        verifyNoInteractions(pool);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRecalculatePositions() {
+        PreparedQuery<RowSet<Row>> preparedQuery = mock(PreparedQuery.class);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(mock(RowSet.class)));
+
+        adapter.recalculatePositions(List.of("AAPL", "MSFT"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        verify(pool).preparedQuery(PositionRepositoryAdapter.RECALCULATE_POSITIONS_SQL);
+        ArgumentCaptor<Tuple> parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(preparedQuery).execute(parameters.capture());
+        assertArrayEquals(new String[]{"AAPL", "MSFT"}, parameters.getValue().getArrayOfStrings(0));
+        verify(readModel).refreshInBackground();
+        verify(invalidationBus).publish(InvalidationMessage.Type.POSITIONS_CHANGED, null, List.of("AAPL", "MSFT"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFindTickersAfter() {
+        PreparedQuery<RowSet<Row>> preparedQuery = mock(PreparedQuery.class);
+        RowSet<Row> rowSet = mock(RowSet.class);
+        RowIterator<Row> iterator = mock(RowIterator.class);
+        List<Row> remaining = new ArrayList<>(List.of(tickerRow("AAPL"), tickerRow("MSFT")));
+        when(iterator.hasNext()).thenAnswer(invocation -> !remaining.isEmpty());
+        when(iterator.next()).thenAnswer(invocation -> remaining.remove(0));
+        when(rowSet.iterator()).thenReturn(iterator);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rowSet));
+
+        List<String> tickers = adapter.findTickersAfter(null, 100)
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        assertEquals(List.of("AAPL", "MSFT"), tickers);
+        verify(pool).preparedQuery(PositionRepositoryAdapter.FIND_TICKERS_AFTER_SQL);
+        ArgumentCaptor<Tuple> parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(preparedQuery).execute(parameters.capture());
+        assertEquals("", parameters.getValue().getString(0));
+        assertEquals(100, parameters.getValue().getInteger(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFindDriftedTickers() {
+        PreparedQuery<RowSet<Row>> preparedQuery = mock(PreparedQuery.class);
+        RowSet<Row> rowSet = mock(RowSet.class);
+        RowIterator<Row> iterator = mock(RowIterator.class);
+        List<Row> remaining = new ArrayList<>(List.of(tickerRow("KO")));
+        when(iterator.hasNext()).thenAnswer(invocation -> !remaining.isEmpty());
+        when(iterator.next()).thenAnswer(invocation -> remaining.remove(0));
+        when(rowSet.iterator()).thenReturn(iterator);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rowSet));
+
+        List<String> tickers = adapter.findDriftedTickers(new BigDecimal("0.01"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        assertEquals(List.of("KO"), tickers);
+        verify(pool).preparedQuery(PositionRepositoryAdapter.FIND_DRIFTED_TICKERS_SQL);
+        ArgumentCaptor<Tuple> parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(preparedQuery).execute(parameters.capture());
+        assertEquals(new BigDecimal("0.01"), parameters.getValue().getBigDecimal(0));
+    }
+
+    @Test
+    void testApplyDelta() {
+        PositionDelta delta = new PositionDelta("AAPL", BigDecimal.TEN, BigDecimal.TEN, new BigDecimal("1500.00"),
+            new BigDecimal("1500.00"), BigDecimal.ZERO, LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 15),
+            Currency.USD, null, null, null, null, null);
+        when(panacheRepository.applyDelta(delta)).thenReturn(Uni.createFrom().item(true));
+
+        Boolean applied = adapter.applyDelta(delta)
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        assertTrue(applied);
+        verify(panacheRepository).applyDelta(delta);
+        verifyNoInteractions(pool);
+    }
+
+    @Test
+    void testAppliedDeltaIsAnnouncedOnCommit() {
+        PositionDelta delta = new PositionDelta("AAPL", BigDecimal.TEN, BigDecimal.TEN, new BigDecimal("1500.00"),
+            new BigDecimal("1500.00"), BigDecimal.ZERO, LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 15),
+            Currency.USD, null, null, null, null, null);
+        when(panacheRepository.applyDelta(delta)).thenReturn(Uni.createFrom().item(true), Uni.createFrom().item(false));
+        when(invalidationBus.payloads(InvalidationMessage.Type.POSITIONS_CHANGED, null, List.of("AAPL")))
+            .thenReturn(List.of("{\"type\":\"POSITIONS_CHANGED\"}"));
+        when(panacheRepository.notifyOnCommit(anyString(), anyString())).thenReturn(Uni.createFrom().voidItem());
+
+        adapter.applyDelta(delta).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+        adapter.applyDelta(delta).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // A delta that could not be applied is followed by a recalculation, which announces itself
+        verify(panacheRepository, times(1)).notifyOnCommit("portfolio_invalidation", "{\"type\":\"POSITIONS_CHANGED\"}");
+        verify(invalidationBus, never()).publish(any(), any(), any());
+    }
+
     @Test
     void testRecalculatePosition() {
         String ticker = "AAPL";
@@ -177,7 +348,7 @@ class PositionRepositoryAdapterTest {
 
     @Test
     void testCountAll() {
-        when(panacheRepository.count()).thenReturn(Uni.createFrom().item(42L));
+        when(panacheRepository.countAll()).thenReturn(Uni.createFrom().item(42L));
 
         Uni<Long> uni = adapter.countAll();
         Long result = uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
@@ -185,6 +356,28 @@ class PositionRepositoryAdapterTest {
         assertEquals(42L, result);
     }
 
+    @Test
+    void testCountsGoThroughSessionScopedQueriesWhenReadModelDisabled() {
+        // Given
+        adapter = new PositionRepositoryAdapter(panacheRepository, positionEntityMapper, pool,
+            new PositionReadModel(pool, false, new SimpleMeterRegistry()), invalidationBus, sqlReader, true);
+        when(panacheRepository.countAll()).thenReturn(Uni.createFrom().item(3L));
+        when(panacheRepository.countWithShares()).thenReturn(Uni.createFrom().item(2L));
+        when(panacheRepository.existsByTicker("AAPL")).thenReturn(Uni.createFrom().item(true));
+
+        // When
+        Long count = adapter.countAll().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+        Long withShares = adapter.countWithShares().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+        Boolean exists = adapter.existsByTicker("AAPL").subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        assertEquals(3L, count);
+        assertEquals(2L, withShares);
+        assertTrue(exists);
+        verify(panacheRepository, never()).count();
+        verifyNoInteractions(pool);
+    }
+
     @Test
     void testCountWithShares() {
         when(panacheRepository.countWithShares()).thenReturn(Uni.createFrom().item(7L));
@@ -194,4 +387,70 @@ class PositionRepositoryAdapterTest {
 
         assertEquals(7L, result);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testReadsAreServedFromReadModelSnapshot() {
+        Position apple = position("AAPL", "10");
+        Position closed = position("KO", "0");
+        when(readModel.current()).thenReturn(Optional.of(PositionSnapshot.of(List.of(apple, closed))));
+
+        assertEquals(apple.getId(), adapter.findById(apple.getId())
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem().getId());
+        assertEquals(closed.getId(), adapter.findByTicker("KO")
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem().getId());
+        assertNull(adapter.findByTicker("MSFT")
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem());
+        assertEquals(List.of("AAPL", "KO"), adapter.findAll()
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem()
+            .stream().map(Position::getTicker).toList());
+        assertEquals(List.of("AAPL"), adapter.findAllWithShares()
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem()
+            .stream().map(Position::getTicker).toList());
+        assertTrue(adapter.existsByTicker("AAPL")
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem());
+        assertEquals(2L, adapter.countAll()
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem());
+        assertEquals(1L, adapter.countWithShares()
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem());
+        verifyNoInteractions(panacheRepository, positionEntityMapper, pool);
+    }
+
+    private static Position position(String ticker, String quantity) {
+        Position position = new Position(ticker, Currency.USD);
+        position.setId(UUID.randomUUID());
+        position.setTotalQuantity(new BigDecimal(quantity));
+        return position;
+    }
+
+    private static Row tickerRow(String ticker) {
+        Row row = mock(Row.class);
+        when(row.getString("ticker")).thenReturn(ticker);
+        return row;
+    }
+
+    @Test
+    void testReadsGoThroughSqlReaderWhenEnabled() {
+        // Given
+        adapter = new PositionRepositoryAdapter(panacheRepository, positionEntityMapper, pool, readModel, invalidationBus,
+            sqlReader, true);
+        UUID id = UUID.randomUUID();
+        Position position = mock(Position.class);
+        when(sqlReader.findById(id)).thenReturn(Uni.createFrom().item(position));
+        when(sqlReader.findByTicker("AAPL")).thenReturn(Uni.createFrom().item(position));
+        when(sqlReader.findAllWithShares()).thenReturn(Uni.createFrom().item(List.of(position)));
+        when(sqlReader.findAll()).thenReturn(Uni.createFrom().item(List.of(position)));
+
+        // When
+        Position byId = adapter.findById(id).subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+        Position byTicker = adapter.findByTicker("AAPL").subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+        List<Position> withShares = adapter.findAllWithShares().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+        List<Position> all = adapter.findAll().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        assertSame(position, byId);
+        assertSame(position, byTicker);
+        assertEquals(List.of(position), withShares);
+        assertEquals(List.of(position), all);
+        verifyNoInteractions(panacheRepository, positionEntityMapper);
+    }
+}
@@ -0,0 +1,116 @@
+package com.portfolio.infrastructure.persistence.adapter;
+
+import com.portfolio.domain.model.Currency;
+import com.portfolio.domain.model.Position;
+import com.portfolio.infrastructure.persistence.ReadPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PositionSqlReaderTest {
+    private Pool pool;
+    private PreparedQuery<RowSet<Row>> preparedQuery;
+    private PositionSqlReader reader;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        pool = mock(Pool.class);
+        preparedQuery = mock(PreparedQuery.class);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        reader = new PositionSqlReader(new ReadPool(pool, mock(Pool.class), new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void testFindAllWithSharesMapsRowsToPositions() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(preparedQuery.execute()).thenReturn(Uni.createFrom().item(rowSet(positionRow(id, "AAPL"), positionRow(UUID.randomUUID(), "KO"))));
+
+        // When
+        List<Position> positions = reader.findAllWithShares()
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        verify(pool).preparedQuery(PositionSqlReader.FIND_ALL_WITH_SHARES_SQL);
+        assertEquals(List.of("AAPL", "KO"), positions.stream().map(Position::getTicker).toList());
+        Position apple = positions.get(0);
+        assertEquals(id, apple.getId());
+        assertEquals(new BigDecimal("10"), apple.getTotalQuantity());
+        assertEquals(new BigDecimal("150.25"), apple.getAveragePrice());
+        assertEquals(new BigDecimal("176.10"), apple.getCurrentPrice());
+        assertEquals(new BigDecimal("1502.50"), apple.getTotalCost());
+        assertEquals(Currency.USD, apple.getCurrency());
+        assertEquals(LocalDate.of(2024, 3, 1), apple.getLastUpdated());
+    }
+
+    @Test
+    void testFindByTicker() {
+        // Given
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rowSet(positionRow(UUID.randomUUID(), "AAPL"))));
+
+        // When
+        Position position = reader.findByTicker("AAPL")
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        verify(pool).preparedQuery(PositionSqlReader.FIND_BY_TICKER_SQL);
+        assertEquals("AAPL", position.getTicker());
+    }
+
+    @Test
+    void testFindByIdNotFound() {
+        // Given
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rowSet()));
+
+        // When
+        Position position = reader.findById(UUID.randomUUID())
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        verify(pool).preparedQuery(PositionSqlReader.FIND_BY_ID_SQL);
+        assertNull(position);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RowSet<Row> rowSet(Row... rows) {
+        RowSet<Row> rowSet = mock(RowSet.class);
+        RowIterator<Row> iterator = mock(RowIterator.class);
+        List<Row> remaining = new ArrayList<>(List.of(rows));
+        when(iterator.hasNext()).thenAnswer(invocation -> !remaining.isEmpty());
+        when(iterator.next()).thenAnswer(invocation -> remaining.remove(0));
+        when(rowSet.iterator()).thenReturn(iterator);
+        when(rowSet.size()).thenReturn(rows.length);
+        return rowSet;
+    }
+
+    private static Row positionRow(UUID id, String ticker) {
+        Row row = mock(Row.class);
+        when(row.getUUID("id")).thenReturn(id);
+        when(row.getString("ticker")).thenReturn(ticker);
+        when(row.getBigDecimal("current_quantity")).thenReturn(new BigDecimal("10"));
+        when(row.getBigDecimal("avg_cost_per_share")).thenReturn(new BigDecimal("150.25"));
+        when(row.getBigDecimal("current_price")).thenReturn(new BigDecimal("176.10"));
+        when(row.getBigDecimal("total_cost_basis")).thenReturn(new BigDecimal("1502.50"));
+        when(row.getString("primary_currency")).thenReturn("USD");
+        when(row.getLocalDate("last_transaction_date")).thenReturn(LocalDate.of(2024, 3, 1));
+        return row;
+    }
+}
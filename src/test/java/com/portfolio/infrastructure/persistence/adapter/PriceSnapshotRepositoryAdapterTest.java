@@ -0,0 +1,125 @@
+package com.portfolio.infrastructure.persistence.adapter;
+
+import com.portfolio.domain.model.PriceQuote;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PriceSnapshotRepositoryAdapterTest {
+    private Pool pool;
+    private PreparedQuery<RowSet<Row>> preparedQuery;
+    private PriceSnapshotRepositoryAdapter adapter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        pool = mock(Pool.class);
+        preparedQuery = mock(PreparedQuery.class);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        adapter = new PriceSnapshotRepositoryAdapter(pool);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RowSet<Row> rowSetOf(Row... rows) {
+        RowSet<Row> rowSet = mock(RowSet.class);
+        RowIterator<Row> iterator = mock(RowIterator.class);
+        List<Row> remaining = new ArrayList<>(List.of(rows));
+        when(iterator.hasNext()).thenAnswer(invocation -> !remaining.isEmpty());
+        when(iterator.next()).thenAnswer(invocation -> remaining.remove(0));
+        when(rowSet.iterator()).thenReturn(iterator);
+        return rowSet;
+    }
+
+    private Row snapshotRow(String ticker, String price, LocalDateTime fetchedAt) {
+        Row row = mock(Row.class);
+        when(row.getString("ticker")).thenReturn(ticker);
+        when(row.getBigDecimal("price")).thenReturn(new BigDecimal(price));
+        when(row.getOffsetDateTime("fetched_at"))
+            .thenReturn(fetchedAt.atZone(ZoneId.systemDefault()).toOffsetDateTime());
+        return row;
+    }
+
+    @Test
+    void testSaveAllUpsertsOneRowPerQuote() {
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        when(preparedQuery.executeBatch(anyList())).thenReturn(Uni.createFrom().item(rowSetOf()));
+
+        adapter.saveAll(Map.of(
+                "AAPL", new PriceQuote(new BigDecimal("175.50"), fetchedAt),
+                "MSFT", new PriceQuote(new BigDecimal("300.25"), fetchedAt)))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted();
+
+        verify(pool).preparedQuery(PriceSnapshotRepositoryAdapter.UPSERT_SQL);
+        verify(preparedQuery).executeBatch(argThat(rows -> rows.size() == 2));
+    }
+
+    @Test
+    void testSaveAllWithNoQuotesSkipsDatabase() {
+        adapter.saveAll(Map.of())
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted();
+
+        verifyNoInteractions(pool);
+    }
+
+    @Test
+    void testFindByTickersMapsRowsToQuotes() {
+        LocalDateTime fetchedAt = LocalDateTime.now().minusMinutes(5).withNano(0);
+        RowSet<Row> rows = rowSetOf(snapshotRow("AAPL", "175.50", fetchedAt));
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rows));
+
+        Map<String, PriceQuote> result = adapter.findByTickers(Set.of("AAPL", "MSFT"), fetchedAt.minusMinutes(30))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        assertEquals(Map.of("AAPL", new PriceQuote(new BigDecimal("175.50"), fetchedAt)), result);
+        verify(pool).preparedQuery(PriceSnapshotRepositoryAdapter.FIND_BY_TICKERS_SQL);
+    }
+
+    @Test
+    void testFindByTickersWithNoTickersSkipsDatabase() {
+        Map<String, PriceQuote> result = adapter.findByTickers(Set.of(), LocalDateTime.now())
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(pool);
+    }
+
+    @Test
+    void testFindForHeldPositions() {
+        LocalDateTime fetchedAt = LocalDateTime.now().minusMinutes(1).withNano(0);
+        RowSet<Row> rows = rowSetOf(snapshotRow("AAPL", "175.50", fetchedAt), snapshotRow("MSFT", "300.25", fetchedAt));
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rows));
+
+        Map<String, PriceQuote> result = adapter.findForHeldPositions(fetchedAt.minusMinutes(30))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        assertEquals(2, result.size());
+        assertEquals(new BigDecimal("300.25"), result.get("MSFT").price());
+        verify(pool).preparedQuery(PriceSnapshotRepositoryAdapter.FIND_FOR_HELD_POSITIONS_SQL);
+    }
+}
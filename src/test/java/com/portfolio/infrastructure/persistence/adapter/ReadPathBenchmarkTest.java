@@ -0,0 +1,167 @@
+package com.portfolio.infrastructure.persistence.adapter;
+
+import com.portfolio.domain.model.Position;
+import com.portfolio.domain.model.Transaction;
+import com.portfolio.domain.model.TransactionCursor;
+import com.portfolio.infrastructure.persistence.mapper.PositionEntityMapper;
+import com.portfolio.infrastructure.persistence.mapper.TransactionEntityMapper;
+import com.portfolio.infrastructure.persistence.repository.PositionPanacheRepository;
+import com.portfolio.infrastructure.persistence.repository.TransactionPanacheRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.vertx.VertxContextSupport;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the hot read paths through Hibernate Reactive with the same reads through the reactive SQL
+ * client, on seeded rows of a local Postgres. Reports the p50 and p99 latency and the bytes allocated
+ * per read by every thread of the JVM, and checks both paths return the same domain objects.
+ * Run by the postgresTest task.
+ */
+@QuarkusTest
+@Tag("postgres")
+class ReadPathBenchmarkTest {
+    private static final int POSITIONS = 200;
+    private static final int TRANSACTIONS = 500;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    private static final String SEED_POSITIONS_SQL = """
+        INSERT INTO positions (ticker, current_quantity, avg_cost_per_share, primary_currency, total_cost_basis,
+                               current_price, last_transaction_date)
+        SELECT 'BNCH' || lpad(i::text, 3, '0'), 10, 150.25, 'USD', 1502.50, 176.10, DATE '2024-03-01'
+        FROM generate_series(1, %d) AS i
+        """.formatted(POSITIONS);
+
+    private static final String SEED_TRANSACTIONS_SQL = """
+        INSERT INTO transactions (ticker, transaction_type, quantity, cost_per_share, currency, transaction_date,
+                                  commission, notes)
+        SELECT 'BNCH001', 'BUY', 1, 100 + i, 'USD', DATE '2020-01-01' + i, 1.00, 'benchmark'
+        FROM generate_series(1, %d) AS i
+        """.formatted(TRANSACTIONS);
+
+    @Inject
+    Pool pool;
+
+    @Inject
+    PositionPanacheRepository positionPanacheRepository;
+
+    @Inject
+    PositionEntityMapper positionEntityMapper;
+
+    @Inject
+    PositionSqlReader positionSqlReader;
+
+    @Inject
+    TransactionPanacheRepository transactionPanacheRepository;
+
+    @Inject
+    TransactionEntityMapper transactionEntityMapper;
+
+    @Inject
+    TransactionSqlReader transactionSqlReader;
+
+    @BeforeEach
+    void seed() {
+        cleanUp();
+        pool.query(SEED_POSITIONS_SQL).execute().await().indefinitely();
+        pool.query(SEED_TRANSACTIONS_SQL).execute().await().indefinitely();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        pool.query("DELETE FROM transactions WHERE ticker LIKE 'BNCH%'").execute().await().indefinitely();
+        pool.query("DELETE FROM positions WHERE ticker LIKE 'BNCH%'").execute().await().indefinitely();
+    }
+
+    @Test
+    void testFindAllWithShares() throws Throwable {
+        Supplier<Uni<List<Position>>> panache = () -> positionPanacheRepository.findAllWithShares()
+            .map(entities -> entities.stream().map(positionEntityMapper::toDomain).toList());
+        Supplier<Uni<List<Position>>> sql = positionSqlReader::findAllWithShares;
+
+        assertEquals(tickers(run(panache)), tickers(run(sql)));
+        Result panacheResult = measure(panache);
+        Result sqlResult = measure(sql);
+
+        report("findAllWithShares", panacheResult, sqlResult);
+    }
+
+    @Test
+    void testSearchTransactionPage() throws Throwable {
+        // The second page, so both paths read through the (transaction_date, id) keyset condition
+        List<Transaction> firstPage = run(() -> transactionSqlReader.searchPage("BNCH001", null, null, null, null, PAGE_SIZE));
+        TransactionCursor after = TransactionCursor.after(firstPage.get(firstPage.size() - 1));
+        Supplier<Uni<List<Transaction>>> panache = () -> transactionPanacheRepository
+            .searchPage("BNCH001", null, null, null, after, PAGE_SIZE + 1)
+            .map(entities -> entities.stream().map(transactionEntityMapper::toDomain).toList());
+        Supplier<Uni<List<Transaction>>> sql = () -> transactionSqlReader
+            .searchPage("BNCH001", null, null, null, after, PAGE_SIZE + 1);
+
+        assertEquals(run(panache).stream().map(Transaction::getId).toList(),
+            run(sql).stream().map(Transaction::getId).toList());
+        Result panacheResult = measure(panache);
+        Result sqlResult = measure(sql);
+
+        report("searchPage", panacheResult, sqlResult);
+    }
+
+    private static List<String> tickers(List<Position> positions) {
+        return positions.stream().map(Position::getTicker).filter(ticker -> ticker.startsWith("BNCH")).toList();
+    }
+
+    private static <T> T run(Supplier<Uni<T>> read) throws Throwable {
+        return VertxContextSupport.subscribeAndAwait(read);
+    }
+
+    private static <T> Result measure(Supplier<Uni<T>> read) throws Throwable {
+        for (int i = 0; i < WARMUP; i++) {
+            run(read);
+        }
+
+        long[] latencies = new long[ITERATIONS];
+        long allocatedBefore = allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            run(read);
+            latencies[i] = System.nanoTime() - start;
+        }
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        Arrays.sort(latencies);
+        return new Result(latencies[ITERATIONS / 2], latencies[ITERATIONS * 99 / 100], allocated / ITERATIONS);
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds()))
+            .filter(bytes -> bytes > 0)
+            .sum();
+    }
+
+    private static void report(String read, Result panache, Result sql) {
+        System.out.printf("%s through Hibernate Reactive: %s%n", read, panache);
+        System.out.printf("%s through the SQL client:     %s%n", read, sql);
+    }
+
+    private record Result(long p50Nanos, long p99Nanos, long bytesPerRead) {
+        @Override
+        public String toString() {
+            return "p50 %.3f ms, p99 %.3f ms, %d bytes allocated per read".formatted(
+                p50Nanos / 1e6, p99Nanos / 1e6, bytesPerRead);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.portfolio.infrastructure.persistence.adapter;
+
+import com.portfolio.domain.model.RecalculationJob;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RecalculationJobRepositoryAdapterTest {
+    private static final UUID JOB_ID = UUID.randomUUID();
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    private Pool pool;
+    private PreparedQuery<RowSet<Row>> preparedQuery;
+    private RecalculationJobRepositoryAdapter adapter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        pool = mock(Pool.class);
+        preparedQuery = mock(PreparedQuery.class);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        adapter = new RecalculationJobRepositoryAdapter(pool);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RowSet<Row> rowSetOf(Row... rows) {
+        RowSet<Row> rowSet = mock(RowSet.class);
+        RowIterator<Row> iterator = mock(RowIterator.class);
+        List<Row> remaining = new ArrayList<>(List.of(rows));
+        when(iterator.hasNext()).thenAnswer(invocation -> !remaining.isEmpty());
+        when(iterator.next()).thenAnswer(invocation -> remaining.remove(0));
+        when(rowSet.iterator()).thenReturn(iterator);
+        return rowSet;
+    }
+
+    private Row jobRow(String status, int processed, String lastTicker, LocalDateTime finishedAt) {
+        Row row = mock(Row.class);
+        when(row.getUUID("id")).thenReturn(JOB_ID);
+        when(row.getString("status")).thenReturn(status);
+        when(row.getInteger("total_tickers")).thenReturn(10);
+        when(row.getInteger("processed_tickers")).thenReturn(processed);
+        when(row.getString("last_ticker")).thenReturn(lastTicker);
+        when(row.getOffsetDateTime("started_at")).thenReturn(STARTED_AT.atZone(ZoneId.systemDefault()).toOffsetDateTime());
+        when(row.getOffsetDateTime("updated_at")).thenReturn(STARTED_AT.atZone(ZoneId.systemDefault()).toOffsetDateTime());
+        when(row.getOffsetDateTime("finished_at")).thenReturn(
+            finishedAt == null ? null : finishedAt.atZone(ZoneId.systemDefault()).toOffsetDateTime());
+        return row;
+    }
+
+    @Test
+    void testCreate() {
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rowSetOf(jobRow("RUNNING", 0, null, null))));
+
+        RecalculationJob job = adapter.create(10)
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        assertEquals(JOB_ID, job.id());
+        assertEquals(RecalculationJob.Status.RUNNING, job.status());
+        assertEquals(10, job.totalTickers());
+        assertEquals(STARTED_AT, job.startedAt());
+        assertNull(job.finishedAt());
+        verify(pool).preparedQuery(RecalculationJobRepositoryAdapter.INSERT_SQL);
+    }
+
+    @Test
+    void testFindRunningWithoutRunningJob() {
+        when(preparedQuery.execute()).thenReturn(Uni.createFrom().item(rowSetOf()));
+
+        RecalculationJob job = adapter.findRunning()
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        assertNull(job);
+        verify(pool).preparedQuery(RecalculationJobRepositoryAdapter.FIND_RUNNING_SQL);
+    }
+
+    @Test
+    void testRecordProgress() {
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rowSetOf(jobRow("RUNNING", 4, "MSFT", null))));
+
+        RecalculationJob job = adapter.recordProgress(JOB_ID, 4, "MSFT")
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        assertEquals(4, job.processedTickers());
+        assertEquals("MSFT", job.lastTicker());
+        ArgumentCaptor<Tuple> parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(preparedQuery).execute(parameters.capture());
+        assertEquals(JOB_ID, parameters.getValue().getUUID(0));
+        assertEquals(4, parameters.getValue().getInteger(1));
+        assertEquals("MSFT", parameters.getValue().getString(2));
+        verify(pool).preparedQuery(RecalculationJobRepositoryAdapter.RECORD_PROGRESS_SQL);
+    }
+
+    @Test
+    void testFinish() {
+        LocalDateTime finishedAt = STARTED_AT.plusMinutes(5);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rowSetOf(jobRow("FAILED", 4, "MSFT", finishedAt))));
+
+        RecalculationJob job = adapter.finish(JOB_ID, RecalculationJob.Status.FAILED, "deadlock detected")
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+
+        assertEquals(RecalculationJob.Status.FAILED, job.status());
+        assertEquals(finishedAt, job.finishedAt());
+        ArgumentCaptor<Tuple> parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(preparedQuery).execute(parameters.capture());
+        assertEquals("FAILED", parameters.getValue().getString(1));
+        assertEquals("deadlock detected", parameters.getValue().getString(2));
+    }
+}
@@ -1,17 +1,29 @@
 package com.portfolio.infrastructure.persistence.adapter;
 
 import com.portfolio.domain.event.DomainEvent;
+import com.portfolio.domain.model.Currency;
 import com.portfolio.domain.model.Transaction;
+import com.portfolio.domain.model.TransactionCursor;
+import com.portfolio.domain.model.TransactionPage;
 import com.portfolio.domain.model.TransactionType;
 import com.portfolio.infrastructure.persistence.entity.TransactionEntity;
 import com.portfolio.infrastructure.persistence.mapper.TransactionEntityMapper;
 import com.portfolio.infrastructure.persistence.repository.TransactionPanacheRepository;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.PreparedStatement;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowStream;
+import io.vertx.mutiny.sqlclient.SqlConnection;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -23,13 +35,18 @@ import static org.mockito.Mockito.*;
 class TransactionRepositoryAdapterTest {
     private TransactionPanacheRepository panacheRepository;
     private TransactionEntityMapper transactionEntityMapper;
+    private Pool pool;
+    private TransactionSqlReader sqlReader;
     private TransactionRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
         panacheRepository = mock(TransactionPanacheRepository.class);
         transactionEntityMapper = mock(TransactionEntityMapper.class);
-        adapter = new TransactionRepositoryAdapter(panacheRepository, transactionEntityMapper);
+        pool = mock(Pool.class);
+        sqlReader = mock(TransactionSqlReader.class);
+        when(panacheRepository.markPositionsProjected()).thenReturn(Uni.createFrom().voidItem());
+        adapter = new TransactionRepositoryAdapter(panacheRepository, transactionEntityMapper, pool, 500, sqlReader, false);
     }
 
     @Test
@@ -48,6 +65,9 @@ class TransactionRepositoryAdapterTest {
         assertEquals(transaction, result);
         verify(transactionEntityMapper).toEntity(transaction);
         verify(transactionEntityMapper).toDomain(entity, domainEvents);
+        InOrder inOrder = inOrder(panacheRepository);
+        inOrder.verify(panacheRepository).markPositionsProjected();
+        inOrder.verify(panacheRepository).persistAndFlush(entity);
     }
 
     @Test
@@ -76,6 +96,35 @@ class TransactionRepositoryAdapterTest {
         assertNull(result);
     }
 
+    @Test
+    void testFindByIdForReadGoesThroughSqlReaderWhenEnabled() {
+        adapter = new TransactionRepositoryAdapter(panacheRepository, transactionEntityMapper, pool, 500, sqlReader, true);
+        UUID id = UUID.randomUUID();
+        Transaction transaction = mock(Transaction.class);
+        when(sqlReader.findById(id)).thenReturn(Uni.createFrom().item(transaction));
+
+        Transaction result = adapter.findByIdForRead(id)
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        assertSame(transaction, result);
+        verifyNoInteractions(panacheRepository);
+    }
+
+    @Test
+    void testFindByIdForReadUsesSessionWhenSqlReadsDisabled() {
+        UUID id = UUID.randomUUID();
+        TransactionEntity entity = mock(TransactionEntity.class);
+        Transaction transaction = mock(Transaction.class);
+        when(panacheRepository.findById(id)).thenReturn(Uni.createFrom().item(entity));
+        when(transactionEntityMapper.toDomain(entity)).thenReturn(transaction);
+
+        Transaction result = adapter.findByIdForRead(id)
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        assertSame(transaction, result);
+        verifyNoInteractions(sqlReader);
+    }
+
     @Test
     void testFindByTicker() {
         String ticker = "AAPL";
@@ -129,6 +178,127 @@ class TransactionRepositoryAdapterTest {
         verify(transactionEntityMapper).toDomain(entity);
     }
 
+    @Test
+    void testSearchPageReturnsCursorWhenMoreRowsFollow() {
+        TransactionCursor after = new TransactionCursor(LocalDate.of(2024, 3, 1), UUID.randomUUID());
+        TransactionEntity first = mock(TransactionEntity.class);
+        TransactionEntity second = mock(TransactionEntity.class);
+        TransactionEntity extra = mock(TransactionEntity.class);
+        Transaction firstTransaction = mock(Transaction.class);
+        Transaction secondTransaction = mock(Transaction.class);
+        UUID secondId = UUID.randomUUID();
+        when(secondTransaction.getId()).thenReturn(secondId);
+        when(secondTransaction.getTransactionDate()).thenReturn(LocalDate.of(2024, 2, 1));
+        when(panacheRepository.searchPage("AAPL", null, null, null, after, 3))
+            .thenReturn(Uni.createFrom().item(List.of(first, second, extra)));
+        when(transactionEntityMapper.toDomain(first)).thenReturn(firstTransaction);
+        when(transactionEntityMapper.toDomain(second)).thenReturn(secondTransaction);
+
+        TransactionPage page = adapter.searchPage("AAPL", null, null, null, after, 2)
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        assertEquals(List.of(firstTransaction, secondTransaction), page.transactions());
+        assertEquals(new TransactionCursor(LocalDate.of(2024, 2, 1), secondId), page.next());
+        verify(transactionEntityMapper, never()).toDomain(extra);
+    }
+
+    @Test
+    void testSearchPageLastPage() {
+        TransactionEntity entity = mock(TransactionEntity.class);
+        Transaction transaction = mock(Transaction.class);
+        when(panacheRepository.searchPage(null, null, null, null, null, 3))
+            .thenReturn(Uni.createFrom().item(List.of(entity)));
+        when(transactionEntityMapper.toDomain(entity)).thenReturn(transaction);
+
+        TransactionPage page = adapter.searchPage(null, null, null, null, null, 2)
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        assertEquals(List.of(transaction), page.transactions());
+        assertFalse(page.hasNext());
+        assertNull(page.nextPageToken());
+    }
+
+    @Test
+    void testSearchPageGoesThroughSqlReaderWhenEnabled() {
+        adapter = new TransactionRepositoryAdapter(panacheRepository, transactionEntityMapper, pool, 500, sqlReader, true);
+        Transaction first = mock(Transaction.class);
+        Transaction second = mock(Transaction.class);
+        Transaction extra = mock(Transaction.class);
+        UUID secondId = UUID.randomUUID();
+        when(second.getId()).thenReturn(secondId);
+        when(second.getTransactionDate()).thenReturn(LocalDate.of(2024, 2, 1));
+        when(sqlReader.searchPage("AAPL", TransactionType.BUY, null, null, null, 3))
+            .thenReturn(Uni.createFrom().item(List.of(first, second, extra)));
+
+        TransactionPage page = adapter.searchPage("AAPL", TransactionType.BUY, null, null, null, 2)
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        assertEquals(List.of(first, second), page.transactions());
+        assertEquals(new TransactionCursor(LocalDate.of(2024, 2, 1), secondId), page.next());
+        verifyNoInteractions(panacheRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamAllReadsThroughCursorAndReleasesConnection() {
+        // Given
+        SqlConnection connection = mock(SqlConnection.class);
+        io.vertx.mutiny.sqlclient.Transaction transaction = mock(io.vertx.mutiny.sqlclient.Transaction.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        RowStream<Row> rowStream = mock(RowStream.class);
+        UUID id = UUID.randomUUID();
+        Row row = mock(Row.class);
+        when(row.getUUID("id")).thenReturn(id);
+        when(row.getString("ticker")).thenReturn("AAPL");
+        when(row.getString("transaction_type")).thenReturn("BUY");
+        when(row.getBigDecimal("quantity")).thenReturn(new BigDecimal("10"));
+        when(row.getBigDecimal("cost_per_share")).thenReturn(new BigDecimal("150.00"));
+        when(row.getString("currency")).thenReturn("USD");
+        when(row.getLocalDate("transaction_date")).thenReturn(LocalDate.of(2024, 1, 15));
+        when(row.getBoolean("is_fractional")).thenReturn(false);
+        when(pool.getConnection()).thenReturn(Uni.createFrom().item(connection));
+        when(connection.begin()).thenReturn(Uni.createFrom().item(transaction));
+        when(connection.prepare(TransactionRepositoryAdapter.STREAM_ALL_SQL)).thenReturn(Uni.createFrom().item(statement));
+        when(statement.createStream(500)).thenReturn(rowStream);
+        when(rowStream.toMulti()).thenReturn(Multi.createFrom().item(row));
+        when(transaction.rollback()).thenReturn(Uni.createFrom().voidItem());
+        when(connection.close()).thenReturn(Uni.createFrom().voidItem());
+
+        // When
+        List<Transaction> result = adapter.streamAll()
+            .subscribe().withSubscriber(AssertSubscriber.create(10))
+            .awaitCompletion()
+            .getItems();
+
+        // Then
+        assertEquals(1, result.size());
+        Transaction streamed = result.getFirst();
+        assertEquals(id, streamed.getId());
+        assertEquals(TransactionType.BUY, streamed.getTransactionType());
+        assertEquals(Currency.USD, streamed.getCurrency());
+        assertNull(streamed.getCommissionCurrency());
+        verify(transaction).rollback();
+        verify(connection).close();
+        verifyNoInteractions(panacheRepository);
+    }
+
+    @Test
+    void testStreamAllReleasesConnectionWhenTransactionCannotStart() {
+        // Given
+        SqlConnection connection = mock(SqlConnection.class);
+        when(pool.getConnection()).thenReturn(Uni.createFrom().item(connection));
+        when(connection.begin()).thenReturn(Uni.createFrom().failure(new RuntimeException("connection reset")));
+        when(connection.close()).thenReturn(Uni.createFrom().voidItem());
+
+        // When
+        adapter.streamAll()
+            .subscribe().withSubscriber(AssertSubscriber.create(10))
+            .awaitFailure();
+
+        // Then
+        verify(connection).close();
+    }
+
     @Test
     void testUpdate() {
         Transaction transaction = mock(Transaction.class);
@@ -153,7 +323,9 @@ class TransactionRepositoryAdapterTest {
         assertEquals(transaction, result);
         verify(transactionEntityMapper).toEntity(transaction);
         verify(transactionEntityMapper).toDomain(mergedEntity, domainEvents);
-        verify(panacheRepository).persistAndFlush(mergedEntity);
+        InOrder inOrder = inOrder(panacheRepository);
+        inOrder.verify(panacheRepository).markPositionsProjected();
+        inOrder.verify(panacheRepository).persistAndFlush(mergedEntity);
     }
 
     @Test
@@ -165,6 +337,9 @@ class TransactionRepositoryAdapterTest {
         Boolean result = uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
 
         assertTrue(result);
+        InOrder inOrder = inOrder(panacheRepository);
+        inOrder.verify(panacheRepository).markPositionsProjected();
+        inOrder.verify(panacheRepository).deleteById(id);
     }
 
     @Test
@@ -210,4 +385,22 @@ class TransactionRepositoryAdapterTest {
 
         assertEquals(7L, result);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testListingsGoThroughSqlReaderWhenEnabled() {
+        // Given
+        adapter = new TransactionRepositoryAdapter(panacheRepository, transactionEntityMapper, pool, 500, sqlReader, true);
+        Transaction transaction = mock(Transaction.class);
+        when(sqlReader.findByTicker("AAPL")).thenReturn(Uni.createFrom().item(List.of(transaction)));
+        when(sqlReader.findAll()).thenReturn(Uni.createFrom().item(List.of(transaction)));
+
+        // When
+        List<Transaction> byTicker = adapter.findByTicker("AAPL").subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+        List<Transaction> all = adapter.findAll().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        assertEquals(List.of(transaction), byTicker);
+        assertEquals(List.of(transaction), all);
+        verifyNoInteractions(panacheRepository, transactionEntityMapper);
+    }
+}
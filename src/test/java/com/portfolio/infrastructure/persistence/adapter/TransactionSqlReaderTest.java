@@ -0,0 +1,140 @@
+package com.portfolio.infrastructure.persistence.adapter;
+
+import com.portfolio.domain.model.Transaction;
+import com.portfolio.domain.model.TransactionCursor;
+import com.portfolio.domain.model.TransactionType;
+import com.portfolio.infrastructure.persistence.ReadPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TransactionSqlReaderTest {
+    private Pool pool;
+    private PreparedQuery<RowSet<Row>> preparedQuery;
+    private TransactionSqlReader reader;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        pool = mock(Pool.class);
+        preparedQuery = mock(PreparedQuery.class);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        reader = new TransactionSqlReader(new ReadPool(pool, mock(Pool.class), new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void testSearchPageFirstPageMapsRowsToTransactions() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rowSet(transactionRow(id, "AAPL"))));
+
+        // When
+        List<Transaction> transactions = reader.searchPage("AAPL", null, null, null, null, 51)
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        ArgumentCaptor<Tuple> params = ArgumentCaptor.forClass(Tuple.class);
+        verify(pool).preparedQuery(TransactionSqlReader.searchPageSql("AAPL", null, null, null, null, Tuple.tuple()));
+        verify(preparedQuery).execute(params.capture());
+        assertEquals(2, params.getValue().size());
+        assertEquals("AAPL", params.getValue().getValue(0));
+        assertEquals(51, params.getValue().getValue(1));
+        assertEquals(1, transactions.size());
+        Transaction transaction = transactions.get(0);
+        assertEquals(id, transaction.getId());
+        assertEquals(TransactionType.BUY, transaction.getTransactionType());
+        assertEquals(new BigDecimal("10"), transaction.getQuantity());
+    }
+
+    @Test
+    void testFindByIdNotFound() {
+        // Given
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rowSet()));
+
+        // When
+        Transaction transaction = reader.findById(UUID.randomUUID())
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        verify(pool).preparedQuery(TransactionSqlReader.FIND_BY_ID_SQL);
+        assertNull(transaction);
+    }
+
+    @Test
+    void testSearchPageSqlNumbersPlaceholdersInOrderOfCriteria() {
+        // Given
+        UUID afterId = UUID.randomUUID();
+        TransactionCursor after = new TransactionCursor(LocalDate.of(2024, 3, 1), afterId);
+        Tuple params = Tuple.tuple();
+
+        // When
+        String sql = TransactionSqlReader.searchPageSql("AAPL", TransactionType.SELL,
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), after, params);
+
+        // Then
+        assertTrue(sql.contains("ticker = $1"));
+        assertTrue(sql.contains("transaction_type = $2::transaction_type"));
+        assertTrue(sql.contains("transaction_date >= $3"));
+        assertTrue(sql.contains("transaction_date <= $4"));
+        assertTrue(sql.contains("(transaction_date, id) < ($5, $6)"));
+        assertTrue(sql.endsWith("ORDER BY transaction_date DESC, id DESC LIMIT $7"));
+        assertEquals(6, params.size());
+        assertEquals("SELL", params.getValue(1));
+        assertEquals(LocalDate.of(2024, 3, 1), params.getValue(4));
+        assertEquals(afterId, params.getValue(5));
+    }
+
+    @Test
+    void testSearchPageSqlSkipsBlankTicker() {
+        // When
+        String sql = TransactionSqlReader.searchPageSql(" ", null, null, null, null, Tuple.tuple());
+
+        // Then
+        assertFalse(sql.contains("ticker ="));
+        assertTrue(sql.endsWith("LIMIT $1"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RowSet<Row> rowSet(Row... rows) {
+        RowSet<Row> rowSet = mock(RowSet.class);
+        RowIterator<Row> iterator = mock(RowIterator.class);
+        List<Row> remaining = new ArrayList<>(List.of(rows));
+        when(iterator.hasNext()).thenAnswer(invocation -> !remaining.isEmpty());
+        when(iterator.next()).thenAnswer(invocation -> remaining.remove(0));
+        when(rowSet.iterator()).thenReturn(iterator);
+        when(rowSet.size()).thenReturn(rows.length);
+        return rowSet;
+    }
+
+    private static Row transactionRow(UUID id, String ticker) {
+        Row row = mock(Row.class);
+        when(row.getUUID("id")).thenReturn(id);
+        when(row.getString("ticker")).thenReturn(ticker);
+        when(row.getString("transaction_type")).thenReturn("BUY");
+        when(row.getBigDecimal("quantity")).thenReturn(new BigDecimal("10"));
+        when(row.getBigDecimal("cost_per_share")).thenReturn(new BigDecimal("150.25"));
+        when(row.getString("currency")).thenReturn("USD");
+        when(row.getLocalDate("transaction_date")).thenReturn(LocalDate.of(2024, 3, 1));
+        when(row.getBoolean("is_fractional")).thenReturn(false);
+        when(row.getBigDecimal("fractional_multiplier")).thenReturn(BigDecimal.ONE);
+        return row;
+    }
+}
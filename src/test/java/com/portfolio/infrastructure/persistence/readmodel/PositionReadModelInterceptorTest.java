@@ -0,0 +1,65 @@
+package com.portfolio.infrastructure.persistence.readmodel;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import jakarta.interceptor.InvocationContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PositionReadModelInterceptorTest {
+    private PositionReadModel positionReadModel;
+    private InvocationContext context;
+    private PositionReadModelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        positionReadModel = mock(PositionReadModel.class);
+        context = mock(InvocationContext.class);
+        interceptor = new PositionReadModelInterceptor();
+        interceptor.positionReadModel = positionReadModel;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReturnsOnceReadModelReloadedAfterUseCaseCompleted() throws Exception {
+        // Given
+        AtomicBoolean committed = new AtomicBoolean();
+        CompletableFuture<Void> reload = new CompletableFuture<>();
+        when(context.proceed()).thenReturn(Uni.createFrom().item("written").invoke(() -> committed.set(true)));
+        when(positionReadModel.refreshAfterWrite()).thenAnswer(invocation -> {
+            assertTrue(committed.get(), "Read model reloaded before the use case completed");
+            return Uni.createFrom().completionStage(reload);
+        });
+
+        // When
+        Uni<String> result = (Uni<String>) interceptor.refreshAfterCommit(context);
+
+        // Then
+        verifyNoInteractions(positionReadModel);
+        UniAssertSubscriber<String> subscriber = result.subscribe().withSubscriber(UniAssertSubscriber.create());
+        subscriber.assertNotTerminated();
+        reload.complete(null);
+        assertEquals("written", subscriber.assertCompleted().getItem());
+        verify(positionReadModel).refreshAfterWrite();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testDoesNotRefreshWhenUseCaseFails() throws Exception {
+        // Given
+        when(context.proceed()).thenReturn(Uni.createFrom().failure(new RuntimeException("Rolled back")));
+
+        // When
+        Uni<String> result = (Uni<String>) interceptor.refreshAfterCommit(context);
+
+        // Then
+        result.subscribe().withSubscriber(UniAssertSubscriber.create()).assertFailedWith(RuntimeException.class, "Rolled back");
+        verifyNoInteractions(positionReadModel);
+    }
+}
@@ -0,0 +1,228 @@
+package com.portfolio.infrastructure.persistence.readmodel;
+
+import com.portfolio.domain.model.Currency;
+import com.portfolio.domain.model.Position;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PositionReadModelTest {
+    private Pool pool;
+    private PreparedQuery<RowSet<Row>> preparedQuery;
+    private SimpleMeterRegistry meterRegistry;
+    private PositionReadModel readModel;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        pool = mock(Pool.class);
+        preparedQuery = mock(PreparedQuery.class);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        meterRegistry = new SimpleMeterRegistry();
+        readModel = new PositionReadModel(pool, true, meterRegistry);
+    }
+
+    @Test
+    void testReadsFromDatabaseUntilLoaded() {
+        assertTrue(readModel.current().isEmpty());
+        verifyNoInteractions(pool);
+    }
+
+    @Test
+    void testRefreshLoadsSnapshotIndexedByTickerAndId() {
+        // Given
+        UUID appleId = UUID.randomUUID();
+        when(preparedQuery.execute()).thenReturn(Uni.createFrom().item(rowSet(
+            positionRow(appleId, "AAPL", "10"),
+            positionRow(UUID.randomUUID(), "KO", "0"))));
+
+        // When
+        readModel.refresh().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        verify(pool).preparedQuery(PositionReadModel.LOAD_POSITIONS_SQL);
+        PositionSnapshot snapshot = readModel.current().orElseThrow();
+        assertEquals(List.of("AAPL", "KO"), snapshot.positions().stream().map(Position::getTicker).toList());
+        assertEquals(List.of("AAPL"), snapshot.positionsWithShares().stream().map(Position::getTicker).toList());
+        Position apple = snapshot.findByTicker("AAPL");
+        assertEquals("AAPL", snapshot.findById(appleId).getTicker());
+        assertEquals(new BigDecimal("10"), apple.getTotalQuantity());
+        assertEquals(new BigDecimal("150.25"), apple.getAveragePrice());
+        assertEquals(new BigDecimal("176.10"), apple.getCurrentPrice());
+        assertEquals(new BigDecimal("1502.50"), apple.getTotalCost());
+        assertEquals(Currency.USD, apple.getCurrency());
+        assertEquals(LocalDate.of(2024, 3, 1), apple.getLastUpdated());
+        assertEquals(2.0, meterRegistry.get("positions.read-model.size").gauge().value());
+        assertEquals(1, meterRegistry.get("positions.read-model.load.duration").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void testFailedLoadDropsSnapshot() {
+        // Given
+        when(preparedQuery.execute())
+            .thenReturn(Uni.createFrom().item(rowSet(positionRow(UUID.randomUUID(), "AAPL", "10"))))
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("Connection refused")));
+        readModel.refresh().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+        assertTrue(readModel.current().isPresent());
+
+        // When
+        readModel.refresh().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        assertTrue(readModel.current().isEmpty());
+        assertEquals(1, meterRegistry.get("positions.read-model.load.duration").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void testEarlierLoadNeverReplacesLaterOne() {
+        // Given
+        CompletableFuture<RowSet<Row>> earlier = new CompletableFuture<>();
+        CompletableFuture<RowSet<Row>> later = new CompletableFuture<>();
+        when(preparedQuery.execute())
+            .thenReturn(Uni.createFrom().completionStage(earlier))
+            .thenReturn(Uni.createFrom().completionStage(later));
+        UniAssertSubscriber<Void> first = readModel.refresh().subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<Void> second = readModel.refresh().subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // When
+        later.complete(rowSet(positionRow(UUID.randomUUID(), "MSFT", "5")));
+        earlier.complete(rowSet(positionRow(UUID.randomUUID(), "AAPL", "10")));
+
+        // Then
+        first.assertCompleted();
+        second.assertCompleted();
+        PositionSnapshot snapshot = readModel.current().orElseThrow();
+        assertNotNull(snapshot.findByTicker("MSFT"));
+        assertNull(snapshot.findByTicker("AAPL"));
+    }
+
+    @Test
+    void testRefreshAfterWriteKeepsServingSnapshotUntilReloadLands() {
+        // Given
+        CompletableFuture<RowSet<Row>> inFlight = new CompletableFuture<>();
+        CompletableFuture<RowSet<Row>> reload = new CompletableFuture<>();
+        when(preparedQuery.execute())
+            .thenReturn(Uni.createFrom().item(rowSet(positionRow(UUID.randomUUID(), "AAPL", "10"))))
+            .thenReturn(Uni.createFrom().completionStage(inFlight))
+            .thenReturn(Uni.createFrom().completionStage(reload));
+        readModel.refresh().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+        readModel.refresh().subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // When
+        UniAssertSubscriber<Void> write = readModel.refreshAfterWrite()
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // Then
+        write.assertNotTerminated();
+        assertNotNull(readModel.current().orElseThrow().findByTicker("AAPL"));
+        reload.complete(rowSet(positionRow(UUID.randomUUID(), "MSFT", "5")));
+        write.assertCompleted();
+        assertNotNull(readModel.current().orElseThrow().findByTicker("MSFT"));
+
+        // A load that started before the write does not bring back the previous snapshot
+        inFlight.complete(rowSet(positionRow(UUID.randomUUID(), "AAPL", "10")));
+        assertNull(readModel.current().orElseThrow().findByTicker("AAPL"));
+    }
+
+    @Test
+    void testRefreshAfterWriteWaitsForReloadStartedAfterIt() {
+        // Given
+        CompletableFuture<RowSet<Row>> running = new CompletableFuture<>();
+        CompletableFuture<RowSet<Row>> queued = new CompletableFuture<>();
+        when(preparedQuery.execute())
+            .thenReturn(Uni.createFrom().completionStage(running))
+            .thenReturn(Uni.createFrom().completionStage(queued));
+        UniAssertSubscriber<Void> first = readModel.refreshAfterWrite()
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // When
+        UniAssertSubscriber<Void> second = readModel.refreshAfterWrite()
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<Void> third = readModel.refreshAfterWrite()
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // Then
+        running.complete(rowSet(positionRow(UUID.randomUUID(), "AAPL", "10")));
+        first.assertCompleted();
+        second.assertNotTerminated();
+        third.assertNotTerminated();
+        queued.complete(rowSet(positionRow(UUID.randomUUID(), "MSFT", "5")));
+        second.assertCompleted();
+        third.assertCompleted();
+        verify(preparedQuery, times(2)).execute();
+        assertNotNull(readModel.current().orElseThrow().findByTicker("MSFT"));
+    }
+
+    @Test
+    void testBackgroundRefreshesAreCoalesced() {
+        // Given
+        CompletableFuture<RowSet<Row>> running = new CompletableFuture<>();
+        when(preparedQuery.execute())
+            .thenReturn(Uni.createFrom().completionStage(running))
+            .thenReturn(Uni.createFrom().item(rowSet()));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            readModel.refreshInBackground();
+        }
+
+        // Then
+        verify(preparedQuery, times(1)).execute();
+        running.complete(rowSet());
+        verify(preparedQuery, times(2)).execute();
+    }
+
+    @Test
+    void testDisabledReadModelNeverLoads() {
+        // Given
+        readModel = new PositionReadModel(pool, false, new SimpleMeterRegistry());
+
+        // When
+        readModel.refresh().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        assertTrue(readModel.current().isEmpty());
+        verifyNoInteractions(pool);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RowSet<Row> rowSet(Row... rows) {
+        RowSet<Row> rowSet = mock(RowSet.class);
+        RowIterator<Row> iterator = mock(RowIterator.class);
+        List<Row> remaining = new ArrayList<>(List.of(rows));
+        when(iterator.hasNext()).thenAnswer(invocation -> !remaining.isEmpty());
+        when(iterator.next()).thenAnswer(invocation -> remaining.remove(0));
+        when(rowSet.iterator()).thenReturn(iterator);
+        return rowSet;
+    }
+
+    private static Row positionRow(UUID id, String ticker, String quantity) {
+        Row row = mock(Row.class);
+        when(row.getUUID("id")).thenReturn(id);
+        when(row.getString("ticker")).thenReturn(ticker);
+        when(row.getBigDecimal("current_quantity")).thenReturn(new BigDecimal(quantity));
+        when(row.getBigDecimal("avg_cost_per_share")).thenReturn(new BigDecimal("150.25"));
+        when(row.getBigDecimal("current_price")).thenReturn(new BigDecimal("176.10"));
+        when(row.getBigDecimal("total_cost_basis")).thenReturn(new BigDecimal("1502.50"));
+        when(row.getString("primary_currency")).thenReturn("USD");
+        when(row.getLocalDate("last_transaction_date")).thenReturn(LocalDate.of(2024, 3, 1));
+        return row;
+    }
+}
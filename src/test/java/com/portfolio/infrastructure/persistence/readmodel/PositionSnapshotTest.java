@@ -0,0 +1,60 @@
+package com.portfolio.infrastructure.persistence.readmodel;
+
+import com.portfolio.domain.model.Currency;
+import com.portfolio.domain.model.Position;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionSnapshotTest {
+
+    @Test
+    void testReadersGetCopiesTheyCannotShare() {
+        // Given
+        Position apple = position("AAPL", "10");
+        List<Position> loaded = new ArrayList<>(List.of(apple));
+        PositionSnapshot snapshot = PositionSnapshot.of(loaded);
+
+        // When
+        apple.setTotalQuantity(BigDecimal.ZERO);
+        loaded.clear();
+        snapshot.findByTicker("AAPL").setCurrentPrice(new BigDecimal("999"));
+        snapshot.findById(apple.getId()).setTotalQuantity(new BigDecimal("1"));
+        snapshot.positions().get(0).setTicker("MSFT");
+
+        // Then
+        Position read = snapshot.findByTicker("AAPL");
+        assertNotSame(read, snapshot.findByTicker("AAPL"));
+        assertEquals(new BigDecimal("10"), read.getTotalQuantity());
+        assertEquals(BigDecimal.ZERO, read.getCurrentPrice());
+        assertEquals(List.of("AAPL"), snapshot.positionsWithShares().stream().map(Position::getTicker).toList());
+        assertEquals(1, snapshot.size());
+    }
+
+    @Test
+    void testCountsAndLookups() {
+        // Given
+        PositionSnapshot snapshot = PositionSnapshot.of(List.of(position("AAPL", "10"), position("KO", "0")));
+
+        // Then
+        assertEquals(2, snapshot.size());
+        assertEquals(1, snapshot.sizeWithShares());
+        assertTrue(snapshot.containsTicker("KO"));
+        assertFalse(snapshot.containsTicker("MSFT"));
+        assertFalse(snapshot.containsTicker(null));
+        assertNull(snapshot.findByTicker("MSFT"));
+        assertNull(snapshot.findById(null));
+    }
+
+    private static Position position(String ticker, String quantity) {
+        Position position = new Position(ticker, Currency.USD);
+        position.setId(UUID.randomUUID());
+        position.setTotalQuantity(new BigDecimal(quantity));
+        return position;
+    }
+}
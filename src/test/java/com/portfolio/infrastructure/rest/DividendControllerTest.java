@@ -5,10 +5,17 @@ import com.portfolio.application.usecase.dividend.GetDividendsForTickerUseCase;
 import com.portfolio.domain.exception.ServiceException;
 import com.portfolio.domain.exception.Errors;
 import com.portfolio.domain.model.Dividend;
+import com.portfolio.domain.model.PortfolioDividends;
+import com.portfolio.domain.model.TickerDividends;
 import com.portfolio.infrastructure.rest.dto.DividendResponse;
+import com.portfolio.infrastructure.rest.dto.PortfolioDividendsResponse;
+import com.portfolio.infrastructure.rest.dto.TickerDividendsResponse;
 import com.portfolio.infrastructure.rest.mapper.DividendMapper;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -170,22 +177,24 @@ class DividendControllerTest {
         Dividend aaplDividend = new Dividend("AAPL", "XNAS", "NASDAQ", LocalDate.of(2023, 5, 12), new BigDecimal("0.24"));
         Dividend msftDividend = new Dividend("MSFT", "XNAS", "NASDAQ", LocalDate.of(2023, 6, 14), new BigDecimal("0.75"));
         
-        Map<String, List<Dividend>> dividendsMap = Map.of(
-            "AAPL", List.of(aaplDividend),
-            "MSFT", List.of(msftDividend)
+        PortfolioDividends portfolioDividends = new PortfolioDividends(
+            Map.of("AAPL", List.of(aaplDividend), "MSFT", List.of(msftDividend)),
+            List.of("FAIL"),
+            List.of("SLOW")
         );
         
         DividendResponse aaplResponse = new DividendResponse("AAPL", "XNAS", "NASDAQ", LocalDate.of(2023, 5, 12), new BigDecimal("0.24"));
         DividendResponse msftResponse = new DividendResponse("MSFT", "XNAS", "NASDAQ", LocalDate.of(2023, 6, 14), new BigDecimal("0.75"));
         
-        Map<String, List<DividendResponse>> responseMap = Map.of(
-            "AAPL", List.of(aaplResponse),
-            "MSFT", List.of(msftResponse)
+        PortfolioDividendsResponse response = new PortfolioDividendsResponse(
+            Map.of("AAPL", List.of(aaplResponse), "MSFT", List.of(msftResponse)),
+            List.of("FAIL"),
+            List.of("SLOW")
         );
         
         when(getDividendsForPortfolioUseCase.execute(startDate, endDate))
-            .thenReturn(Uni.createFrom().item(dividendsMap));
-        when(dividendMapper.toResponseMap(dividendsMap)).thenReturn(responseMap);
+            .thenReturn(Uni.createFrom().item(portfolioDividends));
+        when(dividendMapper.toPortfolioResponse(portfolioDividends)).thenReturn(response);
 
         // When
         Uni<Response> uni = dividendController.getDividendsForPortfolio(startDateStr, endDateStr);
@@ -195,10 +204,10 @@ class DividendControllerTest {
 
         // Then
         assertEquals(200, result.getStatus());
-        assertEquals(responseMap, result.getEntity());
+        assertEquals(response, result.getEntity());
         
         verify(getDividendsForPortfolioUseCase).execute(startDate, endDate);
-        verify(dividendMapper).toResponseMap(dividendsMap);
+        verify(dividendMapper).toPortfolioResponse(portfolioDividends);
     }
 
     @ParameterizedTest
@@ -264,12 +273,13 @@ class DividendControllerTest {
         LocalDate startDate = LocalDate.of(2023, 1, 1);
         LocalDate endDate = LocalDate.of(2023, 12, 31);
         
-        Map<String, List<Dividend>> emptyDividendsMap = Collections.emptyMap();
-        Map<String, List<DividendResponse>> emptyResponseMap = Collections.emptyMap();
+        PortfolioDividends emptyDividends = PortfolioDividends.empty();
+        PortfolioDividendsResponse emptyResponse = new PortfolioDividendsResponse(
+            Collections.emptyMap(), List.of(), List.of());
         
         when(getDividendsForPortfolioUseCase.execute(startDate, endDate))
-            .thenReturn(Uni.createFrom().item(emptyDividendsMap));
-        when(dividendMapper.toResponseMap(emptyDividendsMap)).thenReturn(emptyResponseMap);
+            .thenReturn(Uni.createFrom().item(emptyDividends));
+        when(dividendMapper.toPortfolioResponse(emptyDividends)).thenReturn(emptyResponse);
 
         // When
         Uni<Response> uni = dividendController.getDividendsForPortfolio(startDateStr, endDateStr);
@@ -279,10 +289,52 @@ class DividendControllerTest {
 
         // Then
         assertEquals(200, result.getStatus());
-        assertEquals(emptyResponseMap, result.getEntity());
+        assertEquals(emptyResponse, result.getEntity());
         
         verify(getDividendsForPortfolioUseCase).execute(startDate, endDate);
-        verify(dividendMapper).toResponseMap(emptyDividendsMap);
+        verify(dividendMapper).toPortfolioResponse(emptyDividends);
+    }
+
+    @Test
+    void testStreamDividendsForPortfolio() {
+        // Given
+        LocalDate startDate = LocalDate.of(2023, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 12, 31);
+        
+        Dividend aaplDividend = new Dividend("AAPL", "XNAS", "NASDAQ", LocalDate.of(2023, 5, 12), new BigDecimal("0.24"));
+        TickerDividends aaplResult = TickerDividends.completed("AAPL", List.of(aaplDividend));
+        TickerDividends slowResult = TickerDividends.timedOut("SLOW");
+        
+        TickerDividendsResponse aaplResponse = new TickerDividendsResponse("AAPL", "COMPLETED",
+            List.of(new DividendResponse("AAPL", "XNAS", "NASDAQ", LocalDate.of(2023, 5, 12), new BigDecimal("0.24"))));
+        TickerDividendsResponse slowResponse = new TickerDividendsResponse("SLOW", "TIMED_OUT", List.of());
+        
+        when(getDividendsForPortfolioUseCase.stream(startDate, endDate))
+            .thenReturn(Multi.createFrom().items(aaplResult, slowResult));
+        when(dividendMapper.toTickerResponse(aaplResult)).thenReturn(aaplResponse);
+        when(dividendMapper.toTickerResponse(slowResult)).thenReturn(slowResponse);
+
+        // When
+        Multi<TickerDividendsResponse> multi = dividendController.streamDividendsForPortfolio("2023-01-01", "2023-12-31");
+        List<TickerDividendsResponse> result = multi.subscribe().withSubscriber(AssertSubscriber.<TickerDividendsResponse>create(Long.MAX_VALUE))
+            .assertCompleted()
+            .getItems();
+
+        // Then
+        assertEquals(List.of(aaplResponse, slowResponse), result);
+        verify(getDividendsForPortfolioUseCase).stream(startDate, endDate);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidPortfolioDateParams")
+    void testStreamDividendsForPortfolioWithInvalidDates(String startDate, String endDate, String expectedMessage) {
+        // When
+        BadRequestException thrown = assertThrows(BadRequestException.class,
+            () -> dividendController.streamDividendsForPortfolio(startDate, endDate));
+
+        // Then
+        assertTrue(thrown.getMessage().contains(expectedMessage));
+        verifyNoInteractions(getDividendsForPortfolioUseCase);
     }
 
     @Test
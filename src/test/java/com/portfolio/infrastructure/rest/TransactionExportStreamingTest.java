@@ -0,0 +1,177 @@
+package com.portfolio.infrastructure.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.application.usecase.transaction.GetTransactionUseCase;
+import com.portfolio.infrastructure.persistence.adapter.TransactionRepositoryAdapter;
+import com.portfolio.infrastructure.persistence.adapter.TransactionSqlReader;
+import com.portfolio.infrastructure.persistence.mapper.TransactionEntityMapper;
+import com.portfolio.infrastructure.persistence.repository.TransactionPanacheRepository;
+import com.portfolio.infrastructure.rest.dto.TransactionResponse;
+import com.portfolio.infrastructure.rest.mapper.TransactionMapperImpl;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.PreparedStatement;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowStream;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Exports a million generated transactions through the cursor stream, the use case and the REST
+ * mapping into NDJSON. Run by the streamingTest task under a heap far smaller than the export, so
+ * any buffering of the whole result set fails with an OutOfMemoryError.
+ */
+@Tag("streaming")
+class TransactionExportStreamingTest {
+    private static final int ROWS = 1_000_000;
+    private static final int FETCH_SIZE = 500;
+    private static final int REQUEST_BATCH = 256;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AtomicLong emitted = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong maxInFlight = new AtomicLong();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExportsMillionRowsWithFlatMemory() throws Exception {
+        // Given
+        Pool pool = mock(Pool.class);
+        SqlConnection connection = mock(SqlConnection.class);
+        io.vertx.mutiny.sqlclient.Transaction transaction = mock(io.vertx.mutiny.sqlclient.Transaction.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        RowStream<Row> rowStream = mock(RowStream.class);
+        Row row = generatedRow();
+        when(pool.getConnection()).thenReturn(Uni.createFrom().item(connection));
+        when(connection.begin()).thenReturn(Uni.createFrom().item(transaction));
+        when(connection.prepare(anyString())).thenReturn(Uni.createFrom().item(statement));
+        when(statement.createStream(FETCH_SIZE)).thenReturn(rowStream);
+        when(rowStream.toMulti()).thenReturn(Multi.createFrom().range(0, ROWS)
+            .map(i -> row)
+            .onItem().invoke(ignored -> maxInFlight.accumulateAndGet(emitted.incrementAndGet() - written.get(), Math::max)));
+        when(transaction.rollback()).thenReturn(Uni.createFrom().voidItem());
+        when(connection.close()).thenReturn(Uni.createFrom().voidItem());
+
+        TransactionRepositoryAdapter adapter = new TransactionRepositoryAdapter(
+            mock(TransactionPanacheRepository.class), mock(TransactionEntityMapper.class), pool, FETCH_SIZE,
+            mock(TransactionSqlReader.class), true);
+        GetTransactionUseCase getTransactionUseCase = mock(GetTransactionUseCase.class);
+        when(getTransactionUseCase.getAll()).thenReturn(adapter.streamAll());
+        TransactionController controller = new TransactionController();
+        controller.getTransactionUseCase = getTransactionUseCase;
+        controller.transactionMapper = new TransactionMapperImpl();
+        CountingOutputStream output = new CountingOutputStream();
+
+        // When
+        NdjsonWriter writer = new NdjsonWriter(output);
+        controller.exportTransactions().subscribe().withSubscriber(writer);
+        writer.done.get(2, TimeUnit.MINUTES);
+
+        // Then
+        assertEquals(ROWS, output.lines);
+        assertEquals(ROWS, written.get());
+        assertTrue(maxInFlight.get() <= REQUEST_BATCH, "rows buffered ahead of the writer: " + maxInFlight.get());
+        verify(transaction).rollback();
+        verify(connection).close();
+    }
+
+    /**
+     * Row stub that records no invocations, so it does not grow with the number of rows read
+     */
+    private static Row generatedRow() {
+        AtomicLong sequence = new AtomicLong();
+        Row row = mock(Row.class, withSettings().stubOnly());
+        when(row.getUUID("id")).thenAnswer(invocation -> new UUID(0, sequence.incrementAndGet()));
+        when(row.getString("ticker")).thenReturn("AAPL");
+        when(row.getString("transaction_type")).thenReturn("BUY");
+        when(row.getBigDecimal("quantity")).thenReturn(new BigDecimal("10.000000"));
+        when(row.getBigDecimal("cost_per_share")).thenReturn(new BigDecimal("150.2500"));
+        when(row.getBigDecimal("commission")).thenReturn(new BigDecimal("1.0000"));
+        when(row.getString("currency")).thenReturn("USD");
+        when(row.getLocalDate("transaction_date")).thenReturn(LocalDate.of(2024, 1, 15));
+        when(row.getBoolean("is_fractional")).thenReturn(false);
+        when(row.getBigDecimal("fractional_multiplier")).thenReturn(BigDecimal.ONE);
+        return row;
+    }
+
+    /**
+     * Writes each response as one JSON line, requesting the next batch once the current one is written
+     */
+    private class NdjsonWriter implements Flow.Subscriber<TransactionResponse> {
+        private final OutputStream output;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+        private int pending;
+
+        NdjsonWriter(OutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            pending = REQUEST_BATCH;
+            subscription.request(REQUEST_BATCH);
+        }
+
+        @Override
+        public void onNext(TransactionResponse response) {
+            try {
+                output.write(objectMapper.writeValueAsBytes(response));
+                output.write('\n');
+            } catch (IOException e) {
+                subscription.cancel();
+                done.completeExceptionally(e);
+                return;
+            }
+            written.incrementAndGet();
+            if (--pending == 0) {
+                pending = REQUEST_BATCH;
+                subscription.request(REQUEST_BATCH);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(bytes[i]);
+            }
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.portfolio.infrastructure.rest.mapper;
 
 import com.portfolio.domain.model.Dividend;
+import com.portfolio.domain.model.PortfolioDividends;
+import com.portfolio.domain.model.TickerDividends;
 import com.portfolio.infrastructure.rest.dto.DividendResponse;
+import com.portfolio.infrastructure.rest.dto.PortfolioDividendsResponse;
+import com.portfolio.infrastructure.rest.dto.TickerDividendsResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -107,6 +111,43 @@ class DividendMapperTest {
         assertEquals(new BigDecimal("0.7500"), msftResponses.get(0).amount());
     }
 
+    @Test
+    void testToPortfolioResponse_keepsFailedAndTimedOutTickers() {
+        // Given
+        Dividend aaplDividend = new Dividend("AAPL", "XNAS", "NASDAQ", LocalDate.of(2023, 5, 12), new BigDecimal("0.24"));
+        PortfolioDividends portfolioDividends = PortfolioDividends.from(List.of(
+            TickerDividends.completed("AAPL", List.of(aaplDividend)),
+            TickerDividends.failed("FAIL"),
+            TickerDividends.timedOut("SLOW")
+        ));
+
+        // When
+        PortfolioDividendsResponse response = mapper.toPortfolioResponse(portfolioDividends);
+
+        // Then
+        assertEquals(1, response.dividends().size());
+        assertEquals(new BigDecimal("0.2400"), response.dividends().get("AAPL").get(0).amount());
+        assertEquals(List.of("FAIL"), response.failedTickers());
+        assertEquals(List.of("SLOW"), response.timedOutTickers());
+    }
+
+    @Test
+    void testToTickerResponse_mapsStatusAndDividends() {
+        // Given
+        Dividend msftDividend = new Dividend("MSFT", "XNAS", "NASDAQ", LocalDate.of(2023, 6, 14), new BigDecimal("0.75"));
+
+        // When
+        TickerDividendsResponse completed = mapper.toTickerResponse(TickerDividends.completed("MSFT", List.of(msftDividend)));
+        TickerDividendsResponse timedOut = mapper.toTickerResponse(TickerDividends.timedOut("SLOW"));
+
+        // Then
+        assertEquals("MSFT", completed.ticker());
+        assertEquals("COMPLETED", completed.status());
+        assertEquals(new BigDecimal("0.7500"), completed.dividends().get(0).amount());
+        assertEquals("TIMED_OUT", timedOut.status());
+        assertTrue(timedOut.dividends().isEmpty());
+    }
+
     @ParameterizedTest
     @MethodSource("provideDividendAmountNormalizationTestCases")
     void testAmountNormalization(String testName, BigDecimal input, BigDecimal expected) {
@@ -2,8 +2,12 @@ package com.portfolio.infrastructure.rest.mapper;
 
 import com.portfolio.domain.model.Currency;
 import com.portfolio.domain.model.CurrentPosition;
+import com.portfolio.domain.model.MarketPriceUpdate;
+import com.portfolio.domain.model.RecalculationJob;
 import com.portfolio.domain.model.Position;
 import com.portfolio.infrastructure.rest.dto.PositionResponse;
+import com.portfolio.infrastructure.rest.dto.RecalculationJobResponse;
+import com.portfolio.infrastructure.rest.dto.UpdateMarketPricesResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -287,4 +291,38 @@ class PositionMapperTest {
         position.setIsActive(true);
         return position;
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testToPriceUpdateResponse() {
+        UpdateMarketPricesResponse resp = mapper.toPriceUpdateResponse(
+            new MarketPriceUpdate(List.of("AAPL", "MSFT"), List.of("XYZ")));
+
+        assertEquals(2, resp.updated());
+        assertEquals(List.of("AAPL", "MSFT"), resp.updatedTickers());
+        assertEquals(List.of("XYZ"), resp.unknownTickers());
+        assertNull(mapper.toPriceUpdateResponse(null));
+    }
+
+    @Test
+    void testToJobResponse_computesProgress() {
+        RecalculationJob job = new RecalculationJob(UUID.randomUUID(), RecalculationJob.Status.RUNNING, 3, 1, "AAPL",
+            null, LocalDateTime.of(2024, 3, 1, 10, 0), LocalDateTime.of(2024, 3, 1, 10, 1), null);
+
+        RecalculationJobResponse resp = mapper.toJobResponse(job);
+
+        assertEquals(job.id(), resp.id());
+        assertEquals("RUNNING", resp.status());
+        assertEquals(new BigDecimal("33.33"), resp.progressPercentage());
+        assertEquals("AAPL", resp.lastTicker());
+        assertNull(resp.finishedAt());
+    }
+
+    @Test
+    void testToJobResponse_emptyCompletedJobIsFullyDone() {
+        RecalculationJob job = new RecalculationJob(UUID.randomUUID(), RecalculationJob.Status.COMPLETED, 0, 0, null,
+            null, LocalDateTime.of(2024, 3, 1, 10, 0), LocalDateTime.of(2024, 3, 1, 10, 0), LocalDateTime.of(2024, 3, 1, 10, 0));
+
+        assertEquals(new BigDecimal("100.00"), mapper.toJobResponse(job).progressPercentage());
+        assertNull(mapper.toJobResponse(null));
+    }
+}
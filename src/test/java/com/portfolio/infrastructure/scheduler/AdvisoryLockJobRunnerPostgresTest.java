@@ -0,0 +1,123 @@
+package com.portfolio.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.pgclient.PgConnectOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Elects job leaders between two runners connected to a local Postgres, such as the one of the
+ * docker-compose file. Run by the postgresTest task; the connection is read from the PGHOST, PGPORT,
+ * PGDATABASE, PGUSER and PGPASSWORD variables, with the application defaults.
+ */
+@Tag("postgres")
+class AdvisoryLockJobRunnerPostgresTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private Vertx vertx;
+    private AdvisoryLockJobRunner first;
+    private AdvisoryLockJobRunner second;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        PgConnectOptions options = new PgConnectOptions()
+            .setHost(env("PGHOST", "localhost"))
+            .setPort(Integer.parseInt(env("PGPORT", "5432")))
+            .setDatabase(env("PGDATABASE", "portfolio_db"))
+            .setUser(env("PGUSER", "postgres"))
+            .setPassword(env("PGPASSWORD", "portfolio_pass"));
+        first = new AdvisoryLockJobRunner(vertx, options, true, 7399, Duration.ofSeconds(4), new SimpleMeterRegistry());
+        second = new AdvisoryLockJobRunner(vertx, options, true, 7399, Duration.ofSeconds(4), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        first.onStop(null);
+        second.onStop(null);
+        vertx.closeAndAwait();
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private static boolean run(AdvisoryLockJobRunner runner, AtomicInteger runs) {
+        return runner.runIfLeader("position-reconciliation", () -> Uni.createFrom().item(runs.incrementAndGet()))
+            .await().atMost(TIMEOUT);
+    }
+
+    @Test
+    void testOnlyOneRunnerLeads() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        boolean firstRan = run(first, runs);
+        boolean secondRan = run(second, runs);
+
+        // Then
+        assertTrue(firstRan);
+        assertFalse(secondRan);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testStandbyTakesOverWhenLeaderStops() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        assertTrue(run(first, runs));
+        assertFalse(run(second, runs));
+
+        // When
+        first.onStop(null);
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (second.leadership().isEmpty() && System.nanoTime() < deadline) {
+            second.heartbeat().await().atMost(TIMEOUT);
+        }
+
+        // Then
+        assertEquals(Set.of("position-reconciliation"), second.leadership());
+        assertTrue(run(second, runs));
+        assertFalse(run(first, runs));
+    }
+
+    @Test
+    void testExclusiveWorkRunsOnOneRunnerUntilItEnds() {
+        // Given
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        CompletableFuture<String> work = new CompletableFuture<>();
+        Uni<Boolean> firstRun = first.runExclusively("position-recalculation-test", () -> {
+                started.complete(null);
+                return Uni.createFrom().completionStage(work);
+            })
+            .memoize().indefinitely();
+        firstRun.subscribe().with(ignored -> {}, failure -> {});
+        Uni.createFrom().completionStage(started).await().atMost(TIMEOUT);
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        boolean secondRan = second.runExclusively("position-recalculation-test", () -> Uni.createFrom().item(runs.incrementAndGet()))
+            .await().atMost(TIMEOUT);
+        work.complete("done");
+
+        // Then
+        assertFalse(secondRan);
+        assertTrue(firstRun.await().atMost(TIMEOUT));
+        assertTrue(second.runExclusively("position-recalculation-test", () -> Uni.createFrom().item(runs.incrementAndGet()))
+            .await().atMost(TIMEOUT));
+        assertEquals(1, runs.get());
+    }
+}
@@ -0,0 +1,236 @@
+package com.portfolio.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Query;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.mutiny.sqlclient.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AdvisoryLockJobRunnerTest {
+    private SqlConnection connection;
+    private Query<RowSet<Row>> heartbeatQuery;
+    private PreparedQuery<RowSet<Row>> lockQuery;
+    private PreparedQuery<RowSet<Row>> unlockQuery;
+    private AtomicInteger connects;
+    private SimpleMeterRegistry meterRegistry;
+    private AdvisoryLockJobRunner runner;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        connection = mock(SqlConnection.class);
+        Query<RowSet<Row>> sessionQuery = mock(Query.class);
+        heartbeatQuery = mock(Query.class);
+        lockQuery = mock(PreparedQuery.class);
+        unlockQuery = mock(PreparedQuery.class);
+        when(connection.query(anyString())).thenReturn(sessionQuery);
+        when(connection.query(AdvisoryLockJobRunner.HEARTBEAT_SQL)).thenReturn(heartbeatQuery);
+        when(connection.preparedQuery(AdvisoryLockJobRunner.TRY_LOCK_SQL)).thenReturn(lockQuery);
+        when(connection.preparedQuery(AdvisoryLockJobRunner.UNLOCK_SQL)).thenReturn(unlockQuery);
+        when(unlockQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(mock(RowSet.class)));
+        when(connection.close()).thenReturn(Uni.createFrom().voidItem());
+        when(sessionQuery.execute()).thenReturn(Uni.createFrom().item(mock(RowSet.class)));
+        when(heartbeatQuery.execute()).thenReturn(Uni.createFrom().item(mock(RowSet.class)));
+        connects = new AtomicInteger();
+        meterRegistry = new SimpleMeterRegistry();
+        runner = new AdvisoryLockJobRunner(() -> {
+            connects.incrementAndGet();
+            return Uni.createFrom().item(connection);
+        }, true, 7301, Duration.ofSeconds(10), meterRegistry);
+    }
+
+    private Boolean run(String job, AtomicInteger runs) {
+        return runner.runIfLeader(job, () -> Uni.createFrom().item(runs.incrementAndGet()))
+            .subscribe().withSubscriber(UniAssertSubscriber.create())
+            .assertCompleted()
+            .getItem();
+    }
+
+    @Test
+    void testLeaderRunsWorkAndKeepsLock() {
+        // Given
+        when(lockQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(lockResult(true)));
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        Boolean first = run("position-reconciliation", runs);
+        Boolean second = run("position-reconciliation", runs);
+
+        // Then
+        assertTrue(first);
+        assertTrue(second);
+        assertEquals(2, runs.get());
+        assertEquals(1, connects.get());
+        verify(lockQuery, times(1)).execute(any(Tuple.class));
+        verify(connection).query(contains("idle_session_timeout = 10000"));
+        assertEquals(Set.of("position-reconciliation"), runner.leadership());
+        assertEquals(1.0, meterRegistry.get("jobs.leadership.held").gauge().value());
+    }
+
+    @Test
+    void testWorkSkippedWhileAnotherInstanceHoldsLock() {
+        // Given
+        when(lockQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(lockResult(false)));
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        Boolean ran = run("position-reconciliation", runs);
+
+        // Then
+        assertFalse(ran);
+        assertEquals(0, runs.get());
+        assertTrue(runner.leadership().isEmpty());
+    }
+
+    @Test
+    void testHeartbeatTakesOverReleasedLock() {
+        // Given
+        when(lockQuery.execute(any(Tuple.class)))
+            .thenReturn(Uni.createFrom().item(lockResult(false)))
+            .thenReturn(Uni.createFrom().item(lockResult(true)));
+        run("portfolio-view-refresh", new AtomicInteger());
+
+        // When
+        runner.heartbeat().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        assertEquals(Set.of("portfolio-view-refresh"), runner.leadership());
+    }
+
+    @Test
+    void testFailedHeartbeatStepsDownAndReconnects() {
+        // Given
+        when(lockQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(lockResult(true)));
+        when(heartbeatQuery.execute()).thenReturn(Uni.createFrom().failure(new RuntimeException("Connection reset")));
+        run("position-price-refresh", new AtomicInteger());
+
+        // When
+        runner.heartbeat().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        assertTrue(runner.leadership().isEmpty());
+        verify(connection).close();
+        assertTrue(run("position-price-refresh", new AtomicInteger()));
+        assertEquals(2, connects.get());
+    }
+
+    @Test
+    void testFailedConnectionSkipsWork() {
+        // Given
+        runner = new AdvisoryLockJobRunner(() -> Uni.createFrom().failure(new RuntimeException("Connection refused")),
+            true, 7301, Duration.ofSeconds(10), new SimpleMeterRegistry());
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        Boolean ran = run("position-reconciliation", runs);
+
+        // Then
+        assertFalse(ran);
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void testDisabledLeadershipRunsEveryJob() {
+        // Given
+        runner = new AdvisoryLockJobRunner(() -> {
+            connects.incrementAndGet();
+            return Uni.createFrom().item(connection);
+        }, false, 7301, Duration.ofSeconds(10), new SimpleMeterRegistry());
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        Boolean ran = run("position-reconciliation", runs);
+
+        // Then
+        assertTrue(ran);
+        assertEquals(1, runs.get());
+        assertEquals(0, connects.get());
+    }
+
+    @Test
+    void testExclusiveWorkHoldsLockUntilItEnds() {
+        // Given
+        when(lockQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(lockResult(true)));
+        CompletableFuture<String> work = new CompletableFuture<>();
+
+        // When
+        UniAssertSubscriber<Boolean> running = runner.runExclusively("position-recalculation-1",
+                () -> Uni.createFrom().completionStage(work))
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+        Boolean again = runner.runExclusively("position-recalculation-1", () -> Uni.createFrom().item("twice"))
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        assertFalse(again);
+        verify(lockQuery, times(1)).execute(any(Tuple.class));
+        verifyNoInteractions(unlockQuery);
+        work.complete("done");
+        assertTrue(running.assertCompleted().getItem());
+        verify(unlockQuery).execute(any(Tuple.class));
+        assertTrue(runner.leadership().isEmpty());
+    }
+
+    @Test
+    void testExclusiveWorkSkippedWhileAnotherInstanceRunsIt() {
+        // Given
+        when(lockQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(lockResult(false)));
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        Boolean ran = runner.runExclusively("position-recalculation-1", () -> Uni.createFrom().item(runs.incrementAndGet()))
+            .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted().getItem();
+
+        // Then
+        assertFalse(ran);
+        assertEquals(0, runs.get());
+        verifyNoInteractions(unlockQuery);
+    }
+
+    @Test
+    void testExclusiveWorkCancelledWhenLockLost() {
+        // Given
+        when(lockQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(lockResult(true)));
+        when(heartbeatQuery.execute()).thenReturn(Uni.createFrom().failure(new RuntimeException("Connection reset")));
+        AtomicBoolean cancelled = new AtomicBoolean();
+        UniAssertSubscriber<Boolean> running = runner.runExclusively("position-recalculation-1",
+                () -> Uni.createFrom().completionStage(new CompletableFuture<String>())
+                    .onCancellation().invoke(() -> cancelled.set(true)))
+            .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // When
+        runner.heartbeat().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        running.assertFailedWith(IllegalStateException.class, "Lost the lock of job position-recalculation-1");
+        assertTrue(cancelled.get());
+        verify(connection).close();
+        verifyNoInteractions(unlockQuery);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RowSet<Row> lockResult(boolean acquired) {
+        Row row = mock(Row.class);
+        when(row.getBoolean("acquired")).thenReturn(acquired);
+        RowIterator<Row> iterator = mock(RowIterator.class);
+        when(iterator.next()).thenReturn(row);
+        RowSet<Row> rowSet = mock(RowSet.class);
+        when(rowSet.iterator()).thenReturn(iterator);
+        return rowSet;
+    }
+}
@@ -0,0 +1,81 @@
+package com.portfolio.infrastructure.scheduler;
+
+import com.portfolio.domain.port.JobRunner;
+import com.portfolio.domain.port.PortfolioSummaryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PortfolioViewRefreshJobTest {
+    private PortfolioSummaryRepository portfolioSummaryRepository;
+    private JobRunner jobRunner;
+    private MeterRegistry meterRegistry;
+    private PortfolioViewRefreshJob job;
+
+    @BeforeEach
+    void setUp() {
+        portfolioSummaryRepository = mock(PortfolioSummaryRepository.class);
+        jobRunner = mock(JobRunner.class);
+        when(jobRunner.runIfLeader(anyString(), any())).thenAnswer(invocation ->
+            invocation.<Supplier<Uni<?>>>getArgument(1).get().replaceWith(true));
+        meterRegistry = new SimpleMeterRegistry();
+        job = new PortfolioViewRefreshJob(portfolioSummaryRepository, jobRunner, meterRegistry);
+    }
+
+    private long refreshes(String outcome) {
+        return meterRegistry.get("portfolio.views.refresh.duration").tag("outcome", outcome).timer().count();
+    }
+
+    @Test
+    void testRefreshRecordsOnlyActualRefreshes() {
+        // Given
+        when(portfolioSummaryRepository.refreshIfChanged())
+            .thenReturn(Uni.createFrom().item(true))
+            .thenReturn(Uni.createFrom().item(false));
+
+        // When
+        job.refresh().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+        job.refresh().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        assertEquals(1, refreshes("success"));
+        assertEquals(0, refreshes("failure"));
+    }
+
+    @Test
+    void testFailedRefreshIsRecordedAndSwallowed() {
+        // Given
+        when(portfolioSummaryRepository.refreshIfChanged())
+            .thenReturn(Uni.createFrom().failure(new RuntimeException("DB down")));
+
+        // When
+        job.refresh().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        assertEquals(0, refreshes("success"));
+        assertEquals(1, refreshes("failure"));
+    }
+
+    @Test
+    void testScheduledRefreshRunsOnlyOnLeader() {
+        // Given
+        when(portfolioSummaryRepository.refreshIfChanged()).thenReturn(Uni.createFrom().item(true));
+        doReturn(Uni.createFrom().item(false)).when(jobRunner).runIfLeader(eq(PortfolioViewRefreshJob.JOB), any());
+
+        // When
+        job.scheduledRefresh().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        verify(jobRunner).runIfLeader(eq(PortfolioViewRefreshJob.JOB), any());
+        verifyNoInteractions(portfolioSummaryRepository);
+        assertEquals(0, refreshes("success"));
+    }
+}
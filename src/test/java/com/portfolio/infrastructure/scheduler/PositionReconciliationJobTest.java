@@ -0,0 +1,83 @@
+package com.portfolio.infrastructure.scheduler;
+
+import com.portfolio.application.usecase.position.ReconcilePositionsUseCase;
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import com.portfolio.domain.port.JobRunner;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PositionReconciliationJobTest {
+    private ReconcilePositionsUseCase reconcilePositionsUseCase;
+    private JobRunner jobRunner;
+    private MeterRegistry meterRegistry;
+    private PositionReconciliationJob job;
+
+    @BeforeEach
+    void setUp() {
+        reconcilePositionsUseCase = mock(ReconcilePositionsUseCase.class);
+        jobRunner = mock(JobRunner.class);
+        when(jobRunner.runIfLeader(anyString(), any())).thenAnswer(invocation ->
+            invocation.<Supplier<Uni<?>>>getArgument(1).get().replaceWith(true));
+        meterRegistry = new SimpleMeterRegistry();
+        job = new PositionReconciliationJob(reconcilePositionsUseCase, jobRunner, meterRegistry);
+    }
+
+    private long runs(String outcome) {
+        return meterRegistry.get("positions.reconciliation.duration").tag("outcome", outcome).timer().count();
+    }
+
+    @Test
+    void testReconcileCountsDriftedPositions() {
+        // Given
+        when(reconcilePositionsUseCase.execute()).thenReturn(Uni.createFrom().item(List.of("AAPL", "KO")));
+
+        // When
+        job.scheduledReconcile().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        verify(jobRunner).runIfLeader(eq(PositionReconciliationJob.JOB), any());
+        assertEquals(1, runs("success"));
+        assertEquals(0, runs("failure"));
+        assertEquals(2.0, meterRegistry.get("positions.reconciliation.drifted").counter().count());
+    }
+
+    @Test
+    void testFailedReconciliationIsRecordedAndSwallowed() {
+        // Given
+        when(reconcilePositionsUseCase.execute()).thenReturn(Uni.createFrom().failure(
+            new ServiceException(Errors.ReconcilePositions.PERSISTENCE_ERROR, "DB down")));
+
+        // When
+        job.reconcile().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        assertEquals(0, runs("success"));
+        assertEquals(1, runs("failure"));
+        assertEquals(0.0, meterRegistry.get("positions.reconciliation.drifted").counter().count());
+    }
+
+    @Test
+    void testScheduledReconciliationSkippedWhenAnotherInstanceLeads() {
+        // Given
+        doReturn(Uni.createFrom().item(false)).when(jobRunner).runIfLeader(eq(PositionReconciliationJob.JOB), any());
+
+        // When
+        job.scheduledReconcile().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        verifyNoInteractions(reconcilePositionsUseCase);
+        assertEquals(0, runs("success"));
+        assertEquals(0, runs("failure"));
+    }
+}
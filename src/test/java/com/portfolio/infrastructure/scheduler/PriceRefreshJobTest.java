@@ -0,0 +1,96 @@
+package com.portfolio.infrastructure.scheduler;
+
+import com.portfolio.application.usecase.position.RefreshMarketPricesUseCase;
+import com.portfolio.domain.exception.Errors;
+import com.portfolio.domain.exception.ServiceException;
+import com.portfolio.domain.port.JobRunner;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PriceRefreshJobTest {
+    private RefreshMarketPricesUseCase refreshMarketPricesUseCase;
+    private JobRunner jobRunner;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        refreshMarketPricesUseCase = mock(RefreshMarketPricesUseCase.class);
+        jobRunner = mock(JobRunner.class);
+        when(jobRunner.runIfLeader(anyString(), any())).thenAnswer(invocation ->
+            invocation.<Supplier<Uni<?>>>getArgument(1).get().replaceWith(true));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private long runs(String outcome) {
+        return meterRegistry.get("positions.price.refresh.duration").tag("outcome", outcome).timer().count();
+    }
+
+    @Test
+    void testRefreshRecordsDurationAndRefreshedTickers() {
+        // Given
+        when(refreshMarketPricesUseCase.execute()).thenReturn(Uni.createFrom().item(3));
+        PriceRefreshJob job = new PriceRefreshJob(refreshMarketPricesUseCase, jobRunner, Duration.ZERO, meterRegistry);
+
+        // When
+        job.scheduledRefresh().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        assertEquals(1, runs("success"));
+        assertEquals(0, runs("failure"));
+        assertEquals(3.0, meterRegistry.get("positions.price.refresh.tickers").counter().count());
+    }
+
+    @Test
+    void testFailedRefreshIsRecordedAndSwallowed() {
+        // Given
+        when(refreshMarketPricesUseCase.execute()).thenReturn(Uni.createFrom().failure(
+            new ServiceException(Errors.UpdateMarketData.PERSISTENCE_ERROR, "DB down")));
+        PriceRefreshJob job = new PriceRefreshJob(refreshMarketPricesUseCase, jobRunner, Duration.ZERO, meterRegistry);
+
+        // When
+        job.refresh().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        assertEquals(0, runs("success"));
+        assertEquals(1, runs("failure"));
+        assertEquals(0.0, meterRegistry.get("positions.price.refresh.tickers").counter().count());
+    }
+
+    @Test
+    void testJitterStaysWithinConfiguredBound() {
+        PriceRefreshJob job = new PriceRefreshJob(refreshMarketPricesUseCase, jobRunner, Duration.ofSeconds(2), meterRegistry);
+
+        for (int i = 0; i < 100; i++) {
+            Duration jitter = job.nextJitter();
+            assertFalse(jitter.isNegative());
+            assertTrue(jitter.compareTo(Duration.ofSeconds(2)) < 0);
+        }
+        assertEquals(Duration.ZERO,
+            new PriceRefreshJob(refreshMarketPricesUseCase, jobRunner, Duration.ZERO, meterRegistry).nextJitter());
+    }
+
+    @Test
+    void testScheduledRefreshSkippedWhenAnotherInstanceLeads() {
+        // Given
+        doReturn(Uni.createFrom().item(false)).when(jobRunner).runIfLeader(eq(PriceRefreshJob.JOB), any());
+        PriceRefreshJob job = new PriceRefreshJob(refreshMarketPricesUseCase, jobRunner, Duration.ZERO, meterRegistry);
+
+        // When
+        job.scheduledRefresh().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        // Then
+        verifyNoInteractions(refreshMarketPricesUseCase);
+        assertEquals(0, runs("success"));
+        assertEquals(0, runs("failure"));
+    }
+}